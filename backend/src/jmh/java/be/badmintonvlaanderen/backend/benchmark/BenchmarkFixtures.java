@@ -0,0 +1,113 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+import be.badmintonvlaanderen.backend.domain.model.MatchHistory;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.PortalJsonParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Realistic inputs for the benchmarks: the saved portal pages from the test fixtures, a seeded
+ * interclub division and a seeded match history.
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    private static final PortalJsonParser PARSER = new PortalJsonParser();
+
+    private BenchmarkFixtures() {
+    }
+
+    static byte[] page(String name) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/portal/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture page " + name + " not on the test classpath");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static CategoryRanking singlesRanking() throws IOException {
+        return PARSER.parseCategoryRanking(new ByteArrayInputStream(page("ranking-singles.json")),
+            RankingCategory.SINGLES);
+    }
+
+    static PlayerData player() throws IOException {
+        return PARSER.parsePlayerData(new ByteArrayInputStream(page("player.json")));
+    }
+
+    static Tournament tournament() throws IOException {
+        return PARSER.parseTournament(new ByteArrayInputStream(page("tournament.json")));
+    }
+
+    /**
+     * A double round-robin division of {@code teams} teams of which the last {@code remaining}
+     * fixtures are still to be played; played fixtures have random 8-match results.
+     */
+    static Competition division(int teams, int remaining, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<CompetitionTeam> competitionTeams = new ArrayList<>(teams);
+        for (long team = 1; team <= teams; team++) {
+            competitionTeams.add(new CompetitionTeam(team, "Team " + team));
+        }
+        List<Fixture> fixtures = new ArrayList<>();
+        int total = teams * (teams - 1);
+        long id = 1;
+        for (long home = 1; home <= teams; home++) {
+            for (long away = 1; away <= teams; away++) {
+                if (home == away) {
+                    continue;
+                }
+                FixtureResult result = null;
+                if (id <= total - remaining) {
+                    int homeMatches = random.nextInt(9);
+                    result = new FixtureResult(homeMatches, 8 - homeMatches);
+                }
+                fixtures.add(new Fixture(id, home, away, TODAY.plusDays(id), result));
+                id++;
+            }
+        }
+        return new Competition(1L, "Benchmark division", competitionTeams, fixtures);
+    }
+
+    /**
+     * {@code count} matches among {@code players} players over the {@code days} before
+     * {@link #TODAY}, in date order. Players mostly meet others of their own club of 20, and one
+     * match in ten is against anyone, which links almost everyone into one component.
+     */
+    static MatchHistory matches(int players, int count, int days, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] winners = new long[count];
+        long[] losers = new long[count];
+        int[] epochDays = new int[count];
+        int firstDay = (int) TODAY.toEpochDay() - days;
+        for (int i = 0; i < count; i++) {
+            long first = random.nextInt(players);
+            long second;
+            do {
+                second = random.nextInt(10) == 0 ? random.nextInt(players) : first / 20 * 20 + random.nextInt(20);
+            } while (second == first);
+            winners[i] = first;
+            losers[i] = second;
+            epochDays[i] = firstDay + (int) ((long) i * days / count);
+        }
+        return MatchHistory.of(winners, losers, epochDays);
+    }
+}
@@ -0,0 +1,71 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.MatchHistory;
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+import be.badmintonvlaanderen.backend.domain.service.GlickoRatingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Glicko-2 ratings over five years of matches: rating everything again, as after a full sync,
+ * and re-rating only the running period on top of the settled ratings, as after an incremental
+ * sync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GlickoRatingBenchmark {
+
+    @Param({"1000000"})
+    public int matchCount;
+
+    @Param({"60000"})
+    public int players;
+
+    private final GlickoRules rules = GlickoRules.defaults();
+    private ForkJoinPool pool;
+    private GlickoRatingService service;
+    private MatchHistory matches;
+    private MatchHistory closed;
+    private MatchHistory open;
+    private PlayerRatings settled;
+    private int openPeriod;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        service = new GlickoRatingService(rules, pool);
+        matches = BenchmarkFixtures.matches(players, matchCount, 5 * 365, 7L);
+        openPeriod = rules.period((int) BenchmarkFixtures.TODAY.toEpochDay());
+        int openStart = rules.periodStart(openPeriod);
+        closed = matches.between(Integer.MIN_VALUE, openStart);
+        open = matches.between(openStart, Integer.MAX_VALUE);
+        settled = service.rate(PlayerRatings.empty(), closed, openPeriod - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PlayerRatings rateAll() {
+        return service.rate(PlayerRatings.empty(), matches, openPeriod);
+    }
+
+    @Benchmark
+    public PlayerRatings rateRunningPeriod() {
+        return service.rate(settled, open, openPeriod);
+    }
+}
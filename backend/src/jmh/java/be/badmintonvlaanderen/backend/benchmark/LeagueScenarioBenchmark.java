@@ -0,0 +1,57 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionScenario;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+import be.badmintonvlaanderen.backend.domain.service.CompetitionAnalysisService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title scenarios for a team in a ten-team division with the given number of fixtures left.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LeagueScenarioBenchmark {
+
+    @Param({"12", "15", "18"})
+    public int remaining;
+
+    private ForkJoinPool pool;
+    private CompetitionAnalysisService service;
+    private CompetitionScenario scenario;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        service = new CompetitionAnalysisService(CompetitionRules.defaults(), pool);
+        scenario = new CompetitionScenario(BenchmarkFixtures.division(10, remaining, 3L), 1L, List.of());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ScenarioAnalysis sequential() {
+        return service.analyze(scenario, false);
+    }
+
+    @Benchmark
+    public ScenarioAnalysis parallel() {
+        return service.analyze(scenario, true);
+    }
+}
@@ -0,0 +1,88 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.Gender;
+import be.badmintonvlaanderen.backend.domain.model.InterclubFormat;
+import be.badmintonvlaanderen.backend.domain.model.Lineup;
+import be.badmintonvlaanderen.backend.domain.model.LineupRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsWinProbability;
+import be.badmintonvlaanderen.backend.domain.model.RosterPlayer;
+import be.badmintonvlaanderen.backend.domain.model.TeamRoster;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+import be.badmintonvlaanderen.backend.domain.service.LineupOptimizationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lineups for one encounter and for a whole season of 14 encounters, for a squad of
+ * {@code squadSize} players (half of each gender for mixed teams).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LineupOptimizationBenchmark {
+
+    private static final int SEASON_ENCOUNTERS = 14;
+
+    @Param({"MEN", "MIXED"})
+    public InterclubFormat format;
+
+    @Param({"8", "12"})
+    public int squadSize;
+
+    private final WinProbabilityModel model = RankingPointsWinProbability.defaults();
+    private ForkJoinPool pool;
+    private LineupOptimizationService service;
+    private TeamRoster roster;
+    private List<List<TournamentEntrant>> season;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        service = new LineupOptimizationService(LineupRules.defaults(), pool);
+        SplittableRandom random = new SplittableRandom(3L);
+        List<RosterPlayer> players = new ArrayList<>();
+        for (long id = 1; id <= squadSize; id++) {
+            Gender gender = format == InterclubFormat.MIXED && id % 2 == 0 ? Gender.FEMALE : Gender.MALE;
+            players.add(new RosterPlayer(id, "Player " + id, gender, random.nextInt(400, 1600),
+                random.nextInt(400, 1600), random.nextInt(400, 1600), 0));
+        }
+        roster = new TeamRoster(2, 2 * squadSize * 1000 / 3, players);
+        season = new ArrayList<>();
+        for (int encounter = 0; encounter < SEASON_ENCOUNTERS; encounter++) {
+            List<TournamentEntrant> opposition = new ArrayList<>();
+            for (int slot = 0; slot < format.getSlots().size(); slot++) {
+                opposition.add(new TournamentEntrant((long) slot, "Opponent", random.nextInt(400, 1600)));
+            }
+            season.add(opposition);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Lineup encounter() {
+        return service.optimise(format, roster, season.get(0), model);
+    }
+
+    @Benchmark
+    public List<Lineup> season() {
+        return service.optimiseAll(format, roster, season, model);
+    }
+}
@@ -0,0 +1,61 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+import be.badmintonvlaanderen.backend.domain.model.PlayerSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keystroke searches over a generated register the size of the Flemish player base.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayerSearchBenchmark {
+
+    private static final String[] SYLLABLES = {"an", "de", "jan", "mer", "pe", "ter", "sen", "vel", "ma",
+        "es", "lo", "wou", "ter", "claes", "van", "broe", "ck", "hel", "ne", "dries"};
+
+    @Param({"60000"})
+    public int players;
+
+    @Param({"j", "jans", "vanbroeck", "vnabroeck"})
+    public String query;
+
+    private PlayerSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7L);
+        List<Player> register = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            register.add(new Player(50_000L + i, name(random, 2), name(random, 3), "BC " + name(random, 2)));
+        }
+        index = PlayerSearchIndex.of(register, id -> (int) (id % 1_000));
+    }
+
+    @Benchmark
+    public List<PlayerMatch> search() {
+        return index.search(query, 20);
+    }
+
+    private static String name(Random random, int syllables) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
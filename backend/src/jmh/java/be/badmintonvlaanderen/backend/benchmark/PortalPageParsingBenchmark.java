@@ -0,0 +1,69 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.PortalJsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streaming the saved portal pages into domain objects. {@link #rankingPageAsTree} reads the
+ * ranking page through a Jackson tree instead, as a baseline for the allocation rate that
+ * {@code -prof gc} reports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PortalPageParsingBenchmark {
+
+    private final PortalJsonParser parser = new PortalJsonParser();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] rankingPage;
+    private byte[] playerPage;
+    private byte[] tournamentPage;
+
+    @Setup
+    public void setUp() {
+        rankingPage = BenchmarkFixtures.page("ranking-singles.json");
+        playerPage = BenchmarkFixtures.page("player.json");
+        tournamentPage = BenchmarkFixtures.page("tournament.json");
+    }
+
+    @Benchmark
+    public CategoryRanking rankingPage() throws IOException {
+        return parser.parseCategoryRanking(new ByteArrayInputStream(rankingPage), RankingCategory.SINGLES);
+    }
+
+    @Benchmark
+    public CategoryRanking rankingPageAsTree() throws IOException {
+        JsonNode entries = objectMapper.readTree(rankingPage).get("entries");
+        int[] points = new int[entries.size()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = entries.get(i).get("points").asInt();
+        }
+        return new CategoryRanking(RankingCategory.SINGLES, points);
+    }
+
+    @Benchmark
+    public PlayerData playerPage() throws IOException {
+        return parser.parsePlayerData(new ByteArrayInputStream(playerPage));
+    }
+
+    @Benchmark
+    public Tournament tournamentPage() throws IOException {
+        return parser.parseTournament(new ByteArrayInputStream(tournamentPage));
+    }
+}
@@ -0,0 +1,152 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.RankingHistory;
+import be.badmintonvlaanderen.backend.domain.model.RankingPrefixMemo;
+import be.badmintonvlaanderen.backend.domain.model.RankingProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingWindow;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioBatch;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking projection for the fixture player against the fixture province ranking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RankingProjectionBenchmark {
+
+    @Param({"256"})
+    public int scenarios;
+
+    private final RankingCalculationService service = new RankingCalculationService(RankingRules.defaults());
+    private RankingHistory history;
+    private CategoryRanking ranking;
+    private int ownPoints;
+    private ScenarioBatch batch;
+    private ScenarioBatch nearIdentical;
+    private List<MatchScenario> season;
+    private ScenarioBatch longSeason;
+    private int today;
+    private int evaluationDay;
+    private int[] points;
+    private int[] positions;
+
+    @Setup
+    public void setUp() throws IOException {
+        history = RankingHistory.of(BenchmarkFixtures.player().getResults());
+        ranking = BenchmarkFixtures.singlesRanking();
+        today = (int) BenchmarkFixtures.TODAY.toEpochDay();
+        evaluationDay = (int) BenchmarkFixtures.TODAY.plusMonths(3).toEpochDay();
+        ownPoints = service.calculatePoints(history, (int) BenchmarkFixtures.TODAY.toEpochDay());
+
+        SplittableRandom random = new SplittableRandom(42);
+        TournamentLevel[] levels = TournamentLevel.values();
+        List<List<MatchScenario>> all = new ArrayList<>(scenarios);
+        for (int s = 0; s < scenarios; s++) {
+            int matches = 1 + random.nextInt(6);
+            List<MatchScenario> scenario = new ArrayList<>(matches);
+            for (int m = 0; m < matches; m++) {
+                scenario.add(new MatchScenario(null, random.nextBoolean() ? MatchResult.WIN : MatchResult.LOSS,
+                    levels[random.nextInt(levels.length)], BenchmarkFixtures.TODAY.plusDays(1 + random.nextInt(90))));
+            }
+            all.add(scenario);
+        }
+        batch = ScenarioBatch.of(all);
+
+        // what the comparison table sends: 20 variants of a season that only differ at the end
+        List<MatchScenario> shared = new ArrayList<>();
+        for (int m = 0; m < 24; m++) {
+            shared.add(new MatchScenario(null, random.nextBoolean() ? MatchResult.WIN : MatchResult.LOSS,
+                levels[random.nextInt(levels.length)], BenchmarkFixtures.TODAY.plusDays(1 + m * 3)));
+        }
+        List<List<MatchScenario>> variants = new ArrayList<>();
+        for (int v = 0; v < 20; v++) {
+            List<MatchScenario> variant = new ArrayList<>(shared);
+            for (int m = 0; m < 3; m++) {
+                variant.add(new MatchScenario(null, random.nextBoolean() ? MatchResult.WIN : MatchResult.LOSS,
+                    levels[random.nextInt(levels.length)], BenchmarkFixtures.TODAY.plusDays(80 + m)));
+            }
+            variants.add(variant);
+        }
+        nearIdentical = ScenarioBatch.of(variants);
+        longSeason = ScenarioBatch.single(shared);
+        season = all.get(0).size() >= 3 ? all.get(0) : all.get(1);
+        points = new int[scenarios];
+        positions = new int[scenarios];
+    }
+
+    @Benchmark
+    public int[] scoreBatch() {
+        service.scoreBatch(history, batch, evaluationDay, points);
+        return points;
+    }
+
+    @Benchmark
+    public int[] rankBatch() {
+        service.rankBatch(history, batch, evaluationDay, ranking, ownPoints, points, positions);
+        return positions;
+    }
+
+    @Benchmark
+    public int[] rankNearIdentical() {
+        service.rankBatch(history, nearIdentical, evaluationDay, ranking, ownPoints, points, positions);
+        return positions;
+    }
+
+    @Benchmark
+    public int[] rankNearIdenticalWithPrefixMemo() {
+        RankingPrefixMemo memo = service.prefixMemo(history, evaluationDay, 1 << 20);
+        service.rankBatch(nearIdentical, 0, nearIdentical.size(), memo, ranking, ownPoints, points, positions);
+        return positions;
+    }
+
+    @Benchmark
+    public RankingProjection projectRanking() {
+        return service.projectRanking(history, season, BenchmarkFixtures.TODAY, TimeframePeriod.NEXT_3_MONTHS, ranking);
+    }
+
+    /**
+     * Weekly points over three months of a 24-match season, scoring every week from scratch.
+     */
+    @Benchmark
+    public int weeklyPointsFromScratch() {
+        int total = 0;
+        for (int day = today; day <= evaluationDay; day += 7) {
+            total += service.calculatePoints(history, longSeason, 0, day);
+        }
+        return total;
+    }
+
+    /**
+     * The same weekly points, moving one window forward week by week.
+     */
+    @Benchmark
+    public int weeklyPointsWithWindow() {
+        RankingWindow window = service.rankingWindow(history, longSeason, 0);
+        int total = 0;
+        for (int day = today; day <= evaluationDay; day += 7) {
+            total += window.advanceTo(day);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,82 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse.EntrantPredictionDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.web.BinaryResultMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing the prediction of a full draw as JSON and as {@code application/x-bbv-binary}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResultEncodingBenchmark {
+
+    @Param({"128"})
+    public int entrants;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final BinaryResultMessageConverter binary = new BinaryResultMessageConverter();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(1 << 16);
+    private final HttpOutputMessage message = new HttpOutputMessage() {
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+    };
+    private TournamentPredictionResponse prediction;
+
+    @Setup
+    public void setUp() {
+        int rounds = 32 - Integer.numberOfLeadingZeros(entrants - 1);
+        SplittableRandom random = new SplittableRandom(7);
+        List<EntrantPredictionDto> rows = new ArrayList<>(entrants);
+        for (int i = 0; i < entrants; i++) {
+            double[] reached = new double[rounds + 1];
+            reached[0] = 1.0;
+            for (int round = 1; round <= rounds; round++) {
+                reached[round] = reached[round - 1] * random.nextDouble();
+            }
+            rows.add(new EntrantPredictionDto(50_000L + i, "Player " + i, reached[rounds], reached));
+        }
+        prediction = new TournamentPredictionResponse(1L, 10_000, 1L, rounds, rows);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        body.reset();
+        json.writeValue(body, prediction);
+        return body.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] binary() throws IOException {
+        body.reset();
+        binary.write(prediction, BinaryResultMessageConverter.MEDIA_TYPE, message);
+        return body.toByteArray();
+    }
+}
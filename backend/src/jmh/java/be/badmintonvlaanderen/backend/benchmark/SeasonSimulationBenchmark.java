@@ -0,0 +1,56 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.service.SeasonSimulationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Season odds of a province of ten-team divisions at mid-season, 10 000 iterations each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SeasonSimulationBenchmark {
+
+    @Param({"10", "100"})
+    public int divisions;
+
+    private ForkJoinPool pool;
+    private SeasonSimulationService service;
+    private List<Competition> province;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        service = new SeasonSimulationService(CompetitionRules.defaults(), pool);
+        province = new ArrayList<>(divisions);
+        for (int division = 0; division < divisions; division++) {
+            province.add(BenchmarkFixtures.division(10, 45, division));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SeasonOdds simulate() {
+        return service.simulate(province, 1, 2, 10_000, 1L);
+    }
+}
@@ -0,0 +1,55 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.LeagueTable;
+import be.badmintonvlaanderen.backend.domain.model.Standing;
+import be.badmintonvlaanderen.backend.domain.service.StandingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Division tables with the given number of teams, all but a few fixtures played. {@code rankAfterResult}
+ * is the step a scenario search repeats: apply an outcome, rank, take it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StandingsBenchmark {
+
+    @Param({"8", "12", "16"})
+    public int teams;
+
+    private Competition competition;
+    private StandingsService service;
+    private LeagueTable table;
+
+    @Setup
+    public void setUp() {
+        competition = BenchmarkFixtures.division(teams, 4, 11L);
+        service = new StandingsService(CompetitionRules.defaults());
+        table = LeagueTable.of(competition, CompetitionRules.defaults());
+    }
+
+    @Benchmark
+    public List<Standing> calculate() {
+        return service.calculate(competition);
+    }
+
+    @Benchmark
+    public int rankAfterResult() {
+        table.add(0, 1, 4, 4, 9, 9);
+        int leader = table.rank()[0];
+        table.remove(0, 1, 4, 4, 9, 9);
+        return leader;
+    }
+}
@@ -0,0 +1,54 @@
+package be.badmintonvlaanderen.backend.benchmark;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsWinProbability;
+import be.badmintonvlaanderen.backend.domain.model.TournamentBracket;
+import be.badmintonvlaanderen.backend.domain.model.TournamentPrediction;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+import be.badmintonvlaanderen.backend.domain.service.TournamentSimulationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monte Carlo prediction of the 64-slot fixture draw.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TournamentPredictionBenchmark {
+
+    @Param({"10000"})
+    public int iterations;
+
+    private final WinProbabilityModel model = RankingPointsWinProbability.defaults();
+    private ForkJoinPool pool;
+    private TournamentSimulationService service;
+    private TournamentBracket bracket;
+
+    @Setup
+    public void setUp() throws IOException {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        service = new TournamentSimulationService(pool);
+        bracket = BenchmarkFixtures.tournament().getBracket();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public TournamentPrediction predict() {
+        return service.simulate(bracket, model, iterations, 7L);
+    }
+}
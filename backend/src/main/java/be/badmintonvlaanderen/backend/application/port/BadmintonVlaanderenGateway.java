@@ -0,0 +1,35 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+
+import java.util.Optional;
+
+/**
+ * Access to the data published by the official Badminton Vlaanderen portal.
+ */
+public interface BadmintonVlaanderenGateway {
+
+    /**
+     * Fetches a player's profile and the results currently counting towards the ranking.
+     */
+    Optional<PlayerData> fetchPlayerData(Long playerId);
+
+    /**
+     * Fetches the points of every ranked player in a category.
+     */
+    CategoryRanking fetchCategoryRanking(RankingCategory category);
+
+    /**
+     * Fetches a tournament together with its published draw.
+     */
+    Optional<Tournament> fetchTournament(Long tournamentId);
+
+    /**
+     * Fetches an interclub division with its teams and the fixtures of the season, played or not.
+     */
+    Optional<Competition> fetchCompetition(Long competitionId);
+}
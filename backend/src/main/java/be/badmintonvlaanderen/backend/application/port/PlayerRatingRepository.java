@@ -0,0 +1,27 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+
+/**
+ * Glicko-2 ratings of the players, computed from the matches of the synchronised tournaments.
+ */
+public interface PlayerRatingRepository {
+
+    /**
+     * Returns the ratings of the category including the matches of the running rating period;
+     * empty before the first computation.
+     */
+    PlayerRatings current(RankingCategory category);
+
+    /**
+     * Rates every stored match again.
+     */
+    void reload();
+
+    /**
+     * Brings the ratings up to date with the matches stored since the last computation, rating
+     * only the periods that are not settled yet.
+     */
+    void refresh();
+}
@@ -0,0 +1,28 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Search index over the synchronised players.
+ */
+public interface PlayerSearchRepository {
+
+    /**
+     * Finds the players whose name, club or member ID match every term of the query, best
+     * matches first.
+     */
+    List<PlayerMatch> search(String query, int limit);
+
+    /**
+     * Rebuilds the index from every stored player.
+     */
+    void reload();
+
+    /**
+     * Re-reads the given players from the store, dropping those that are no longer stored.
+     */
+    void refresh(Collection<Long> playerIds);
+}
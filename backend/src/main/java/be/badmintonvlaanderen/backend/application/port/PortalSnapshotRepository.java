@@ -0,0 +1,70 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.SyncCheckpoint;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Local copy of the portal data, stored per record together with its content hash.
+ */
+public interface PortalSnapshotRepository {
+
+    /**
+     * Returns the stored content hash of each of the given records that has a snapshot.
+     */
+    Map<Long, Long> findContentHashes(SnapshotType type, Collection<Long> ids);
+
+    /**
+     * Returns the IDs of every stored snapshot of the given type.
+     */
+    Set<Long> findIds(SnapshotType type);
+
+    /**
+     * Returns the stored results in the category per player: of every player of the club, with
+     * an empty list for members without results in the category, or of every player with a
+     * result in the category when {@code clubName} is {@code null}. Club names match ignoring
+     * case.
+     */
+    Map<Long, List<RankingResult>> findResults(RankingCategory category, String clubName);
+
+    /**
+     * Returns the stored competitions among the given IDs, with their teams and fixtures ordered
+     * by ID. IDs without a snapshot are left out.
+     */
+    Map<Long, Competition> findCompetitions(Collection<Long> ids);
+
+    /**
+     * Inserts or replaces the given player snapshots, including their ranking results.
+     */
+    void savePlayers(List<ContentSnapshot<PlayerData>> snapshots);
+
+    /**
+     * Inserts or replaces the given tournament snapshots, including their draws.
+     */
+    void saveTournaments(List<ContentSnapshot<Tournament>> snapshots);
+
+    /**
+     * Inserts or replaces the given competition snapshots, including teams and fixtures.
+     */
+    void saveStandings(List<ContentSnapshot<Competition>> snapshots);
+
+    /**
+     * Deletes the snapshots of the given records and everything stored under them.
+     */
+    void delete(SnapshotType type, Collection<Long> ids);
+
+    Optional<SyncCheckpoint> findCheckpoint();
+
+    void saveCheckpoint(SyncCheckpoint checkpoint);
+}
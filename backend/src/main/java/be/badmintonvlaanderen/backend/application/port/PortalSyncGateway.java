@@ -0,0 +1,39 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.PortalChangeSet;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Direct, uncached access to the portal for the synchronisation pipeline.
+ */
+public interface PortalSyncGateway extends BadmintonVlaanderenGateway {
+
+    /**
+     * Fetches the IDs of players, tournaments and competitions the portal changed since the
+     * given time, or the IDs of every published record when {@code since} is {@code null}.
+     */
+    PortalChangeSet fetchChanges(Instant since);
+
+    /**
+     * Fetches many players concurrently. The result holds an entry per requested ID, empty when
+     * the portal does not know the player; IDs that could not be fetched are left out.
+     */
+    Map<Long, Optional<PlayerData>> fetchPlayers(List<Long> playerIds);
+
+    /**
+     * Fetches many tournaments concurrently, with the same result contract as {@link #fetchPlayers}.
+     */
+    Map<Long, Optional<Tournament>> fetchTournaments(List<Long> tournamentIds);
+
+    /**
+     * Fetches many competitions concurrently, with the same result contract as {@link #fetchPlayers}.
+     */
+    Map<Long, Optional<Competition>> fetchCompetitions(List<Long> competitionIds);
+}
@@ -0,0 +1,23 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSeries;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+
+/**
+ * Weekly ranking publications of every player, kept for progression charts.
+ */
+public interface RankingHistoryRepository {
+
+    /**
+     * Stores the points and positions of the snapshot as the publication of its week, replacing
+     * what was recorded earlier that week.
+     */
+    void record(RankingSnapshot snapshot);
+
+    /**
+     * Returns every recorded publication of the player in the category, oldest first; empty when
+     * nothing was recorded.
+     */
+    RankingSeries findSeries(Long playerId, RankingCategory category);
+}
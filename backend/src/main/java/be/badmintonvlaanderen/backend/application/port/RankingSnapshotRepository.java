@@ -0,0 +1,28 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * In-memory read model of the current points of every synchronised player.
+ */
+public interface RankingSnapshotRepository {
+
+    /**
+     * Returns the latest snapshot, or empty while no synchronised players have been loaded yet.
+     */
+    Optional<RankingSnapshot> current();
+
+    /**
+     * Rebuilds the snapshot from every stored player as of today.
+     */
+    void reload();
+
+    /**
+     * Recalculates the given players from the store, dropping those that are no longer stored.
+     * Rebuilds the whole snapshot instead when it was taken on an earlier day.
+     */
+    void refresh(Collection<Long> playerIds);
+}
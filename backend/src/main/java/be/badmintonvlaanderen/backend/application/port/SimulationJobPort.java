@@ -0,0 +1,46 @@
+package be.badmintonvlaanderen.backend.application.port;
+
+import be.badmintonvlaanderen.backend.domain.model.JobKind;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs simulations in the background, off the request threads, and keeps their state for a
+ * while after they finish.
+ */
+public interface SimulationJobPort {
+
+    /**
+     * Queues the work at the priority of its kind.
+     *
+     * @param work the simulation; it receives the progress to report to and returns the result
+     * @return the job as queued
+     * @throws RejectedExecutionException if the queue is full
+     */
+    SimulationJob submit(JobKind kind, Function<SimulationProgress<Object>, Object> work);
+
+    Optional<SimulationJob> find(UUID id);
+
+    /**
+     * Cancels a queued job right away, or asks a running one to stop at its next progress report.
+     *
+     * @return the job after the request, or empty if the id is unknown
+     */
+    Optional<SimulationJob> cancel(UUID id);
+
+    /**
+     * Registers a listener that receives the current state of the job and every later change,
+     * until the job reaches a terminal status.
+     *
+     * @return {@code false} if the id is unknown
+     */
+    boolean subscribe(UUID id, Consumer<SimulationJob> listener);
+
+    void unsubscribe(UUID id, Consumer<SimulationJob> listener);
+}
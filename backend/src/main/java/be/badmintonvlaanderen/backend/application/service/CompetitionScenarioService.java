@@ -0,0 +1,140 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionScenario;
+import be.badmintonvlaanderen.backend.domain.model.DivisionOdds;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioRule;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import be.badmintonvlaanderen.backend.domain.model.Standing;
+import be.badmintonvlaanderen.backend.domain.service.CompetitionAnalysisService;
+import be.badmintonvlaanderen.backend.domain.service.SeasonSimulationService;
+import be.badmintonvlaanderen.backend.domain.service.StandingsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Use case for answering "what does a team need to finish first in its division".
+ */
+@Service
+public class CompetitionScenarioService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompetitionScenarioService.class);
+
+    /**
+     * From this many remaining fixtures on the search is split across the simulation pool
+     * unless the caller chooses explicitly; below it the tree is too small to be worth forking.
+     */
+    public static final int PARALLEL_THRESHOLD = 12;
+
+    public static final int MAX_SEASON_ITERATIONS = 100_000;
+
+    private final BadmintonVlaanderenGateway gateway;
+    private final PortalSnapshotRepository portalSnapshots;
+    private final CompetitionAnalysisService competitionAnalysisService;
+    private final StandingsService standingsService;
+    private final SeasonSimulationService seasonSimulationService;
+
+    public CompetitionScenarioService(BadmintonVlaanderenGateway gateway,
+                                      PortalSnapshotRepository portalSnapshots,
+                                      CompetitionAnalysisService competitionAnalysisService,
+                                      StandingsService standingsService,
+                                      SeasonSimulationService seasonSimulationService) {
+        this.gateway = gateway;
+        this.portalSnapshots = portalSnapshots;
+        this.competitionAnalysisService = competitionAnalysisService;
+        this.standingsService = standingsService;
+        this.seasonSimulationService = seasonSimulationService;
+    }
+
+    /**
+     * The current table of the division, from first to last place.
+     *
+     * @throws CompetitionNotFoundException if the competition ID is not known by the portal
+     */
+    public List<Standing> getStandings(Long competitionId) {
+        Competition competition = gateway.fetchCompetition(competitionId)
+            .orElseThrow(() -> new CompetitionNotFoundException(competitionId));
+        return standingsService.calculate(competition);
+    }
+
+    /**
+     * Analyses every outcome combination of the remaining fixtures that the rules allow.
+     *
+     * @param parallel whether to split the search across cores, or {@code null} to decide from
+     *                 the number of remaining fixtures
+     * @throws CompetitionNotFoundException if the competition ID is not known by the portal
+     */
+    public ScenarioAnalysis analyzeScenario(Long competitionId, Long targetTeamId, List<ScenarioRule> rules,
+                                            Boolean parallel) {
+        return analyzeScenario(competitionId, targetTeamId, rules, parallel, SimulationProgress.none());
+    }
+
+    /**
+     * Like {@link #analyzeScenario(Long, Long, List, Boolean)}, reporting how much of the
+     * outcome tree has been searched.
+     *
+     * @throws SimulationCancelledException if the progress asks to stop before the search is done
+     */
+    public ScenarioAnalysis analyzeScenario(Long competitionId, Long targetTeamId, List<ScenarioRule> rules,
+                                            Boolean parallel, SimulationProgress<? super ScenarioAnalysis> progress) {
+        Competition competition = gateway.fetchCompetition(competitionId)
+            .orElseThrow(() -> new CompetitionNotFoundException(competitionId));
+        CompetitionScenario scenario = new CompetitionScenario(competition, targetTeamId, rules);
+
+        int remaining = competition.getRemainingFixtures().size();
+        boolean split = parallel != null ? parallel : remaining >= PARALLEL_THRESHOLD;
+        log.debug("Analysing competition {} for team {}: {} remaining fixtures, {} rules, parallel={}",
+            competitionId, targetTeamId, remaining, rules.size(), split);
+
+        return competitionAnalysisService.analyze(scenario, split, progress);
+    }
+
+    /**
+     * Simulates the rest of the season of every given division and estimates each team's odds
+     * of the title, promotion and relegation. The divisions are read from the local store in one
+     * go; only those not synchronised yet are fetched from the portal.
+     *
+     * @throws CompetitionNotFoundException if a competition ID is not known by the portal
+     */
+    public SeasonOdds simulateSeason(List<Long> competitionIds, int promotedTeams, int relegatedTeams,
+                                     int iterations, long seed) {
+        return simulateSeason(competitionIds, promotedTeams, relegatedTeams, iterations, seed,
+            SimulationProgress.none());
+    }
+
+    /**
+     * Like {@link #simulateSeason(List, int, int, int, long)}, reporting every division as soon
+     * as its simulation is done.
+     *
+     * @throws SimulationCancelledException if the progress asks to stop before every division is done
+     */
+    public SeasonOdds simulateSeason(List<Long> competitionIds, int promotedTeams, int relegatedTeams,
+                                     int iterations, long seed, SimulationProgress<? super DivisionOdds> progress) {
+        if (iterations <= 0 || iterations > MAX_SEASON_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_SEASON_ITERATIONS);
+        }
+        Set<Long> ids = new LinkedHashSet<>(competitionIds);
+        Map<Long, Competition> stored = portalSnapshots.findCompetitions(ids);
+        List<Competition> divisions = ids.stream()
+            .map(id -> Optional.ofNullable(stored.get(id)).or(() -> gateway.fetchCompetition(id))
+                .orElseThrow(() -> new CompetitionNotFoundException(id)))
+            .toList();
+        log.debug("Simulating the season of {} divisions ({} from the portal) with {} iterations",
+            divisions.size(), divisions.size() - stored.size(), iterations);
+
+        return seasonSimulationService.simulate(divisions, promotedTeams, relegatedTeams, iterations, seed, progress);
+    }
+}
@@ -0,0 +1,44 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.PlayerSearchRepository;
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use case for finding players by name, club or member ID while the user types.
+ */
+@Service
+public class PlayerSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private final PlayerSearchRepository repository;
+
+    public PlayerSearchService(PlayerSearchRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Finds the synchronised players matching every term of the query: exact prefixes first, then
+     * matches allowing for typos, each ordered by ranking points.
+     *
+     * @param limit the number of players wanted, capped at {@value #MAX_LIMIT}
+     * @throws IllegalArgumentException if the query is blank or too long, or the limit is not positive
+     */
+    public List<PlayerMatch> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must not exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return repository.search(query, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,239 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.PlayerRatingRepository;
+import be.badmintonvlaanderen.backend.application.port.PlayerSearchRepository;
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.application.port.PortalSyncGateway;
+import be.badmintonvlaanderen.backend.application.port.RankingHistoryRepository;
+import be.badmintonvlaanderen.backend.application.port.RankingSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.ContentHash;
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.PortalChangeSet;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.SyncCheckpoint;
+import be.badmintonvlaanderen.backend.domain.model.SyncCounts;
+import be.badmintonvlaanderen.backend.domain.model.SyncMode;
+import be.badmintonvlaanderen.backend.domain.model.SyncReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Mirrors the portal into the local snapshot store.
+ * <p>
+ * A run asks the portal which records changed since the last checkpoint (or for the whole
+ * catalogue on a full run), fetches them concurrently in chunks and hashes their content. Only
+ * records whose hash differs from the stored one are written, one batch per chunk, so a run over
+ * a mostly unchanged catalogue costs one hash lookup per chunk and no writes. Records the portal no longer
+ * publishes are deleted. Runs never overlap: a run that starts while another is busy is skipped.
+ * <p>
+ * After a run the in-memory ranking snapshot and player search index are brought up to date:
+ * rebuilt after a full run, which also moves the snapshot to the current day, and patched for the
+ * touched players otherwise. A full run also records the rebuilt snapshot as this week's ranking
+ * publication and rates every played match again; otherwise the player ratings are only brought
+ * up to date when tournaments changed. The run's data version is published only after that, so
+ * whoever caches results by {@link #getDataVersion()} never pairs a new version with old data.
+ */
+@Service
+public class PortalSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(PortalSyncService.class);
+
+    /**
+     * Records fetched concurrently, compared and written per round trip to the snapshot store.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private final PortalSyncGateway gateway;
+    private final PortalSnapshotRepository repository;
+    private final RankingSnapshotRepository rankingSnapshots;
+    private final PlayerSearchRepository playerSearch;
+    private final RankingHistoryRepository rankingHistory;
+    private final PlayerRatingRepository playerRatings;
+    private final Clock clock;
+    private final ReentrantLock running = new ReentrantLock();
+    private final AtomicLong dataVersion = new AtomicLong(-1);
+
+    public PortalSyncService(PortalSyncGateway gateway, PortalSnapshotRepository repository,
+                             RankingSnapshotRepository rankingSnapshots, PlayerSearchRepository playerSearch,
+                             RankingHistoryRepository rankingHistory, PlayerRatingRepository playerRatings,
+                             Clock clock) {
+        this.gateway = gateway;
+        this.repository = repository;
+        this.rankingSnapshots = rankingSnapshots;
+        this.playerSearch = playerSearch;
+        this.rankingHistory = rankingHistory;
+        this.playerRatings = playerRatings;
+        this.clock = clock;
+    }
+
+    /**
+     * Applies the changes published since the last checkpoint, or runs a full synchronisation
+     * when nothing has been synchronised yet.
+     *
+     * @return the report of the run, or empty if another run was still busy
+     */
+    public Optional<SyncReport> synchronizeChanges() {
+        return runExclusively(SyncMode.INCREMENTAL);
+    }
+
+    /**
+     * Compares the whole portal catalogue with the stored snapshots and removes the records the
+     * portal no longer publishes.
+     *
+     * @return the report of the run, or empty if another run was still busy
+     */
+    public Optional<SyncReport> synchronizeAll() {
+        return runExclusively(SyncMode.FULL);
+    }
+
+    /**
+     * The data version of the last finished run; {@code 0} before anything was synchronised.
+     * Results computed from synchronised data stay valid as long as this does not change.
+     */
+    public long getDataVersion() {
+        long version = dataVersion.get();
+        if (version < 0) {
+            dataVersion.compareAndSet(-1,
+                repository.findCheckpoint().map(SyncCheckpoint::getDataVersion).orElse(0L));
+            version = dataVersion.get();
+        }
+        return version;
+    }
+
+    private Optional<SyncReport> runExclusively(SyncMode mode) {
+        if (!running.tryLock()) {
+            log.info("Skipping {} portal sync: previous run still busy", mode);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(run(mode));
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private SyncReport run(SyncMode requested) {
+        Instant startedAt = clock.instant();
+        Optional<SyncCheckpoint> checkpoint = repository.findCheckpoint();
+        SyncMode mode = checkpoint.isPresent() ? requested : SyncMode.FULL;
+        PortalChangeSet changes = gateway.fetchChanges(
+            mode == SyncMode.FULL ? null : checkpoint.get().getSyncedUpTo());
+
+        List<Long> touchedPlayers = new ArrayList<>();
+        List<Long> touchedTournaments = new ArrayList<>();
+        SyncCounts players = synchronize(SnapshotType.PLAYER, changes, mode, gateway::fetchPlayers,
+            ContentHash::of, repository::savePlayers, touchedPlayers);
+        SyncCounts tournaments = synchronize(SnapshotType.TOURNAMENT, changes, mode, gateway::fetchTournaments,
+            ContentHash::of, repository::saveTournaments, touchedTournaments);
+        SyncCounts standings = synchronize(SnapshotType.STANDING, changes, mode, gateway::fetchCompetitions,
+            ContentHash::of, repository::saveStandings, new ArrayList<>());
+        SyncCounts counts = players.plus(tournaments).plus(standings);
+
+        long previousVersion = checkpoint.map(SyncCheckpoint::getDataVersion).orElse(0L);
+        long dataVersion = counts.getChanged() + counts.getRemoved() > 0 ? previousVersion + 1 : previousVersion;
+        // Records that failed are not in the store yet; keep asking for everything since the old
+        // checkpoint until they came through.
+        Instant syncedUpTo = counts.getFailed() == 0
+            ? changes.getAsOf()
+            : checkpoint.map(SyncCheckpoint::getSyncedUpTo).orElse(Instant.EPOCH);
+        repository.saveCheckpoint(new SyncCheckpoint(syncedUpTo, dataVersion));
+
+        if (mode == SyncMode.FULL) {
+            rankingSnapshots.reload();
+            rankingSnapshots.current().ifPresent(rankingHistory::record);
+            playerSearch.reload();
+            playerRatings.reload();
+        } else {
+            if (!touchedPlayers.isEmpty()) {
+                rankingSnapshots.refresh(touchedPlayers);
+                playerSearch.refresh(touchedPlayers);
+            }
+            if (!touchedTournaments.isEmpty()) {
+                playerRatings.refresh();
+            }
+        }
+        this.dataVersion.set(dataVersion);
+
+        SyncReport report = new SyncReport(mode, startedAt, clock.instant(), counts.getFetched(),
+            counts.getChanged(), counts.getRemoved(), counts.getFailed(), dataVersion);
+        log.info("{} portal sync finished in {} ms: {} fetched, {} changed, {} removed, {} failed, data version {}",
+            mode, report.getDuration().toMillis(), report.getFetched(), report.getChanged(),
+            report.getRemoved(), report.getFailed(), dataVersion);
+        return report;
+    }
+
+    private <T> SyncCounts synchronize(SnapshotType type, PortalChangeSet changes, SyncMode mode,
+                                       Function<List<Long>, Map<Long, Optional<T>>> fetch,
+                                       ToLongFunction<T> hash, Consumer<List<ContentSnapshot<T>>> save,
+                                       List<Long> touched) {
+        int fetchedCount = 0;
+        int changedCount = 0;
+        int removedCount = 0;
+        int failedCount = 0;
+        List<Long> ids = changes.getIds(type);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            Map<Long, Optional<T>> fetched = fetch.apply(chunk);
+            Map<Long, Long> stored = repository.findContentHashes(type, chunk);
+            List<ContentSnapshot<T>> changed = new ArrayList<>();
+            List<Long> gone = new ArrayList<>();
+
+            for (Long id : chunk) {
+                Optional<T> content = fetched.get(id);
+                if (content == null) {
+                    failedCount++;
+                    continue;
+                }
+                if (content.isEmpty()) {
+                    if (stored.containsKey(id)) {
+                        gone.add(id);
+                    }
+                    continue;
+                }
+                fetchedCount++;
+                long contentHash = hash.applyAsLong(content.get());
+                Long previous = stored.get(id);
+                if (previous == null || previous != contentHash) {
+                    changed.add(new ContentSnapshot<>(id, contentHash, content.get()));
+                }
+            }
+
+            if (!changed.isEmpty()) {
+                save.accept(changed);
+                changedCount += changed.size();
+                changed.forEach(snapshot -> touched.add(snapshot.getId()));
+            }
+            if (!gone.isEmpty()) {
+                repository.delete(type, gone);
+                removedCount += gone.size();
+                touched.addAll(gone);
+            }
+        }
+
+        if (mode == SyncMode.FULL) {
+            Set<Long> stale = new HashSet<>(repository.findIds(type));
+            ids.forEach(stale::remove);
+            if (!stale.isEmpty()) {
+                repository.delete(type, stale);
+                removedCount += stale.size();
+                touched.addAll(stale);
+            }
+        }
+        return new SyncCounts(fetchedCount, changedCount, removedCount, failedCount);
+    }
+}
@@ -0,0 +1,36 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.RankingHistoryRepository;
+import be.badmintonvlaanderen.backend.domain.model.PlayerNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSeries;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Use case for charting how a player's ranking progressed over the weekly publications.
+ */
+@Service
+public class RankingHistoryService {
+
+    private final RankingHistoryRepository repository;
+
+    public RankingHistoryService(RankingHistoryRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Publications of the player in the category, oldest first.
+     *
+     * @param from the first publication day wanted, or {@code null} for the whole history
+     * @throws PlayerNotFoundException if no publication of the player was recorded in the category
+     */
+    public RankingSeries.Columns getProgression(Long playerId, RankingCategory category, LocalDate from) {
+        RankingSeries series = repository.findSeries(playerId, category);
+        if (series.isEmpty()) {
+            throw new PlayerNotFoundException(playerId);
+        }
+        return series.decode(from);
+    }
+}
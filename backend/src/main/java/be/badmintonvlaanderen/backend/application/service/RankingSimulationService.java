@@ -0,0 +1,186 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.application.port.RankingSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.ClubNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.PlayerNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingGroupProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingHistory;
+import be.badmintonvlaanderen.backend.domain.model.RankingPrefixMemo;
+import be.badmintonvlaanderen.backend.domain.model.RankingProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingSimulation;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioBatch;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioComparison;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use cases for simulating and comparing future rankings of a player.
+ */
+@Service
+public class RankingSimulationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingSimulationService.class);
+
+    /**
+     * Scenarios scored between two progress reports of a comparison.
+     */
+    public static final int PROGRESS_SLICE = 256;
+
+    /**
+     * Counted results the prefix memo of one comparison may hold (4 MiB).
+     */
+    static final long PREFIX_MEMO_BUDGET = 1L << 20;
+
+    private final BadmintonVlaanderenGateway gateway;
+    private final RankingSnapshotRepository rankingSnapshots;
+    private final PortalSnapshotRepository portalSnapshots;
+    private final RankingCalculationService rankingCalculationService;
+    private final Clock clock;
+
+    public RankingSimulationService(BadmintonVlaanderenGateway gateway,
+                                    RankingSnapshotRepository rankingSnapshots,
+                                    PortalSnapshotRepository portalSnapshots,
+                                    RankingCalculationService rankingCalculationService,
+                                    Clock clock) {
+        this.gateway = gateway;
+        this.rankingSnapshots = rankingSnapshots;
+        this.portalSnapshots = portalSnapshots;
+        this.rankingCalculationService = rankingCalculationService;
+        this.clock = clock;
+    }
+
+    /**
+     * Rules the simulations are scored with, including the points table in use.
+     */
+    public RankingRules getRankingRules() {
+        return rankingCalculationService.getRules();
+    }
+
+    /**
+     * Simulates the ranking of a player under one list of assumed results.
+     *
+     * @throws PlayerNotFoundException if the player ID is not known by the portal
+     */
+    public RankingProjection simulateRanking(RankingSimulation simulation) {
+        log.debug("Simulating ranking for player {} with {} scenarios",
+            simulation.getPlayerId(), simulation.getScenarios().size());
+
+        RankingHistory history = loadHistory(simulation.getPlayerId(), simulation.getCategory());
+        CategoryRanking ranking = categoryRanking(simulation.getCategory());
+
+        return rankingCalculationService.projectRanking(
+            history, simulation.getScenarios(), LocalDate.now(clock), simulation.getTimeframe(), ranking);
+    }
+
+    /**
+     * Projects the ranking of every synchronised member of a club, or of every synchronised
+     * player ranked in the category when {@code clubName} is {@code null}, as if each of them
+     * played the same assumed results. The results are read from the local store in one query
+     * and the projected positions account for the whole group moving at once.
+     *
+     * @throws ClubNotFoundException if no synchronised player plays for the club
+     */
+    public RankingGroupProjection simulateGroup(RankingCategory category, String clubName,
+                                                List<MatchScenario> scenarios, TimeframePeriod timeframe) {
+        Map<Long, List<RankingResult>> results = portalSnapshots.findResults(category, clubName);
+        if (clubName != null && results.isEmpty()) {
+            throw new ClubNotFoundException(clubName);
+        }
+        log.debug("Simulating {} ranking for {} players of {} with {} scenarios",
+            category, results.size(), clubName == null ? "every club" : clubName, scenarios.size());
+
+        long[] playerIds = new long[results.size()];
+        List<RankingHistory> histories = new ArrayList<>(results.size());
+        int i = 0;
+        for (Map.Entry<Long, List<RankingResult>> entry : results.entrySet()) {
+            playerIds[i++] = entry.getKey();
+            histories.add(RankingHistory.of(entry.getValue()));
+        }
+        return rankingCalculationService.projectGroup(playerIds, histories, scenarios, LocalDate.now(clock),
+            timeframe, categoryRanking(category));
+    }
+
+    /**
+     * Projects the ranking of a player at the end of the timeframe for every scenario list,
+     * scoring them as a single batch in which the matches scenarios share at their start are
+     * scored once. Like {@link #simulateRanking}, only matches within the timeframe count.
+     *
+     * @throws PlayerNotFoundException if the player ID is not known by the portal
+     */
+    public ScenarioComparison compareScenarios(Long playerId, RankingCategory category,
+                                               List<List<MatchScenario>> scenarios, TimeframePeriod timeframe) {
+        return compareScenarios(playerId, category, scenarios, timeframe, SimulationProgress.none());
+    }
+
+    /**
+     * Like {@link #compareScenarios(Long, RankingCategory, List, TimeframePeriod)}, scoring the
+     * scenarios in slices of {@value #PROGRESS_SLICE} and reporting each slice as a partial
+     * comparison of just those scenarios.
+     *
+     * @throws SimulationCancelledException if the progress asks to stop before every slice is scored
+     */
+    public ScenarioComparison compareScenarios(Long playerId, RankingCategory category,
+                                               List<List<MatchScenario>> scenarios, TimeframePeriod timeframe,
+                                               SimulationProgress<? super ScenarioComparison> progress) {
+        log.debug("Comparing {} scenarios for player {}", scenarios.size(), playerId);
+
+        RankingHistory history = loadHistory(playerId, category);
+        CategoryRanking ranking = categoryRanking(category);
+        LocalDate today = LocalDate.now(clock);
+
+        int currentPoints = rankingCalculationService.calculatePoints(history, (int) today.toEpochDay());
+        int currentRanking = ranking.positionFor(currentPoints, currentPoints);
+
+        ScenarioBatch batch = rankingCalculationService.scenarioBatch(scenarios, today, timeframe);
+        int[] points = new int[batch.size()];
+        int[] positions = new int[batch.size()];
+        // scenarios of one comparison mostly share their first matches; score those only once
+        RankingPrefixMemo memo = rankingCalculationService.prefixMemo(
+            history, (int) timeframe.endDate(today).toEpochDay(), PREFIX_MEMO_BUDGET);
+        for (int from = 0; from < batch.size(); from += PROGRESS_SLICE) {
+            progress.checkCancelled();
+            int to = Math.min(batch.size(), from + PROGRESS_SLICE);
+            rankingCalculationService.rankBatch(batch, from, to, memo, ranking, currentPoints, points, positions);
+            progress.report(to, batch.size(), new ScenarioComparison(currentRanking, currentPoints,
+                Arrays.copyOfRange(points, from, to), Arrays.copyOfRange(positions, from, to)));
+        }
+
+        return new ScenarioComparison(currentRanking, currentPoints, points, positions);
+    }
+
+    /**
+     * Points of everyone ranked in the category, from the in-memory snapshot of the synchronised
+     * players when one is loaded and from the portal otherwise.
+     */
+    private CategoryRanking categoryRanking(RankingCategory category) {
+        return rankingSnapshots.current()
+            .map(snapshot -> snapshot.getRanking(category))
+            .orElseGet(() -> gateway.fetchCategoryRanking(category));
+    }
+
+    private RankingHistory loadHistory(Long playerId, RankingCategory category) {
+        PlayerData playerData = gateway.fetchPlayerData(playerId)
+            .orElseThrow(() -> new PlayerNotFoundException(playerId));
+        return RankingHistory.of(playerData.getResults(category));
+    }
+}
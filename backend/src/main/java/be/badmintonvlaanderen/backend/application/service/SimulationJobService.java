@@ -0,0 +1,109 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.SimulationJobPort;
+import be.badmintonvlaanderen.backend.domain.model.JobKind;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioRule;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJobNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Use cases for running the heavy simulations as background jobs, so a request returns as soon
+ * as the work is queued.
+ */
+@Service
+public class SimulationJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationJobService.class);
+
+    private final SimulationJobPort jobs;
+    private final RankingSimulationService rankingSimulationService;
+    private final CompetitionScenarioService competitionScenarioService;
+
+    public SimulationJobService(SimulationJobPort jobs,
+                                RankingSimulationService rankingSimulationService,
+                                CompetitionScenarioService competitionScenarioService) {
+        this.jobs = jobs;
+        this.rankingSimulationService = rankingSimulationService;
+        this.competitionScenarioService = competitionScenarioService;
+    }
+
+    /**
+     * Queues a scenario comparison.
+     *
+     * @throws RejectedExecutionException if too many jobs are waiting
+     */
+    public SimulationJob submitComparison(Long playerId, RankingCategory category,
+                                          List<List<MatchScenario>> scenarios, TimeframePeriod timeframe) {
+        SimulationJob job = jobs.submit(JobKind.RANKING_COMPARISON, progress ->
+            rankingSimulationService.compareScenarios(playerId, category, scenarios, timeframe, progress));
+        log.debug("Queued job {} comparing {} scenarios for player {}", job.getId(), scenarios.size(), playerId);
+        return job;
+    }
+
+    /**
+     * Queues a competition analysis.
+     *
+     * @throws RejectedExecutionException if too many jobs are waiting
+     */
+    public SimulationJob submitAnalysis(Long competitionId, Long targetTeamId, List<ScenarioRule> rules,
+                                        Boolean parallel) {
+        SimulationJob job = jobs.submit(JobKind.COMPETITION_ANALYSIS, progress ->
+            competitionScenarioService.analyzeScenario(competitionId, targetTeamId, rules, parallel, progress));
+        log.debug("Queued job {} analysing competition {} for team {}", job.getId(), competitionId, targetTeamId);
+        return job;
+    }
+
+    /**
+     * Queues a season simulation; every division is reported as a partial result once done.
+     *
+     * @throws RejectedExecutionException if too many jobs are waiting
+     */
+    public SimulationJob submitSeasonSimulation(List<Long> competitionIds, int promotedTeams, int relegatedTeams,
+                                                int iterations, long seed) {
+        SimulationJob job = jobs.submit(JobKind.SEASON_SIMULATION, progress ->
+            competitionScenarioService.simulateSeason(competitionIds, promotedTeams, relegatedTeams, iterations,
+                seed, progress));
+        log.debug("Queued job {} simulating the season of {} divisions", job.getId(), competitionIds.size());
+        return job;
+    }
+
+    /**
+     * @throws SimulationJobNotFoundException if the job is unknown or no longer kept
+     */
+    public SimulationJob getJob(UUID jobId) {
+        return jobs.find(jobId).orElseThrow(() -> new SimulationJobNotFoundException(jobId));
+    }
+
+    /**
+     * @throws SimulationJobNotFoundException if the job is unknown or no longer kept
+     */
+    public SimulationJob cancelJob(UUID jobId) {
+        return jobs.cancel(jobId).orElseThrow(() -> new SimulationJobNotFoundException(jobId));
+    }
+
+    /**
+     * Streams the state of the job to the listener until it finishes.
+     *
+     * @throws SimulationJobNotFoundException if the job is unknown or no longer kept
+     */
+    public void followJob(UUID jobId, Consumer<SimulationJob> listener) {
+        if (!jobs.subscribe(jobId, listener)) {
+            throw new SimulationJobNotFoundException(jobId);
+        }
+    }
+
+    public void unfollowJob(UUID jobId, Consumer<SimulationJob> listener) {
+        jobs.unsubscribe(jobId, listener);
+    }
+}
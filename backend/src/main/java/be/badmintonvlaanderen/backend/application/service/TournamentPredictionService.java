@@ -0,0 +1,71 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.application.port.PlayerRatingRepository;
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.GlickoWinProbability;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.domain.model.TournamentNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.TournamentPrediction;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+import be.badmintonvlaanderen.backend.domain.service.TournamentSimulationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Use case for predicting the outcome of a tournament draw.
+ */
+@Service
+public class TournamentPredictionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentPredictionService.class);
+
+    public static final int MAX_ITERATIONS = 1_000_000;
+
+    private final BadmintonVlaanderenGateway gateway;
+    private final TournamentSimulationService tournamentSimulationService;
+    private final PlayerRatingRepository playerRatings;
+    private final GlickoRules glickoRules;
+    private final WinProbabilityModel winProbabilityModel;
+    private final Clock clock;
+
+    public TournamentPredictionService(BadmintonVlaanderenGateway gateway,
+                                       TournamentSimulationService tournamentSimulationService,
+                                       PlayerRatingRepository playerRatings, GlickoRules glickoRules,
+                                       WinProbabilityModel winProbabilityModel, Clock clock) {
+        this.gateway = gateway;
+        this.tournamentSimulationService = tournamentSimulationService;
+        this.playerRatings = playerRatings;
+        this.glickoRules = glickoRules;
+        this.winProbabilityModel = winProbabilityModel;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs a seeded Monte Carlo simulation of the tournament draw. Matches are decided by the
+     * Glicko-2 ratings of both players, or by their ranking points when either has not played a
+     * rated match yet. The same tournament, ratings, iteration count and seed always produce the
+     * same prediction.
+     *
+     * @throws TournamentNotFoundException if the tournament ID is not known by the portal
+     */
+    public TournamentPrediction predictTournament(Long tournamentId, int iterations, long seed) {
+        if (iterations <= 0 || iterations > MAX_ITERATIONS) {
+            throw new IllegalArgumentException("Iterations must be between 1 and " + MAX_ITERATIONS);
+        }
+        Tournament tournament = gateway.fetchTournament(tournamentId)
+            .orElseThrow(() -> new TournamentNotFoundException(tournamentId));
+
+        log.debug("Predicting tournament {} ({}-draw) with {} iterations",
+            tournamentId, tournament.getBracket().getDrawSize(), iterations);
+
+        int period = glickoRules.period((int) LocalDate.now(clock).toEpochDay());
+        WinProbabilityModel model = new GlickoWinProbability(
+            playerRatings.current(tournament.getCategory()), period, winProbabilityModel);
+        return tournamentSimulationService.simulate(tournament.getBracket(), model, iterations, seed);
+    }
+}
@@ -0,0 +1,62 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Points of every ranked player in one category, kept as a sorted primitive array
+ * so a ranking position can be resolved with a binary search.
+ */
+public final class CategoryRanking {
+
+    public static final int UNRANKED = Integer.MIN_VALUE;
+
+    private final RankingCategory category;
+    private final int[] ascendingPoints;
+
+    public CategoryRanking(RankingCategory category, int[] points) {
+        this.category = Objects.requireNonNull(category, "category");
+        this.ascendingPoints = points.clone();
+        Arrays.sort(this.ascendingPoints);
+    }
+
+    public RankingCategory getCategory() {
+        return category;
+    }
+
+    public int size() {
+        return ascendingPoints.length;
+    }
+
+    /**
+     * Number of ranked players with strictly more points than the given value.
+     */
+    public int countAbove(int points) {
+        int low = 0;
+        int high = ascendingPoints.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ascendingPoints[mid] <= points) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return ascendingPoints.length - low;
+    }
+
+    /**
+     * Position a player would hold with the given points.
+     *
+     * @param points      the points to resolve
+     * @param ownPoints   the points the player is currently listed with, or {@link #UNRANKED}
+     *                    when the player is not part of this ranking
+     */
+    public int positionFor(int points, int ownPoints) {
+        int above = countAbove(points);
+        if (ownPoints != UNRANKED && ownPoints > points) {
+            above--;
+        }
+        return above + 1;
+    }
+}
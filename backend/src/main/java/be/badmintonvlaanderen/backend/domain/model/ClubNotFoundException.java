@@ -0,0 +1,18 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Thrown when no synchronised player plays for a club.
+ */
+public class ClubNotFoundException extends RuntimeException {
+
+    private final String clubName;
+
+    public ClubNotFoundException(String clubName) {
+        super("Club " + clubName + " not found");
+        this.clubName = clubName;
+    }
+
+    public String getClubName() {
+        return clubName;
+    }
+}
@@ -0,0 +1,50 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One interclub division: its teams and the full fixture list of the season.
+ */
+public final class Competition {
+
+    private final Long id;
+    private final String name;
+    private final List<CompetitionTeam> teams;
+    private final List<Fixture> fixtures;
+
+    public Competition(Long id, String name, List<CompetitionTeam> teams, List<Fixture> fixtures) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.name = name;
+        this.teams = List.copyOf(teams);
+        this.fixtures = List.copyOf(fixtures);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<CompetitionTeam> getTeams() {
+        return teams;
+    }
+
+    public List<Fixture> getFixtures() {
+        return fixtures;
+    }
+
+    public List<Fixture> getPlayedFixtures() {
+        return fixtures.stream().filter(Fixture::isPlayed).toList();
+    }
+
+    public List<Fixture> getRemainingFixtures() {
+        return fixtures.stream().filter(fixture -> !fixture.isPlayed()).toList();
+    }
+
+    public boolean hasTeam(Long teamId) {
+        return teams.stream().anyMatch(team -> team.getId().equals(teamId));
+    }
+}
@@ -0,0 +1,18 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Thrown when a competition id cannot be resolved.
+ */
+public class CompetitionNotFoundException extends RuntimeException {
+
+    private final Long competitionId;
+
+    public CompetitionNotFoundException(Long competitionId) {
+        super("Competition with ID " + competitionId + " not found");
+        this.competitionId = competitionId;
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+}
@@ -0,0 +1,52 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Team points awarded per encounter result.
+ */
+public final class CompetitionRules {
+
+    private final int winPoints;
+    private final int drawPoints;
+    private final int lossPoints;
+
+    public CompetitionRules(int winPoints, int drawPoints, int lossPoints) {
+        if (winPoints < drawPoints || drawPoints < lossPoints) {
+            throw new IllegalArgumentException("A win must be worth at least a draw, and a draw at least a loss");
+        }
+        this.winPoints = winPoints;
+        this.drawPoints = drawPoints;
+        this.lossPoints = lossPoints;
+    }
+
+    public static CompetitionRules defaults() {
+        return new CompetitionRules(3, 1, 0);
+    }
+
+    public int getWinPoints() {
+        return winPoints;
+    }
+
+    public int getDrawPoints() {
+        return drawPoints;
+    }
+
+    public int getLossPoints() {
+        return lossPoints;
+    }
+
+    public int homePoints(FixtureOutcome outcome) {
+        return switch (outcome) {
+            case HOME_WIN -> winPoints;
+            case DRAW -> drawPoints;
+            case AWAY_WIN -> lossPoints;
+        };
+    }
+
+    public int awayPoints(FixtureOutcome outcome) {
+        return switch (outcome) {
+            case HOME_WIN -> lossPoints;
+            case DRAW -> drawPoints;
+            case AWAY_WIN -> winPoints;
+        };
+    }
+}
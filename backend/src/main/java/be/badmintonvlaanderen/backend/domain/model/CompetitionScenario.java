@@ -0,0 +1,36 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Question "can this team still finish first, and how", asked under a set of assumptions.
+ */
+public final class CompetitionScenario {
+
+    private final Competition competition;
+    private final Long targetTeamId;
+    private final List<ScenarioRule> rules;
+
+    public CompetitionScenario(Competition competition, Long targetTeamId, List<ScenarioRule> rules) {
+        this.competition = Objects.requireNonNull(competition, "competition");
+        this.targetTeamId = Objects.requireNonNull(targetTeamId, "targetTeamId");
+        if (!competition.hasTeam(targetTeamId)) {
+            throw new IllegalArgumentException("Team " + targetTeamId + " does not play in competition "
+                + competition.getId());
+        }
+        this.rules = List.copyOf(rules);
+    }
+
+    public Competition getCompetition() {
+        return competition;
+    }
+
+    public Long getTargetTeamId() {
+        return targetTeamId;
+    }
+
+    public List<ScenarioRule> getRules() {
+        return rules;
+    }
+}
@@ -0,0 +1,25 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A club team entered in an interclub division.
+ */
+public final class CompetitionTeam {
+
+    private final Long id;
+    private final String name;
+
+    public CompetitionTeam(Long id, String name) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,132 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 64-bit content hashes of portal records, used to detect whether a record changed since it
+ * was stored.
+ * <p>
+ * Hashes only cover content, field by field in a fixed order. Collections without meaningful
+ * order (ranking results, teams, fixtures) are combined order-independently, so a portal that
+ * lists the same data in another order does not cause a rewrite. A draw is ordered by slot and
+ * hashed as a sequence.
+ */
+public final class ContentHash {
+
+    private static final long SEED = 0x6a09e667f3bcc908L;
+    private static final long MULTIPLIER = 0x9e3779b97f4a7c15L;
+    private static final long NULL = 0x5bd1e9955bd1e995L;
+
+    private ContentHash() {
+    }
+
+    public static long of(PlayerData data) {
+        Player player = data.getPlayer();
+        long hash = SEED;
+        hash = mix(hash, player.getId());
+        hash = mix(hash, player.getFirstName());
+        hash = mix(hash, player.getLastName());
+        hash = mix(hash, player.getClubName());
+        long results = 0;
+        for (RankingResult result : data.getResults()) {
+            long element = SEED;
+            element = mix(element, result.getCategory().ordinal());
+            element = mix(element, result.getPoints());
+            element = mix(element, result.getDate());
+            element = mix(element, result.getLevel().ordinal());
+            results += finish(element);
+        }
+        hash = mix(hash, data.getResults().size());
+        return finish(mix(hash, results));
+    }
+
+    public static long of(Tournament tournament) {
+        long hash = SEED;
+        hash = mix(hash, tournament.getId());
+        hash = mix(hash, tournament.getName());
+        hash = mix(hash, tournament.getLevel().ordinal());
+        hash = mix(hash, tournament.getCategory().ordinal());
+        hash = mix(hash, tournament.getStartDate());
+        List<TournamentEntrant> slots = tournament.getBracket().getSlots();
+        hash = mix(hash, slots.size());
+        for (TournamentEntrant entrant : slots) {
+            if (entrant == null) {
+                hash = mix(hash, NULL);
+            } else {
+                hash = mix(hash, entrant.getPlayerId());
+                hash = mix(hash, entrant.getName());
+                hash = mix(hash, entrant.getRankingPoints());
+            }
+        }
+        hash = mix(hash, tournament.getMatches().size());
+        for (PlayedMatch match : tournament.getMatches()) {
+            hash = mix(hash, match.getWinnerId());
+            hash = mix(hash, match.getLoserId());
+            hash = mix(hash, match.getDate());
+        }
+        return finish(hash);
+    }
+
+    public static long of(Competition competition) {
+        long hash = SEED;
+        hash = mix(hash, competition.getId());
+        hash = mix(hash, competition.getName());
+        long teams = 0;
+        for (CompetitionTeam team : competition.getTeams()) {
+            teams += finish(mix(mix(SEED, team.getId()), team.getName()));
+        }
+        long fixtures = 0;
+        for (Fixture fixture : competition.getFixtures()) {
+            long element = SEED;
+            element = mix(element, fixture.getId());
+            element = mix(element, fixture.getHomeTeamId());
+            element = mix(element, fixture.getAwayTeamId());
+            element = mix(element, fixture.getDate());
+            FixtureResult result = fixture.getResult();
+            element = result == null
+                ? mix(element, NULL)
+                : mix(mix(mix(mix(element, result.getHomeMatches()), result.getAwayMatches()),
+                    result.getHomeGames()), result.getAwayGames());
+            fixtures += finish(element);
+        }
+        hash = mix(hash, competition.getTeams().size());
+        hash = mix(hash, teams);
+        hash = mix(hash, competition.getFixtures().size());
+        return finish(mix(hash, fixtures));
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * MULTIPLIER;
+    }
+
+    private static long mix(long hash, Long value) {
+        return value == null ? mix(hash, NULL) : mix(hash, value.longValue());
+    }
+
+    private static long mix(long hash, LocalDate date) {
+        return date == null ? mix(hash, NULL) : mix(hash, date.toEpochDay());
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, NULL);
+        }
+        hash = mix(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = mix(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    /**
+     * Final avalanche, so that order-independent sums of element hashes stay well distributed.
+     */
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,31 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A portal record together with the content hash it is stored under.
+ */
+public final class ContentSnapshot<T> {
+
+    private final Long id;
+    private final long contentHash;
+    private final T content;
+
+    public ContentSnapshot(Long id, long contentHash, T content) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.contentHash = contentHash;
+        this.content = Objects.requireNonNull(content, "content");
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public T getContent() {
+        return content;
+    }
+}
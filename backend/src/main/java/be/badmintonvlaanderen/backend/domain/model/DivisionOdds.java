@@ -0,0 +1,68 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Estimated end-of-season odds of every team of one division. Teams are in competition order.
+ */
+public final class DivisionOdds {
+
+    private final Long competitionId;
+    private final String competitionName;
+    private final List<CompetitionTeam> teams;
+    private final int iterations;
+    private final double[] championship;
+    private final double[] promotion;
+    private final double[] relegation;
+    private final double[] expectedPoints;
+
+    public DivisionOdds(Long competitionId, String competitionName, List<CompetitionTeam> teams, int iterations,
+                        double[] championship, double[] promotion, double[] relegation, double[] expectedPoints) {
+        int n = teams.size();
+        if (championship.length != n || promotion.length != n || relegation.length != n
+            || expectedPoints.length != n) {
+            throw new IllegalArgumentException("Expected odds for every team");
+        }
+        this.competitionId = Objects.requireNonNull(competitionId, "competitionId");
+        this.competitionName = competitionName;
+        this.teams = List.copyOf(teams);
+        this.iterations = iterations;
+        this.championship = championship.clone();
+        this.promotion = promotion.clone();
+        this.relegation = relegation.clone();
+        this.expectedPoints = expectedPoints.clone();
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+
+    public String getCompetitionName() {
+        return competitionName;
+    }
+
+    public List<CompetitionTeam> getTeams() {
+        return teams;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public double getChampionshipProbability(int team) {
+        return championship[team];
+    }
+
+    public double getPromotionProbability(int team) {
+        return promotion[team];
+    }
+
+    public double getRelegationProbability(int team) {
+        return relegation[team];
+    }
+
+    public double getExpectedPoints(int team) {
+        return expectedPoints[team];
+    }
+}
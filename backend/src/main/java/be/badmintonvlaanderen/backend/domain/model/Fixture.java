@@ -0,0 +1,52 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * An interclub encounter between two teams; the result is {@code null} until it has been played.
+ */
+public final class Fixture {
+
+    private final Long id;
+    private final Long homeTeamId;
+    private final Long awayTeamId;
+    private final LocalDate date;
+    private final FixtureResult result;
+
+    public Fixture(Long id, Long homeTeamId, Long awayTeamId, LocalDate date, FixtureResult result) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.homeTeamId = Objects.requireNonNull(homeTeamId, "homeTeamId");
+        this.awayTeamId = Objects.requireNonNull(awayTeamId, "awayTeamId");
+        this.date = date;
+        this.result = result;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getHomeTeamId() {
+        return homeTeamId;
+    }
+
+    public Long getAwayTeamId() {
+        return awayTeamId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public FixtureResult getResult() {
+        return result;
+    }
+
+    public boolean isPlayed() {
+        return result != null;
+    }
+
+    public boolean involves(Long teamId) {
+        return homeTeamId.equals(teamId) || awayTeamId.equals(teamId);
+    }
+}
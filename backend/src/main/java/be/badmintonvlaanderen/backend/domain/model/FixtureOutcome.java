@@ -0,0 +1,35 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Result of an interclub encounter from the point of view of the home team.
+ */
+public enum FixtureOutcome {
+    HOME_WIN,
+    DRAW,
+    AWAY_WIN;
+
+    private static final FixtureOutcome[] BY_CODE = values();
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * Bit of this outcome in a mask of allowed outcomes.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int allMask() {
+        return (1 << BY_CODE.length) - 1;
+    }
+
+    public static FixtureOutcome fromCode(int code) {
+        return BY_CODE[code];
+    }
+
+    public static int count() {
+        return BY_CODE.length;
+    }
+}
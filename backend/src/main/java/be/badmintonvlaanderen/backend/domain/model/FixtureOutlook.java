@@ -0,0 +1,45 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * How one remaining fixture features in the outcome combinations that put the target team first.
+ */
+public final class FixtureOutlook {
+
+    private final Fixture fixture;
+    private final long[] championCombinations;
+
+    public FixtureOutlook(Fixture fixture, long[] championCombinations) {
+        this.fixture = Objects.requireNonNull(fixture, "fixture");
+        this.championCombinations = championCombinations.clone();
+    }
+
+    public Fixture getFixture() {
+        return fixture;
+    }
+
+    /**
+     * Number of combinations with this outcome in which the target team finishes clear first.
+     */
+    public long getChampionCombinations(FixtureOutcome outcome) {
+        return championCombinations[outcome.ordinal()];
+    }
+
+    /**
+     * The only outcome compatible with a clear first place, or {@code null} when several
+     * outcomes still are (or none is).
+     */
+    public FixtureOutcome getRequiredOutcome() {
+        FixtureOutcome required = null;
+        for (FixtureOutcome outcome : FixtureOutcome.values()) {
+            if (championCombinations[outcome.ordinal()] > 0) {
+                if (required != null) {
+                    return null;
+                }
+                required = outcome;
+            }
+        }
+        return required;
+    }
+}
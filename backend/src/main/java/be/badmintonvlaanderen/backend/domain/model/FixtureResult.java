@@ -0,0 +1,54 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Score of a played encounter: the number of individual matches won by each team, and the games
+ * won by each team over all those matches. Games are {@code 0} when the portal does not publish
+ * them.
+ */
+public final class FixtureResult {
+
+    private final int homeMatches;
+    private final int awayMatches;
+    private final int homeGames;
+    private final int awayGames;
+
+    public FixtureResult(int homeMatches, int awayMatches) {
+        this(homeMatches, awayMatches, 0, 0);
+    }
+
+    public FixtureResult(int homeMatches, int awayMatches, int homeGames, int awayGames) {
+        if (homeMatches < 0 || awayMatches < 0) {
+            throw new IllegalArgumentException("Match counts cannot be negative");
+        }
+        if (homeGames < 0 || awayGames < 0) {
+            throw new IllegalArgumentException("Game counts cannot be negative");
+        }
+        this.homeMatches = homeMatches;
+        this.awayMatches = awayMatches;
+        this.homeGames = homeGames;
+        this.awayGames = awayGames;
+    }
+
+    public int getHomeMatches() {
+        return homeMatches;
+    }
+
+    public int getAwayMatches() {
+        return awayMatches;
+    }
+
+    public int getHomeGames() {
+        return homeGames;
+    }
+
+    public int getAwayGames() {
+        return awayGames;
+    }
+
+    public FixtureOutcome getOutcome() {
+        if (homeMatches > awayMatches) {
+            return FixtureOutcome.HOME_WIN;
+        }
+        return homeMatches == awayMatches ? FixtureOutcome.DRAW : FixtureOutcome.AWAY_WIN;
+    }
+}
@@ -0,0 +1,9 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Gender a player is registered with, which decides the interclub disciplines they can play.
+ */
+public enum Gender {
+    MALE,
+    FEMALE
+}
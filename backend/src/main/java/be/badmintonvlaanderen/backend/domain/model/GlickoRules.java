@@ -0,0 +1,62 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Parameters of the Glicko-2 rating system.
+ * <p>
+ * Matches are rated per period of {@code periodDays} days: every player's rating moves once per
+ * period, against the ratings their opponents had at its start. {@code tau} limits how fast the
+ * volatility of a player can change.
+ */
+public final class GlickoRules {
+
+    /**
+     * Factor between the Glicko-2 scale and the familiar rating scale.
+     */
+    public static final double SCALE = 173.7178;
+
+    public static final double INITIAL_RATING = 1500;
+    public static final double INITIAL_DEVIATION = 350;
+    public static final double INITIAL_VOLATILITY = 0.06;
+    public static final int DEFAULT_PERIOD_DAYS = 28;
+    public static final double DEFAULT_TAU = 0.5;
+
+    private final int periodDays;
+    private final double tau;
+
+    public GlickoRules(int periodDays, double tau) {
+        if (periodDays <= 0) {
+            throw new IllegalArgumentException("periodDays must be positive");
+        }
+        if (tau <= 0) {
+            throw new IllegalArgumentException("tau must be positive");
+        }
+        this.periodDays = periodDays;
+        this.tau = tau;
+    }
+
+    public static GlickoRules defaults() {
+        return new GlickoRules(DEFAULT_PERIOD_DAYS, DEFAULT_TAU);
+    }
+
+    public int getPeriodDays() {
+        return periodDays;
+    }
+
+    public double getTau() {
+        return tau;
+    }
+
+    /**
+     * Index of the rating period containing the day.
+     */
+    public int period(int epochDay) {
+        return Math.floorDiv(epochDay, periodDays);
+    }
+
+    /**
+     * First day of the rating period.
+     */
+    public int periodStart(int period) {
+        return period * periodDays;
+    }
+}
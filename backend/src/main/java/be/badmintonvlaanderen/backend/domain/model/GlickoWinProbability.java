@@ -0,0 +1,30 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Win probability from the Glicko-2 ratings of both players, for the rating period the
+ * prediction is made in. Falls back to another model when either player has no rating yet.
+ */
+public final class GlickoWinProbability implements WinProbabilityModel {
+
+    private final PlayerRatings ratings;
+    private final int period;
+    private final WinProbabilityModel fallback;
+
+    public GlickoWinProbability(PlayerRatings ratings, int period, WinProbabilityModel fallback) {
+        this.ratings = Objects.requireNonNull(ratings, "ratings");
+        this.period = period;
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+    }
+
+    @Override
+    public double winProbability(TournamentEntrant player, TournamentEntrant opponent) {
+        int playerIndex = ratings.indexOf(player.getPlayerId());
+        int opponentIndex = ratings.indexOf(opponent.getPlayerId());
+        if (playerIndex < 0 || opponentIndex < 0) {
+            return fallback.winProbability(player, opponent);
+        }
+        return ratings.expectedScore(playerIndex, opponentIndex, period);
+    }
+}
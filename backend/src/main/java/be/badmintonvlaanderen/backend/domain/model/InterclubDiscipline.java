@@ -0,0 +1,42 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Kind of match played in an interclub encounter: who may play it and which ranking decides the
+ * order of the matches of the same kind.
+ */
+public enum InterclubDiscipline {
+    MEN_SINGLES(RankingCategory.SINGLES, Gender.MALE, null),
+    WOMEN_SINGLES(RankingCategory.SINGLES, Gender.FEMALE, null),
+    MEN_DOUBLES(RankingCategory.DOUBLES, Gender.MALE, Gender.MALE),
+    WOMEN_DOUBLES(RankingCategory.DOUBLES, Gender.FEMALE, Gender.FEMALE),
+    MIXED_DOUBLES(RankingCategory.MIXED, Gender.MALE, Gender.FEMALE);
+
+    private final RankingCategory category;
+    private final Gender firstGender;
+    private final Gender secondGender;
+
+    InterclubDiscipline(RankingCategory category, Gender firstGender, Gender secondGender) {
+        this.category = category;
+        this.firstGender = firstGender;
+        this.secondGender = secondGender;
+    }
+
+    public RankingCategory getCategory() {
+        return category;
+    }
+
+    public Gender getFirstGender() {
+        return firstGender;
+    }
+
+    /**
+     * Gender of the partner, or {@code null} for a singles discipline.
+     */
+    public Gender getSecondGender() {
+        return secondGender;
+    }
+
+    public boolean isDoubles() {
+        return secondGender != null;
+    }
+}
@@ -0,0 +1,56 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+
+import static be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline.MEN_DOUBLES;
+import static be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline.MEN_SINGLES;
+import static be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline.MIXED_DOUBLES;
+import static be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline.WOMEN_DOUBLES;
+import static be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline.WOMEN_SINGLES;
+
+/**
+ * The eight matches of an interclub encounter per kind of team, in the order they appear on the
+ * score sheet, and the ranking categories the team index is counted over. Matches of the same
+ * discipline are numbered from the strongest player or pair down.
+ */
+public enum InterclubFormat {
+    MEN(List.of(MEN_SINGLES, MEN_SINGLES, MEN_SINGLES, MEN_SINGLES,
+        MEN_DOUBLES, MEN_DOUBLES, MEN_DOUBLES, MEN_DOUBLES),
+        List.of(RankingCategory.SINGLES, RankingCategory.DOUBLES)),
+    WOMEN(List.of(WOMEN_SINGLES, WOMEN_SINGLES, WOMEN_SINGLES, WOMEN_SINGLES,
+        WOMEN_DOUBLES, WOMEN_DOUBLES, WOMEN_DOUBLES, WOMEN_DOUBLES),
+        List.of(RankingCategory.SINGLES, RankingCategory.DOUBLES)),
+    MIXED(List.of(MEN_SINGLES, MEN_SINGLES, WOMEN_SINGLES, WOMEN_SINGLES,
+        MEN_DOUBLES, WOMEN_DOUBLES, MIXED_DOUBLES, MIXED_DOUBLES),
+        List.of(RankingCategory.SINGLES, RankingCategory.DOUBLES, RankingCategory.MIXED));
+
+    private final List<InterclubDiscipline> slots;
+    private final List<RankingCategory> indexCategories;
+
+    InterclubFormat(List<InterclubDiscipline> slots, List<RankingCategory> indexCategories) {
+        this.slots = slots;
+        this.indexCategories = indexCategories;
+    }
+
+    /**
+     * Discipline of every match of the encounter; matches of one discipline are adjacent.
+     */
+    public List<InterclubDiscipline> getSlots() {
+        return slots;
+    }
+
+    public List<RankingCategory> getIndexCategories() {
+        return indexCategories;
+    }
+
+    /**
+     * Contribution of a player to the team index: their points in the index categories.
+     */
+    public int indexPoints(RosterPlayer player) {
+        int points = 0;
+        for (RankingCategory category : indexCategories) {
+            points += player.getPoints(category);
+        }
+        return points;
+    }
+}
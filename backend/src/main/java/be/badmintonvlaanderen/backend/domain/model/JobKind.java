@@ -0,0 +1,23 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * The use cases that can run as an asynchronous job, with the priority they are queued at.
+ * <p>
+ * Scenario comparisons finish in seconds and are queued ahead of competition analyses and season
+ * simulations, which can run for minutes.
+ */
+public enum JobKind {
+    RANKING_COMPARISON(JobPriority.NORMAL),
+    COMPETITION_ANALYSIS(JobPriority.LOW),
+    SEASON_SIMULATION(JobPriority.LOW);
+
+    private final JobPriority priority;
+
+    JobKind(JobPriority priority) {
+        this.priority = priority;
+    }
+
+    public JobPriority getPriority() {
+        return priority;
+    }
+}
@@ -0,0 +1,11 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Order in which queued simulation jobs are started; jobs of equal priority start in
+ * submission order.
+ */
+public enum JobPriority {
+    HIGH,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,19 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Lifecycle of an asynchronous simulation job.
+ */
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    /**
+     * Whether the job has stopped for good and will not change any more.
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
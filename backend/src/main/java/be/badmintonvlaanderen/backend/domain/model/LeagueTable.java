@@ -0,0 +1,316 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Mutable standings of a division in primitive columns, for ranking the table many times over.
+ * <p>
+ * Teams are addressed by their index in the competition. Every column (team points, encounters
+ * won, drawn and lost, matches and games for and against) is an {@code int[]} indexed by team,
+ * and the team points each team took from every opponent are kept in one {@code n * n} array
+ * for the head-to-head comparison. Results are added and removed in place, so a search can
+ * apply an outcome, rank and undo it again.
+ * <p>
+ * {@link #rank()} orders the teams by the federation tie-break chain: team points, then the
+ * head-to-head points among all teams level on points, then match difference, then game
+ * difference. Teams still level after that share a position and are listed in competition order.
+ * Ranking works in preallocated scratch arrays, with the teams level on points held as a bit
+ * set, so it allocates nothing. An instance is not thread-safe; give every worker its own
+ * {@link #copy()}.
+ */
+public final class LeagueTable {
+
+    /**
+     * Teams a table can hold: a group of teams level on points is a bit set in a {@code long}.
+     */
+    public static final int MAX_TEAMS = Long.SIZE;
+
+    private final List<Long> teamIds;
+    private final Map<Long, Integer> teamIndex;
+    private final CompetitionRules rules;
+    private final int[] points;
+    private final int[] won;
+    private final int[] drawn;
+    private final int[] lost;
+    private final int[] matchesFor;
+    private final int[] matchesAgainst;
+    private final int[] gamesFor;
+    private final int[] gamesAgainst;
+    private final int[] headToHead;
+    private final int[] order;
+    private final int[] positions;
+    private final int[] groupPoints;
+
+    public LeagueTable(List<Long> teamIds, CompetitionRules rules) {
+        if (teamIds.size() > MAX_TEAMS) {
+            throw new IllegalArgumentException("A division can have at most " + MAX_TEAMS + " teams");
+        }
+        this.teamIds = List.copyOf(teamIds);
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.teamIndex = new HashMap<>();
+        for (int team = 0; team < this.teamIds.size(); team++) {
+            if (teamIndex.put(this.teamIds.get(team), team) != null) {
+                throw new IllegalArgumentException("Team " + this.teamIds.get(team) + " is listed twice");
+            }
+        }
+        int n = this.teamIds.size();
+        this.points = new int[n];
+        this.won = new int[n];
+        this.drawn = new int[n];
+        this.lost = new int[n];
+        this.matchesFor = new int[n];
+        this.matchesAgainst = new int[n];
+        this.gamesFor = new int[n];
+        this.gamesAgainst = new int[n];
+        this.headToHead = new int[n * n];
+        this.order = new int[n];
+        this.positions = new int[n];
+        this.groupPoints = new int[n];
+    }
+
+    /**
+     * The table after the played fixtures of the competition.
+     */
+    public static LeagueTable of(Competition competition, CompetitionRules rules) {
+        LeagueTable table = new LeagueTable(
+            competition.getTeams().stream().map(CompetitionTeam::getId).toList(), rules);
+        for (Fixture fixture : competition.getPlayedFixtures()) {
+            FixtureResult result = fixture.getResult();
+            table.add(table.indexOf(fixture.getHomeTeamId()), table.indexOf(fixture.getAwayTeamId()),
+                result.getHomeMatches(), result.getAwayMatches(), result.getHomeGames(), result.getAwayGames());
+        }
+        return table;
+    }
+
+    private LeagueTable(LeagueTable source) {
+        this.teamIds = source.teamIds;
+        this.teamIndex = source.teamIndex;
+        this.rules = source.rules;
+        this.points = source.points.clone();
+        this.won = source.won.clone();
+        this.drawn = source.drawn.clone();
+        this.lost = source.lost.clone();
+        this.matchesFor = source.matchesFor.clone();
+        this.matchesAgainst = source.matchesAgainst.clone();
+        this.gamesFor = source.gamesFor.clone();
+        this.gamesAgainst = source.gamesAgainst.clone();
+        this.headToHead = source.headToHead.clone();
+        this.order = new int[source.order.length];
+        this.positions = new int[source.positions.length];
+        this.groupPoints = new int[source.groupPoints.length];
+    }
+
+    /**
+     * An independent table with the same results.
+     */
+    public LeagueTable copy() {
+        return new LeagueTable(this);
+    }
+
+    public int teamCount() {
+        return teamIds.size();
+    }
+
+    public Long teamId(int team) {
+        return teamIds.get(team);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the team does not play in this division
+     */
+    public int indexOf(Long teamId) {
+        Integer team = teamIndex.get(teamId);
+        if (team == null) {
+            throw new IllegalArgumentException("Team " + teamId + " does not play in this division");
+        }
+        return team;
+    }
+
+    /**
+     * Adds the result of an encounter between two teams, given by index.
+     */
+    public void add(int home, int away, int homeMatches, int awayMatches, int homeGames, int awayGames) {
+        apply(home, away, homeMatches, awayMatches, homeGames, awayGames, 1);
+    }
+
+    /**
+     * Takes back a result added earlier.
+     */
+    public void remove(int home, int away, int homeMatches, int awayMatches, int homeGames, int awayGames) {
+        apply(home, away, homeMatches, awayMatches, homeGames, awayGames, -1);
+    }
+
+    private void apply(int home, int away, int homeMatches, int awayMatches, int homeGames, int awayGames,
+                       int sign) {
+        if (home == away) {
+            throw new IllegalArgumentException("A team cannot play itself");
+        }
+        int homePoints;
+        int awayPoints;
+        if (homeMatches > awayMatches) {
+            homePoints = rules.getWinPoints();
+            awayPoints = rules.getLossPoints();
+            won[home] += sign;
+            lost[away] += sign;
+        } else if (homeMatches < awayMatches) {
+            homePoints = rules.getLossPoints();
+            awayPoints = rules.getWinPoints();
+            lost[home] += sign;
+            won[away] += sign;
+        } else {
+            homePoints = rules.getDrawPoints();
+            awayPoints = rules.getDrawPoints();
+            drawn[home] += sign;
+            drawn[away] += sign;
+        }
+        int n = teamIds.size();
+        points[home] += sign * homePoints;
+        points[away] += sign * awayPoints;
+        headToHead[home * n + away] += sign * homePoints;
+        headToHead[away * n + home] += sign * awayPoints;
+        matchesFor[home] += sign * homeMatches;
+        matchesAgainst[home] += sign * awayMatches;
+        matchesFor[away] += sign * awayMatches;
+        matchesAgainst[away] += sign * homeMatches;
+        gamesFor[home] += sign * homeGames;
+        gamesAgainst[home] += sign * awayGames;
+        gamesFor[away] += sign * awayGames;
+        gamesAgainst[away] += sign * homeGames;
+    }
+
+    /**
+     * Ranks the teams by the tie-break chain.
+     *
+     * @return team indexes from first to last place; the array is reused by the next call
+     */
+    public int[] rank() {
+        int n = teamIds.size();
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        // insertion sort: divisions are small, and it keeps equal teams in competition order
+        for (int i = 1; i < n; i++) {
+            int team = order[i];
+            int j = i - 1;
+            while (j >= 0 && points[order[j]] < points[team]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = team;
+        }
+
+        for (int start = 0; start < n; ) {
+            int end = start + 1;
+            while (end < n && points[order[end]] == points[order[start]]) {
+                end++;
+            }
+            if (end - start > 1) {
+                breakTie(start, end);
+            } else {
+                positions[start] = start + 1;
+            }
+            start = end;
+        }
+        return order;
+    }
+
+    /**
+     * Position of the team at a place of the last {@link #rank()}: {@code place + 1}, or the
+     * position of the team above when the two are level on every criterion.
+     */
+    public int positionAt(int place) {
+        return positions[place];
+    }
+
+    /**
+     * Orders the teams in {@code order[start, end)}, all level on points, by the tie-breakers.
+     */
+    private void breakTie(int start, int end) {
+        int n = teamIds.size();
+        long group = 0;
+        for (int i = start; i < end; i++) {
+            group |= 1L << order[i];
+        }
+        for (int i = start; i < end; i++) {
+            int team = order[i];
+            int sum = 0;
+            for (long rest = group; rest != 0; rest &= rest - 1) {
+                sum += headToHead[team * n + Long.numberOfTrailingZeros(rest)];
+            }
+            groupPoints[team] = sum;
+        }
+        for (int i = start + 1; i < end; i++) {
+            int team = order[i];
+            int j = i - 1;
+            while (j >= start && compareTied(order[j], team) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = team;
+        }
+        positions[start] = start + 1;
+        for (int i = start + 1; i < end; i++) {
+            positions[i] = compareTied(order[i - 1], order[i]) == 0 ? positions[i - 1] : i + 1;
+        }
+    }
+
+    /**
+     * Negative when {@code a} ranks above {@code b}, zero when no tie-breaker separates them.
+     */
+    private int compareTied(int a, int b) {
+        if (groupPoints[a] != groupPoints[b]) {
+            return Integer.compare(groupPoints[b], groupPoints[a]);
+        }
+        if (getMatchDifference(a) != getMatchDifference(b)) {
+            return Integer.compare(getMatchDifference(b), getMatchDifference(a));
+        }
+        return Integer.compare(getGameDifference(b), getGameDifference(a));
+    }
+
+    public int getPoints(int team) {
+        return points[team];
+    }
+
+    public int getPlayed(int team) {
+        return won[team] + drawn[team] + lost[team];
+    }
+
+    public int getWon(int team) {
+        return won[team];
+    }
+
+    public int getDrawn(int team) {
+        return drawn[team];
+    }
+
+    public int getLost(int team) {
+        return lost[team];
+    }
+
+    public int getMatchesFor(int team) {
+        return matchesFor[team];
+    }
+
+    public int getMatchesAgainst(int team) {
+        return matchesAgainst[team];
+    }
+
+    public int getMatchDifference(int team) {
+        return matchesFor[team] - matchesAgainst[team];
+    }
+
+    public int getGamesFor(int team) {
+        return gamesFor[team];
+    }
+
+    public int getGamesAgainst(int team) {
+        return gamesAgainst[team];
+    }
+
+    public int getGameDifference(int team) {
+        return gamesFor[team] - gamesAgainst[team];
+    }
+}
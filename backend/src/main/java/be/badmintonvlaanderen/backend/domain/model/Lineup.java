@@ -0,0 +1,34 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * A lineup for every match of an encounter, with its team index and the number of matches it is
+ * expected to win.
+ */
+public final class Lineup {
+
+    private final List<LineupMatch> matches;
+    private final int teamIndex;
+
+    public Lineup(List<LineupMatch> matches, int teamIndex) {
+        this.matches = List.copyOf(matches);
+        this.teamIndex = teamIndex;
+    }
+
+    public List<LineupMatch> getMatches() {
+        return matches;
+    }
+
+    public int getTeamIndex() {
+        return teamIndex;
+    }
+
+    public double getExpectedPoints() {
+        double points = 0;
+        for (LineupMatch match : matches) {
+            points += match.getWinProbability();
+        }
+        return points;
+    }
+}
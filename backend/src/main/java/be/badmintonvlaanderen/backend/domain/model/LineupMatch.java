@@ -0,0 +1,37 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One match of a lineup: the players fielded for it and their chance of winning it. A match
+ * without players is given away.
+ */
+public final class LineupMatch {
+
+    private final InterclubDiscipline discipline;
+    private final List<Long> playerIds;
+    private final double winProbability;
+
+    public LineupMatch(InterclubDiscipline discipline, List<Long> playerIds, double winProbability) {
+        this.discipline = Objects.requireNonNull(discipline, "discipline");
+        this.playerIds = List.copyOf(playerIds);
+        this.winProbability = winProbability;
+    }
+
+    public InterclubDiscipline getDiscipline() {
+        return discipline;
+    }
+
+    public List<Long> getPlayerIds() {
+        return playerIds;
+    }
+
+    public double getWinProbability() {
+        return winProbability;
+    }
+
+    public boolean isForfeited() {
+        return playerIds.isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Federation limits on how often one player may appear in an interclub encounter. Besides the
+ * total, a player plays each discipline at most once.
+ */
+public final class LineupRules {
+
+    public static final int DEFAULT_MAX_MATCHES_PER_PLAYER = 2;
+
+    private final int maxMatchesPerPlayer;
+
+    public LineupRules(int maxMatchesPerPlayer) {
+        if (maxMatchesPerPlayer < 1 || maxMatchesPerPlayer > 3) {
+            throw new IllegalArgumentException("maxMatchesPerPlayer must be between 1 and 3");
+        }
+        this.maxMatchesPerPlayer = maxMatchesPerPlayer;
+    }
+
+    public static LineupRules defaults() {
+        return new LineupRules(DEFAULT_MAX_MATCHES_PER_PLAYER);
+    }
+
+    public int getMaxMatchesPerPlayer() {
+        return maxMatchesPerPlayer;
+    }
+}
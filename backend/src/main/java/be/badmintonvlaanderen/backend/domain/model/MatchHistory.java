@@ -0,0 +1,91 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Played matches of one category in date order, kept as primitive columns so millions of
+ * matches can be rated without an object per match.
+ */
+public final class MatchHistory {
+
+    private static final MatchHistory EMPTY = new MatchHistory(new long[0], new long[0], new int[0]);
+
+    private final long[] winnerIds;
+    private final long[] loserIds;
+    private final int[] epochDays;
+
+    private MatchHistory(long[] winnerIds, long[] loserIds, int[] epochDays) {
+        this.winnerIds = winnerIds;
+        this.loserIds = loserIds;
+        this.epochDays = epochDays;
+    }
+
+    public static MatchHistory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param epochDays the day of each match, in ascending order
+     */
+    public static MatchHistory of(long[] winnerIds, long[] loserIds, int[] epochDays) {
+        if (loserIds.length != winnerIds.length || epochDays.length != winnerIds.length) {
+            throw new IllegalArgumentException("Winners, losers and days must have the same length");
+        }
+        for (int i = 0; i < epochDays.length; i++) {
+            if (i > 0 && epochDays[i] < epochDays[i - 1]) {
+                throw new IllegalArgumentException("Matches must be in date order");
+            }
+            if (winnerIds[i] == loserIds[i]) {
+                throw new IllegalArgumentException("A player cannot play against themselves");
+            }
+        }
+        return new MatchHistory(winnerIds.clone(), loserIds.clone(), epochDays.clone());
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public long winnerId(int match) {
+        return winnerIds[match];
+    }
+
+    public long loserId(int match) {
+        return loserIds[match];
+    }
+
+    public int epochDay(int match) {
+        return epochDays[match];
+    }
+
+    /**
+     * The matches played on or after {@code fromEpochDay} and before {@code toEpochDay}.
+     */
+    public MatchHistory between(int fromEpochDay, int toEpochDay) {
+        int from = firstOnOrAfter(fromEpochDay);
+        int to = Math.max(from, firstOnOrAfter(toEpochDay));
+        if (from == 0 && to == epochDays.length) {
+            return this;
+        }
+        return new MatchHistory(Arrays.copyOfRange(winnerIds, from, to), Arrays.copyOfRange(loserIds, from, to),
+            Arrays.copyOfRange(epochDays, from, to));
+    }
+
+    private int firstOnOrAfter(int epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
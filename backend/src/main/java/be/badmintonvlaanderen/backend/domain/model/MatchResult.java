@@ -0,0 +1,22 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Outcome of a single match from the point of view of the simulated player.
+ */
+public enum MatchResult {
+    WIN,
+    LOSS;
+
+    private static final MatchResult[] BY_CODE = values();
+
+    /**
+     * Compact code used by the array-based simulation engine.
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static MatchResult fromCode(byte code) {
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,68 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A hypothetical match used as input for a ranking simulation.
+ */
+public final class MatchScenario {
+
+    private final Long opponentId;
+    private final MatchResult expectedResult;
+    private final TournamentLevel level;
+    private final LocalDate matchDate;
+    private final Integer drawSize;
+    private final Integer round;
+    private final byte stage;
+
+    public MatchScenario(Long opponentId, MatchResult expectedResult, TournamentLevel level, LocalDate matchDate) {
+        this(opponentId, expectedResult, level, matchDate, null, null);
+    }
+
+    /**
+     * @param drawSize size of the draw the match is played in, or {@code null} if unknown
+     * @param round    round of the draw counted from the first round, or {@code null} if unknown
+     */
+    public MatchScenario(Long opponentId, MatchResult expectedResult, TournamentLevel level, LocalDate matchDate,
+                         Integer drawSize, Integer round) {
+        this.opponentId = opponentId;
+        this.expectedResult = Objects.requireNonNull(expectedResult, "expectedResult");
+        this.level = Objects.requireNonNull(level, "level");
+        this.matchDate = Objects.requireNonNull(matchDate, "matchDate");
+        this.stage = RankingPointsTable.stage(drawSize, round);
+        this.drawSize = drawSize;
+        this.round = round;
+    }
+
+    public Long getOpponentId() {
+        return opponentId;
+    }
+
+    public MatchResult getExpectedResult() {
+        return expectedResult;
+    }
+
+    public TournamentLevel getLevel() {
+        return level;
+    }
+
+    public LocalDate getMatchDate() {
+        return matchDate;
+    }
+
+    public Integer getDrawSize() {
+        return drawSize;
+    }
+
+    public Integer getRound() {
+        return round;
+    }
+
+    /**
+     * Draw size and round packed for a {@link RankingPointsTable} lookup.
+     */
+    public byte getStage() {
+        return stage;
+    }
+}
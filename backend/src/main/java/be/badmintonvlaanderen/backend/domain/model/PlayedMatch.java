@@ -0,0 +1,35 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A match played in a tournament, by the IDs of the winning and the losing player.
+ */
+public final class PlayedMatch {
+
+    private final Long winnerId;
+    private final Long loserId;
+    private final LocalDate date;
+
+    public PlayedMatch(Long winnerId, Long loserId, LocalDate date) {
+        this.winnerId = Objects.requireNonNull(winnerId, "winnerId");
+        this.loserId = Objects.requireNonNull(loserId, "loserId");
+        this.date = Objects.requireNonNull(date, "date");
+        if (winnerId.equals(loserId)) {
+            throw new IllegalArgumentException("A player cannot play against themselves");
+        }
+    }
+
+    public Long getWinnerId() {
+        return winnerId;
+    }
+
+    public Long getLoserId() {
+        return loserId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+}
@@ -0,0 +1,56 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A player registered with Badminton Vlaanderen.
+ */
+public final class Player {
+
+    private final Long id;
+    private final String firstName;
+    private final String lastName;
+    private final String clubName;
+
+    public Player(Long id, String firstName, String lastName, String clubName) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.clubName = clubName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getClubName() {
+        return clubName;
+    }
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Player other && id.equals(other.id));
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Player{id=" + id + ", name='" + getFullName() + "'}";
+    }
+}
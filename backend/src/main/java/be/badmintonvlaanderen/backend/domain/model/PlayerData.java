@@ -0,0 +1,33 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Player profile together with the results currently counting towards the ranking,
+ * as published by the Badminton Vlaanderen portal.
+ */
+public final class PlayerData {
+
+    private final Player player;
+    private final List<RankingResult> results;
+
+    public PlayerData(Player player, List<RankingResult> results) {
+        this.player = Objects.requireNonNull(player, "player");
+        this.results = List.copyOf(results);
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public List<RankingResult> getResults() {
+        return results;
+    }
+
+    public List<RankingResult> getResults(RankingCategory category) {
+        return results.stream()
+            .filter(result -> result.getCategory() == category)
+            .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A player found by a name, club or member ID search.
+ */
+public final class PlayerMatch {
+
+    private final Player player;
+    private final int rankingPoints;
+    private final int typos;
+
+    /**
+     * @param rankingPoints the player's best points over all categories, {@code 0} when unranked
+     * @param typos         number of search terms that only matched allowing for a typo
+     */
+    public PlayerMatch(Player player, int rankingPoints, int typos) {
+        this.player = Objects.requireNonNull(player, "player");
+        this.rankingPoints = rankingPoints;
+        this.typos = typos;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public int getRankingPoints() {
+        return rankingPoints;
+    }
+
+    public int getTypos() {
+        return typos;
+    }
+
+    public boolean isExact() {
+        return typos == 0;
+    }
+}
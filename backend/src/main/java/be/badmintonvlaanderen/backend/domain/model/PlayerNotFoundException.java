@@ -0,0 +1,18 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Thrown when a player id cannot be resolved.
+ */
+public class PlayerNotFoundException extends RuntimeException {
+
+    private final Long playerId;
+
+    public PlayerNotFoundException(Long playerId) {
+        super("Player with ID " + playerId + " not found");
+        this.playerId = playerId;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+}
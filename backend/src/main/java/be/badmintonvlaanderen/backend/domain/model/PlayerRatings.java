@@ -0,0 +1,126 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Glicko-2 ratings of every rated player in one category, as columns in ascending player ID
+ * order.
+ * <p>
+ * Values are kept on the Glicko-2 scale ({@code mu}, {@code phi}); {@link #rating(int)} and
+ * {@link #deviation(int)} convert to the familiar 1500-based scale. A player's deviation grows
+ * while they do not play, which is applied when asked for the deviation in a later period.
+ * Instances are immutable.
+ */
+public final class PlayerRatings {
+
+    /**
+     * {@link #getThroughPeriod()} of ratings that have not rated any period yet.
+     */
+    public static final int NO_PERIOD = Integer.MIN_VALUE;
+
+    private static final PlayerRatings EMPTY =
+        new PlayerRatings(new long[0], new double[0], new double[0], new double[0], new int[0], NO_PERIOD);
+
+    private final long[] playerIds;
+    private final double[] mu;
+    private final double[] phi;
+    private final double[] sigma;
+    private final int[] lastPeriod;
+    private final int throughPeriod;
+
+    /**
+     * Takes ownership of the arrays; callers must not change them afterwards.
+     *
+     * @param playerIds     player IDs in ascending order
+     * @param lastPeriod    the last period each player played in
+     * @param throughPeriod the last period the ratings account for
+     */
+    public PlayerRatings(long[] playerIds, double[] mu, double[] phi, double[] sigma, int[] lastPeriod,
+                         int throughPeriod) {
+        int size = playerIds.length;
+        if (mu.length != size || phi.length != size || sigma.length != size || lastPeriod.length != size) {
+            throw new IllegalArgumentException("Every rating column must hold one value per player");
+        }
+        this.playerIds = playerIds;
+        this.mu = mu;
+        this.phi = phi;
+        this.sigma = sigma;
+        this.lastPeriod = lastPeriod;
+        this.throughPeriod = throughPeriod;
+    }
+
+    public static PlayerRatings empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return playerIds.length;
+    }
+
+    public int getThroughPeriod() {
+        return throughPeriod;
+    }
+
+    /**
+     * @return the row of the player, or a negative value if the player has no rating
+     */
+    public int indexOf(long playerId) {
+        return Arrays.binarySearch(playerIds, playerId);
+    }
+
+    public long playerIdAt(int index) {
+        return playerIds[index];
+    }
+
+    public double mu(int index) {
+        return mu[index];
+    }
+
+    public double phi(int index) {
+        return phi[index];
+    }
+
+    public double sigma(int index) {
+        return sigma[index];
+    }
+
+    public int lastPeriod(int index) {
+        return lastPeriod[index];
+    }
+
+    /**
+     * Deviation on the Glicko-2 scale at the start of the given period, grown by the periods the
+     * player sat out since they last played.
+     */
+    public double phiAt(int index, int period) {
+        int idle = Math.max(0, period - lastPeriod[index] - 1);
+        double grown = Math.sqrt(phi[index] * phi[index] + idle * sigma[index] * sigma[index]);
+        return Math.min(grown, GlickoRules.INITIAL_DEVIATION / GlickoRules.SCALE);
+    }
+
+    public double rating(int index) {
+        return GlickoRules.INITIAL_RATING + GlickoRules.SCALE * mu[index];
+    }
+
+    public double deviation(int index) {
+        return GlickoRules.SCALE * phi[index];
+    }
+
+    /**
+     * Expected score of the first player against the second at the start of the given period,
+     * taking the uncertainty of both ratings into account.
+     */
+    public double expectedScore(int player, int opponent, int period) {
+        double phiPlayer = phiAt(player, period);
+        double phiOpponent = phiAt(opponent, period);
+        double g = g(Math.sqrt(phiPlayer * phiPlayer + phiOpponent * phiOpponent));
+        return 1.0 / (1.0 + Math.exp(-g * (mu[player] - mu[opponent])));
+    }
+
+    /**
+     * Glicko-2 weight of an opponent's result given the uncertainty of their rating.
+     */
+    public static double g(double phi) {
+        return 1.0 / Math.sqrt(1.0 + 3.0 * phi * phi / (Math.PI * Math.PI));
+    }
+}
@@ -0,0 +1,322 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over the names, club names and member IDs of players.
+ * <p>
+ * Names are split into lower-case words without accents. The distinct words are kept sorted, each
+ * with the players it occurs for, so every word starting with a search term is one contiguous
+ * range found by binary search. Terms of {@value #MIN_FUZZY_LENGTH} letters or more also match
+ * words that start with the term up to one typo ({@value #LONG_TERM_LENGTH} letters or more: two).
+ * Candidate words for such matches come from an index of letter pairs, so only words sharing
+ * enough pairs with the term are compared. Every term of a query must match; players are
+ * ordered by the number of typos, then by ranking points, then by member ID. Instances are
+ * immutable.
+ */
+public final class PlayerSearchIndex {
+
+    /**
+     * Shortest term matched with a typo.
+     */
+    public static final int MIN_FUZZY_LENGTH = 4;
+
+    /**
+     * Shortest term matched with two typos.
+     */
+    public static final int LONG_TERM_LENGTH = 8;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final char WORD_START = '^';
+    private static final int[] NO_WORDS = new int[0];
+
+    private static final int POINTS_SHIFT = 24;
+    private static final int TYPOS_SHIFT = 55;
+    private static final long INDEX_MASK = (1L << POINTS_SHIFT) - 1;
+    private static final int MAX_TYPOS = 7;
+
+    private final Player[] players;
+    private final int[] points;
+    private final String[] words;
+    private final int[][] postings;
+    private final Map<String, int[]> wordsByPair;
+
+    private PlayerSearchIndex(Player[] players, int[] points, String[] words, int[][] postings,
+                              Map<String, int[]> wordsByPair) {
+        this.players = players;
+        this.points = points;
+        this.words = words;
+        this.postings = postings;
+        this.wordsByPair = wordsByPair;
+    }
+
+    public static PlayerSearchIndex empty() {
+        return new PlayerSearchIndex(new Player[0], new int[0], new String[0], new int[0][], Map.of());
+    }
+
+    /**
+     * @param rankingPoints the points players are ordered by, {@code 0} for unranked players
+     */
+    public static PlayerSearchIndex of(Collection<Player> players, ToIntFunction<Long> rankingPoints) {
+        Player[] indexed = players.stream().sorted(Comparator.comparing(Player::getId)).toArray(Player[]::new);
+        if (indexed.length > INDEX_MASK) {
+            throw new IllegalArgumentException("Too many players to index: " + indexed.length);
+        }
+        int[] points = new int[indexed.length];
+        TreeMap<String, List<Integer>> playersByWord = new TreeMap<>();
+        for (int p = 0; p < indexed.length; p++) {
+            points[p] = rankingPoints.applyAsInt(indexed[p].getId());
+            for (String word : words(indexed[p])) {
+                playersByWord.computeIfAbsent(word, w -> new ArrayList<>()).add(p);
+            }
+        }
+
+        String[] words = playersByWord.keySet().toArray(String[]::new);
+        int[][] postings = new int[words.length][];
+        Map<String, List<Integer>> pairs = new HashMap<>();
+        for (int w = 0; w < words.length; w++) {
+            postings[w] = playersByWord.get(words[w]).stream().mapToInt(Integer::intValue).toArray();
+            for (String pair : pairs(words[w], words[w].length())) {
+                pairs.computeIfAbsent(pair, k -> new ArrayList<>()).add(w);
+            }
+        }
+        Map<String, int[]> wordsByPair = new HashMap<>(pairs.size() * 2);
+        pairs.forEach((pair, ids) -> wordsByPair.put(pair, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return new PlayerSearchIndex(indexed, points, words, postings, wordsByPair);
+    }
+
+    public int size() {
+        return players.length;
+    }
+
+    /**
+     * Finds the players matching every term of the query.
+     *
+     * @param limit the maximum number of players returned
+     */
+    public List<PlayerMatch> search(String query, int limit) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty() || players.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        BitSet matched = null;
+        int[] typos = new int[players.length];
+        for (String term : terms) {
+            BitSet exact = new BitSet(players.length);
+            BitSet any = new BitSet(players.length);
+            int from = firstWithPrefix(term);
+            for (int w = from; w < words.length && words[w].startsWith(term); w++) {
+                for (int p : postings[w]) {
+                    exact.set(p);
+                }
+            }
+            any.or(exact);
+            for (int w : fuzzyWords(term)) {
+                for (int p : postings[w]) {
+                    any.set(p);
+                }
+            }
+            BitSet fuzzyOnly = (BitSet) any.clone();
+            fuzzyOnly.andNot(exact);
+            fuzzyOnly.stream().forEach(p -> typos[p]++);
+            if (matched == null) {
+                matched = any;
+            } else {
+                matched.and(any);
+            }
+            if (matched.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        // keep the best matches in a bounded max-heap of packed sort keys
+        long[] heap = new long[Math.min(limit, matched.cardinality())];
+        int size = 0;
+        for (int p = matched.nextSetBit(0); p >= 0; p = matched.nextSetBit(p + 1)) {
+            long key = sortKey(Math.min(typos[p], MAX_TYPOS), points[p], p);
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(heap, size++);
+            } else if (key < heap[0]) {
+                heap[0] = key;
+                siftDown(heap, size);
+            }
+        }
+        Arrays.sort(heap, 0, size);
+
+        List<PlayerMatch> matches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int p = (int) (heap[i] & INDEX_MASK);
+            matches.add(new PlayerMatch(players[p], points[p], typos[p]));
+        }
+        return matches;
+    }
+
+    /**
+     * Packs fewer typos first, then more points, then index order into one ascending key.
+     */
+    private static long sortKey(int typos, int points, int index) {
+        long pointsRank = (long) Integer.MAX_VALUE - Math.max(0, points);
+        return (long) typos << TYPOS_SHIFT | pointsRank << POINTS_SHIFT | index;
+    }
+
+    private static void siftUp(long[] heap, int at) {
+        while (at > 0) {
+            int parent = (at - 1) >>> 1;
+            if (heap[parent] >= heap[at]) {
+                return;
+            }
+            swap(heap, parent, at);
+            at = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int at = 0;
+        while (true) {
+            int largest = at;
+            int left = 2 * at + 1;
+            int right = left + 1;
+            if (left < size && heap[left] > heap[largest]) {
+                largest = left;
+            }
+            if (right < size && heap[right] > heap[largest]) {
+                largest = right;
+            }
+            if (largest == at) {
+                return;
+            }
+            swap(heap, at, largest);
+            at = largest;
+        }
+    }
+
+    private static void swap(long[] heap, int a, int b) {
+        long value = heap[a];
+        heap[a] = heap[b];
+        heap[b] = value;
+    }
+
+    /**
+     * Words that start with the term up to the allowed number of typos but not exactly.
+     */
+    private List<Integer> fuzzyWords(String term) {
+        if (term.length() < MIN_FUZZY_LENGTH || isNumber(term)) {
+            return List.of();
+        }
+        int maxTypos = term.length() >= LONG_TERM_LENGTH ? 2 : 1;
+        Set<String> termPairs = new LinkedHashSet<>(pairs(term, term.length()));
+        // one typo changes at most three letter pairs (a transposition of "abcd" to "acbd")
+        int needed = termPairs.size() - 3 * maxTypos;
+        int[] shared = new int[words.length];
+        List<Integer> fuzzy = new ArrayList<>();
+        for (String pair : termPairs) {
+            for (int w : wordsByPair.getOrDefault(pair, NO_WORDS)) {
+                if (++shared[w] == Math.max(1, needed) && !words[w].startsWith(term)
+                    && prefixDistance(term, words[w], maxTypos) <= maxTypos) {
+                    fuzzy.add(w);
+                }
+            }
+        }
+        return fuzzy;
+    }
+
+    private int firstWithPrefix(String term) {
+        int found = Arrays.binarySearch(words, term);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    /**
+     * Smallest edit distance (with transpositions) between the term and any prefix of the word.
+     */
+    static int prefixDistance(String term, String word, int maxTypos) {
+        int columns = Math.min(word.length(), term.length() + maxTypos);
+        int[] previous = new int[columns + 1];
+        int[] before = new int[columns + 1];
+        int[] current = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= term.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= columns; j++) {
+                int cost = term.charAt(i - 1) == word.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && term.charAt(i - 1) == word.charAt(j - 2)
+                    && term.charAt(i - 2) == word.charAt(j - 1)) {
+                    value = Math.min(value, before[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxTypos) {
+                return rowMin;
+            }
+            int[] recycled = before;
+            before = previous;
+            previous = current;
+            current = recycled;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int j = Math.max(0, term.length() - maxTypos); j <= columns; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    private static Set<String> words(Player player) {
+        Set<String> words = new LinkedHashSet<>(terms(player.getFirstName()));
+        words.addAll(terms(player.getLastName()));
+        words.addAll(terms(player.getClubName()));
+        words.add(String.valueOf(player.getId()));
+        return words;
+    }
+
+    /**
+     * Lower-case words of the text with accents removed, so "Hélène" is found as "helene".
+     */
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARATORS.split(folded.toLowerCase(Locale.ROOT)))
+            .filter(term -> !term.isEmpty())
+            .toList();
+    }
+
+    /**
+     * Letter pairs of the first {@code length} letters of the word, the first one marked as
+     * the start of the word.
+     */
+    private static List<String> pairs(String word, int length) {
+        List<String> pairs = new ArrayList<>(length);
+        char previous = WORD_START;
+        for (int i = 0; i < Math.min(length, word.length()); i++) {
+            pairs.add(new String(new char[]{previous, word.charAt(i)}));
+            previous = word.charAt(i);
+        }
+        return pairs;
+    }
+
+    private static boolean isNumber(String term) {
+        return term.chars().allMatch(Character::isDigit);
+    }
+}
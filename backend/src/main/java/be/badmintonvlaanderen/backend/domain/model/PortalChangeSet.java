@@ -0,0 +1,40 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * IDs of the portal records changed since a point in time, or of all records for a full sync.
+ *
+ * @see SnapshotType
+ */
+public final class PortalChangeSet {
+
+    private final Instant asOf;
+    private final List<Long> playerIds;
+    private final List<Long> tournamentIds;
+    private final List<Long> competitionIds;
+
+    public PortalChangeSet(Instant asOf, List<Long> playerIds, List<Long> tournamentIds, List<Long> competitionIds) {
+        this.asOf = Objects.requireNonNull(asOf, "asOf");
+        this.playerIds = List.copyOf(playerIds);
+        this.tournamentIds = List.copyOf(tournamentIds);
+        this.competitionIds = List.copyOf(competitionIds);
+    }
+
+    /**
+     * Portal time the change set was taken at; the next incremental sync asks for changes since then.
+     */
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public List<Long> getIds(SnapshotType type) {
+        return switch (type) {
+            case PLAYER -> playerIds;
+            case TOURNAMENT -> tournamentIds;
+            case STANDING -> competitionIds;
+        };
+    }
+}
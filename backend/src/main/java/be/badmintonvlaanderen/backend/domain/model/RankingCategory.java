@@ -0,0 +1,10 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Ranking disciplines maintained by Badminton Vlaanderen.
+ */
+public enum RankingCategory {
+    SINGLES,
+    DOUBLES,
+    MIXED
+}
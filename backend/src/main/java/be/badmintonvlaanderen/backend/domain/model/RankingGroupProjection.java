@@ -0,0 +1,53 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Current and projected points and positions of a group of players, such as the members of a
+ * club, who all play the same assumed results. Projected positions account for the whole group
+ * moving at once. Players are addressed by their index in the group.
+ */
+public final class RankingGroupProjection {
+
+    private final long[] playerIds;
+    private final int[] currentPoints;
+    private final int[] currentPositions;
+    private final int[] projectedPoints;
+    private final int[] projectedPositions;
+
+    public RankingGroupProjection(long[] playerIds, int[] currentPoints, int[] currentPositions,
+                                  int[] projectedPoints, int[] projectedPositions) {
+        int n = playerIds.length;
+        if (currentPoints.length != n || currentPositions.length != n || projectedPoints.length != n
+            || projectedPositions.length != n) {
+            throw new IllegalArgumentException("Expected points and positions for every player");
+        }
+        this.playerIds = playerIds.clone();
+        this.currentPoints = currentPoints.clone();
+        this.currentPositions = currentPositions.clone();
+        this.projectedPoints = projectedPoints.clone();
+        this.projectedPositions = projectedPositions.clone();
+    }
+
+    public int size() {
+        return playerIds.length;
+    }
+
+    public long getPlayerId(int player) {
+        return playerIds[player];
+    }
+
+    public int getCurrentPoints(int player) {
+        return currentPoints[player];
+    }
+
+    public int getCurrentPosition(int player) {
+        return currentPositions[player];
+    }
+
+    public int getProjectedPoints(int player) {
+        return projectedPoints[player];
+    }
+
+    public int getProjectedPosition(int player) {
+        return projectedPositions[player];
+    }
+}
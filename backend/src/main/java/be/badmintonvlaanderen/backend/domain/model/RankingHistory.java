@@ -0,0 +1,50 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Primitive encoding of a player's existing results in one category: points and
+ * match dates as epoch days, ordered by date.
+ */
+public final class RankingHistory {
+
+    private static final RankingHistory EMPTY = new RankingHistory(new int[0], new int[0]);
+
+    private final int[] points;
+    private final int[] epochDays;
+
+    private RankingHistory(int[] points, int[] epochDays) {
+        this.points = points;
+        this.epochDays = epochDays;
+    }
+
+    public static RankingHistory empty() {
+        return EMPTY;
+    }
+
+    public static RankingHistory of(List<RankingResult> results) {
+        List<RankingResult> ordered = results.stream()
+            .sorted(Comparator.comparing(RankingResult::getDate))
+            .toList();
+        int[] points = new int[ordered.size()];
+        int[] epochDays = new int[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            points[i] = ordered.get(i).getPoints();
+            epochDays[i] = (int) ordered.get(i).getDate().toEpochDay();
+        }
+        return new RankingHistory(points, epochDays);
+    }
+
+    public int size() {
+        return points.length;
+    }
+
+    public int points(int index) {
+        return points[index];
+    }
+
+    public int epochDay(int index) {
+        return epochDays[index];
+    }
+}
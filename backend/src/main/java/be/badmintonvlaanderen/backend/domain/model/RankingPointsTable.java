@@ -0,0 +1,192 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Points a match yields, by tournament level, draw size, round and result.
+ * <p>
+ * The table is one flat {@code int[]} indexed by level, <em>stage</em> and result code, so a
+ * lookup is a single array access. A stage packs the draw size and the round into one byte (see
+ * {@link #stage(Integer, Integer)}); stage {@code 0} stands for a match whose draw is unknown and
+ * yields the level's default points. Draw sizes run from {@value #MIN_DRAW_SIZE} to
+ * {@value #MAX_DRAW_SIZE}; rounds are counted from the first round, so the final of a 32-draw is
+ * round 5. Cells the source does not list fall back to the level default.
+ */
+public final class RankingPointsTable {
+
+    public static final int MIN_DRAW_SIZE = 8;
+    public static final int MAX_DRAW_SIZE = 128;
+
+    private static final int DRAW_CODES = 1 + Integer.numberOfTrailingZeros(MAX_DRAW_SIZE)
+        - Integer.numberOfTrailingZeros(MIN_DRAW_SIZE) + 1;
+    private static final int ROUND_SLOTS = Integer.numberOfTrailingZeros(MAX_DRAW_SIZE) + 1;
+    private static final int STAGES = DRAW_CODES * ROUND_SLOTS;
+    private static final int RESULTS = MatchResult.values().length;
+    private static final int UNSET = -1;
+
+    private final String version;
+    private final int[] points;
+
+    private RankingPointsTable(String version, int[] points) {
+        this.version = version;
+        this.points = points;
+    }
+
+    /**
+     * Table that only knows the default points per level, indexed by {@link TournamentLevel#code()}.
+     */
+    public static RankingPointsTable ofLevelDefaults(String version, int[] winPointsByLevel, int[] lossPointsByLevel) {
+        if (winPointsByLevel.length != TournamentLevel.count() || lossPointsByLevel.length != TournamentLevel.count()) {
+            throw new IllegalArgumentException("Points must be provided for every tournament level");
+        }
+        Builder builder = builder(version);
+        for (TournamentLevel level : TournamentLevel.values()) {
+            builder.levelDefault(level, winPointsByLevel[level.code()], lossPointsByLevel[level.code()]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses the text format of the ranking resource files:
+     * <pre>
+     * # comment
+     * version,2024-2025.1
+     * NATIONAL,*,*,110,15      level default: level,*,*,win,loss
+     * NATIONAL,32,5,154,21     level,drawSize,round,win,loss
+     * </pre>
+     */
+    public static RankingPointsTable parse(List<String> lines) {
+        Builder builder = null;
+        for (int number = 1; number <= lines.size(); number++) {
+            String line = lines.get(number - 1).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] cells = line.split(",");
+            try {
+                if (builder == null) {
+                    if (cells.length != 2 || !"version".equals(cells[0].strip())) {
+                        throw new IllegalArgumentException("expected 'version,<name>' before any points");
+                    }
+                    builder = builder(cells[1].strip());
+                    continue;
+                }
+                if (cells.length != 5) {
+                    throw new IllegalArgumentException("expected level,drawSize,round,win,loss");
+                }
+                TournamentLevel level = TournamentLevel.valueOf(cells[0].strip());
+                int win = Integer.parseInt(cells[3].strip());
+                int loss = Integer.parseInt(cells[4].strip());
+                if ("*".equals(cells[1].strip()) && "*".equals(cells[2].strip())) {
+                    builder.levelDefault(level, win, loss);
+                } else {
+                    builder.put(level, Integer.parseInt(cells[1].strip()), Integer.parseInt(cells[2].strip()), win, loss);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid ranking points table line " + number + ": " + e.getMessage(), e);
+            }
+        }
+        if (builder == null) {
+            throw new IllegalArgumentException("Ranking points table has no version line");
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(String version) {
+        return new Builder(version);
+    }
+
+    /**
+     * Packs a draw size and round into a stage code, or returns {@code 0} when both are unknown.
+     *
+     * @throws IllegalArgumentException if only one of both is given, the draw size is not a power
+     *                                  of two in the supported range, or the round does not exist
+     *                                  in such a draw
+     */
+    public static byte stage(Integer drawSize, Integer round) {
+        if (drawSize == null && round == null) {
+            return 0;
+        }
+        if (drawSize == null || round == null) {
+            throw new IllegalArgumentException("Draw size and round must be given together");
+        }
+        if (drawSize < MIN_DRAW_SIZE || drawSize > MAX_DRAW_SIZE || Integer.bitCount(drawSize) != 1) {
+            throw new IllegalArgumentException(
+                "Draw size must be a power of two between " + MIN_DRAW_SIZE + " and " + MAX_DRAW_SIZE);
+        }
+        int rounds = Integer.numberOfTrailingZeros(drawSize);
+        if (round < 1 || round > rounds) {
+            throw new IllegalArgumentException("A draw of " + drawSize + " has rounds 1 to " + rounds);
+        }
+        int drawCode = rounds - Integer.numberOfTrailingZeros(MIN_DRAW_SIZE) + 1;
+        return (byte) (drawCode * ROUND_SLOTS + round);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int points(byte levelCode, byte stage, byte resultCode) {
+        return points[(levelCode * STAGES + stage) * RESULTS + resultCode];
+    }
+
+    public int points(TournamentLevel level, Integer drawSize, Integer round, MatchResult result) {
+        return points(level.code(), stage(drawSize, round), result.code());
+    }
+
+    @Override
+    public String toString() {
+        return "RankingPointsTable{version=" + version + ", points=" + Arrays.toString(points) + "}";
+    }
+
+    /**
+     * Collects the cells of a table; every level needs a default before {@link #build()}.
+     */
+    public static final class Builder {
+
+        private final String version;
+        private final int[] points;
+
+        private Builder(String version) {
+            this.version = Objects.requireNonNull(version, "version");
+            this.points = new int[TournamentLevel.count() * STAGES * RESULTS];
+            Arrays.fill(points, UNSET);
+        }
+
+        public Builder levelDefault(TournamentLevel level, int win, int loss) {
+            return cell(level, (byte) 0, win, loss);
+        }
+
+        public Builder put(TournamentLevel level, int drawSize, int round, int win, int loss) {
+            return cell(level, stage(drawSize, round), win, loss);
+        }
+
+        private Builder cell(TournamentLevel level, byte stage, int win, int loss) {
+            if (win < 0 || loss < 0) {
+                throw new IllegalArgumentException("Points cannot be negative");
+            }
+            int base = (level.code() * STAGES + stage) * RESULTS;
+            points[base + MatchResult.WIN.code()] = win;
+            points[base + MatchResult.LOSS.code()] = loss;
+            return this;
+        }
+
+        public RankingPointsTable build() {
+            int[] table = points.clone();
+            for (TournamentLevel level : TournamentLevel.values()) {
+                int defaults = level.code() * STAGES * RESULTS;
+                if (table[defaults] == UNSET) {
+                    throw new IllegalArgumentException("No default points for level " + level);
+                }
+                for (int cell = defaults; cell < defaults + STAGES * RESULTS; cell++) {
+                    if (table[cell] == UNSET) {
+                        table[cell] = table[defaults + cell % RESULTS];
+                    }
+                }
+            }
+            return new RankingPointsTable(version, table);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Logistic win probability on the difference in ranking points: a gap of {@code scale}
+ * points makes the stronger player ten times as likely to win as to lose.
+ */
+public final class RankingPointsWinProbability implements WinProbabilityModel {
+
+    private final double scale;
+
+    public RankingPointsWinProbability(double scale) {
+        if (scale <= 0) {
+            throw new IllegalArgumentException("scale must be positive");
+        }
+        this.scale = scale;
+    }
+
+    public static RankingPointsWinProbability defaults() {
+        return new RankingPointsWinProbability(400);
+    }
+
+    @Override
+    public double winProbability(TournamentEntrant player, TournamentEntrant opponent) {
+        double difference = player.getRankingPoints() - opponent.getRankingPoints();
+        return 1.0 / (1.0 + Math.pow(10, -difference / scale));
+    }
+}
@@ -0,0 +1,134 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Best-results states after the scenario prefixes already scored, for one history and one
+ * evaluation day.
+ * <p>
+ * The states form a trie. The root holds the best results of the history alone; the child of a
+ * node for some points is the state after also counting a match worth those points. A prefix is
+ * thus keyed canonically by the points its counted matches yield, in order, and scenarios that
+ * share a prefix only compute their differing tail. Matches that cannot change the state (outside
+ * the window, or worth no more than the weakest counted result) do not add a node.
+ * <p>
+ * Meant to live for one comparison and not safe to share between threads. Nodes are no longer
+ * added once the memo holds {@code budget} counted results in total; scoring then carries on
+ * from the deepest node found. The children are found through an open-addressing table of
+ * primitive keys, so a lookup neither boxes nor allocates.
+ */
+public final class RankingPrefixMemo {
+
+    public static final int ROOT = 0;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int evaluationEpochDay;
+    private final List<int[]> states = new ArrayList<>();
+    // single-slot holders, so the fields stay final while the budget is spent and the table grows
+    private final long[] remainingBudget = new long[1];
+    // (node, points) keys and the child nodes they lead to; the root is no child, so 0 marks a free slot
+    private final long[][] keys = {new long[INITIAL_CAPACITY]};
+    private final int[][] children = {new int[INITIAL_CAPACITY]};
+
+    /**
+     * @param rootState best results of the history alone, as a min-heap
+     */
+    public RankingPrefixMemo(int evaluationEpochDay, int[] rootState, long budget) {
+        this.evaluationEpochDay = evaluationEpochDay;
+        this.remainingBudget[0] = budget - rootState.length;
+        states.add(rootState.clone());
+    }
+
+    public int getEvaluationEpochDay() {
+        return evaluationEpochDay;
+    }
+
+    /**
+     * @return the node reached from {@code node} by a match worth {@code points}, or {@code -1}
+     * if it has not been computed
+     */
+    public int child(int node, int points) {
+        long key = key(node, points);
+        long[] tableKeys = keys[0];
+        int[] tableChildren = children[0];
+        int mask = tableKeys.length - 1;
+        for (int slot = slot(key, mask); tableChildren[slot] != 0; slot = (slot + 1) & mask) {
+            if (tableKeys[slot] == key) {
+                return tableChildren[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Records the state reached from {@code node} by a match worth {@code points}, which must not
+     * have been recorded yet.
+     *
+     * @param heap the first {@code size} slots hold the new state as a min-heap
+     * @return the new node, or {@code -1} if the memo is full
+     */
+    public int addChild(int node, int points, int[] heap, int size) {
+        if (remainingBudget[0] < size) {
+            return -1;
+        }
+        remainingBudget[0] -= size;
+        int[] state = new int[size];
+        for (int i = 0; i < size; i++) {
+            state[i] = heap[i];
+        }
+        int child = states.size();
+        states.add(state);
+        // keep the table at most half full
+        if (2 * child > keys[0].length) {
+            grow();
+        }
+        insert(keys[0], children[0], key(node, points), child);
+        return child;
+    }
+
+    /**
+     * The counted results of a node as a min-heap; callers must not modify it.
+     */
+    public int[] state(int node) {
+        return states.get(node);
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    private void grow() {
+        long[] tableKeys = keys[0];
+        int[] tableChildren = children[0];
+        long[] grownKeys = new long[tableKeys.length * 2];
+        int[] grownChildren = new int[tableChildren.length * 2];
+        for (int slot = 0; slot < tableKeys.length; slot++) {
+            if (tableChildren[slot] != 0) {
+                insert(grownKeys, grownChildren, tableKeys[slot], tableChildren[slot]);
+            }
+        }
+        keys[0] = grownKeys;
+        children[0] = grownChildren;
+    }
+
+    private static void insert(long[] keys, int[] children, long key, int child) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (children[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        children[slot] = child;
+    }
+
+    private static int slot(long key, int mask) {
+        // Fibonacci hashing spreads the node in the high half over the table
+        return (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+    }
+
+    private static long key(int node, int points) {
+        return (long) node << 32 | (points & 0xFFFFFFFFL);
+    }
+}
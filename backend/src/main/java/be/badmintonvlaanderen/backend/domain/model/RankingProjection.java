@@ -0,0 +1,49 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a ranking simulation: current and projected position and points, plus the
+ * timeline of intermediate positions.
+ */
+public final class RankingProjection {
+
+    private final int currentRanking;
+    private final int projectedRanking;
+    private final int currentPoints;
+    private final int projectedPoints;
+    private final List<RankingTimelineEntry> timeline;
+
+    public RankingProjection(int currentRanking, int projectedRanking, int currentPoints, int projectedPoints,
+                             List<RankingTimelineEntry> timeline) {
+        this.currentRanking = currentRanking;
+        this.projectedRanking = projectedRanking;
+        this.currentPoints = currentPoints;
+        this.projectedPoints = projectedPoints;
+        this.timeline = List.copyOf(timeline);
+    }
+
+    public int getCurrentRanking() {
+        return currentRanking;
+    }
+
+    public int getProjectedRanking() {
+        return projectedRanking;
+    }
+
+    public int getRankingChange() {
+        return projectedRanking - currentRanking;
+    }
+
+    public int getCurrentPoints() {
+        return currentPoints;
+    }
+
+    public int getProjectedPoints() {
+        return projectedPoints;
+    }
+
+    public List<RankingTimelineEntry> getTimeline() {
+        return timeline;
+    }
+}
@@ -0,0 +1,38 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A result that earned ranking points for a player in one category.
+ */
+public final class RankingResult {
+
+    private final RankingCategory category;
+    private final int points;
+    private final LocalDate date;
+    private final TournamentLevel level;
+
+    public RankingResult(RankingCategory category, int points, LocalDate date, TournamentLevel level) {
+        this.category = Objects.requireNonNull(category, "category");
+        this.points = points;
+        this.date = Objects.requireNonNull(date, "date");
+        this.level = Objects.requireNonNull(level, "level");
+    }
+
+    public RankingCategory getCategory() {
+        return category;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public TournamentLevel getLevel() {
+        return level;
+    }
+}
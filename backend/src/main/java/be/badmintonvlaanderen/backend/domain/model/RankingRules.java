@@ -0,0 +1,86 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Parameters of the ranking system: the rolling window in which results count,
+ * how many of the best results count, and the points a match yields.
+ * <p>
+ * Points come from a {@link RankingPointsTable}, a flat array indexed by level, stage and
+ * result code, so the simulation engine can look them up without boxing.
+ */
+public final class RankingRules {
+
+    /**
+     * Window and counted results currently applied by Badminton Vlaanderen: the best 10 results
+     * of the last 52 weeks count.
+     */
+    public static final int DEFAULT_WINDOW_DAYS = 364;
+    public static final int DEFAULT_COUNTED_RESULTS = 10;
+
+    private final int windowDays;
+    private final int countedResults;
+    private final RankingPointsTable pointsTable;
+
+    public RankingRules(int windowDays, int countedResults, RankingPointsTable pointsTable) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("windowDays must be positive");
+        }
+        if (countedResults <= 0) {
+            throw new IllegalArgumentException("countedResults must be positive");
+        }
+        this.windowDays = windowDays;
+        this.countedResults = countedResults;
+        this.pointsTable = Objects.requireNonNull(pointsTable, "pointsTable");
+    }
+
+    /**
+     * Rules with only a default number of points per level, whatever the draw and round.
+     */
+    public RankingRules(int windowDays, int countedResults, int[] winPointsByLevel, int[] lossPointsByLevel) {
+        this(windowDays, countedResults,
+            RankingPointsTable.ofLevelDefaults("custom", winPointsByLevel, lossPointsByLevel));
+    }
+
+    /**
+     * Current window and counted results with the per-level default points of the official
+     * table; the full table is loaded from the versioned resource at startup.
+     */
+    public static RankingRules defaults() {
+        return new RankingRules(
+            DEFAULT_WINDOW_DAYS,
+            DEFAULT_COUNTED_RESULTS,
+            new int[]{20, 40, 70, 110, 160},
+            new int[]{0, 5, 10, 15, 25}
+        );
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    public int getCountedResults() {
+        return countedResults;
+    }
+
+    public RankingPointsTable getPointsTable() {
+        return pointsTable;
+    }
+
+    public int points(byte levelCode, byte stage, byte resultCode) {
+        return pointsTable.points(levelCode, stage, resultCode);
+    }
+
+    /**
+     * Points for a match whose draw and round are unknown.
+     */
+    public int points(TournamentLevel level, MatchResult result) {
+        return pointsTable.points(level.code(), (byte) 0, result.code());
+    }
+
+    @Override
+    public String toString() {
+        return "RankingRules{windowDays=" + windowDays + ", countedResults=" + countedResults
+            + ", pointsTable=" + pointsTable.getVersion() + "}";
+    }
+}
@@ -0,0 +1,203 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Published points and positions of one player in one category, oldest first, packed into a
+ * byte array.
+ * <p>
+ * Every publication is stored as the difference with the previous one: days since the previous
+ * publication, change in points and change in position, each zig-zag and varint encoded. A
+ * weekly publication with small moves takes 3 to 5 bytes, so ten years of history fit in about
+ * 2 KiB. The series is decoded into primitive columns on demand. Instances are immutable.
+ */
+public final class RankingSeries {
+
+    private static final RankingSeries EMPTY = new RankingSeries(new byte[0], 0);
+
+    private final byte[] encoded;
+    private final int size;
+
+    private RankingSeries(byte[] encoded, int size) {
+        this.encoded = encoded;
+        this.size = size;
+    }
+
+    public static RankingSeries empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param epochDays publication days, strictly ascending
+     * @param points    points at each publication
+     * @param positions position at each publication, {@code 0} when unranked
+     */
+    public static RankingSeries of(int[] epochDays, int[] points, int[] positions) {
+        if (points.length != epochDays.length || positions.length != epochDays.length) {
+            throw new IllegalArgumentException("Days, points and positions must have the same length");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(epochDays.length * 4 + 8);
+        writeVarint(out, epochDays.length);
+        int day = 0;
+        int previousPoints = 0;
+        int previousPosition = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            if (i > 0 && epochDays[i] <= day) {
+                throw new IllegalArgumentException("Publication days must be strictly ascending");
+            }
+            writeVarint(out, zigZag(epochDays[i] - day));
+            writeVarint(out, zigZag(points[i] - previousPoints));
+            writeVarint(out, zigZag(positions[i] - previousPosition));
+            day = epochDays[i];
+            previousPoints = points[i];
+            previousPosition = positions[i];
+        }
+        return epochDays.length == 0 ? EMPTY : new RankingSeries(out.toByteArray(), epochDays.length);
+    }
+
+    /**
+     * Reads a series written by {@link #toBytes()}.
+     *
+     * @throws IllegalArgumentException if the bytes are not a valid series
+     */
+    public static RankingSeries fromBytes(byte[] bytes) {
+        if (bytes.length == 0) {
+            return EMPTY;
+        }
+        byte[] encoded = bytes.clone();
+        RankingSeries series = new RankingSeries(encoded, readVarint(encoded, new int[]{0}));
+        series.decode(series.size);
+        return series;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The packed form, as stored or sent over the wire.
+     */
+    public byte[] toBytes() {
+        return encoded.clone();
+    }
+
+    /**
+     * Number of bytes the packed series takes.
+     */
+    public int encodedLength() {
+        return encoded.length;
+    }
+
+    /**
+     * Decodes the series into columns, optionally keeping only the publications on or after a day.
+     *
+     * @param from the first day to keep, or {@code null} for the whole series
+     */
+    public Columns decode(LocalDate from) {
+        Columns all = decode(size);
+        if (from == null) {
+            return all;
+        }
+        int first = Arrays.binarySearch(all.epochDays, (int) from.toEpochDay());
+        first = first >= 0 ? first : -first - 1;
+        return new Columns(Arrays.copyOfRange(all.epochDays, first, size),
+            Arrays.copyOfRange(all.points, first, size), Arrays.copyOfRange(all.positions, first, size));
+    }
+
+    private Columns decode(int count) {
+        int[] epochDays = new int[count];
+        int[] points = new int[count];
+        int[] positions = new int[count];
+        int[] at = {0};
+        if (encoded.length > 0 && readVarint(encoded, at) != count) {
+            throw new IllegalArgumentException("Series length does not match its header");
+        }
+        int day = 0;
+        int previousPoints = 0;
+        int previousPosition = 0;
+        for (int i = 0; i < count; i++) {
+            day += unZigZag(readVarint(encoded, at));
+            previousPoints += unZigZag(readVarint(encoded, at));
+            previousPosition += unZigZag(readVarint(encoded, at));
+            epochDays[i] = day;
+            points[i] = previousPoints;
+            positions[i] = previousPosition;
+        }
+        if (at[0] != encoded.length) {
+            throw new IllegalArgumentException("Trailing bytes after " + count + " publications");
+        }
+        return new Columns(epochDays, points, positions);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] bytes, int[] at) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (at[0] >= bytes.length) {
+                throw new IllegalArgumentException("Series ends inside a value");
+            }
+            byte b = bytes[at[0]++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in series");
+    }
+
+    /**
+     * A decoded series: one entry per publication, oldest first.
+     */
+    public static final class Columns {
+
+        private final int[] epochDays;
+        private final int[] points;
+        private final int[] positions;
+
+        private Columns(int[] epochDays, int[] points, int[] positions) {
+            this.epochDays = epochDays;
+            this.points = points;
+            this.positions = positions;
+        }
+
+        public int size() {
+            return epochDays.length;
+        }
+
+        public LocalDate date(int index) {
+            return LocalDate.ofEpochDay(epochDays[index]);
+        }
+
+        public int points(int index) {
+            return points[index];
+        }
+
+        /**
+         * @return the position at the publication, {@code 0} when the player was unranked
+         */
+        public int position(int index) {
+            return positions[index];
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Request to project a player's ranking in one category under a list of assumed results.
+ */
+public final class RankingSimulation {
+
+    private final Long playerId;
+    private final RankingCategory category;
+    private final List<MatchScenario> scenarios;
+    private final TimeframePeriod timeframe;
+
+    public RankingSimulation(Long playerId, RankingCategory category, List<MatchScenario> scenarios,
+                             TimeframePeriod timeframe) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId");
+        this.category = Objects.requireNonNull(category, "category");
+        this.scenarios = List.copyOf(scenarios);
+        this.timeframe = Objects.requireNonNull(timeframe, "timeframe");
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public RankingCategory getCategory() {
+        return category;
+    }
+
+    public List<MatchScenario> getScenarios() {
+        return scenarios;
+    }
+
+    public TimeframePeriod getTimeframe() {
+        return timeframe;
+    }
+}
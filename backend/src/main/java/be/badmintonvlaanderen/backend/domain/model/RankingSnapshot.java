@@ -0,0 +1,183 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Current points of every known player in every category, as of one day.
+ * <p>
+ * The data is held column-wise: player IDs in ascending order, and per category one points
+ * column in the same order ({@link CategoryRanking#UNRANKED} where a player has no points).
+ * The points of the ranked players of each category are additionally kept as a
+ * {@link CategoryRanking}, so both a player's own points and the position that any points total
+ * would earn resolve with a binary search. Instances are immutable; changes produce a new
+ * snapshot.
+ */
+public final class RankingSnapshot {
+
+    private static final int CATEGORIES = RankingCategory.values().length;
+
+    private final LocalDate asOf;
+    private final long[] playerIds;
+    private final int[][] pointsByCategory;
+    private final CategoryRanking[] rankings;
+
+    private RankingSnapshot(LocalDate asOf, long[] playerIds, int[][] pointsByCategory) {
+        this.asOf = asOf;
+        this.playerIds = playerIds;
+        this.pointsByCategory = pointsByCategory;
+        this.rankings = new CategoryRanking[CATEGORIES];
+        for (RankingCategory category : RankingCategory.values()) {
+            int[] column = pointsByCategory[category.ordinal()];
+            rankings[category.ordinal()] = new CategoryRanking(category,
+                Arrays.stream(column).filter(points -> points != CategoryRanking.UNRANKED).toArray());
+        }
+    }
+
+    public static RankingSnapshot empty(LocalDate asOf) {
+        return new RankingSnapshot(Objects.requireNonNull(asOf, "asOf"), new long[0], new int[CATEGORIES][0]);
+    }
+
+    /**
+     * @param playerIds        distinct player IDs, in any order
+     * @param pointsByCategory per category ordinal, the points of the player at the same index,
+     *                         or {@link CategoryRanking#UNRANKED}
+     */
+    public static RankingSnapshot of(LocalDate asOf, long[] playerIds, int[][] pointsByCategory) {
+        Objects.requireNonNull(asOf, "asOf");
+        if (pointsByCategory.length != CATEGORIES) {
+            throw new IllegalArgumentException("Points must be provided for every ranking category");
+        }
+        for (int[] column : pointsByCategory) {
+            if (column.length != playerIds.length) {
+                throw new IllegalArgumentException("Every points column must hold one value per player");
+            }
+        }
+        Integer[] order = new Integer[playerIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(playerIds[a], playerIds[b]));
+
+        long[] ids = new long[playerIds.length];
+        int[][] points = new int[CATEGORIES][playerIds.length];
+        for (int row = 0; row < order.length; row++) {
+            ids[row] = playerIds[order[row]];
+            if (row > 0 && ids[row] == ids[row - 1]) {
+                throw new IllegalArgumentException("Player " + ids[row] + " occurs more than once");
+            }
+            for (int c = 0; c < CATEGORIES; c++) {
+                points[c][row] = pointsByCategory[c][order[row]];
+            }
+        }
+        return new RankingSnapshot(asOf, ids, points);
+    }
+
+    /**
+     * A snapshot with the given players replaced or added and the removed players left out.
+     */
+    public RankingSnapshot with(long[] updatedIds, int[][] updatedPoints, Collection<Long> removedIds) {
+        Set<Long> dropped = new HashSet<>(removedIds);
+        for (long id : updatedIds) {
+            dropped.add(id);
+        }
+        int kept = 0;
+        for (long id : playerIds) {
+            if (!dropped.contains(id)) {
+                kept++;
+            }
+        }
+        long[] ids = new long[kept + updatedIds.length];
+        int[][] points = new int[CATEGORIES][ids.length];
+        int row = 0;
+        for (int i = 0; i < playerIds.length; i++) {
+            if (!dropped.contains(playerIds[i])) {
+                ids[row] = playerIds[i];
+                for (int c = 0; c < CATEGORIES; c++) {
+                    points[c][row] = pointsByCategory[c][i];
+                }
+                row++;
+            }
+        }
+        for (int i = 0; i < updatedIds.length; i++, row++) {
+            ids[row] = updatedIds[i];
+            for (int c = 0; c < CATEGORIES; c++) {
+                points[c][row] = updatedPoints[c][i];
+            }
+        }
+        return of(asOf, ids, points);
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    /**
+     * Number of players in the snapshot, ranked in at least one category or not.
+     */
+    public int size() {
+        return playerIds.length;
+    }
+
+    public boolean isEmpty() {
+        return playerIds.length == 0;
+    }
+
+    public boolean contains(long playerId) {
+        return Arrays.binarySearch(playerIds, playerId) >= 0;
+    }
+
+    public CategoryRanking getRanking(RankingCategory category) {
+        return rankings[category.ordinal()];
+    }
+
+    /**
+     * @return the player's points, or {@link CategoryRanking#UNRANKED} if the player is unknown
+     * or has no points in the category
+     */
+    public int pointsOf(RankingCategory category, long playerId) {
+        int row = Arrays.binarySearch(playerIds, playerId);
+        return row < 0 ? CategoryRanking.UNRANKED : pointsByCategory[category.ordinal()][row];
+    }
+
+    /**
+     * @return the player's position, shared with everyone on the same points, or {@code 0} if
+     * the player is not ranked in the category
+     */
+    public int positionOf(RankingCategory category, long playerId) {
+        int points = pointsOf(category, playerId);
+        return points == CategoryRanking.UNRANKED ? 0 : getRanking(category).countAbove(points) + 1;
+    }
+
+    /**
+     * Position a player would hold in the category with the given points.
+     *
+     * @param ownPoints the points the player is currently listed with, or {@link CategoryRanking#UNRANKED}
+     */
+    public int positionFor(RankingCategory category, int points, int ownPoints) {
+        return getRanking(category).positionFor(points, ownPoints);
+    }
+
+    /**
+     * The player ID at a row of the columns, in ascending ID order.
+     */
+    public long playerIdAt(int row) {
+        return playerIds[row];
+    }
+
+    /**
+     * The points at a row of the columns; see {@link #playerIdAt(int)}.
+     */
+    public int pointsAt(RankingCategory category, int row) {
+        return pointsByCategory[category.ordinal()][row];
+    }
+
+    @Override
+    public String toString() {
+        return "RankingSnapshot{asOf=" + asOf + ", players=" + playerIds.length + "}";
+    }
+}
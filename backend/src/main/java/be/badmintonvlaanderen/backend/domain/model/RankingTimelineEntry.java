@@ -0,0 +1,43 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Projected ranking at one point on the simulation timeline.
+ */
+public final class RankingTimelineEntry {
+
+    private final LocalDate date;
+    private final int ranking;
+    private final int points;
+    private final int change;
+    private final String reason;
+
+    public RankingTimelineEntry(LocalDate date, int ranking, int points, int change, String reason) {
+        this.date = date;
+        this.ranking = ranking;
+        this.points = points;
+        this.change = change;
+        this.reason = reason;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getRanking() {
+        return ranking;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getChange() {
+        return change;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,220 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * The results counting towards a player's ranking points as the evaluation day moves forward,
+ * kept up to date incrementally.
+ * <p>
+ * The results are given up front in date order. Advancing to a later day adds the results played
+ * by then and expires the ones that fell out of the rolling window; both happen in date order, so
+ * the expiry queue is a second cursor over the same results. The counted (best) results are an
+ * indexed min-heap of at most {@code countedResults} entries and the rest of the window an
+ * indexed max-heap, so an expiring result is removed where it sits and the best of the rest takes
+ * its place. Every result enters and leaves the window once, at O(log n) each, instead of the
+ * window being scored from scratch for every day.
+ * <p>
+ * An instance is not thread-safe, and its day only moves forward.
+ */
+public final class RankingWindow {
+
+    private static final int OUTSIDE = 0;
+    private static final int COUNTED = 1;
+    private static final int RESERVE = 2;
+
+    // slots of the cursor array
+    private static final int COUNTED_SIZE = 0;
+    private static final int RESERVE_SIZE = 1;
+    private static final int NEXT_ADDED = 2;
+    private static final int NEXT_EXPIRED = 3;
+    private static final int TOTAL = 4;
+    private static final int DAY = 5;
+
+    private final int windowDays;
+    private final int countedResults;
+    private final int[] epochDays;
+    private final int[] points;
+    private final int[] heapOf;
+    private final int[] slot;
+    private final int[] counted;
+    private final int[] reserve;
+    private final int[] cursor;
+
+    /**
+     * @param epochDays the day of every result, in ascending order
+     * @param points    the points of every result, in the order of {@code epochDays}
+     */
+    public RankingWindow(int windowDays, int countedResults, int[] epochDays, int[] points) {
+        if (windowDays <= 0 || countedResults <= 0) {
+            throw new IllegalArgumentException("Window days and counted results must be positive");
+        }
+        if (epochDays.length != points.length) {
+            throw new IllegalArgumentException("Expected a day for every result");
+        }
+        for (int i = 1; i < epochDays.length; i++) {
+            if (epochDays[i] < epochDays[i - 1]) {
+                throw new IllegalArgumentException("Results must be in date order");
+            }
+        }
+        int n = epochDays.length;
+        this.windowDays = windowDays;
+        this.countedResults = countedResults;
+        this.epochDays = epochDays.clone();
+        this.points = points.clone();
+        this.heapOf = new int[n];
+        this.slot = new int[n];
+        this.counted = new int[Math.min(n, countedResults)];
+        this.reserve = new int[n];
+        this.cursor = new int[6];
+        this.cursor[DAY] = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Moves the evaluation day forward to {@code epochDay}.
+     *
+     * @return the ranking points on that day
+     */
+    public int advanceTo(int epochDay) {
+        if (epochDay < cursor[DAY]) {
+            throw new IllegalArgumentException("The window only moves forward");
+        }
+        cursor[DAY] = epochDay;
+        int windowStart = epochDay - windowDays + 1;
+        while (cursor[NEXT_ADDED] < epochDays.length && epochDays[cursor[NEXT_ADDED]] <= epochDay) {
+            int result = cursor[NEXT_ADDED]++;
+            if (epochDays[result] >= windowStart && points[result] > 0) {
+                add(result);
+            }
+        }
+        while (cursor[NEXT_EXPIRED] < cursor[NEXT_ADDED] && epochDays[cursor[NEXT_EXPIRED]] < windowStart) {
+            int result = cursor[NEXT_EXPIRED]++;
+            if (heapOf[result] != OUTSIDE) {
+                expire(result);
+            }
+        }
+        return cursor[TOTAL];
+    }
+
+    /**
+     * Ranking points on the current day: the sum of the counted results.
+     */
+    public int getPoints() {
+        return cursor[TOTAL];
+    }
+
+    public int getEpochDay() {
+        return cursor[DAY];
+    }
+
+    /**
+     * Number of results in the window, counted or not.
+     */
+    public int size() {
+        return cursor[COUNTED_SIZE] + cursor[RESERVE_SIZE];
+    }
+
+    private void add(int result) {
+        if (cursor[COUNTED_SIZE] < countedResults) {
+            push(COUNTED, result);
+            cursor[TOTAL] += points[result];
+        } else if (points[result] > points[counted[0]]) {
+            int weakest = counted[0];
+            removeAt(COUNTED, 0);
+            cursor[TOTAL] -= points[weakest];
+            push(RESERVE, weakest);
+            push(COUNTED, result);
+            cursor[TOTAL] += points[result];
+        } else {
+            push(RESERVE, result);
+        }
+    }
+
+    private void expire(int result) {
+        if (heapOf[result] == RESERVE) {
+            removeAt(RESERVE, slot[result]);
+            return;
+        }
+        removeAt(COUNTED, slot[result]);
+        cursor[TOTAL] -= points[result];
+        if (cursor[RESERVE_SIZE] > 0) {
+            int best = reserve[0];
+            removeAt(RESERVE, 0);
+            push(COUNTED, best);
+            cursor[TOTAL] += points[best];
+        }
+    }
+
+    private void push(int heap, int result) {
+        int i = cursor[sizeSlot(heap)]++;
+        place(heap, i, result);
+        siftUp(heap, i);
+    }
+
+    private void removeAt(int heap, int i) {
+        int[] entries = entries(heap);
+        heapOf[entries[i]] = OUTSIDE;
+        int last = --cursor[sizeSlot(heap)];
+        if (i == last) {
+            return;
+        }
+        place(heap, i, entries[last]);
+        siftDown(heap, i);
+        siftUp(heap, i);
+    }
+
+    private void siftUp(int heap, int i) {
+        int[] entries = entries(heap);
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(heap, entries[i], entries[parent])) {
+                break;
+            }
+            swap(heap, i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int heap, int i) {
+        int[] entries = entries(heap);
+        int size = cursor[sizeSlot(heap)];
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int right = left + 1;
+            int child = right < size && before(heap, entries[right], entries[left]) ? right : left;
+            if (!before(heap, entries[child], entries[i])) {
+                break;
+            }
+            swap(heap, i, child);
+            i = child;
+        }
+    }
+
+    /**
+     * Whether result {@code a} belongs nearer the root of the heap than result {@code b}.
+     */
+    private boolean before(int heap, int a, int b) {
+        return heap == COUNTED ? points[a] < points[b] : points[a] > points[b];
+    }
+
+    private void swap(int heap, int i, int j) {
+        int[] entries = entries(heap);
+        int result = entries[i];
+        place(heap, i, entries[j]);
+        place(heap, j, result);
+    }
+
+    private void place(int heap, int i, int result) {
+        entries(heap)[i] = result;
+        heapOf[result] = heap;
+        slot[result] = i;
+    }
+
+    private int[] entries(int heap) {
+        return heap == COUNTED ? counted : reserve;
+    }
+
+    private static int sizeSlot(int heap) {
+        return heap == COUNTED ? COUNTED_SIZE : RESERVE_SIZE;
+    }
+}
@@ -0,0 +1,310 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primitive encoding of the unplayed fixtures of a scenario, as consumed by the scenario search.
+ * <p>
+ * Teams are addressed by index, fixtures by their position in search order, and every fixture
+ * carries a bit mask of the outcomes the scenario rules still allow. The points each allowed
+ * outcome can still bring a team are precomputed per fixture, as is the number of outcome
+ * combinations left below every depth of the search.
+ * <p>
+ * Fixtures of the target team come first, so its final points are known as early as possible.
+ * The others follow rival by rival, the most dangerous rival first: once all fixtures of a rival
+ * are decided its points are exact, which either settles the subtree or takes the rival out of
+ * the race for good.
+ */
+public final class RemainingFixtures {
+
+    /**
+     * Beyond this many fixtures the number of outcome combinations no longer fits in a {@code long}.
+     */
+    public static final int MAX_FIXTURES = 39;
+
+    private static final int DEPTH_BITS = 6;
+
+    private final List<Long> teamIds;
+    private final List<Fixture> fixtures;
+    private final int targetTeam;
+    private final int[] home;
+    private final int[] away;
+    private final byte[] allowed;
+    private final int[] basePoints;
+    private final int[] homePoints;
+    private final int[] awayPoints;
+    private final int[] gainBounds;
+    private final long[] completions;
+    private final int[] keyShifts;
+    private final int[] outOfRace;
+    private final boolean packable;
+
+    private RemainingFixtures(List<Long> teamIds, List<Fixture> fixtures, int targetTeam,
+                              int[] home, int[] away, byte[] allowed, int[] basePoints, CompetitionRules rules) {
+        this.teamIds = teamIds;
+        this.fixtures = fixtures;
+        this.targetTeam = targetTeam;
+        this.home = home;
+        this.away = away;
+        this.allowed = allowed;
+        this.basePoints = basePoints;
+        this.homePoints = new int[FixtureOutcome.count()];
+        this.awayPoints = new int[FixtureOutcome.count()];
+        for (FixtureOutcome outcome : FixtureOutcome.values()) {
+            homePoints[outcome.ordinal()] = rules.homePoints(outcome);
+            awayPoints[outcome.ordinal()] = rules.awayPoints(outcome);
+        }
+
+        int count = fixtures.size();
+        this.gainBounds = new int[count * 4];
+        for (int f = 0; f < count; f++) {
+            int maxHome = 0;
+            int minHome = Integer.MAX_VALUE;
+            int maxAway = 0;
+            int minAway = Integer.MAX_VALUE;
+            for (int o = 0; o < FixtureOutcome.count(); o++) {
+                if (isAllowed(f, o)) {
+                    maxHome = Math.max(maxHome, homePoints[o]);
+                    minHome = Math.min(minHome, homePoints[o]);
+                    maxAway = Math.max(maxAway, awayPoints[o]);
+                    minAway = Math.min(minAway, awayPoints[o]);
+                }
+            }
+            gainBounds[4 * f] = maxHome;
+            gainBounds[4 * f + 1] = Math.min(minHome, maxHome);
+            gainBounds[4 * f + 2] = maxAway;
+            gainBounds[4 * f + 3] = Math.min(minAway, maxAway);
+        }
+
+        this.completions = new long[count + 1];
+        completions[count] = 1;
+        for (int f = count - 1; f >= 0; f--) {
+            completions[f] = completions[f + 1] * allowedCount(f);
+        }
+
+        int[] maxGain = maxGains(home, away, gainBounds, teamIds.size());
+        this.keyShifts = new int[teamIds.size()];
+        this.outOfRace = new int[teamIds.size()];
+        int bits = DEPTH_BITS;
+        for (int t = 0; t < maxGain.length; t++) {
+            // one value above the largest gain marks a team that can no longer catch the target
+            outOfRace[t] = maxGain[t] + 1;
+            keyShifts[t] = bits;
+            bits += 32 - Integer.numberOfLeadingZeros(outOfRace[t]);
+        }
+        this.packable = bits <= Long.SIZE;
+    }
+
+    public static RemainingFixtures of(CompetitionScenario scenario, CompetitionRules rules) {
+        Competition competition = scenario.getCompetition();
+        List<Long> teamIds = competition.getTeams().stream().map(CompetitionTeam::getId).toList();
+        Map<Long, Integer> index = new HashMap<>();
+        for (int t = 0; t < teamIds.size(); t++) {
+            index.put(teamIds.get(t), t);
+        }
+
+        int[] basePoints = new int[teamIds.size()];
+        for (Fixture fixture : competition.getPlayedFixtures()) {
+            FixtureOutcome outcome = fixture.getResult().getOutcome();
+            basePoints[indexOf(index, fixture.getHomeTeamId())] += rules.homePoints(outcome);
+            basePoints[indexOf(index, fixture.getAwayTeamId())] += rules.awayPoints(outcome);
+        }
+
+        List<Fixture> unplayed = competition.getRemainingFixtures();
+        if (unplayed.size() > MAX_FIXTURES) {
+            throw new IllegalArgumentException("Cannot analyse more than " + MAX_FIXTURES
+                + " remaining fixtures, got " + unplayed.size());
+        }
+        int target = index.get(scenario.getTargetTeamId());
+        List<Fixture> ordered = searchOrder(unplayed, index, target, basePoints, rules);
+
+        int count = ordered.size();
+        int[] home = new int[count];
+        int[] away = new int[count];
+        byte[] allowed = new byte[count];
+        for (int f = 0; f < count; f++) {
+            Fixture fixture = ordered.get(f);
+            home[f] = indexOf(index, fixture.getHomeTeamId());
+            away[f] = indexOf(index, fixture.getAwayTeamId());
+            int mask = FixtureOutcome.allMask();
+            for (ScenarioRule rule : scenario.getRules()) {
+                mask &= rule.allowedOutcomes(fixture);
+            }
+            allowed[f] = (byte) mask;
+        }
+        return new RemainingFixtures(teamIds, List.copyOf(ordered), target,
+            home, away, allowed, basePoints, rules);
+    }
+
+    /**
+     * Target fixtures first, then all fixtures of the rival with the highest attainable points,
+     * and so on.
+     */
+    private static List<Fixture> searchOrder(List<Fixture> unplayed, Map<Long, Integer> index, int target,
+                                             int[] basePoints, CompetitionRules rules) {
+        int[] attainable = basePoints.clone();
+        for (Fixture fixture : unplayed) {
+            attainable[indexOf(index, fixture.getHomeTeamId())] += rules.getWinPoints();
+            attainable[indexOf(index, fixture.getAwayTeamId())] += rules.getWinPoints();
+        }
+        List<Fixture> ordered = new ArrayList<>(unplayed.size());
+        List<Fixture> pending = new ArrayList<>(unplayed);
+        int next = target;
+        while (!pending.isEmpty()) {
+            int team = next;
+            pending.removeIf(fixture -> {
+                boolean involved = indexOf(index, fixture.getHomeTeamId()) == team
+                    || indexOf(index, fixture.getAwayTeamId()) == team;
+                if (involved) {
+                    ordered.add(fixture);
+                }
+                return involved;
+            });
+            attainable[team] = Integer.MIN_VALUE;
+            next = 0;
+            for (int t = 1; t < attainable.length; t++) {
+                if (attainable[t] > attainable[next]) {
+                    next = t;
+                }
+            }
+        }
+        return ordered;
+    }
+
+    private static int[] maxGains(int[] home, int[] away, int[] gainBounds, int teamCount) {
+        int[] maxGain = new int[teamCount];
+        for (int f = 0; f < home.length; f++) {
+            maxGain[home[f]] += gainBounds[4 * f];
+            maxGain[away[f]] += gainBounds[4 * f + 2];
+        }
+        return maxGain;
+    }
+
+    private static int indexOf(Map<Long, Integer> index, Long teamId) {
+        Integer t = index.get(teamId);
+        if (t == null) {
+            throw new IllegalArgumentException("Fixture references unknown team " + teamId);
+        }
+        return t;
+    }
+
+    public int size() {
+        return fixtures.size();
+    }
+
+    public int teamCount() {
+        return teamIds.size();
+    }
+
+    public int targetTeam() {
+        return targetTeam;
+    }
+
+    public Long teamId(int team) {
+        return teamIds.get(team);
+    }
+
+    public Fixture fixture(int f) {
+        return fixtures.get(f);
+    }
+
+    public List<Fixture> getFixtures() {
+        return fixtures;
+    }
+
+    public int home(int f) {
+        return home[f];
+    }
+
+    public int away(int f) {
+        return away[f];
+    }
+
+    public boolean isAllowed(int f, int outcomeCode) {
+        return (allowed[f] & (1 << outcomeCode)) != 0;
+    }
+
+    public int allowedCount(int f) {
+        return Integer.bitCount(allowed[f]);
+    }
+
+    /**
+     * Lowest allowed outcome code of the fixture, or -1 when the rules exclude every outcome.
+     */
+    public int firstAllowed(int f) {
+        return allowed[f] == 0 ? -1 : Integer.numberOfTrailingZeros(allowed[f]);
+    }
+
+    /**
+     * Points per team from the fixtures already played.
+     */
+    public int[] basePoints() {
+        return basePoints.clone();
+    }
+
+    public int homePoints(int outcomeCode) {
+        return homePoints[outcomeCode];
+    }
+
+    public int awayPoints(int outcomeCode) {
+        return awayPoints[outcomeCode];
+    }
+
+    /**
+     * Most points the home team can still take from the fixture under the scenario rules.
+     */
+    public int maxHomeGain(int f) {
+        return gainBounds[4 * f];
+    }
+
+    public int minHomeGain(int f) {
+        return gainBounds[4 * f + 1];
+    }
+
+    public int maxAwayGain(int f) {
+        return gainBounds[4 * f + 2];
+    }
+
+    public int minAwayGain(int f) {
+        return gainBounds[4 * f + 3];
+    }
+
+    /**
+     * Number of allowed outcome combinations of the fixtures from {@code depth} onwards.
+     */
+    public long completions(int depth) {
+        return completions[depth];
+    }
+
+    /**
+     * Whether {@link #stateKey} can identify every search state of these fixtures.
+     */
+    public boolean isPackable() {
+        return packable;
+    }
+
+    /**
+     * Packs a search state into a single key. What remains to be counted below a depth only
+     * depends on the points of the teams still able to reach the target's lowest possible total,
+     * so all other teams share one marker value and states that differ only in their points
+     * coincide.
+     *
+     * @param points points per team, starting from {@link #basePoints()}
+     * @param upper  most points per team still obtainable from fixtures at or after {@code depth}
+     * @param lower  least points per team still obtainable from fixtures at or after {@code depth}
+     */
+    public long stateKey(int depth, int[] points, int[] upper, int[] lower) {
+        int targetWorst = points[targetTeam] + lower[targetTeam];
+        long key = depth;
+        for (int t = 0; t < keyShifts.length; t++) {
+            long value = t != targetTeam && points[t] + upper[t] < targetWorst
+                ? outOfRace[t]
+                : points[t] - basePoints[t];
+            key |= value << keyShifts[t];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,75 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A club member available for an interclub team, with their ranking points per category and the
+ * team whose base lineup they belong to.
+ */
+public final class RosterPlayer {
+
+    /**
+     * {@link #getBaseTeamRank()} of a player who is not in the base lineup of any team.
+     */
+    public static final int NO_BASE_TEAM = 0;
+
+    private final Long playerId;
+    private final String name;
+    private final Gender gender;
+    private final int singlesPoints;
+    private final int doublesPoints;
+    private final int mixedPoints;
+    private final int baseTeamRank;
+
+    /**
+     * @param baseTeamRank rank within the club (1 is the first team) of the team whose base
+     *                     lineup holds the player, or {@link #NO_BASE_TEAM}
+     */
+    public RosterPlayer(Long playerId, String name, Gender gender, int singlesPoints, int doublesPoints,
+                        int mixedPoints, int baseTeamRank) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId");
+        this.name = name;
+        this.gender = Objects.requireNonNull(gender, "gender");
+        if (singlesPoints < 0 || doublesPoints < 0 || mixedPoints < 0) {
+            throw new IllegalArgumentException("Ranking points cannot be negative");
+        }
+        if (baseTeamRank < 0) {
+            throw new IllegalArgumentException("baseTeamRank cannot be negative");
+        }
+        this.singlesPoints = singlesPoints;
+        this.doublesPoints = doublesPoints;
+        this.mixedPoints = mixedPoints;
+        this.baseTeamRank = baseTeamRank;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Gender getGender() {
+        return gender;
+    }
+
+    public int getPoints(RankingCategory category) {
+        return switch (category) {
+            case SINGLES -> singlesPoints;
+            case DOUBLES -> doublesPoints;
+            case MIXED -> mixedPoints;
+        };
+    }
+
+    public int getBaseTeamRank() {
+        return baseTeamRank;
+    }
+
+    /**
+     * Base players of a team may play for that team and the teams above it, never below it.
+     */
+    public boolean isEligibleFor(int teamRank) {
+        return baseTeamRank == NO_BASE_TEAM || baseTeamRank >= teamRank;
+    }
+}
@@ -0,0 +1,106 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Answer to a {@link CompetitionScenario}: in how many of the remaining outcome combinations the
+ * target team finishes first, and what that takes fixture by fixture. Ties on points are reported
+ * separately because the tie-breakers depend on individual match scores.
+ */
+public final class ScenarioAnalysis {
+
+    private final Long competitionId;
+    private final Long targetTeamId;
+    private final int currentPoints;
+    private final long totalCombinations;
+    private final long championCombinations;
+    private final long sharedCombinations;
+    private final List<FixtureOutlook> fixtures;
+    private final List<List<FixtureOutcome>> examples;
+
+    public ScenarioAnalysis(Long competitionId, Long targetTeamId, int currentPoints, long totalCombinations,
+                            long championCombinations, long sharedCombinations,
+                            List<FixtureOutlook> fixtures, List<List<FixtureOutcome>> examples) {
+        this.competitionId = Objects.requireNonNull(competitionId, "competitionId");
+        this.targetTeamId = Objects.requireNonNull(targetTeamId, "targetTeamId");
+        this.currentPoints = currentPoints;
+        this.totalCombinations = totalCombinations;
+        this.championCombinations = championCombinations;
+        this.sharedCombinations = sharedCombinations;
+        this.fixtures = List.copyOf(fixtures);
+        this.examples = List.copyOf(examples);
+    }
+
+    public static ScenarioAnalysis from(Long competitionId, RemainingFixtures remaining, int currentPoints,
+                                        ScenarioTally tally) {
+        int stride = FixtureOutcome.count();
+        List<FixtureOutlook> outlooks = new ArrayList<>(remaining.size());
+        for (int f = 0; f < remaining.size(); f++) {
+            long[] champion = new long[stride];
+            for (FixtureOutcome outcome : FixtureOutcome.values()) {
+                champion[outcome.ordinal()] = tally.championCombinations(f, outcome);
+            }
+            outlooks.add(new FixtureOutlook(remaining.fixture(f), champion));
+        }
+        List<List<FixtureOutcome>> examples = tally.getExamples().stream()
+            .map(codes -> {
+                List<FixtureOutcome> outcomes = new ArrayList<>(codes.length);
+                for (byte code : codes) {
+                    outcomes.add(FixtureOutcome.fromCode(code));
+                }
+                return List.copyOf(outcomes);
+            })
+            .toList();
+        return new ScenarioAnalysis(competitionId, remaining.teamId(remaining.targetTeam()), currentPoints,
+            tally.totalCombinations(), tally.championCombinations(), tally.sharedCombinations(),
+            outlooks, examples);
+    }
+
+    public Long getCompetitionId() {
+        return competitionId;
+    }
+
+    public Long getTargetTeamId() {
+        return targetTeamId;
+    }
+
+    public int getCurrentPoints() {
+        return currentPoints;
+    }
+
+    public long getTotalCombinations() {
+        return totalCombinations;
+    }
+
+    public long getChampionCombinations() {
+        return championCombinations;
+    }
+
+    public long getSharedCombinations() {
+        return sharedCombinations;
+    }
+
+    /**
+     * Remaining fixtures in the order used by {@link #getExamples()}.
+     */
+    public List<FixtureOutlook> getFixtures() {
+        return fixtures;
+    }
+
+    /**
+     * A few outcome combinations in which the target team finishes clear first.
+     */
+    public List<List<FixtureOutcome>> getExamples() {
+        return examples;
+    }
+
+    public boolean isChampionshipPossible() {
+        return championCombinations > 0;
+    }
+
+    public boolean isChampionshipGuaranteed() {
+        return totalCombinations > 0 && championCombinations == totalCombinations;
+    }
+}
@@ -0,0 +1,98 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Column-oriented encoding of many scenario lists. The matches of every scenario are
+ * stored back to back (ordered by date) in primitive arrays; {@code offsets[i]} marks
+ * where scenario {@code i} starts, so the engine can score the whole batch without
+ * touching a {@link MatchScenario} object.
+ * <p>
+ * Matches on the same day are ordered by level, stage and result, so scenarios holding the
+ * same matches encode identically whatever order they were listed in.
+ */
+public final class ScenarioBatch {
+
+    private static final Comparator<MatchScenario> CANONICAL_ORDER = Comparator
+        .comparing(MatchScenario::getMatchDate)
+        .thenComparing(MatchScenario::getLevel)
+        .thenComparing(MatchScenario::getStage)
+        .thenComparing(MatchScenario::getExpectedResult);
+
+    private final int[] offsets;
+    private final int[] epochDays;
+    private final byte[] levels;
+    private final byte[] stages;
+    private final byte[] results;
+
+    private ScenarioBatch(int[] offsets, int[] epochDays, byte[] levels, byte[] stages, byte[] results) {
+        this.offsets = offsets;
+        this.epochDays = epochDays;
+        this.levels = levels;
+        this.stages = stages;
+        this.results = results;
+    }
+
+    public static ScenarioBatch of(List<List<MatchScenario>> scenarios) {
+        int matchCount = scenarios.stream().mapToInt(List::size).sum();
+        int[] offsets = new int[scenarios.size() + 1];
+        int[] epochDays = new int[matchCount];
+        byte[] levels = new byte[matchCount];
+        byte[] stages = new byte[matchCount];
+        byte[] results = new byte[matchCount];
+
+        int cursor = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            offsets[i] = cursor;
+            List<MatchScenario> ordered = scenarios.get(i).stream()
+                .sorted(CANONICAL_ORDER)
+                .toList();
+            for (MatchScenario match : ordered) {
+                epochDays[cursor] = (int) match.getMatchDate().toEpochDay();
+                levels[cursor] = match.getLevel().code();
+                stages[cursor] = match.getStage();
+                results[cursor] = match.getExpectedResult().code();
+                cursor++;
+            }
+        }
+        offsets[scenarios.size()] = cursor;
+        return new ScenarioBatch(offsets, epochDays, levels, stages, results);
+    }
+
+    public static ScenarioBatch single(List<MatchScenario> scenario) {
+        return of(List.of(scenario));
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    public int matchCount() {
+        return epochDays.length;
+    }
+
+    public int start(int scenario) {
+        return offsets[scenario];
+    }
+
+    public int end(int scenario) {
+        return offsets[scenario + 1];
+    }
+
+    public int epochDay(int match) {
+        return epochDays[match];
+    }
+
+    public byte level(int match) {
+        return levels[match];
+    }
+
+    public byte stage(int match) {
+        return stages[match];
+    }
+
+    public byte result(int match) {
+        return results[match];
+    }
+}
@@ -0,0 +1,43 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Projected points and positions for every scenario of a comparison, indexed in the
+ * order the scenarios were submitted.
+ */
+public final class ScenarioComparison {
+
+    private final int currentRanking;
+    private final int currentPoints;
+    private final int[] projectedPoints;
+    private final int[] projectedRankings;
+
+    public ScenarioComparison(int currentRanking, int currentPoints, int[] projectedPoints, int[] projectedRankings) {
+        if (projectedPoints.length != projectedRankings.length) {
+            throw new IllegalArgumentException("Points and rankings must cover the same scenarios");
+        }
+        this.currentRanking = currentRanking;
+        this.currentPoints = currentPoints;
+        this.projectedPoints = projectedPoints.clone();
+        this.projectedRankings = projectedRankings.clone();
+    }
+
+    public int getCurrentRanking() {
+        return currentRanking;
+    }
+
+    public int getCurrentPoints() {
+        return currentPoints;
+    }
+
+    public int size() {
+        return projectedPoints.length;
+    }
+
+    public int getProjectedPoints(int scenario) {
+        return projectedPoints[scenario];
+    }
+
+    public int getProjectedRanking(int scenario) {
+        return projectedRankings[scenario];
+    }
+}
@@ -0,0 +1,35 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subtree tallies of a scenario search, keyed by {@link RemainingFixtures#stateKey}.
+ * <p>
+ * Safe to share between the tasks of a parallel search: a tally is a pure function of its key,
+ * so a lost race only costs a duplicate computation. Entries are no longer added once the memo
+ * holds {@code budget} counters in total.
+ */
+public final class ScenarioMemo {
+
+    private final ConcurrentHashMap<Long, long[]> tallies = new ConcurrentHashMap<>();
+    private final AtomicLong remainingBudget;
+
+    public ScenarioMemo(long budget) {
+        this.remainingBudget = new AtomicLong(budget);
+    }
+
+    public long[] get(long key) {
+        return tallies.get(key);
+    }
+
+    public void put(long key, long[] tally) {
+        if (remainingBudget.addAndGet(-tally.length) >= 0) {
+            tallies.putIfAbsent(key, tally);
+        }
+    }
+
+    public int size() {
+        return tallies.size();
+    }
+}
@@ -0,0 +1,70 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Assumption restricting the outcomes considered by a scenario analysis: either one fixture
+ * ends in a given outcome, or a team gets the same result in all of its remaining fixtures.
+ */
+public final class ScenarioRule {
+
+    private final Long fixtureId;
+    private final FixtureOutcome fixtureOutcome;
+    private final Long teamId;
+    private final TeamResult teamResult;
+
+    private ScenarioRule(Long fixtureId, FixtureOutcome fixtureOutcome, Long teamId, TeamResult teamResult) {
+        this.fixtureId = fixtureId;
+        this.fixtureOutcome = fixtureOutcome;
+        this.teamId = teamId;
+        this.teamResult = teamResult;
+    }
+
+    public static ScenarioRule fixture(Long fixtureId, FixtureOutcome outcome) {
+        if (fixtureId == null || outcome == null) {
+            throw new IllegalArgumentException("A fixture rule needs a fixture and an outcome");
+        }
+        return new ScenarioRule(fixtureId, outcome, null, null);
+    }
+
+    public static ScenarioRule team(Long teamId, TeamResult result) {
+        if (teamId == null || result == null) {
+            throw new IllegalArgumentException("A team rule needs a team and a result");
+        }
+        return new ScenarioRule(null, null, teamId, result);
+    }
+
+    public boolean isFixtureRule() {
+        return fixtureId != null;
+    }
+
+    public Long getFixtureId() {
+        return fixtureId;
+    }
+
+    public FixtureOutcome getFixtureOutcome() {
+        return fixtureOutcome;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public TeamResult getTeamResult() {
+        return teamResult;
+    }
+
+    /**
+     * Mask of the outcomes this rule allows for the given fixture.
+     */
+    public int allowedOutcomes(Fixture fixture) {
+        if (isFixtureRule()) {
+            return fixture.getId().equals(fixtureId) ? fixtureOutcome.mask() : FixtureOutcome.allMask();
+        }
+        if (fixture.getHomeTeamId().equals(teamId)) {
+            return teamResult.asOutcome(true).mask();
+        }
+        if (fixture.getAwayTeamId().equals(teamId)) {
+            return teamResult.asOutcome(false).mask();
+        }
+        return FixtureOutcome.allMask();
+    }
+}
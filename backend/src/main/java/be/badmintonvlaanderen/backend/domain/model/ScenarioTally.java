@@ -0,0 +1,78 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * Counts of a searched outcome tree, stored in a flat {@code long[]}.
+ * <p>
+ * A tally of the subtree below depth {@code d} holds the number of outcome combinations in
+ * total, with the target team clear first and with the target team sharing first place on
+ * points, followed by a count per fixture from {@code d} onwards and per outcome of the
+ * combinations with that outcome in which the target team finishes clear first.
+ */
+public final class ScenarioTally {
+
+    public static final int TOTAL = 0;
+    public static final int CHAMPION = 1;
+    public static final int SHARED = 2;
+    private static final int HEADER = 3;
+
+    private final long[] values;
+    private final List<byte[]> examples;
+
+    public ScenarioTally(long[] values, List<byte[]> examples) {
+        this.values = values.clone();
+        this.examples = List.copyOf(examples);
+    }
+
+    /**
+     * Length of the tally of a subtree with {@code fixtureCount} undecided fixtures.
+     */
+    public static int length(int fixtureCount) {
+        return HEADER + fixtureCount * FixtureOutcome.count();
+    }
+
+    /**
+     * Index of the champion count of a fixture, relative to the depth of the subtree, and outcome.
+     */
+    public static int slot(int relativeFixture, int outcomeCode) {
+        return HEADER + relativeFixture * FixtureOutcome.count() + outcomeCode;
+    }
+
+    /**
+     * Adds the tally of a subtree {@code depthOffset} fixtures deeper into the tally of an
+     * enclosing subtree.
+     */
+    public static void accumulate(long[] subtree, long[] into, int depthOffset) {
+        into[TOTAL] += subtree[TOTAL];
+        into[CHAMPION] += subtree[CHAMPION];
+        into[SHARED] += subtree[SHARED];
+        int shift = depthOffset * FixtureOutcome.count();
+        for (int i = HEADER; i < subtree.length; i++) {
+            into[i + shift] += subtree[i];
+        }
+    }
+
+    public long totalCombinations() {
+        return values[TOTAL];
+    }
+
+    public long championCombinations() {
+        return values[CHAMPION];
+    }
+
+    public long sharedCombinations() {
+        return values[SHARED];
+    }
+
+    public long championCombinations(int fixture, FixtureOutcome outcome) {
+        return values[slot(fixture, outcome.ordinal())];
+    }
+
+    /**
+     * Outcome codes of a few complete combinations in which the target team finishes clear first.
+     */
+    public List<byte[]> getExamples() {
+        return examples;
+    }
+}
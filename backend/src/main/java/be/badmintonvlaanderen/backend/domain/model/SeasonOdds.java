@@ -0,0 +1,44 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * Odds of a season simulation over several divisions, in the order they were asked for.
+ */
+public final class SeasonOdds {
+
+    private final int iterations;
+    private final long seed;
+    private final int promotedTeams;
+    private final int relegatedTeams;
+    private final List<DivisionOdds> divisions;
+
+    public SeasonOdds(int iterations, long seed, int promotedTeams, int relegatedTeams,
+                      List<DivisionOdds> divisions) {
+        this.iterations = iterations;
+        this.seed = seed;
+        this.promotedTeams = promotedTeams;
+        this.relegatedTeams = relegatedTeams;
+        this.divisions = List.copyOf(divisions);
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPromotedTeams() {
+        return promotedTeams;
+    }
+
+    public int getRelegatedTeams() {
+        return relegatedTeams;
+    }
+
+    public List<DivisionOdds> getDivisions() {
+        return divisions;
+    }
+}
@@ -0,0 +1,11 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Thrown by a simulation that stopped because its job was cancelled.
+ */
+public class SimulationCancelledException extends RuntimeException {
+
+    public SimulationCancelledException() {
+        super("Simulation cancelled");
+    }
+}
@@ -0,0 +1,161 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Snapshot of an asynchronous simulation job. Every transition returns a new snapshot, so a
+ * snapshot can be handed to observers without copying.
+ * <p>
+ * The result and partial result are the domain objects of the job's {@link JobKind}: a
+ * {@link ScenarioComparison} or a {@link ScenarioAnalysis}.
+ */
+public final class SimulationJob {
+
+    private final UUID id;
+    private final JobKind kind;
+    private final JobStatus status;
+    private final long completed;
+    private final long total;
+    private final Instant submittedAt;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final Object partialResult;
+    private final Object result;
+    private final String error;
+
+    private SimulationJob(UUID id, JobKind kind, JobStatus status, long completed, long total,
+                          Instant submittedAt, Instant startedAt, Instant finishedAt,
+                          Object partialResult, Object result, String error) {
+        this.id = id;
+        this.kind = kind;
+        this.status = status;
+        this.completed = completed;
+        this.total = total;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.partialResult = partialResult;
+        this.result = result;
+        this.error = error;
+    }
+
+    public static SimulationJob queued(UUID id, JobKind kind, Instant submittedAt) {
+        return new SimulationJob(Objects.requireNonNull(id, "id"), Objects.requireNonNull(kind, "kind"),
+            JobStatus.QUEUED, 0, 0, Objects.requireNonNull(submittedAt, "submittedAt"),
+            null, null, null, null, null);
+    }
+
+    public SimulationJob started(Instant at) {
+        requireStatus(JobStatus.QUEUED);
+        return new SimulationJob(id, kind, JobStatus.RUNNING, 0, 0, submittedAt, at, null, null, null, null);
+    }
+
+    public SimulationJob progressed(long completed, long total, Object partialResult) {
+        requireStatus(JobStatus.RUNNING);
+        if (completed < 0 || completed > total) {
+            throw new IllegalArgumentException("Progress " + completed + " of " + total + " is out of range");
+        }
+        return new SimulationJob(id, kind, status, completed, total, submittedAt, startedAt, null,
+            partialResult, null, null);
+    }
+
+    public SimulationJob completed(Object result, Instant at) {
+        requireStatus(JobStatus.RUNNING);
+        return new SimulationJob(id, kind, JobStatus.COMPLETED, total, total, submittedAt, startedAt, at,
+            null, Objects.requireNonNull(result, "result"), null);
+    }
+
+    public SimulationJob failed(String error, Instant at) {
+        requireStatus(JobStatus.RUNNING);
+        return new SimulationJob(id, kind, JobStatus.FAILED, completed, total, submittedAt, startedAt, at,
+            null, null, error);
+    }
+
+    /**
+     * Cancels a queued job before it starts, or records that a running one has stopped.
+     */
+    public SimulationJob cancelled(Instant at) {
+        if (status.isTerminal()) {
+            throw new IllegalStateException("Job " + id + " is already " + status);
+        }
+        return new SimulationJob(id, kind, JobStatus.CANCELLED, completed, total, submittedAt, startedAt, at,
+            null, null, null);
+    }
+
+    private void requireStatus(JobStatus expected) {
+        if (status != expected) {
+            throw new IllegalStateException("Job " + id + " is " + status + ", expected " + expected);
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public JobKind getKind() {
+        return kind;
+    }
+
+    public JobPriority getPriority() {
+        return kind.getPriority();
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * @return when a worker picked the job up, or {@code null} while it is queued
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return when the job reached a terminal status, or {@code null} before that
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return results reported with the latest progress, or {@code null}
+     */
+    public Object getPartialResult() {
+        return partialResult;
+    }
+
+    /**
+     * @return the result of a completed job, or {@code null}
+     */
+    public Object getResult() {
+        return result;
+    }
+
+    /**
+     * @return why a failed job failed, or {@code null}
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationJob{id=" + id + ", kind=" + kind + ", status=" + status
+            + ", progress=" + completed + "/" + total + "}";
+    }
+}
@@ -0,0 +1,20 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Thrown when a job id is unknown, or the job finished longer ago than results are kept.
+ */
+public class SimulationJobNotFoundException extends RuntimeException {
+
+    private final UUID jobId;
+
+    public SimulationJobNotFoundException(UUID jobId) {
+        super("Simulation job " + jobId + " not found");
+        this.jobId = jobId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+}
@@ -0,0 +1,47 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Receives the progress of a long-running simulation and tells it when to stop.
+ * <p>
+ * Engines report between units of work and check {@link #isCancelled()} at the same points,
+ * so reporting never happens inside the hot loops.
+ *
+ * @param <T> type of the partial results the simulation reports
+ */
+public interface SimulationProgress<T> {
+
+    SimulationProgress<Object> NONE = new SimulationProgress<>() {
+        @Override
+        public void report(long completed, long total, Object partial) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * @param completed units of work done so far
+     * @param total     units of work in the whole simulation
+     * @param partial   results of the units finished since the previous report, or {@code null}
+     *                  when the simulation has nothing meaningful to show before it is done
+     */
+    void report(long completed, long total, T partial);
+
+    boolean isCancelled();
+
+    /**
+     * @throws SimulationCancelledException if the simulation should stop
+     */
+    default void checkCancelled() {
+        if (isCancelled()) {
+            throw new SimulationCancelledException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> SimulationProgress<T> none() {
+        return (SimulationProgress<T>) NONE;
+    }
+}
@@ -0,0 +1,10 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Kinds of portal data mirrored locally by the synchronisation.
+ */
+public enum SnapshotType {
+    PLAYER,
+    TOURNAMENT,
+    STANDING
+}
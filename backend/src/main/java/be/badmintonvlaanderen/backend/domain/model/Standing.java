@@ -0,0 +1,83 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * One row of a division table.
+ */
+public final class Standing {
+
+    private final CompetitionTeam team;
+    private final int position;
+    private final int played;
+    private final int won;
+    private final int drawn;
+    private final int lost;
+    private final int points;
+    private final int matchesFor;
+    private final int matchesAgainst;
+    private final int gamesFor;
+    private final int gamesAgainst;
+
+    public Standing(CompetitionTeam team, int position, int played, int won, int drawn, int lost, int points,
+                    int matchesFor, int matchesAgainst, int gamesFor, int gamesAgainst) {
+        this.team = Objects.requireNonNull(team, "team");
+        this.position = position;
+        this.played = played;
+        this.won = won;
+        this.drawn = drawn;
+        this.lost = lost;
+        this.points = points;
+        this.matchesFor = matchesFor;
+        this.matchesAgainst = matchesAgainst;
+        this.gamesFor = gamesFor;
+        this.gamesAgainst = gamesAgainst;
+    }
+
+    public CompetitionTeam getTeam() {
+        return team;
+    }
+
+    /**
+     * Place in the table; teams no tie-breaker separates share the same position.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public int getPlayed() {
+        return played;
+    }
+
+    public int getWon() {
+        return won;
+    }
+
+    public int getDrawn() {
+        return drawn;
+    }
+
+    public int getLost() {
+        return lost;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getMatchesFor() {
+        return matchesFor;
+    }
+
+    public int getMatchesAgainst() {
+        return matchesAgainst;
+    }
+
+    public int getGamesFor() {
+        return gamesFor;
+    }
+
+    public int getGamesAgainst() {
+        return gamesAgainst;
+    }
+}
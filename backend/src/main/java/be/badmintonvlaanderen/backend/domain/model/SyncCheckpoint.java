@@ -0,0 +1,27 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Progress of the synchronisation: up to which portal time changes have been applied, and a
+ * version number that increases whenever a run writes at least one change.
+ */
+public final class SyncCheckpoint {
+
+    private final Instant syncedUpTo;
+    private final long dataVersion;
+
+    public SyncCheckpoint(Instant syncedUpTo, long dataVersion) {
+        this.syncedUpTo = Objects.requireNonNull(syncedUpTo, "syncedUpTo");
+        this.dataVersion = dataVersion;
+    }
+
+    public Instant getSyncedUpTo() {
+        return syncedUpTo;
+    }
+
+    public long getDataVersion() {
+        return dataVersion;
+    }
+}
@@ -0,0 +1,41 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Records fetched, changed, removed and failed while synchronising one or more snapshot types;
+ * see {@link SyncReport} for what each count means.
+ */
+public final class SyncCounts {
+
+    private final int fetched;
+    private final int changed;
+    private final int removed;
+    private final int failed;
+
+    public SyncCounts(int fetched, int changed, int removed, int failed) {
+        this.fetched = fetched;
+        this.changed = changed;
+        this.removed = removed;
+        this.failed = failed;
+    }
+
+    public int getFetched() {
+        return fetched;
+    }
+
+    public int getChanged() {
+        return changed;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public SyncCounts plus(SyncCounts other) {
+        return new SyncCounts(fetched + other.fetched, changed + other.changed,
+            removed + other.removed, failed + other.failed);
+    }
+}
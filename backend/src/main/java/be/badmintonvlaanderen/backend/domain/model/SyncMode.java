@@ -0,0 +1,9 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Scope of a synchronisation run: only what the portal reports as changed, or everything.
+ */
+public enum SyncMode {
+    INCREMENTAL,
+    FULL
+}
@@ -0,0 +1,80 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Outcome of one synchronisation run.
+ */
+public final class SyncReport {
+
+    private final SyncMode mode;
+    private final Instant startedAt;
+    private final Instant finishedAt;
+    private final int fetched;
+    private final int changed;
+    private final int removed;
+    private final int failed;
+    private final long dataVersion;
+
+    public SyncReport(SyncMode mode, Instant startedAt, Instant finishedAt,
+                      int fetched, int changed, int removed, int failed, long dataVersion) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        this.startedAt = Objects.requireNonNull(startedAt, "startedAt");
+        this.finishedAt = Objects.requireNonNull(finishedAt, "finishedAt");
+        this.fetched = fetched;
+        this.changed = changed;
+        this.removed = removed;
+        this.failed = failed;
+        this.dataVersion = dataVersion;
+    }
+
+    public SyncMode getMode() {
+        return mode;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Duration getDuration() {
+        return Duration.between(startedAt, finishedAt);
+    }
+
+    /**
+     * Records fetched from the portal.
+     */
+    public int getFetched() {
+        return fetched;
+    }
+
+    /**
+     * Records whose content hash differed from the stored snapshot and were written.
+     */
+    public int getChanged() {
+        return changed;
+    }
+
+    /**
+     * Snapshots deleted because the portal no longer publishes the record.
+     */
+    public int getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Records that could not be fetched; they are retried by the next run.
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+    public long getDataVersion() {
+        return dataVersion;
+    }
+}
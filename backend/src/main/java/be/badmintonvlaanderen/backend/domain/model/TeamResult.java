@@ -0,0 +1,18 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Result of an encounter from the point of view of one team.
+ */
+public enum TeamResult {
+    WIN,
+    DRAW,
+    LOSS;
+
+    public FixtureOutcome asOutcome(boolean home) {
+        return switch (this) {
+            case WIN -> home ? FixtureOutcome.HOME_WIN : FixtureOutcome.AWAY_WIN;
+            case DRAW -> FixtureOutcome.DRAW;
+            case LOSS -> home ? FixtureOutcome.AWAY_WIN : FixtureOutcome.HOME_WIN;
+        };
+    }
+}
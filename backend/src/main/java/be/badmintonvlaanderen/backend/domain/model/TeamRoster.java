@@ -0,0 +1,67 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The players a club can field for one of its teams, with the strongest team index that team
+ * may line up.
+ */
+public final class TeamRoster {
+
+    /**
+     * {@link #getMaxTeamIndex()} of a team without an index limit, such as a club's first team.
+     */
+    public static final int NO_INDEX_LIMIT = Integer.MAX_VALUE;
+
+    private final int teamRank;
+    private final int maxTeamIndex;
+    private final List<RosterPlayer> players;
+
+    /**
+     * @param teamRank     rank of the team within the club, 1 being the first team
+     * @param maxTeamIndex highest team index a lineup may have, usually the base index of the
+     *                     team above, or {@link #NO_INDEX_LIMIT}
+     */
+    public TeamRoster(int teamRank, int maxTeamIndex, List<RosterPlayer> players) {
+        if (teamRank < 1) {
+            throw new IllegalArgumentException("teamRank must be at least 1");
+        }
+        if (maxTeamIndex < 0) {
+            throw new IllegalArgumentException("maxTeamIndex cannot be negative");
+        }
+        Set<Long> ids = new HashSet<>();
+        for (RosterPlayer player : players) {
+            if (!ids.add(player.getPlayerId())) {
+                throw new IllegalArgumentException("Player " + player.getPlayerId() + " is listed twice");
+            }
+        }
+        this.teamRank = teamRank;
+        this.maxTeamIndex = maxTeamIndex;
+        this.players = List.copyOf(players);
+    }
+
+    public int getTeamRank() {
+        return teamRank;
+    }
+
+    public int getMaxTeamIndex() {
+        return maxTeamIndex;
+    }
+
+    public List<RosterPlayer> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Players who may play for this team, in ascending player ID order.
+     */
+    public List<RosterPlayer> getEligiblePlayers() {
+        return players.stream()
+            .filter(player -> player.isEligibleFor(teamRank))
+            .sorted(Comparator.comparing(RosterPlayer::getPlayerId))
+            .toList();
+    }
+}
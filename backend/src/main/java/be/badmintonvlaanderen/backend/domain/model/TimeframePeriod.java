@@ -0,0 +1,27 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Horizon over which a ranking projection is calculated.
+ */
+public enum TimeframePeriod {
+    NEXT_MONTH(1),
+    NEXT_3_MONTHS(3),
+    NEXT_6_MONTHS(6),
+    NEXT_YEAR(12);
+
+    private final int months;
+
+    TimeframePeriod(int months) {
+        this.months = months;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public LocalDate endDate(LocalDate from) {
+        return from.plusMonths(months);
+    }
+}
@@ -0,0 +1,63 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A tournament event with the draw of one of its categories and the matches played so far.
+ */
+public final class Tournament {
+
+    private final Long id;
+    private final String name;
+    private final TournamentLevel level;
+    private final RankingCategory category;
+    private final LocalDate startDate;
+    private final TournamentBracket bracket;
+    private final List<PlayedMatch> matches;
+
+    public Tournament(Long id, String name, TournamentLevel level, RankingCategory category,
+                      LocalDate startDate, TournamentBracket bracket) {
+        this(id, name, level, category, startDate, bracket, List.of());
+    }
+
+    public Tournament(Long id, String name, TournamentLevel level, RankingCategory category,
+                      LocalDate startDate, TournamentBracket bracket, List<PlayedMatch> matches) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.name = name;
+        this.level = Objects.requireNonNull(level, "level");
+        this.category = Objects.requireNonNull(category, "category");
+        this.startDate = startDate;
+        this.bracket = Objects.requireNonNull(bracket, "bracket");
+        this.matches = List.copyOf(matches);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TournamentLevel getLevel() {
+        return level;
+    }
+
+    public RankingCategory getCategory() {
+        return category;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public TournamentBracket getBracket() {
+        return bracket;
+    }
+
+    public List<PlayedMatch> getMatches() {
+        return matches;
+    }
+}
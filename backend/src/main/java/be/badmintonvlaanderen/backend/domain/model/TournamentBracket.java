@@ -0,0 +1,68 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-elimination draw. Slots are listed in draw order, so slot {@code 2i} meets slot
+ * {@code 2i + 1} in the first round; an empty slot ({@code null}) is a bye.
+ */
+public final class TournamentBracket {
+
+    private final List<TournamentEntrant> slots;
+    private final List<TournamentEntrant> entrants;
+    private final int[] slotEntrants;
+    private final int roundCount;
+
+    public TournamentBracket(List<TournamentEntrant> slots) {
+        int drawSize = slots.size();
+        if (drawSize < 2 || Integer.bitCount(drawSize) != 1) {
+            throw new IllegalArgumentException("Draw size must be a power of two, got " + drawSize);
+        }
+        this.slots = Collections.unmodifiableList(new ArrayList<>(slots));
+        this.slotEntrants = new int[drawSize];
+        List<TournamentEntrant> placed = new ArrayList<>();
+        for (int slot = 0; slot < drawSize; slot++) {
+            TournamentEntrant entrant = slots.get(slot);
+            if (entrant == null) {
+                slotEntrants[slot] = -1;
+            } else {
+                slotEntrants[slot] = placed.size();
+                placed.add(entrant);
+            }
+        }
+        this.entrants = List.copyOf(placed);
+        this.roundCount = Integer.numberOfTrailingZeros(drawSize);
+    }
+
+    public int getDrawSize() {
+        return slots.size();
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Slots in draw order, {@code null} marking a bye.
+     */
+    public List<TournamentEntrant> getSlots() {
+        return slots;
+    }
+
+    /**
+     * Entrants in draw order, byes left out. The index in this list is the entrant index
+     * used by {@link #entrantAt(int)} and by {@link TournamentPrediction}.
+     */
+    public List<TournamentEntrant> getEntrants() {
+        return entrants;
+    }
+
+    /**
+     * Entrant index placed in the given slot, or {@code -1} for a bye.
+     */
+    public int entrantAt(int slot) {
+        return slotEntrants[slot];
+    }
+}
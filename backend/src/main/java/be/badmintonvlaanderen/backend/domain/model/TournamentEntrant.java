@@ -0,0 +1,31 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * A player placed in a tournament draw, with the ranking points used to estimate their strength.
+ */
+public final class TournamentEntrant {
+
+    private final Long playerId;
+    private final String name;
+    private final int rankingPoints;
+
+    public TournamentEntrant(Long playerId, String name, int rankingPoints) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId");
+        this.name = name;
+        this.rankingPoints = rankingPoints;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRankingPoints() {
+        return rankingPoints;
+    }
+}
@@ -0,0 +1,29 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Level of a tournament, from club events up to international tournaments.
+ */
+public enum TournamentLevel {
+    CLUB,
+    PROVINCIAL,
+    REGIONAL,
+    NATIONAL,
+    INTERNATIONAL;
+
+    private static final TournamentLevel[] BY_CODE = values();
+
+    /**
+     * Compact code used by the array-based simulation engine.
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static TournamentLevel fromCode(byte code) {
+        return BY_CODE[code];
+    }
+
+    public static int count() {
+        return BY_CODE.length;
+    }
+}
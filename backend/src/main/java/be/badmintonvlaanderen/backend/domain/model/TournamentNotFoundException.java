@@ -0,0 +1,18 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Thrown when a tournament id cannot be resolved.
+ */
+public class TournamentNotFoundException extends RuntimeException {
+
+    private final Long tournamentId;
+
+    public TournamentNotFoundException(Long tournamentId) {
+        super("Tournament with ID " + tournamentId + " not found");
+        this.tournamentId = tournamentId;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+}
@@ -0,0 +1,57 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * Distribution of how far every entrant of a draw gets, estimated by Monte Carlo simulation.
+ * Round {@code 0} is the start of the draw, round {@link #getRoundCount()} means winning the
+ * tournament.
+ */
+public final class TournamentPrediction {
+
+    private final List<TournamentEntrant> entrants;
+    private final int roundCount;
+    private final int iterations;
+    private final long seed;
+    private final long[] reachedCounts;
+
+    /**
+     * @param reachedCounts for every entrant, the number of iterations in which it reached each
+     *                      round, laid out as {@code entrant * (roundCount + 1) + round}
+     */
+    public TournamentPrediction(List<TournamentEntrant> entrants, int roundCount, int iterations, long seed,
+                                long[] reachedCounts) {
+        if (reachedCounts.length != entrants.size() * (roundCount + 1)) {
+            throw new IllegalArgumentException("Expected counts for every entrant and round");
+        }
+        this.entrants = List.copyOf(entrants);
+        this.roundCount = roundCount;
+        this.iterations = iterations;
+        this.seed = seed;
+        this.reachedCounts = reachedCounts.clone();
+    }
+
+    public List<TournamentEntrant> getEntrants() {
+        return entrants;
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getRoundProbability(int entrant, int round) {
+        return (double) reachedCounts[entrant * (roundCount + 1) + round] / iterations;
+    }
+
+    public double getWinProbability(int entrant) {
+        return getRoundProbability(entrant, roundCount);
+    }
+}
@@ -0,0 +1,12 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+/**
+ * Estimates the probability that one player beats another.
+ */
+public interface WinProbabilityModel {
+
+    /**
+     * Probability in {@code [0, 1]} that {@code player} beats {@code opponent}.
+     */
+    double winProbability(TournamentEntrant player, TournamentEntrant opponent);
+}
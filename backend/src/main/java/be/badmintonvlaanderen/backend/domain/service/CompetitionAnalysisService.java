@@ -0,0 +1,356 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionScenario;
+import be.badmintonvlaanderen.backend.domain.model.FixtureOutcome;
+import be.badmintonvlaanderen.backend.domain.model.RemainingFixtures;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioMemo;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioTally;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Exhaustive analysis of the remaining fixtures of a division for one target team.
+ * <p>
+ * The outcome tree is searched depth-first with branch-and-bound on team points. At every node
+ * each team's final points are bounded by the points it has plus the most (or least) it can
+ * still take from its undecided fixtures. A subtree is settled without descending when a rival
+ * is certain to end above the target's best total, or when no rival can reach the target's worst
+ * total; its combinations are then counted in bulk as the product of the remaining choices.
+ * <p>
+ * Tallies are built bottom-up, so a subtree only depends on the points table it starts from.
+ * Different result orders reaching the same table share one {@link ScenarioMemo} entry, which
+ * collapses the tight title races the bounds alone cannot prune.
+ * <p>
+ * In parallel mode the first fixtures are enumerated up front and every resulting prefix is
+ * searched as its own fork-join task with private scratch arrays, sharing the memo. Tallies are
+ * combined in prefix order, so the result does not depend on the pool.
+ * <p>
+ * When progress is observed the search is always cut into prefixes, run on the pool or one
+ * after the other; progress is reported and cancellation checked as each prefix is combined.
+ */
+public class CompetitionAnalysisService {
+
+    static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * Prefixes a sequential search is cut into when its progress is observed.
+     */
+    static final int PROGRESS_STEPS = 64;
+    static final int MAX_EXAMPLES = 10;
+
+    /**
+     * Counters the memo may hold per analysis (32 MiB).
+     */
+    static final long MEMO_BUDGET = 1L << 22;
+
+    /**
+     * Subtrees with fewer undecided fixtures are cheaper to search than to look up.
+     */
+    static final int MIN_MEMO_FIXTURES = 3;
+
+    private static final int OPEN = 0;
+    private static final int ELSEWHERE = 1;
+    private static final int CHAMPION = 2;
+    private static final int SHARED = 3;
+
+    private final CompetitionRules rules;
+    private final ForkJoinPool pool;
+
+    public CompetitionAnalysisService(CompetitionRules rules, ForkJoinPool pool) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    public CompetitionRules getRules() {
+        return rules;
+    }
+
+    public ScenarioAnalysis analyze(CompetitionScenario scenario, boolean parallel) {
+        return analyze(scenario, parallel, SimulationProgress.none());
+    }
+
+    /**
+     * Analyses the scenario, reporting how many outcome prefixes have been searched. No partial
+     * results are reported: the counts are only meaningful once the whole tree is searched.
+     *
+     * @throws SimulationCancelledException if the progress asks to stop before the search is done
+     */
+    public ScenarioAnalysis analyze(CompetitionScenario scenario, boolean parallel,
+                                    SimulationProgress<? super ScenarioAnalysis> progress) {
+        RemainingFixtures remaining = RemainingFixtures.of(scenario, rules);
+        int currentPoints = remaining.basePoints()[remaining.targetTeam()];
+        ScenarioMemo memo = remaining.isPackable() ? new ScenarioMemo(MEMO_BUDGET) : null;
+
+        long[] tally;
+        List<byte[]> examples = new ArrayList<>();
+        if (remaining.completions(0) == 0) {
+            tally = new long[ScenarioTally.length(remaining.size())];
+        } else {
+            if (parallel) {
+                tally = searchPrefixes(remaining, memo, (long) pool.getParallelism() * TASKS_PER_WORKER, true, progress);
+            } else if (progress != SimulationProgress.NONE) {
+                tally = searchPrefixes(remaining, memo, PROGRESS_STEPS, false, progress);
+            } else {
+                tally = searchFrom(remaining, memo, new byte[0]);
+            }
+            if (tally[ScenarioTally.CHAMPION] > 0) {
+                int[] points = remaining.basePoints();
+                int[] upper = new int[remaining.teamCount()];
+                int[] lower = new int[remaining.teamCount()];
+                initialBounds(remaining, upper, lower);
+                collectExamples(remaining, memo, 0, points, upper, lower, new byte[remaining.size()], examples);
+            }
+        }
+        return ScenarioAnalysis.from(scenario.getCompetition().getId(), remaining, currentPoints,
+            new ScenarioTally(tally, examples));
+    }
+
+    /**
+     * Searches the tree as one subtree per outcome prefix, cutting it into at least
+     * {@code wanted} prefixes where the tree is big enough.
+     */
+    private long[] searchPrefixes(RemainingFixtures remaining, ScenarioMemo memo, long wanted, boolean parallel,
+                                  SimulationProgress<?> progress) {
+        int splitDepth = 0;
+        long prefixCount = 1;
+        while (splitDepth < remaining.size() && prefixCount < wanted) {
+            prefixCount *= remaining.allowedCount(splitDepth);
+            splitDepth++;
+        }
+
+        List<byte[]> prefixes = new ArrayList<>();
+        prefixes.add(new byte[0]);
+        for (int f = 0; f < splitDepth; f++) {
+            List<byte[]> extended = new ArrayList<>(prefixes.size() * remaining.allowedCount(f));
+            for (byte[] prefix : prefixes) {
+                for (int o = 0; o < FixtureOutcome.count(); o++) {
+                    if (remaining.isAllowed(f, o)) {
+                        byte[] next = new byte[f + 1];
+                        for (int i = 0; i < f; i++) {
+                            next[i] = prefix[i];
+                        }
+                        next[f] = (byte) o;
+                        extended.add(next);
+                    }
+                }
+            }
+            prefixes = extended;
+        }
+
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>(parallel ? prefixes.size() : 0);
+        if (parallel) {
+            for (byte[] prefix : prefixes) {
+                tasks.add(pool.submit(() -> searchFrom(remaining, memo, prefix)));
+            }
+        }
+        long[] tally = new long[ScenarioTally.length(remaining.size())];
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (progress.isCancelled()) {
+                for (ForkJoinTask<long[]> task : tasks) {
+                    task.cancel(false);
+                }
+                throw new SimulationCancelledException();
+            }
+            byte[] prefix = prefixes.get(i);
+            long[] subtree = parallel ? tasks.get(i).join() : searchFrom(remaining, memo, prefix);
+            for (int f = 0; f < prefix.length; f++) {
+                tally[ScenarioTally.slot(f, prefix[f])] += subtree[ScenarioTally.CHAMPION];
+            }
+            ScenarioTally.accumulate(subtree, tally, splitDepth);
+            progress.report(i + 1, prefixes.size(), null);
+        }
+        return tally;
+    }
+
+    /**
+     * Searches the subtree below a fixed outcome prefix with freshly allocated scratch state.
+     */
+    private static long[] searchFrom(RemainingFixtures remaining, ScenarioMemo memo, byte[] prefix) {
+        int[] points = remaining.basePoints();
+        int[] upper = new int[remaining.teamCount()];
+        int[] lower = new int[remaining.teamCount()];
+        initialBounds(remaining, upper, lower);
+        for (int f = 0; f < prefix.length; f++) {
+            decide(remaining, f, upper, lower, -1);
+            points[remaining.home(f)] += remaining.homePoints(prefix[f]);
+            points[remaining.away(f)] += remaining.awayPoints(prefix[f]);
+        }
+        long[] tally = new long[ScenarioTally.length(remaining.size() - prefix.length)];
+        search(remaining, memo, prefix.length, points, upper, lower, tally, prefix.length);
+        return tally;
+    }
+
+    /**
+     * Adds the tally of the subtree at {@code depth} into {@code out}, a tally laid out for the
+     * shallower {@code outDepth}.
+     *
+     * @param points points per team including the outcomes decided so far
+     * @param upper  most points per team still obtainable from fixtures at or after {@code depth}
+     * @param lower  least points per team still obtainable from fixtures at or after {@code depth}
+     */
+    private static void search(RemainingFixtures remaining, ScenarioMemo memo, int depth,
+                               int[] points, int[] upper, int[] lower, long[] out, int outDepth) {
+        int verdict = verdict(remaining, points, upper, lower);
+        if (verdict != OPEN) {
+            long combinations = remaining.completions(depth);
+            out[ScenarioTally.TOTAL] += combinations;
+            if (verdict == SHARED) {
+                out[ScenarioTally.SHARED] += combinations;
+            } else if (verdict == CHAMPION) {
+                out[ScenarioTally.CHAMPION] += combinations;
+                for (int f = depth; f < remaining.size(); f++) {
+                    long share = combinations / remaining.allowedCount(f);
+                    for (int o = 0; o < FixtureOutcome.count(); o++) {
+                        if (remaining.isAllowed(f, o)) {
+                            out[ScenarioTally.slot(f - outDepth, o)] += share;
+                        }
+                    }
+                }
+            }
+            return;
+        }
+
+        boolean memoize = memo != null && remaining.size() - depth >= MIN_MEMO_FIXTURES;
+        long key = 0;
+        if (memoize) {
+            key = remaining.stateKey(depth, points, upper, lower);
+            long[] cached = memo.get(key);
+            if (cached != null) {
+                ScenarioTally.accumulate(cached, out, depth - outDepth);
+                return;
+            }
+        }
+
+        // at full depth the bounds are exact, so the verdict has settled the node
+        long[] tally = memoize ? new long[ScenarioTally.length(remaining.size() - depth)] : out;
+        int tallyDepth = memoize ? depth : outDepth;
+        int home = remaining.home(depth);
+        int away = remaining.away(depth);
+        decide(remaining, depth, upper, lower, -1);
+        for (int o = 0; o < FixtureOutcome.count(); o++) {
+            if (!remaining.isAllowed(depth, o)) {
+                continue;
+            }
+            long championsBefore = tally[ScenarioTally.CHAMPION];
+            points[home] += remaining.homePoints(o);
+            points[away] += remaining.awayPoints(o);
+            search(remaining, memo, depth + 1, points, upper, lower, tally, tallyDepth);
+            points[home] -= remaining.homePoints(o);
+            points[away] -= remaining.awayPoints(o);
+            tally[ScenarioTally.slot(depth - tallyDepth, o)] += tally[ScenarioTally.CHAMPION] - championsBefore;
+        }
+        decide(remaining, depth, upper, lower, 1);
+
+        if (memoize) {
+            memo.put(key, tally);
+            ScenarioTally.accumulate(tally, out, depth - outDepth);
+        }
+    }
+
+    /**
+     * Walks the tree in outcome order, descending only into subtrees that contain a clear first
+     * place, until enough example combinations are found.
+     */
+    private static void collectExamples(RemainingFixtures remaining, ScenarioMemo memo, int depth, int[] points,
+                                        int[] upper, int[] lower, byte[] assigned, List<byte[]> examples) {
+        if (examples.size() >= MAX_EXAMPLES) {
+            return;
+        }
+        int verdict = verdict(remaining, points, upper, lower);
+        if (verdict == CHAMPION) {
+            byte[] example = assigned.clone();
+            for (int f = depth; f < remaining.size(); f++) {
+                example[f] = (byte) remaining.firstAllowed(f);
+            }
+            examples.add(example);
+            return;
+        }
+        if (verdict != OPEN) {
+            return;
+        }
+
+        int home = remaining.home(depth);
+        int away = remaining.away(depth);
+        decide(remaining, depth, upper, lower, -1);
+        for (int o = 0; o < FixtureOutcome.count() && examples.size() < MAX_EXAMPLES; o++) {
+            if (!remaining.isAllowed(depth, o)) {
+                continue;
+            }
+            points[home] += remaining.homePoints(o);
+            points[away] += remaining.awayPoints(o);
+            long[] subtree = new long[ScenarioTally.length(remaining.size() - depth - 1)];
+            search(remaining, memo, depth + 1, points, upper, lower, subtree, depth + 1);
+            if (subtree[ScenarioTally.CHAMPION] > 0) {
+                assigned[depth] = (byte) o;
+                collectExamples(remaining, memo, depth + 1, points, upper, lower, assigned, examples);
+            }
+            points[home] -= remaining.homePoints(o);
+            points[away] -= remaining.awayPoints(o);
+        }
+        decide(remaining, depth, upper, lower, 1);
+    }
+
+    /**
+     * Settles a node from the points bounds alone.
+     *
+     * @return {@link #CHAMPION} when the target finishes clear first in every completion,
+     * {@link #SHARED} when it always shares first place, {@link #ELSEWHERE} when it never
+     * finishes first, or {@link #OPEN} when the subtree has to be searched
+     */
+    private static int verdict(RemainingFixtures remaining, int[] points, int[] upper, int[] lower) {
+        int target = remaining.targetTeam();
+        int targetBest = points[target] + upper[target];
+        int targetWorst = points[target] + lower[target];
+        boolean clearForSure = true;
+        boolean firstForSure = true;
+        boolean clearImpossible = false;
+        for (int team = 0; team < points.length; team++) {
+            if (team == target) {
+                continue;
+            }
+            int rivalWorst = points[team] + lower[team];
+            int rivalBest = points[team] + upper[team];
+            if (rivalWorst > targetBest) {
+                return ELSEWHERE;
+            }
+            if (rivalWorst == targetBest) {
+                clearImpossible = true;
+            }
+            if (rivalBest >= targetWorst) {
+                clearForSure = false;
+            }
+            if (rivalBest > targetWorst) {
+                firstForSure = false;
+            }
+        }
+        if (clearForSure) {
+            return CHAMPION;
+        }
+        // some rival always reaches the target's total and none can pass it
+        return clearImpossible && firstForSure ? SHARED : OPEN;
+    }
+
+    private static void initialBounds(RemainingFixtures remaining, int[] upper, int[] lower) {
+        for (int f = 0; f < remaining.size(); f++) {
+            decide(remaining, f, upper, lower, 1);
+        }
+    }
+
+    /**
+     * Removes ({@code sign} -1) or restores ({@code sign} 1) the bounds contribution of a fixture.
+     */
+    private static void decide(RemainingFixtures remaining, int f, int[] upper, int[] lower, int sign) {
+        upper[remaining.home(f)] += sign * remaining.maxHomeGain(f);
+        lower[remaining.home(f)] += sign * remaining.minHomeGain(f);
+        upper[remaining.away(f)] += sign * remaining.maxAwayGain(f);
+        lower[remaining.away(f)] += sign * remaining.minAwayGain(f);
+    }
+}
@@ -0,0 +1,316 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.MatchHistory;
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Glicko-2 ratings from the played matches.
+ * <p>
+ * Players who never met, directly or through common opponents, cannot influence each other's
+ * rating, so the matches are split into the connected components of the players they link.
+ * Components are rated as independent fork-join tasks (small ones batched together) over
+ * shared arrays: a player belongs to one component only, so no two tasks write the same slot.
+ * Within a component the rating periods are processed in order; in each period every player
+ * is updated once, against the ratings their opponents had at its start.
+ * <p>
+ * Rating continues from earlier ratings, so new periods can be added without replaying the
+ * history, and the result for a given history does not depend on the pool's parallelism.
+ */
+public class GlickoRatingService {
+
+    /**
+     * Matches rated by one fork-join task at least, unless a single component is smaller.
+     */
+    static final int TASK_MATCHES = 4096;
+
+    private static final double CONVERGENCE = 1e-6;
+
+    // rows of the shared rating columns, indexed by player; the last two sum the results of a period
+    private static final int MU = 0;
+    private static final int PHI = 1;
+    private static final int SIGMA = 2;
+    private static final int INVERSE_VARIANCE = 3;
+    private static final int IMPROVEMENT = 4;
+
+    private final GlickoRules rules;
+    private final ForkJoinPool pool;
+
+    public GlickoRatingService(GlickoRules rules, ForkJoinPool pool) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    public GlickoRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Rates the matches on top of earlier ratings.
+     *
+     * @param base          ratings through an earlier period, or {@link PlayerRatings#empty()}
+     * @param matches       matches played after {@code base}'s last period, up to {@code throughPeriod}
+     * @param throughPeriod the last period the returned ratings account for
+     * @throws IllegalArgumentException if a match falls outside the periods being rated
+     */
+    public PlayerRatings rate(PlayerRatings base, MatchHistory matches, int throughPeriod) {
+        if (!matches.isEmpty()) {
+            int first = rules.period(matches.epochDay(0));
+            int last = rules.period(matches.epochDay(matches.size() - 1));
+            if (first <= base.getThroughPeriod() || last > throughPeriod) {
+                throw new IllegalArgumentException("Matches must fall after period " + base.getThroughPeriod()
+                    + " and up to period " + throughPeriod);
+            }
+        }
+
+        long[] ids = playerIds(base, matches);
+        int players = ids.length;
+        double[] mu = new double[players];
+        double[] phi = new double[players];
+        double[] sigma = new double[players];
+        int[] lastPeriod = new int[players];
+        double initialPhi = GlickoRules.INITIAL_DEVIATION / GlickoRules.SCALE;
+        for (int p = 0, b = 0; p < players; p++) {
+            if (b < base.size() && base.playerIdAt(b) == ids[p]) {
+                mu[p] = base.mu(b);
+                phi[p] = base.phi(b);
+                sigma[p] = base.sigma(b);
+                lastPeriod[p] = base.lastPeriod(b);
+                b++;
+            } else {
+                phi[p] = initialPhi;
+                sigma[p] = GlickoRules.INITIAL_VOLATILITY;
+                lastPeriod[p] = PlayerRatings.NO_PERIOD;
+            }
+        }
+
+        int[] winners = new int[matches.size()];
+        int[] losers = new int[matches.size()];
+        for (int m = 0; m < matches.size(); m++) {
+            winners[m] = Arrays.binarySearch(ids, matches.winnerId(m));
+            losers[m] = Arrays.binarySearch(ids, matches.loserId(m));
+        }
+        int[] component = componentOf(players, winners, losers);
+        int[] ordered = matchesByComponent(component, winners);
+
+        double[][] columns = {mu, phi, sigma, new double[players], new double[players]};
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        int from = 0;
+        while (from < ordered.length) {
+            int to = from;
+            // never split a component over two tasks
+            while (to < ordered.length && (to - from < TASK_MATCHES
+                || component[winners[ordered[to]]] == component[winners[ordered[to - 1]]])) {
+                to++;
+            }
+            int start = from;
+            int end = to;
+            tasks.add(pool.submit(
+                () -> rateMatches(ordered, start, end, matches, winners, losers, component, columns, lastPeriod)));
+            from = to;
+        }
+        tasks.forEach(ForkJoinTask::join);
+
+        return new PlayerRatings(ids, mu, phi, sigma, lastPeriod, Math.max(throughPeriod, base.getThroughPeriod()));
+    }
+
+    /**
+     * Rates a run of matches ordered by component and, within a component, by date.
+     */
+    private void rateMatches(int[] ordered, int from, int to, MatchHistory matches, int[] winners, int[] losers,
+                             int[] component, double[][] columns, int[] lastPeriod) {
+        int[] touched = new int[64];
+        int periodStart = from;
+        while (periodStart < to) {
+            int first = ordered[periodStart];
+            int period = rules.period(matches.epochDay(first));
+            int periodEnd = periodStart;
+            while (periodEnd < to && component[winners[ordered[periodEnd]]] == component[winners[first]]
+                && rules.period(matches.epochDay(ordered[periodEnd])) == period) {
+                periodEnd++;
+            }
+
+            int touchedCount = 0;
+            for (int i = periodStart; i < periodEnd; i++) {
+                int m = ordered[i];
+                if (touchedCount + 2 > touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                if (startPeriod(columns, lastPeriod, winners[m], period)) {
+                    touched[touchedCount++] = winners[m];
+                }
+                if (startPeriod(columns, lastPeriod, losers[m], period)) {
+                    touched[touchedCount++] = losers[m];
+                }
+            }
+            for (int i = periodStart; i < periodEnd; i++) {
+                int m = ordered[i];
+                addResult(columns, winners[m], losers[m], 1.0);
+                addResult(columns, losers[m], winners[m], 0.0);
+            }
+            for (int t = 0; t < touchedCount; t++) {
+                finishPeriod(columns, touched[t], rules.getTau());
+            }
+            periodStart = periodEnd;
+        }
+    }
+
+    /**
+     * Match indexes grouped by component, keeping date order within each component.
+     */
+    private static int[] matchesByComponent(int[] component, int[] winners) {
+        int players = component.length;
+        int[] counts = new int[players + 1];
+        for (int winner : winners) {
+            counts[component[winner] + 1]++;
+        }
+        for (int c = 0; c < players; c++) {
+            counts[c + 1] += counts[c];
+        }
+        int[] ordered = new int[winners.length];
+        for (int m = 0; m < winners.length; m++) {
+            ordered[counts[component[winners[m]]]++] = m;
+        }
+        return ordered;
+    }
+
+    /**
+     * Union-find over the players linked by matches; returns the root of each player.
+     */
+    private static int[] componentOf(int players, int[] winners, int[] losers) {
+        int[] parent = new int[players];
+        for (int p = 0; p < players; p++) {
+            parent[p] = p;
+        }
+        for (int m = 0; m < winners.length; m++) {
+            int a = root(parent, winners[m]);
+            int b = root(parent, losers[m]);
+            if (a != b) {
+                parent[Math.max(a, b)] = Math.min(a, b);
+            }
+        }
+        for (int p = 0; p < players; p++) {
+            parent[p] = root(parent, p);
+        }
+        return parent;
+    }
+
+    private static int root(int[] parent, int player) {
+        while (parent[player] != player) {
+            parent[player] = parent[parent[player]];
+            player = parent[player];
+        }
+        return player;
+    }
+
+    private static long[] playerIds(PlayerRatings base, MatchHistory matches) {
+        long[] ids = new long[base.size() + 2 * matches.size()];
+        int size = 0;
+        for (int i = 0; i < base.size(); i++) {
+            ids[size++] = base.playerIdAt(i);
+        }
+        for (int m = 0; m < matches.size(); m++) {
+            ids[size++] = matches.winnerId(m);
+            ids[size++] = matches.loserId(m);
+        }
+        Arrays.sort(ids, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || ids[i] != ids[distinct - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Grows the deviation by the periods the player sat out and marks them as playing.
+     *
+     * @return whether this is the player's first match of the period
+     */
+    private static boolean startPeriod(double[][] columns, int[] lastPeriod, int player, int period) {
+        if (lastPeriod[player] == period) {
+            return false;
+        }
+        if (lastPeriod[player] != PlayerRatings.NO_PERIOD) {
+            double phi = columns[PHI][player];
+            double sigma = columns[SIGMA][player];
+            int idle = period - lastPeriod[player] - 1;
+            columns[PHI][player] = Math.min(GlickoRules.INITIAL_DEVIATION / GlickoRules.SCALE,
+                Math.sqrt(phi * phi + idle * sigma * sigma));
+        }
+        lastPeriod[player] = period;
+        return true;
+    }
+
+    private static void addResult(double[][] columns, int player, int opponent, double score) {
+        double g = PlayerRatings.g(columns[PHI][opponent]);
+        double expected = 1.0 / (1.0 + Math.exp(-g * (columns[MU][player] - columns[MU][opponent])));
+        columns[INVERSE_VARIANCE][player] += g * g * expected * (1 - expected);
+        columns[IMPROVEMENT][player] += g * (score - expected);
+    }
+
+    /**
+     * Applies the summed results of the period (steps 3 to 8 of the Glicko-2 algorithm).
+     */
+    private static void finishPeriod(double[][] columns, int player, double tau) {
+        double v = 1.0 / columns[INVERSE_VARIANCE][player];
+        double improvement = columns[IMPROVEMENT][player];
+        double phiSquared = columns[PHI][player] * columns[PHI][player];
+        double sigma = volatility(phiSquared, v, v * improvement, columns[SIGMA][player], tau);
+        double preRating = Math.sqrt(phiSquared + sigma * sigma);
+        double phi = 1.0 / Math.sqrt(1.0 / (preRating * preRating) + 1.0 / v);
+        columns[MU][player] += phi * phi * improvement;
+        columns[PHI][player] = phi;
+        columns[SIGMA][player] = sigma;
+        columns[INVERSE_VARIANCE][player] = 0;
+        columns[IMPROVEMENT][player] = 0;
+    }
+
+    /**
+     * New volatility by the Illinois variant of regula falsi, as in Glickman's description.
+     */
+    private static double volatility(double phiSquared, double v, double delta, double sigma, double tau) {
+        double a = Math.log(sigma * sigma);
+        double deltaSquared = delta * delta;
+        double low = a;
+        double high;
+        if (deltaSquared > phiSquared + v) {
+            high = Math.log(deltaSquared - phiSquared - v);
+        } else {
+            int k = 1;
+            while (f(a - k * tau, a, deltaSquared, phiSquared, v, tau) < 0) {
+                k++;
+            }
+            high = a - k * tau;
+        }
+        double fLow = f(low, a, deltaSquared, phiSquared, v, tau);
+        double fHigh = f(high, a, deltaSquared, phiSquared, v, tau);
+        while (Math.abs(high - low) > CONVERGENCE) {
+            double next = low + (low - high) * fLow / (fHigh - fLow);
+            double fNext = f(next, a, deltaSquared, phiSquared, v, tau);
+            if (fNext * fHigh <= 0) {
+                low = high;
+                fLow = fHigh;
+            } else {
+                fLow /= 2;
+            }
+            high = next;
+            fHigh = fNext;
+        }
+        return Math.exp(low / 2);
+    }
+
+    private static double f(double x, double a, double deltaSquared, double phiSquared, double v, double tau) {
+        double ex = Math.exp(x);
+        double denominator = phiSquared + v + ex;
+        return ex * (deltaSquared - phiSquared - v - ex) / (2 * denominator * denominator) - (x - a) / (tau * tau);
+    }
+}
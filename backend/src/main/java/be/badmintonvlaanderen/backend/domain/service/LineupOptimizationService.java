@@ -0,0 +1,271 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline;
+import be.badmintonvlaanderen.backend.domain.model.InterclubFormat;
+import be.badmintonvlaanderen.backend.domain.model.Lineup;
+import be.badmintonvlaanderen.backend.domain.model.LineupMatch;
+import be.badmintonvlaanderen.backend.domain.model.LineupRules;
+import be.badmintonvlaanderen.backend.domain.model.RosterPlayer;
+import be.badmintonvlaanderen.backend.domain.model.TeamRoster;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Picks the interclub lineup with the most expected match wins against a known opposition.
+ * <p>
+ * The federation rules shape the search: matches of one discipline are numbered from the
+ * strongest player (by ranking points) or pair (by the sum of both partners' points) down, so
+ * a discipline is filled by choosing a combination of candidates in strength order rather than
+ * a permutation. A player plays each discipline at most once and no more matches than the
+ * {@link LineupRules} allow, only eligible players are considered, and the team index of the
+ * fielded players may not exceed the roster's limit. Candidates breaking a rule are cut as soon
+ * as they are considered; the index only grows, so a lineup over the limit is never extended.
+ * <p>
+ * What can still be won from a match on depends only on the match, the last candidate taken in
+ * its discipline and which disciplines every player has played, so that state is memoised:
+ * lineups that differ only in who played the earlier matches are searched once. Matches the
+ * team cannot fill are given away, lowest-numbered last.
+ */
+public class LineupOptimizationService {
+
+    /**
+     * Eligible players a roster may hold; three bits per player keep the search state in a long.
+     */
+    public static final int MAX_PLAYERS = 16;
+
+    private static final int KINDS = 3;
+
+    private final LineupRules rules;
+    private final ForkJoinPool pool;
+
+    public LineupOptimizationService(LineupRules rules, ForkJoinPool pool) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    public LineupRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Optimises the lineup for every encounter of a season, each against its own opposition, in
+     * parallel on the pool. Lineups are returned in the order of the oppositions.
+     */
+    public List<Lineup> optimiseAll(InterclubFormat format, TeamRoster roster,
+                                    List<List<TournamentEntrant>> oppositions, WinProbabilityModel model) {
+        List<ForkJoinTask<Lineup>> tasks = new ArrayList<>(oppositions.size());
+        for (List<TournamentEntrant> opposition : oppositions) {
+            tasks.add(pool.submit(() -> optimise(format, roster, opposition, model)));
+        }
+        return tasks.stream().map(ForkJoinTask::join).toList();
+    }
+
+    /**
+     * Finds the lineup with the highest expected number of match wins.
+     *
+     * @param opposition the opposing player or pair in every match of the format, a pair given
+     *                   as one entrant with the average points of both partners; {@code null}
+     *                   when the opponent gives the match away
+     * @throws IllegalArgumentException if the opposition does not cover every match, or the
+     *                                  roster has more than {@value #MAX_PLAYERS} eligible players
+     */
+    public Lineup optimise(InterclubFormat format, TeamRoster roster, List<TournamentEntrant> opposition,
+                           WinProbabilityModel model) {
+        List<InterclubDiscipline> slots = format.getSlots();
+        if (opposition.size() != slots.size()) {
+            throw new IllegalArgumentException("Expected an opponent for each of the " + slots.size() + " matches");
+        }
+        List<RosterPlayer> players = roster.getEligiblePlayers();
+        if (players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("At most " + MAX_PLAYERS + " eligible players are supported, got "
+                + players.size());
+        }
+
+        int slotCount = slots.size();
+        int[][][] candidates = new int[slotCount][][];
+        double[][] winProbability = new double[slotCount][];
+        int[] kinds = new int[slotCount];
+        int[] disciplineEnd = new int[slotCount];
+        Map<InterclubDiscipline, int[][]> byDiscipline = new EnumMap<>(InterclubDiscipline.class);
+        for (int slot = slotCount - 1; slot >= 0; slot--) {
+            InterclubDiscipline discipline = slots.get(slot);
+            candidates[slot] = byDiscipline.computeIfAbsent(discipline, d -> candidates(d, players));
+            winProbability[slot] = winProbabilities(discipline, candidates[slot], players, opposition.get(slot),
+                model);
+            kinds[slot] = discipline.getCategory().ordinal();
+            disciplineEnd[slot] = slot + 1 < slotCount && slots.get(slot + 1) == discipline
+                ? disciplineEnd[slot + 1]
+                : slot + 1;
+        }
+        int[] indexPoints = new int[players.size()];
+        for (int p = 0; p < players.size(); p++) {
+            indexPoints[p] = format.indexPoints(players.get(p));
+        }
+
+        Map<Long, double[]> memo = new HashMap<>();
+        best(0, -1, 0L, 0, candidates, winProbability, kinds, disciplineEnd, indexPoints,
+            roster.getMaxTeamIndex(), memo);
+
+        // replay the memoised choices from the first match
+        List<LineupMatch> matches = new ArrayList<>(slotCount);
+        int slot = 0;
+        int last = -1;
+        long usage = 0;
+        int teamIndex = 0;
+        while (slot < slotCount) {
+            int choice = (int) memo.get(key(slot, last, usage))[1];
+            if (choice < 0) {
+                for (int end = disciplineEnd[slot]; slot < end; slot++) {
+                    matches.add(new LineupMatch(slots.get(slot), List.of(), 0));
+                }
+                last = -1;
+                continue;
+            }
+            List<Long> playerIds = new ArrayList<>(2);
+            for (int player : candidates[slot][choice]) {
+                if (((usage >>> (player * KINDS)) & 0b111) == 0) {
+                    teamIndex += indexPoints[player];
+                }
+                usage |= 1L << (player * KINDS + kinds[slot]);
+                playerIds.add(players.get(player).getPlayerId());
+            }
+            matches.add(new LineupMatch(slots.get(slot), playerIds, winProbability[slot][choice]));
+            last = slot + 1 == disciplineEnd[slot] ? -1 : choice;
+            slot++;
+        }
+        return new Lineup(matches, teamIndex);
+    }
+
+    /**
+     * Most expected wins from the given match on; records the value and the candidate taken
+     * ({@code -1} to give the rest of the discipline away) in the memo.
+     *
+     * @param last      candidate taken for the previous match of the same discipline, or {@code -1}
+     * @param usage     per player, a bit for every discipline kind (singles, doubles, mixed) played
+     * @param teamIndex index of the players fielded so far
+     */
+    private double best(int slot, int last, long usage, int teamIndex, int[][][] candidates,
+                        double[][] winProbability, int[] kinds, int[] disciplineEnd, int[] indexPoints,
+                        int maxTeamIndex, Map<Long, double[]> memo) {
+        if (slot == candidates.length) {
+            return 0;
+        }
+        long key = key(slot, last, usage);
+        double[] known = memo.get(key);
+        if (known != null) {
+            return known[0];
+        }
+
+        int kind = kinds[slot];
+        double best = best(disciplineEnd[slot], -1, usage, teamIndex, candidates, winProbability, kinds,
+            disciplineEnd, indexPoints, maxTeamIndex, memo);
+        int choice = -1;
+        int[][] options = candidates[slot];
+        for (int option = last + 1; option < options.length; option++) {
+            long nextUsage = usage;
+            int nextIndex = teamIndex;
+            boolean allowed = true;
+            for (int player : options[option]) {
+                long played = (usage >>> (player * KINDS)) & 0b111;
+                if ((played & (1L << kind)) != 0 || Long.bitCount(played) >= rules.getMaxMatchesPerPlayer()) {
+                    allowed = false;
+                    break;
+                }
+                if (played == 0) {
+                    nextIndex += indexPoints[player];
+                }
+                nextUsage |= 1L << (player * KINDS + kind);
+            }
+            if (!allowed || nextIndex > maxTeamIndex) {
+                continue;
+            }
+            int nextLast = slot + 1 == disciplineEnd[slot] ? -1 : option;
+            double value = winProbability[slot][option] + best(slot + 1, nextLast, nextUsage, nextIndex,
+                candidates, winProbability, kinds, disciplineEnd, indexPoints, maxTeamIndex, memo);
+            if (value > best) {
+                best = value;
+                choice = option;
+            }
+        }
+        memo.put(key, new double[]{best, choice});
+        return best;
+    }
+
+    /**
+     * Packs the search state: 48 bits of usage, the last candidate (at most 255) and the match.
+     */
+    private static long key(int slot, int last, long usage) {
+        return usage | (long) (last + 1) << 48 | (long) slot << 56;
+    }
+
+    /**
+     * Players (singles) or pairs (doubles) who can play the discipline, strongest first, as
+     * indexes into the players.
+     */
+    private static int[][] candidates(InterclubDiscipline discipline, List<RosterPlayer> players) {
+        List<int[]> options = new ArrayList<>();
+        for (int first = 0; first < players.size(); first++) {
+            if (players.get(first).getGender() != discipline.getFirstGender()) {
+                continue;
+            }
+            if (!discipline.isDoubles()) {
+                options.add(new int[]{first});
+                continue;
+            }
+            for (int second = 0; second < players.size(); second++) {
+                boolean samePair = discipline.getSecondGender() == discipline.getFirstGender() && second <= first;
+                if (!samePair && players.get(second).getGender() == discipline.getSecondGender()) {
+                    options.add(new int[]{first, second});
+                }
+            }
+        }
+        // stable, so equally strong candidates stay in player ID order
+        options.sort(Comparator.comparingInt(option -> -strength(discipline, option, players)));
+        return options.toArray(new int[0][]);
+    }
+
+    private static int strength(InterclubDiscipline discipline, int[] option, List<RosterPlayer> players) {
+        int points = 0;
+        for (int player : option) {
+            points += players.get(player).getPoints(discipline.getCategory());
+        }
+        return points;
+    }
+
+    private static double[] winProbabilities(InterclubDiscipline discipline, int[][] candidates,
+                                             List<RosterPlayer> players, TournamentEntrant opponent,
+                                             WinProbabilityModel model) {
+        double[] probabilities = new double[candidates.length];
+        for (int c = 0; c < candidates.length; c++) {
+            probabilities[c] = opponent == null
+                ? 1.0
+                : model.winProbability(entrant(discipline, candidates[c], players), opponent);
+        }
+        return probabilities;
+    }
+
+    /**
+     * The candidate as one entrant; a pair plays at the average points of both partners.
+     */
+    private static TournamentEntrant entrant(InterclubDiscipline discipline, int[] option,
+                                             List<RosterPlayer> players) {
+        RosterPlayer first = players.get(option[0]);
+        if (option.length == 1) {
+            return new TournamentEntrant(first.getPlayerId(), first.getName(),
+                first.getPoints(discipline.getCategory()));
+        }
+        RosterPlayer second = players.get(option[1]);
+        return new TournamentEntrant(first.getPlayerId(), first.getName() + " / " + second.getName(),
+            strength(discipline, option, players) / 2);
+    }
+}
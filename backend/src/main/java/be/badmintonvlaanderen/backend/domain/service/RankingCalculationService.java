@@ -0,0 +1,407 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.RankingGroupProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingHistory;
+import be.badmintonvlaanderen.backend.domain.model.RankingPrefixMemo;
+import be.badmintonvlaanderen.backend.domain.model.RankingProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingTimelineEntry;
+import be.badmintonvlaanderen.backend.domain.model.RankingWindow;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioBatch;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Calculates ranking points and positions from a player's results.
+ * <p>
+ * The hot path works on primitive encodings ({@link RankingHistory}, {@link ScenarioBatch})
+ * and keeps the best counted results in a per-thread min-heap, so scoring a batch of
+ * scenarios allocates nothing per match or per scenario. The service is stateless apart
+ * from that scratch space and is safe to share between threads.
+ */
+public class RankingCalculationService {
+
+    private final RankingRules rules;
+    private final ThreadLocal<int[]> bestResults;
+
+    public RankingCalculationService(RankingRules rules) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.bestResults = ThreadLocal.withInitial(() -> new int[rules.getCountedResults()]);
+    }
+
+    public RankingRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Ranking points on the given day, counting only the existing history.
+     */
+    public int calculatePoints(RankingHistory history, int evaluationEpochDay) {
+        return calculatePoints(history, null, 0, evaluationEpochDay);
+    }
+
+    /**
+     * Ranking points on the given day, counting the existing history plus the matches of one
+     * scenario of the batch that were played on or before that day.
+     */
+    public int calculatePoints(RankingHistory history, ScenarioBatch batch, int scenario, int evaluationEpochDay) {
+        int[] heap = bestResults.get();
+        int size = 0;
+        int windowStart = evaluationEpochDay - rules.getWindowDays() + 1;
+
+        for (int i = 0; i < history.size(); i++) {
+            int day = history.epochDay(i);
+            if (day >= windowStart && day <= evaluationEpochDay) {
+                size = offer(heap, size, history.points(i));
+            }
+        }
+        if (batch != null) {
+            for (int m = batch.start(scenario), end = batch.end(scenario); m < end; m++) {
+                int day = batch.epochDay(m);
+                if (day >= windowStart && day <= evaluationEpochDay) {
+                    size = offer(heap, size, rules.points(batch.level(m), batch.stage(m), batch.result(m)));
+                }
+            }
+        }
+
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += heap[i];
+        }
+        return total;
+    }
+
+    /**
+     * Scores every scenario of the batch on the given day.
+     *
+     * @param pointsOut receives the projected points, one slot per scenario
+     */
+    public void scoreBatch(RankingHistory history, ScenarioBatch batch, int evaluationEpochDay, int[] pointsOut) {
+        checkCapacity(batch, pointsOut);
+        for (int s = 0; s < batch.size(); s++) {
+            pointsOut[s] = calculatePoints(history, batch, s, evaluationEpochDay);
+        }
+    }
+
+    /**
+     * Scores every scenario of the batch and resolves the resulting positions in the category.
+     *
+     * @param ownPoints    the points the player is listed with in {@code ranking}, or
+     *                     {@link CategoryRanking#UNRANKED}
+     * @param pointsOut    receives the projected points, one slot per scenario
+     * @param positionsOut receives the projected positions, one slot per scenario
+     */
+    public void rankBatch(RankingHistory history, ScenarioBatch batch, int evaluationEpochDay,
+                          CategoryRanking ranking, int ownPoints, int[] pointsOut, int[] positionsOut) {
+        rankBatch(history, batch, 0, batch.size(), evaluationEpochDay, ranking, ownPoints, pointsOut, positionsOut);
+    }
+
+    /**
+     * Like {@link #rankBatch(RankingHistory, ScenarioBatch, int, CategoryRanking, int, int[], int[])}
+     * for the scenarios from {@code fromScenario} (inclusive) to {@code toScenario} (exclusive) only,
+     * so a long batch can be scored in slices. Output slots outside the range are left untouched.
+     */
+    public void rankBatch(RankingHistory history, ScenarioBatch batch, int fromScenario, int toScenario,
+                          int evaluationEpochDay, CategoryRanking ranking, int ownPoints,
+                          int[] pointsOut, int[] positionsOut) {
+        if (fromScenario < 0 || fromScenario > toScenario || toScenario > batch.size()) {
+            throw new IllegalArgumentException(
+                "Scenario range [" + fromScenario + ", " + toScenario + ") is outside the batch of " + batch.size());
+        }
+        checkCapacity(batch, pointsOut);
+        checkCapacity(batch, positionsOut);
+        for (int s = fromScenario; s < toScenario; s++) {
+            pointsOut[s] = calculatePoints(history, batch, s, evaluationEpochDay);
+            positionsOut[s] = ranking.positionFor(pointsOut[s], ownPoints);
+        }
+    }
+
+    /**
+     * Starts a memo of best-results states for scoring many scenarios against one history on
+     * one day; see {@link RankingPrefixMemo}.
+     *
+     * @param budget counted results the memo may hold in total
+     */
+    public RankingPrefixMemo prefixMemo(RankingHistory history, int evaluationEpochDay, long budget) {
+        int[] heap = bestResults.get();
+        int size = 0;
+        int windowStart = evaluationEpochDay - rules.getWindowDays() + 1;
+        for (int i = 0; i < history.size(); i++) {
+            int day = history.epochDay(i);
+            if (day >= windowStart && day <= evaluationEpochDay) {
+                size = offer(heap, size, history.points(i));
+            }
+        }
+        int[] root = new int[size];
+        for (int i = 0; i < size; i++) {
+            root[i] = heap[i];
+        }
+        return new RankingPrefixMemo(evaluationEpochDay, root, budget);
+    }
+
+    /**
+     * Like {@link #rankBatch(RankingHistory, ScenarioBatch, int, int, int, CategoryRanking, int, int[], int[])}
+     * for the history and day of the memo, resuming every scenario from the longest prefix the
+     * memo already holds and recording the states of the rest.
+     */
+    public void rankBatch(ScenarioBatch batch, int fromScenario, int toScenario, RankingPrefixMemo memo,
+                          CategoryRanking ranking, int ownPoints, int[] pointsOut, int[] positionsOut) {
+        if (fromScenario < 0 || fromScenario > toScenario || toScenario > batch.size()) {
+            throw new IllegalArgumentException(
+                "Scenario range [" + fromScenario + ", " + toScenario + ") is outside the batch of " + batch.size());
+        }
+        checkCapacity(batch, pointsOut);
+        checkCapacity(batch, positionsOut);
+        for (int s = fromScenario; s < toScenario; s++) {
+            pointsOut[s] = calculatePoints(batch, s, memo);
+            positionsOut[s] = ranking.positionFor(pointsOut[s], ownPoints);
+        }
+    }
+
+    private int calculatePoints(ScenarioBatch batch, int scenario, RankingPrefixMemo memo) {
+        int evaluationEpochDay = memo.getEvaluationEpochDay();
+        int windowStart = evaluationEpochDay - rules.getWindowDays() + 1;
+        int capacity = rules.getCountedResults();
+        int node = RankingPrefixMemo.ROOT;
+        int[] state = memo.state(node);
+        int[] heap = null;
+        int size = state.length;
+
+        for (int m = batch.start(scenario), end = batch.end(scenario); m < end; m++) {
+            int day = batch.epochDay(m);
+            if (day < windowStart || day > evaluationEpochDay) {
+                continue;
+            }
+            int points = rules.points(batch.level(m), batch.stage(m), batch.result(m));
+            int minimum = heap == null ? (size == 0 ? 0 : state[0]) : heap[0];
+            if (points <= 0 || (size == capacity && points <= minimum)) {
+                continue;
+            }
+            if (heap == null) {
+                int child = memo.child(node, points);
+                if (child >= 0) {
+                    node = child;
+                    state = memo.state(child);
+                    size = state.length;
+                    continue;
+                }
+                heap = bestResults.get();
+                for (int i = 0; i < size; i++) {
+                    heap[i] = state[i];
+                }
+            }
+            size = offer(heap, size, points);
+            if (node >= 0) {
+                node = memo.addChild(node, points, heap, size);
+            }
+        }
+
+        int[] counted = heap == null ? state : heap;
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += counted[i];
+        }
+        return total;
+    }
+
+    /**
+     * A window over the history and the matches of one scenario of the batch, for following the
+     * player's points as the day moves forward; see {@link RankingWindow}.
+     */
+    public RankingWindow rankingWindow(RankingHistory history, ScenarioBatch batch, int scenario) {
+        int historySize = history.size();
+        int start = batch.start(scenario);
+        // day in the high half, points in the low half: sorting the keys orders the results by day
+        long[] results = new long[historySize + batch.end(scenario) - start];
+        for (int i = 0; i < historySize; i++) {
+            results[i] = (long) history.epochDay(i) << 32 | history.points(i) & 0xFFFFFFFFL;
+        }
+        for (int m = start; m < batch.end(scenario); m++) {
+            int points = rules.points(batch.level(m), batch.stage(m), batch.result(m));
+            results[historySize + m - start] = (long) batch.epochDay(m) << 32 | points & 0xFFFFFFFFL;
+        }
+        Arrays.sort(results);
+        int[] epochDays = new int[results.length];
+        int[] points = new int[results.length];
+        for (int i = 0; i < results.length; i++) {
+            epochDays[i] = (int) (results[i] >> 32);
+            points[i] = (int) results[i];
+        }
+        return new RankingWindow(rules.getWindowDays(), rules.getCountedResults(), epochDays, points);
+    }
+
+    /**
+     * Batches scenario lists for scoring at the end of the timeframe, keeping of every list only
+     * the matches between today and that end, as {@link #projectRanking} does.
+     */
+    public ScenarioBatch scenarioBatch(List<List<MatchScenario>> scenarios, LocalDate today,
+                                       TimeframePeriod timeframe) {
+        LocalDate endDate = timeframe.endDate(today);
+        return ScenarioBatch.of(scenarios.stream()
+            .map(scenario -> inTimeframe(scenario, today, endDate))
+            .toList());
+    }
+
+    /**
+     * Projects the ranking of a player over the given timeframe, producing a timeline entry
+     * for every simulated match and one for the end of the timeframe. Matches outside the
+     * timeframe are ignored. A {@link RankingWindow} carries the points from one entry to the
+     * next, so each entry only adds and expires the results in between.
+     */
+    public RankingProjection projectRanking(RankingHistory history, List<MatchScenario> scenarios,
+                                            LocalDate today, TimeframePeriod timeframe, CategoryRanking ranking) {
+        LocalDate endDate = timeframe.endDate(today);
+        int endDay = (int) endDate.toEpochDay();
+        List<MatchScenario> ordered = inTimeframe(scenarios, today, endDate);
+        ScenarioBatch batch = ScenarioBatch.single(ordered);
+
+        int currentPoints = calculatePoints(history, (int) today.toEpochDay());
+        int currentRanking = ranking.positionFor(currentPoints, currentPoints);
+
+        // the matches are in date order, so one window follows the points from match to match
+        RankingWindow window = rankingWindow(history, batch, 0);
+        List<RankingTimelineEntry> timeline = new ArrayList<>(ordered.size() + 1);
+        int previousRanking = currentRanking;
+        for (MatchScenario match : ordered) {
+            int points = window.advanceTo((int) match.getMatchDate().toEpochDay());
+            int position = ranking.positionFor(points, currentPoints);
+            timeline.add(new RankingTimelineEntry(match.getMatchDate(), position, points,
+                position - previousRanking, describe(match)));
+            previousRanking = position;
+        }
+
+        int projectedPoints = window.advanceTo(endDay);
+        int projectedRanking = ranking.positionFor(projectedPoints, currentPoints);
+        timeline.add(new RankingTimelineEntry(endDate, projectedRanking, projectedPoints,
+            projectedRanking - previousRanking, "End of timeframe"));
+
+        return new RankingProjection(currentRanking, projectedRanking, currentPoints, projectedPoints, timeline);
+    }
+
+    /**
+     * Projects a group of players who all play the same assumed results, in one pass.
+     * <p>
+     * The scenarios are encoded once and scored against every history. Positions are then
+     * resolved for the group as a whole rather than per player: a player's projected position
+     * counts the players outside the group still above the projected points, plus the members
+     * of the group projected above them. Both counts are binary searches over two sorted arrays
+     * built once, the listed points of the group and its projected points.
+     *
+     * @param histories the results of each player, in the order of {@code playerIds}
+     * @param ranking   the category ranking the members are listed in with their current points
+     */
+    public RankingGroupProjection projectGroup(long[] playerIds, List<RankingHistory> histories,
+                                               List<MatchScenario> scenarios, LocalDate today,
+                                               TimeframePeriod timeframe, CategoryRanking ranking) {
+        int n = playerIds.length;
+        if (histories.size() != n) {
+            throw new IllegalArgumentException("Expected a history for every player");
+        }
+        LocalDate endDate = timeframe.endDate(today);
+        ScenarioBatch batch = ScenarioBatch.single(inTimeframe(scenarios, today, endDate));
+        int todayEpochDay = (int) today.toEpochDay();
+        int endDay = (int) endDate.toEpochDay();
+
+        int[] currentPoints = new int[n];
+        int[] currentPositions = new int[n];
+        int[] projectedPoints = new int[n];
+        int[] listedPoints = new int[n];
+        int listed = 0;
+        for (int i = 0; i < n; i++) {
+            RankingHistory history = histories.get(i);
+            currentPoints[i] = calculatePoints(history, todayEpochDay);
+            currentPositions[i] = ranking.positionFor(currentPoints[i], currentPoints[i]);
+            projectedPoints[i] = calculatePoints(history, batch, 0, endDay);
+            if (currentPoints[i] > 0) {
+                listedPoints[listed++] = currentPoints[i];
+            }
+        }
+
+        CategoryRanking listedGroup = new CategoryRanking(ranking.getCategory(), Arrays.copyOf(listedPoints, listed));
+        CategoryRanking projectedGroup = new CategoryRanking(ranking.getCategory(), projectedPoints);
+        int[] projectedPositions = new int[n];
+        for (int i = 0; i < n; i++) {
+            int points = projectedPoints[i];
+            int othersAbove = Math.max(0, ranking.countAbove(points) - listedGroup.countAbove(points));
+            projectedPositions[i] = othersAbove + projectedGroup.countAbove(points) + 1;
+        }
+        return new RankingGroupProjection(playerIds, currentPoints, currentPositions, projectedPoints,
+            projectedPositions);
+    }
+
+    private static List<MatchScenario> inTimeframe(List<MatchScenario> scenarios, LocalDate today,
+                                                   LocalDate endDate) {
+        return scenarios.stream()
+            .filter(match -> !match.getMatchDate().isBefore(today) && !match.getMatchDate().isAfter(endDate))
+            .sorted(Comparator.comparing(MatchScenario::getMatchDate))
+            .toList();
+    }
+
+    private static String describe(MatchScenario match) {
+        String result = match.getExpectedResult() == MatchResult.WIN ? "Win" : "Loss";
+        String opponent = match.getOpponentId() == null ? "unknown opponent" : "player #" + match.getOpponentId();
+        return result + " vs " + opponent + " (" + match.getLevel().name().toLowerCase() + ")";
+    }
+
+    private static void checkCapacity(ScenarioBatch batch, int[] out) {
+        if (out.length < batch.size()) {
+            throw new IllegalArgumentException(
+                "Output array holds " + out.length + " values but the batch has " + batch.size() + " scenarios");
+        }
+    }
+
+    /**
+     * Adds a result to the fixed-size min-heap of best results, evicting the weakest one when full.
+     */
+    private static int offer(int[] heap, int size, int points) {
+        if (points <= 0) {
+            return size;
+        }
+        if (size < heap.length) {
+            int i = size;
+            heap[i] = points;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] <= heap[i]) {
+                    break;
+                }
+                swap(heap, parent, i);
+                i = parent;
+            }
+            return size + 1;
+        }
+        if (points > heap[0]) {
+            heap[0] = points;
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int right = left + 1;
+                int smallest = right < size && heap[right] < heap[left] ? right : left;
+                if (heap[i] <= heap[smallest]) {
+                    break;
+                }
+                swap(heap, i, smallest);
+                i = smallest;
+            }
+        }
+        return size;
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+}
@@ -0,0 +1,227 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.DivisionOdds;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.LeagueTable;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Monte Carlo simulation of the rest of the season of many divisions at once.
+ * <p>
+ * Every division is an independent fork-join task with its own {@link SplittableRandom}, seeded
+ * from the root seed and the competition ID, so its odds do not depend on the pool or on the
+ * other divisions asked for. Divisions are reported to the progress as they finish, in
+ * completion order; the result lists them in the order given.
+ * <p>
+ * Teams have no published strength, so each team is rated by the individual matches it won and
+ * lost so far, {@code ln((won + k) / (lost + k))} with half an encounter as prior {@code k}. The
+ * probability that the home team wins a match is logistic in the rating difference, and the
+ * distribution of matches won per encounter is precomputed as a binomial table, so simulating a
+ * fixture is one random draw. Each iteration adds the drawn results to the division's
+ * {@link LeagueTable}, ranks it with the tie-breakers and takes the results back again.
+ * <p>
+ * Teams that share a position split the places they cover: two teams level on every criterion
+ * at the top each count half a championship.
+ */
+public class SeasonSimulationService {
+
+    /**
+     * Matches per encounter when the division has no played fixture to count them from.
+     */
+    static final int DEFAULT_MATCHES = 8;
+
+    private final CompetitionRules rules;
+    private final ForkJoinPool pool;
+
+    public SeasonSimulationService(CompetitionRules rules, ForkJoinPool pool) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    public SeasonOdds simulate(List<Competition> divisions, int promotedTeams, int relegatedTeams,
+                               int iterations, long seed) {
+        return simulate(divisions, promotedTeams, relegatedTeams, iterations, seed, SimulationProgress.none());
+    }
+
+    /**
+     * @param promotedTeams  places at the top of every division that promote
+     * @param relegatedTeams places at the bottom of every division that relegate
+     * @throws SimulationCancelledException if the progress asks to stop before every division is done
+     */
+    public SeasonOdds simulate(List<Competition> divisions, int promotedTeams, int relegatedTeams,
+                               int iterations, long seed, SimulationProgress<? super DivisionOdds> progress) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+        if (promotedTeams < 0 || relegatedTeams < 0) {
+            throw new IllegalArgumentException("promoted and relegated teams must not be negative");
+        }
+        BlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+        List<ForkJoinTask<DivisionOdds>> tasks = new ArrayList<>(divisions.size());
+        for (int i = 0; i < divisions.size(); i++) {
+            int index = i;
+            Competition division = divisions.get(i);
+            tasks.add(pool.submit(() -> {
+                try {
+                    return simulateDivision(division, promotedTeams, relegatedTeams, iterations,
+                        seed ^ division.getId() * 0x9E3779B97F4A7C15L);
+                } finally {
+                    finished.add(index);
+                }
+            }));
+        }
+
+        DivisionOdds[] odds = new DivisionOdds[divisions.size()];
+        for (int done = 1; done <= divisions.size(); done++) {
+            int index;
+            try {
+                index = finished.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel(tasks);
+                throw new SimulationCancelledException();
+            }
+            try {
+                odds[index] = tasks.get(index).join();
+            } catch (RuntimeException e) {
+                cancel(tasks);
+                throw e;
+            }
+            progress.report(done, divisions.size(), odds[index]);
+            if (progress.isCancelled()) {
+                cancel(tasks);
+                throw new SimulationCancelledException();
+            }
+        }
+        return new SeasonOdds(iterations, seed, promotedTeams, relegatedTeams, List.of(odds));
+    }
+
+    private static void cancel(List<ForkJoinTask<DivisionOdds>> tasks) {
+        for (ForkJoinTask<DivisionOdds> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    private DivisionOdds simulateDivision(Competition division, int promotedTeams, int relegatedTeams,
+                                          int iterations, long seed) {
+        LeagueTable table = LeagueTable.of(division, rules);
+        int n = table.teamCount();
+        int matches = matchesPerEncounter(division);
+        List<Fixture> remaining = division.getRemainingFixtures();
+        int fixtureCount = remaining.size();
+        int[] home = new int[fixtureCount];
+        int[] away = new int[fixtureCount];
+        int[] homeMatches = new int[fixtureCount];
+        double[] distribution = new double[fixtureCount * (matches + 1)];
+        double[] ratings = ratings(table, matches);
+        for (int f = 0; f < fixtureCount; f++) {
+            home[f] = table.indexOf(remaining.get(f).getHomeTeamId());
+            away[f] = table.indexOf(remaining.get(f).getAwayTeamId());
+            double p = 1.0 / (1.0 + Math.exp(ratings[away[f]] - ratings[home[f]]));
+            cumulativeBinomial(matches, p, distribution, f * (matches + 1));
+        }
+
+        double[] championship = new double[n];
+        double[] promotion = new double[n];
+        double[] relegation = new double[n];
+        long[] points = new long[n];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int f = 0; f < fixtureCount; f++) {
+                int won = draw(distribution, f * (matches + 1), matches, random.nextDouble());
+                homeMatches[f] = won;
+                table.add(home[f], away[f], won, matches - won, 0, 0);
+            }
+            int[] order = table.rank();
+            for (int start = 0; start < n; ) {
+                int end = start + 1;
+                while (end < n && table.positionAt(end) == table.positionAt(start)) {
+                    end++;
+                }
+                double share = 1.0 / (end - start);
+                double champion = start == 0 ? share : 0;
+                double promoted = Math.max(0, Math.min(end, promotedTeams) - start) * share;
+                double relegated = Math.max(0, end - Math.max(start, n - relegatedTeams)) * share;
+                for (int place = start; place < end; place++) {
+                    championship[order[place]] += champion;
+                    promotion[order[place]] += promoted;
+                    relegation[order[place]] += relegated;
+                }
+                start = end;
+            }
+            for (int team = 0; team < n; team++) {
+                points[team] += table.getPoints(team);
+            }
+            for (int f = fixtureCount - 1; f >= 0; f--) {
+                table.remove(home[f], away[f], homeMatches[f], matches - homeMatches[f], 0, 0);
+            }
+        }
+
+        double[] expectedPoints = new double[n];
+        for (int team = 0; team < n; team++) {
+            championship[team] /= iterations;
+            promotion[team] /= iterations;
+            relegation[team] /= iterations;
+            expectedPoints[team] = (double) points[team] / iterations;
+        }
+        return new DivisionOdds(division.getId(), division.getName(), division.getTeams(), iterations,
+            championship, promotion, relegation, expectedPoints);
+    }
+
+    private static int matchesPerEncounter(Competition division) {
+        for (Fixture fixture : division.getFixtures()) {
+            if (fixture.isPlayed()) {
+                int matches = fixture.getResult().getHomeMatches() + fixture.getResult().getAwayMatches();
+                if (matches > 0) {
+                    return matches;
+                }
+            }
+        }
+        return DEFAULT_MATCHES;
+    }
+
+    private static double[] ratings(LeagueTable table, int matches) {
+        double prior = matches / 2.0;
+        double[] ratings = new double[table.teamCount()];
+        for (int team = 0; team < ratings.length; team++) {
+            ratings[team] = Math.log((table.getMatchesFor(team) + prior) / (table.getMatchesAgainst(team) + prior));
+        }
+        return ratings;
+    }
+
+    /**
+     * Writes {@code P(X <= k)} for {@code X ~ Binomial(trials, p)} and {@code k = 0..trials}.
+     * The ratings are finite, so {@code p} is strictly between 0 and 1.
+     */
+    private static void cumulativeBinomial(int trials, double p, double[] into, int offset) {
+        double probability = Math.pow(1 - p, trials);
+        double cumulative = 0;
+        for (int k = 0; k <= trials; k++) {
+            cumulative += probability;
+            into[offset + k] = cumulative;
+            probability = probability * (trials - k) / (k + 1) * p / (1 - p);
+        }
+        into[offset + trials] = 1.0;
+    }
+
+    private static int draw(double[] cumulative, int offset, int trials, double u) {
+        int k = 0;
+        while (k < trials && u >= cumulative[offset + k]) {
+            k++;
+        }
+        return k;
+    }
+}
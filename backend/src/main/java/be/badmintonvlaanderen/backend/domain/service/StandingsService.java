@@ -0,0 +1,42 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.LeagueTable;
+import be.badmintonvlaanderen.backend.domain.model.Standing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the table of a division from its played fixtures, ordered by the federation
+ * tie-break chain of {@link LeagueTable}.
+ */
+public class StandingsService {
+
+    private final CompetitionRules rules;
+
+    public StandingsService(CompetitionRules rules) {
+        this.rules = Objects.requireNonNull(rules, "rules");
+    }
+
+    /**
+     * @throws IllegalArgumentException if a played fixture involves a team outside the division
+     */
+    public List<Standing> calculate(Competition competition) {
+        LeagueTable table = LeagueTable.of(competition, rules);
+        int[] order = table.rank();
+        List<CompetitionTeam> teams = competition.getTeams();
+        List<Standing> standings = new ArrayList<>(order.length);
+        for (int place = 0; place < order.length; place++) {
+            int team = order[place];
+            standings.add(new Standing(teams.get(team), table.positionAt(place), table.getPlayed(team),
+                table.getWon(team), table.getDrawn(team), table.getLost(team), table.getPoints(team),
+                table.getMatchesFor(team), table.getMatchesAgainst(team),
+                table.getGamesFor(team), table.getGamesAgainst(team)));
+        }
+        return standings;
+    }
+}
@@ -0,0 +1,119 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.TournamentBracket;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.TournamentPrediction;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Monte Carlo simulation of single-elimination draws.
+ * <p>
+ * Iterations are cut into fixed-size chunks that run as independent fork-join tasks. Every
+ * chunk draws from its own {@link SplittableRandom}, seeded from the root seed in chunk order,
+ * and counts into its own accumulator; the accumulators are summed once all chunks are done.
+ * Because neither the chunk boundaries nor their seeds depend on the pool, a given seed yields
+ * the same prediction whatever the parallelism. Win probabilities are precomputed into a
+ * matrix so the inner loop is a table lookup and one random draw per match.
+ */
+public class TournamentSimulationService {
+
+    static final int CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+
+    public TournamentSimulationService(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    public TournamentPrediction simulate(TournamentBracket bracket, WinProbabilityModel model,
+                                         int iterations, long seed) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("iterations must be positive");
+        }
+        List<TournamentEntrant> entrants = bracket.getEntrants();
+        int entrantCount = entrants.size();
+        int roundCount = bracket.getRoundCount();
+        double[] winMatrix = winMatrix(entrants, model);
+        int[] slots = new int[bracket.getDrawSize()];
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = bracket.entrantAt(slot);
+        }
+
+        int chunkCount = (iterations + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int chunkIterations = Math.min(CHUNK_SIZE, iterations - chunk * CHUNK_SIZE);
+            long chunkSeed = root.nextLong();
+            tasks.add(pool.submit(() -> simulateChunk(
+                slots, winMatrix, entrantCount, roundCount, chunkIterations, chunkSeed)));
+        }
+
+        long[] reached = new long[entrantCount * (roundCount + 1)];
+        for (ForkJoinTask<long[]> task : tasks) {
+            long[] partial = task.join();
+            for (int i = 0; i < reached.length; i++) {
+                reached[i] += partial[i];
+            }
+        }
+        for (int entrant = 0; entrant < entrantCount; entrant++) {
+            reached[entrant * (roundCount + 1)] = iterations;
+        }
+        return new TournamentPrediction(entrants, roundCount, iterations, seed, reached);
+    }
+
+    private static double[] winMatrix(List<TournamentEntrant> entrants, WinProbabilityModel model) {
+        int n = entrants.size();
+        double[] matrix = new double[n * n];
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                double p = model.winProbability(entrants.get(a), entrants.get(b));
+                matrix[a * n + b] = p;
+                matrix[b * n + a] = 1.0 - p;
+            }
+        }
+        return matrix;
+    }
+
+    private static long[] simulateChunk(int[] slots, double[] winMatrix, int entrantCount, int roundCount,
+                                        int iterations, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int stride = roundCount + 1;
+        long[] reached = new long[entrantCount * stride];
+        int[] draw = new int[slots.length];
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int slot = 0; slot < slots.length; slot++) {
+                draw[slot] = slots[slot];
+            }
+            int remaining = slots.length;
+            for (int round = 1; round <= roundCount; round++) {
+                remaining >>>= 1;
+                for (int match = 0; match < remaining; match++) {
+                    int a = draw[2 * match];
+                    int b = draw[2 * match + 1];
+                    int winner;
+                    if (a < 0) {
+                        winner = b;
+                    } else if (b < 0) {
+                        winner = a;
+                    } else {
+                        winner = random.nextDouble() < winMatrix[a * entrantCount + b] ? a : b;
+                    }
+                    draw[match] = winner;
+                    if (winner >= 0) {
+                        reached[winner * stride + round]++;
+                    }
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,109 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.cache;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Read-through cache in front of the portal gateway.
+ * <p>
+ * Every resource has its own size-bounded Caffeine cache (W-TinyLFU eviction). Loads run
+ * asynchronously on the portal executor and are shared: concurrent misses for the same key wait
+ * on a single upstream fetch. Entries past their refresh age are served stale while a background
+ * reload replaces them; a failed reload keeps the stale entry until it expires. A failed load is
+ * not cached, so the next read retries. Unknown players, tournaments and competitions are cached
+ * as empty results like any other response.
+ */
+public class CachingBadmintonVlaanderenAdapter implements BadmintonVlaanderenGateway {
+
+    private final AsyncLoadingCache<Long, Optional<PlayerData>> players;
+    private final AsyncLoadingCache<RankingCategory, CategoryRanking> rankings;
+    private final AsyncLoadingCache<Long, Optional<Tournament>> tournaments;
+    private final AsyncLoadingCache<Long, Optional<Competition>> competitions;
+
+    public CachingBadmintonVlaanderenAdapter(BadmintonVlaanderenGateway portal, PortalCacheProperties properties,
+                                             Executor portalExecutor) {
+        this(portal, properties, portalExecutor, Ticker.systemTicker());
+    }
+
+    CachingBadmintonVlaanderenAdapter(BadmintonVlaanderenGateway portal, PortalCacheProperties properties,
+                                      Executor portalExecutor, Ticker ticker) {
+        this.players = build(properties.players(), portalExecutor, ticker, portal::fetchPlayerData);
+        this.rankings = build(properties.rankings(), portalExecutor, ticker, portal::fetchCategoryRanking);
+        this.tournaments = build(properties.tournaments(), portalExecutor, ticker, portal::fetchTournament);
+        this.competitions = build(properties.competitions(), portalExecutor, ticker, portal::fetchCompetition);
+    }
+
+    private static <K, V> AsyncLoadingCache<K, V> build(PortalCacheProperties.Spec spec, Executor executor,
+                                                        Ticker ticker, Function<K, V> loader) {
+        return Caffeine.newBuilder()
+            .maximumSize(spec.maximumSize())
+            .refreshAfterWrite(spec.refreshAfterWrite())
+            .expireAfterWrite(spec.expireAfterWrite())
+            .executor(executor)
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync(loader::apply);
+    }
+
+    @Override
+    public Optional<PlayerData> fetchPlayerData(Long playerId) {
+        return join(players.get(playerId));
+    }
+
+    @Override
+    public CategoryRanking fetchCategoryRanking(RankingCategory category) {
+        return join(rankings.get(category));
+    }
+
+    @Override
+    public Optional<Tournament> fetchTournament(Long tournamentId) {
+        return join(tournaments.get(tournamentId));
+    }
+
+    @Override
+    public Optional<Competition> fetchCompetition(Long competitionId) {
+        return join(competitions.get(competitionId));
+    }
+
+    /**
+     * The caches by resource name, for statistics and metrics.
+     */
+    public Map<String, Cache<?, ?>> caches() {
+        Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+        caches.put("players", players.synchronous());
+        caches.put("rankings", rankings.synchronous());
+        caches.put("tournaments", tournaments.synchronous());
+        caches.put("competitions", competitions.synchronous());
+        return caches;
+    }
+
+    /**
+     * Waits for a load and rethrows the gateway's own exception rather than its wrapper.
+     */
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
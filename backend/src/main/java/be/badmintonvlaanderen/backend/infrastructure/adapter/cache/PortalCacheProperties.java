@@ -0,0 +1,35 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cache settings per portal resource.
+ * <p>
+ * An entry older than {@code refreshAfterWrite} is still served while a reload runs in the
+ * background; an entry older than {@code expireAfterWrite} is dropped and the next read waits
+ * for the portal.
+ */
+@ConfigurationProperties(prefix = "badminton-vlaanderen.cache")
+public record PortalCacheProperties(
+    boolean enabled,
+    Spec players,
+    Spec rankings,
+    Spec tournaments,
+    Spec competitions
+) {
+
+    public record Spec(long maximumSize, Duration refreshAfterWrite, Duration expireAfterWrite) {
+
+        public Spec {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            if (refreshAfterWrite == null || expireAfterWrite == null
+                || refreshAfterWrite.compareTo(expireAfterWrite) >= 0) {
+                throw new IllegalArgumentException("refreshAfterWrite must be shorter than expireAfterWrite");
+            }
+        }
+    }
+}
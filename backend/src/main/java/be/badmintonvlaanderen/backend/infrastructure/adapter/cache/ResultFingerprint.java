@@ -0,0 +1,93 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.cache;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.MatchScenarioDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingBatchSimulationRequest;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingSimulationRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Canonical 64-bit fingerprints of simulation requests.
+ * <p>
+ * Fields are hashed one by one in a fixed order, enums by name and defaults filled in, so the
+ * fingerprint depends only on what the request asks for: not on JSON field order, whitespace
+ * or the JVM that computed it. Scenarios are a sequence; their order is part of the request.
+ */
+public final class ResultFingerprint {
+
+    private static final long SEED = 0xbb67ae8584caa73bL;
+    private static final long MULTIPLIER = 0x9e3779b97f4a7c15L;
+    private static final long NULL = 0x5bd1e9955bd1e995L;
+
+    private ResultFingerprint() {
+    }
+
+    public static long of(RankingSimulationRequest request) {
+        long hash = SEED;
+        hash = mix(hash, request.playerId());
+        hash = mix(hash, request.categoryOrDefault().name());
+        hash = mix(hash, request.timeframe() == null ? null : request.timeframe().name());
+        return finish(mixScenarios(hash, request.scenarios()));
+    }
+
+    public static long of(RankingBatchSimulationRequest request) {
+        long hash = SEED;
+        hash = mix(hash, request.clubNameOrNull());
+        hash = mix(hash, request.categoryOrDefault().name());
+        hash = mix(hash, request.timeframe() == null ? null : request.timeframe().name());
+        return finish(mixScenarios(hash, request.scenarios()));
+    }
+
+    public static long ofPrediction(long tournamentId, int iterations, long seed) {
+        return finish(mix(mix(mix(SEED, tournamentId), iterations), seed));
+    }
+
+    static long combine(long fingerprint, String useCase, long dataVersion, LocalDate day) {
+        return finish(mix(mix(mix(mix(SEED, useCase), fingerprint), dataVersion), day));
+    }
+
+    private static long mixScenarios(long hash, List<MatchScenarioDto> scenarios) {
+        hash = mix(hash, scenarios.size());
+        for (MatchScenarioDto scenario : scenarios) {
+            hash = mix(hash, scenario.opponentId());
+            hash = mix(hash, scenario.expectedResult() == null ? null : scenario.expectedResult().name());
+            hash = mix(hash, scenario.tournamentLevel() == null ? null : scenario.tournamentLevel().name());
+            hash = mix(hash, scenario.matchDate());
+            hash = mix(hash, scenario.drawSize() == null ? null : scenario.drawSize().longValue());
+            hash = mix(hash, scenario.round() == null ? null : scenario.round().longValue());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * MULTIPLIER;
+    }
+
+    private static long mix(long hash, Long value) {
+        return value == null ? mix(hash, NULL) : mix(hash, value.longValue());
+    }
+
+    private static long mix(long hash, LocalDate date) {
+        return date == null ? mix(hash, NULL) : mix(hash, date.toEpochDay());
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, NULL);
+        }
+        hash = mix(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = mix(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
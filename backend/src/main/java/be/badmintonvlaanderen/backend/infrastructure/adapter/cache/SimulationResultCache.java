@@ -0,0 +1,92 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.cache;
+
+import be.badmintonvlaanderen.backend.application.service.PortalSyncService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Answers identical simulation requests from memory.
+ * <p>
+ * A result is keyed by the request, the data version of the portal synchronisation and the day
+ * (simulations look back from today), so a sync that changes anything makes every older result
+ * unreachable; the first request that sees the new version also drops them. Concurrent requests
+ * for the same key wait for one computation. {@code expireAfterWrite} bounds how long a result
+ * is served when the portal changes without a sync noticing.
+ */
+@Component
+public class SimulationResultCache {
+
+    private final LongSupplier dataVersion;
+    private final Clock clock;
+    private final Cache<ResultKey, Object> results;
+    private final AtomicLong latestVersion = new AtomicLong(-1);
+
+    @Autowired
+    public SimulationResultCache(PortalSyncService portalSync, Clock clock,
+                                 @Value("${badminton-vlaanderen.result-cache.maximum-size:2000}") long maximumSize,
+                                 @Value("${badminton-vlaanderen.result-cache.expire-after-write:30m}")
+                                 Duration expireAfterWrite) {
+        this(portalSync::getDataVersion, clock, maximumSize, expireAfterWrite);
+    }
+
+    SimulationResultCache(LongSupplier dataVersion, Clock clock, long maximumSize, Duration expireAfterWrite) {
+        this.dataVersion = dataVersion;
+        this.clock = clock;
+        this.results = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * The key of a request as of now.
+     *
+     * @param request     compared with {@code equals}, so fingerprint collisions never mix results
+     * @param fingerprint the request's {@link ResultFingerprint}
+     */
+    public ResultKey key(String useCase, Object request, long fingerprint) {
+        return new ResultKey(useCase, request, fingerprint, dataVersion.getAsLong(), LocalDate.now(clock));
+    }
+
+    /**
+     * The cached result of the key, computing it first if nobody did yet.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ResultKey key, Supplier<T> compute) {
+        long seen = latestVersion.getAndAccumulate(key.dataVersion(), Math::max);
+        if (key.dataVersion() > seen) {
+            results.invalidateAll();
+        }
+        return (T) results.get(key, ignored -> compute.get());
+    }
+
+    /**
+     * The cache itself, for statistics and metrics.
+     */
+    public Cache<?, ?> cache() {
+        return results;
+    }
+
+    public record ResultKey(String useCase, Object request, long fingerprint, long dataVersion, LocalDate day) {
+
+        /**
+         * A strong entity tag for the response: equal for equal requests on the same data and
+         * day, on every instance and across restarts.
+         */
+        public String etag() {
+            long hash = ResultFingerprint.combine(fingerprint, useCase, dataVersion, day);
+            return "\"" + Long.toHexString(hash) + "\"";
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.List;
+import java.util.Map;
+
+public record CacheStatisticsResponse(List<CacheStatsDto> caches) {
+
+    /**
+     * @param averageLoadMillis mean time spent loading a value from the portal
+     */
+    public record CacheStatsDto(String name, long estimatedSize, long hitCount, long missCount, double hitRate,
+                                long loadSuccessCount, long loadFailureCount, long evictionCount,
+                                double averageLoadMillis) {
+    }
+
+    public static CacheStatisticsResponse from(Map<String, Cache<?, ?>> caches) {
+        return new CacheStatisticsResponse(caches.entrySet().stream()
+            .map(entry -> {
+                CacheStats stats = entry.getValue().stats();
+                return new CacheStatsDto(entry.getKey(), entry.getValue().estimatedSize(),
+                    stats.hitCount(), stats.missCount(), stats.hitRate(),
+                    stats.loadSuccessCount(), stats.loadFailureCount(), stats.evictionCount(),
+                    stats.averageLoadPenalty() / 1_000_000.0);
+            })
+            .toList());
+    }
+}
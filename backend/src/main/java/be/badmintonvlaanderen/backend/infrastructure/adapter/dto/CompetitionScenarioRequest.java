@@ -0,0 +1,26 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.ScenarioRule;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CompetitionScenarioRequest(
+    @NotNull(message = "Team ID is required")
+    @Positive(message = "Team ID must be positive")
+    Long teamId,
+
+    @Valid
+    @Size(max = 100, message = "Maximum 100 rules allowed")
+    List<ScenarioRuleDto> rules,
+
+    Boolean parallel
+) {
+
+    public List<ScenarioRule> rulesToDomain() {
+        return rules == null ? List.of() : rules.stream().map(ScenarioRuleDto::toDomain).toList();
+    }
+}
@@ -0,0 +1,14 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import java.time.Instant;
+
+public record ErrorResponse(
+    String code,
+    String message,
+    Instant timestamp
+) {
+
+    public static ErrorResponse of(String code, String message) {
+        return new ErrorResponse(code, message, Instant.now());
+    }
+}
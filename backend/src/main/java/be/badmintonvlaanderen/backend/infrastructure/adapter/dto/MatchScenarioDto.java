@@ -0,0 +1,34 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+
+public record MatchScenarioDto(
+    @Positive(message = "Opponent ID must be positive")
+    Long opponentId,
+
+    @NotNull(message = "Expected result is required")
+    MatchResult expectedResult,
+
+    @NotNull(message = "Tournament level is required")
+    TournamentLevel tournamentLevel,
+
+    @NotNull(message = "Match date is required")
+    LocalDate matchDate,
+
+    @Positive(message = "Draw size must be positive")
+    Integer drawSize,
+
+    @Positive(message = "Round must be positive")
+    Integer round
+) {
+
+    public MatchScenario toDomain() {
+        return new MatchScenario(opponentId, expectedResult, tournamentLevel, matchDate, drawSize, round);
+    }
+}
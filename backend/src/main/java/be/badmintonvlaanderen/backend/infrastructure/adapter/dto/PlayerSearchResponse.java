@@ -0,0 +1,24 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+
+import java.util.List;
+
+public record PlayerSearchResponse(String query, List<PlayerHitDto> players) {
+
+    /**
+     * @param rankingPoints best points over all categories, {@code 0} when unranked
+     * @param approximate   whether the player only matched allowing for a typo
+     */
+    public record PlayerHitDto(Long id, String firstName, String lastName, String clubName,
+                               int rankingPoints, boolean approximate) {
+    }
+
+    public static PlayerSearchResponse from(String query, List<PlayerMatch> matches) {
+        return new PlayerSearchResponse(query, matches.stream()
+            .map(match -> new PlayerHitDto(match.getPlayer().getId(), match.getPlayer().getFirstName(),
+                match.getPlayer().getLastName(), match.getPlayer().getClubName(),
+                match.getRankingPoints(), !match.isExact()))
+            .toList());
+    }
+}
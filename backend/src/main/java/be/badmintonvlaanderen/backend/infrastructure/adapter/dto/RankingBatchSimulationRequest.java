@@ -0,0 +1,43 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @param clubName  the club whose members are projected; every player ranked in the category
+ *                  when absent
+ * @param scenarios the assumed results, played by every projected player
+ */
+public record RankingBatchSimulationRequest(
+    RankingCategory category,
+
+    @Size(max = 255, message = "Club name must be at most 255 characters")
+    String clubName,
+
+    @Valid
+    @NotNull(message = "Scenarios are required")
+    @Size(max = 50, message = "Maximum 50 scenarios allowed")
+    List<MatchScenarioDto> scenarios,
+
+    @NotNull(message = "Timeframe is required")
+    TimeframePeriod timeframe
+) {
+
+    public RankingCategory categoryOrDefault() {
+        return category == null ? RankingCategory.SINGLES : category;
+    }
+
+    public String clubNameOrNull() {
+        return clubName == null || clubName.isBlank() ? null : clubName.strip();
+    }
+
+    public List<MatchScenario> scenariosToDomain() {
+        return scenarios.stream().map(MatchScenarioDto::toDomain).toList();
+    }
+}
@@ -0,0 +1,36 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingGroupProjection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @param players the projected players, best projected position first
+ */
+public record RankingBatchSimulationResponse(
+    RankingCategory category,
+    String clubName,
+    List<PlayerProjectionDto> players
+) {
+
+    public record PlayerProjectionDto(long playerId, int currentRanking, int projectedRanking, int rankingChange,
+                                      int currentPoints, int projectedPoints) {
+    }
+
+    public static RankingBatchSimulationResponse from(RankingCategory category, String clubName,
+                                                      RankingGroupProjection projection) {
+        List<PlayerProjectionDto> players = new ArrayList<>(projection.size());
+        for (int i = 0; i < projection.size(); i++) {
+            int current = projection.getCurrentPosition(i);
+            int projected = projection.getProjectedPosition(i);
+            players.add(new PlayerProjectionDto(projection.getPlayerId(i), current, projected, projected - current,
+                projection.getCurrentPoints(i), projection.getProjectedPoints(i)));
+        }
+        players.sort(Comparator.comparingInt(PlayerProjectionDto::projectedRanking)
+            .thenComparingLong(PlayerProjectionDto::playerId));
+        return new RankingBatchSimulationResponse(category, clubName, players);
+    }
+}
@@ -0,0 +1,38 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record RankingComparisonRequest(
+    @NotNull(message = "Player ID is required")
+    @Positive(message = "Player ID must be positive")
+    Long playerId,
+
+    RankingCategory category,
+
+    @NotEmpty(message = "At least one scenario list is required")
+    @Size(max = 100, message = "Maximum 100 scenario lists allowed")
+    List<@Valid @Size(max = 50, message = "Maximum 50 scenarios allowed per list") List<@Valid MatchScenarioDto>> scenarios,
+
+    @NotNull(message = "Timeframe is required")
+    TimeframePeriod timeframe
+) {
+
+    public RankingCategory categoryOrDefault() {
+        return category == null ? RankingCategory.SINGLES : category;
+    }
+
+    public List<List<MatchScenario>> scenariosToDomain() {
+        return scenarios.stream()
+            .map(list -> list.stream().map(MatchScenarioDto::toDomain).toList())
+            .toList();
+    }
+}
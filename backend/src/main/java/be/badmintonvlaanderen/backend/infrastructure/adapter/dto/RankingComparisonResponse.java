@@ -0,0 +1,37 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.ScenarioComparison;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record RankingComparisonResponse(
+    int currentRanking,
+    int currentPoints,
+    List<ScenarioOutcomeDto> outcomes
+) {
+
+    public record ScenarioOutcomeDto(int scenario, int projectedRanking, int projectedPoints, int rankingChange) {
+    }
+
+    public static RankingComparisonResponse from(ScenarioComparison comparison) {
+        return from(comparison, 0);
+    }
+
+    /**
+     * @param firstScenario index of the comparison's first scenario in the submitted list, for a
+     *                      partial comparison covering a slice of it
+     */
+    public static RankingComparisonResponse from(ScenarioComparison comparison, int firstScenario) {
+        List<ScenarioOutcomeDto> outcomes = new ArrayList<>(comparison.size());
+        for (int i = 0; i < comparison.size(); i++) {
+            outcomes.add(new ScenarioOutcomeDto(
+                firstScenario + i,
+                comparison.getProjectedRanking(i),
+                comparison.getProjectedPoints(i),
+                comparison.getProjectedRanking(i) - comparison.getCurrentRanking()
+            ));
+        }
+        return new RankingComparisonResponse(comparison.getCurrentRanking(), comparison.getCurrentPoints(), outcomes);
+    }
+}
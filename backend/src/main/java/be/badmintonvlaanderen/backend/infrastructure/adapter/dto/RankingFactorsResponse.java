@@ -0,0 +1,57 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsTable;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The ranking rules in use, with the full points table so clients can show what a result is worth.
+ */
+public record RankingFactorsResponse(String version, int windowDays, int countedResults,
+                                     List<LevelFactorsDto> levels) {
+
+    /**
+     * @param defaultWin  points for a win when the draw is unknown
+     * @param defaultLoss points for a loss when the draw is unknown
+     */
+    public record LevelFactorsDto(TournamentLevel level, int defaultWin, int defaultLoss,
+                                  List<DrawFactorsDto> draws) {
+    }
+
+    public record DrawFactorsDto(int drawSize, List<RoundFactorsDto> rounds) {
+    }
+
+    public record RoundFactorsDto(int round, int win, int loss) {
+    }
+
+    public static RankingFactorsResponse from(RankingRules rules) {
+        RankingPointsTable table = rules.getPointsTable();
+        List<LevelFactorsDto> levels = Arrays.stream(TournamentLevel.values())
+            .map(level -> new LevelFactorsDto(level,
+                table.points(level, null, null, MatchResult.WIN),
+                table.points(level, null, null, MatchResult.LOSS),
+                draws(table, level)))
+            .toList();
+        return new RankingFactorsResponse(table.getVersion(), rules.getWindowDays(), rules.getCountedResults(), levels);
+    }
+
+    private static List<DrawFactorsDto> draws(RankingPointsTable table, TournamentLevel level) {
+        List<DrawFactorsDto> draws = new ArrayList<>();
+        for (int drawSize = RankingPointsTable.MIN_DRAW_SIZE; drawSize <= RankingPointsTable.MAX_DRAW_SIZE; drawSize <<= 1) {
+            int roundCount = Integer.numberOfTrailingZeros(drawSize);
+            List<RoundFactorsDto> rounds = new ArrayList<>(roundCount);
+            for (int round = 1; round <= roundCount; round++) {
+                rounds.add(new RoundFactorsDto(round,
+                    table.points(level, drawSize, round, MatchResult.WIN),
+                    table.points(level, drawSize, round, MatchResult.LOSS)));
+            }
+            draws.add(new DrawFactorsDto(drawSize, rounds));
+        }
+        return draws;
+    }
+}
@@ -0,0 +1,25 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSeries;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public record RankingHistoryResponse(Long playerId, RankingCategory category, List<PublicationDto> publications) {
+
+    /**
+     * @param ranking the position at the publication
+     */
+    public record PublicationDto(LocalDate date, int points, int ranking) {
+    }
+
+    public static RankingHistoryResponse from(Long playerId, RankingCategory category, RankingSeries.Columns series) {
+        List<PublicationDto> publications = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            publications.add(new PublicationDto(series.date(i), series.points(i), series.position(i)));
+        }
+        return new RankingHistoryResponse(playerId, category, publications);
+    }
+}
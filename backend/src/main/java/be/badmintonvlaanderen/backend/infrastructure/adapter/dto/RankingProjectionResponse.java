@@ -0,0 +1,36 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingTimelineEntry;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record RankingProjectionResponse(
+    int currentRanking,
+    int projectedRanking,
+    int rankingChange,
+    int currentPoints,
+    int projectedPoints,
+    List<TimelineEntryDto> timeline
+) {
+
+    public record TimelineEntryDto(LocalDate date, int ranking, int points, int change, String reason) {
+
+        static TimelineEntryDto from(RankingTimelineEntry entry) {
+            return new TimelineEntryDto(entry.getDate(), entry.getRanking(), entry.getPoints(),
+                entry.getChange(), entry.getReason());
+        }
+    }
+
+    public static RankingProjectionResponse from(RankingProjection projection) {
+        return new RankingProjectionResponse(
+            projection.getCurrentRanking(),
+            projection.getProjectedRanking(),
+            projection.getRankingChange(),
+            projection.getCurrentPoints(),
+            projection.getProjectedPoints(),
+            projection.getTimeline().stream().map(TimelineEntryDto::from).toList()
+        );
+    }
+}
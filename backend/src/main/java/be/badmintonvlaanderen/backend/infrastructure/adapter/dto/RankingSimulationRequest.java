@@ -0,0 +1,42 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSimulation;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record RankingSimulationRequest(
+    @NotNull(message = "Player ID is required")
+    @Positive(message = "Player ID must be positive")
+    Long playerId,
+
+    RankingCategory category,
+
+    @Valid
+    @NotEmpty(message = "At least one scenario is required")
+    @Size(max = 50, message = "Maximum 50 scenarios allowed")
+    List<MatchScenarioDto> scenarios,
+
+    @NotNull(message = "Timeframe is required")
+    TimeframePeriod timeframe
+) {
+
+    public RankingCategory categoryOrDefault() {
+        return category == null ? RankingCategory.SINGLES : category;
+    }
+
+    public RankingSimulation toDomain() {
+        return new RankingSimulation(
+            playerId,
+            categoryOrDefault(),
+            scenarios.stream().map(MatchScenarioDto::toDomain).toList(),
+            timeframe
+        );
+    }
+}
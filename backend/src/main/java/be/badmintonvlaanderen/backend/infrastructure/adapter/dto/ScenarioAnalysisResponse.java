@@ -0,0 +1,55 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureOutcome;
+import be.badmintonvlaanderen.backend.domain.model.FixtureOutlook;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ScenarioAnalysisResponse(
+    Long competitionId,
+    Long teamId,
+    int currentPoints,
+    long totalCombinations,
+    long championCombinations,
+    long sharedFirstCombinations,
+    boolean championshipPossible,
+    boolean championshipGuaranteed,
+    List<FixtureOutlookDto> fixtures,
+    List<List<FixtureOutcome>> examples
+) {
+
+    /**
+     * @param requiredOutcome the only outcome that still allows a clear first place, if any
+     */
+    public record FixtureOutlookDto(Long fixtureId, Long homeTeamId, Long awayTeamId, LocalDate date,
+                                    FixtureOutcome requiredOutcome, long homeWinCombinations,
+                                    long drawCombinations, long awayWinCombinations) {
+
+        static FixtureOutlookDto from(FixtureOutlook outlook) {
+            Fixture fixture = outlook.getFixture();
+            return new FixtureOutlookDto(fixture.getId(), fixture.getHomeTeamId(), fixture.getAwayTeamId(),
+                fixture.getDate(), outlook.getRequiredOutcome(),
+                outlook.getChampionCombinations(FixtureOutcome.HOME_WIN),
+                outlook.getChampionCombinations(FixtureOutcome.DRAW),
+                outlook.getChampionCombinations(FixtureOutcome.AWAY_WIN));
+        }
+    }
+
+    public static ScenarioAnalysisResponse from(ScenarioAnalysis analysis) {
+        return new ScenarioAnalysisResponse(
+            analysis.getCompetitionId(),
+            analysis.getTargetTeamId(),
+            analysis.getCurrentPoints(),
+            analysis.getTotalCombinations(),
+            analysis.getChampionCombinations(),
+            analysis.getSharedCombinations(),
+            analysis.isChampionshipPossible(),
+            analysis.isChampionshipGuaranteed(),
+            analysis.getFixtures().stream().map(FixtureOutlookDto::from).toList(),
+            analysis.getExamples()
+        );
+    }
+}
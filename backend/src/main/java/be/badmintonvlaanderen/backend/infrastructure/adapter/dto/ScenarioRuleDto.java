@@ -0,0 +1,24 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.FixtureOutcome;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioRule;
+import be.badmintonvlaanderen.backend.domain.model.TeamResult;
+
+/**
+ * Either {@code fixtureId} with {@code outcome}, or {@code teamId} with {@code result} for all
+ * of that team's remaining fixtures.
+ */
+public record ScenarioRuleDto(
+    Long fixtureId,
+    FixtureOutcome outcome,
+    Long teamId,
+    TeamResult result
+) {
+
+    public ScenarioRule toDomain() {
+        if (fixtureId != null) {
+            return ScenarioRule.fixture(fixtureId, outcome);
+        }
+        return ScenarioRule.team(teamId, result);
+    }
+}
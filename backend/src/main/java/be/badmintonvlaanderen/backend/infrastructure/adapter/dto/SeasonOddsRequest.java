@@ -0,0 +1,51 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @param competitionIds the divisions to simulate, e.g. every division of a province
+ * @param promotedTeams  places at the top of every division that promote; one when absent
+ * @param relegatedTeams places at the bottom of every division that relegate; two when absent
+ * @param seed           seed of the simulation; the same request always gives the same odds
+ */
+public record SeasonOddsRequest(
+    @NotEmpty(message = "At least one competition is required")
+    @Size(max = 1000, message = "Maximum 1000 competitions allowed")
+    List<@NotNull @Positive Long> competitionIds,
+
+    @PositiveOrZero(message = "Promoted teams must not be negative")
+    Integer promotedTeams,
+
+    @PositiveOrZero(message = "Relegated teams must not be negative")
+    Integer relegatedTeams,
+
+    @Positive(message = "Iterations must be positive")
+    @Max(value = 100_000, message = "Maximum 100000 iterations allowed")
+    Integer iterations,
+
+    Long seed
+) {
+
+    public int promotedTeamsOrDefault() {
+        return promotedTeams == null ? 1 : promotedTeams;
+    }
+
+    public int relegatedTeamsOrDefault() {
+        return relegatedTeams == null ? 2 : relegatedTeams;
+    }
+
+    public int iterationsOrDefault() {
+        return iterations == null ? 10_000 : iterations;
+    }
+
+    public long seedOrDefault() {
+        return seed == null ? 1L : seed;
+    }
+}
@@ -0,0 +1,40 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.DivisionOdds;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record SeasonOddsResponse(
+    int iterations,
+    long seed,
+    int promotedTeams,
+    int relegatedTeams,
+    List<DivisionOddsDto> divisions
+) {
+
+    public record DivisionOddsDto(Long competitionId, String competitionName, List<TeamOddsDto> teams) {
+
+        static DivisionOddsDto from(DivisionOdds odds) {
+            List<TeamOddsDto> teams = new ArrayList<>(odds.getTeams().size());
+            for (int i = 0; i < odds.getTeams().size(); i++) {
+                CompetitionTeam team = odds.getTeams().get(i);
+                teams.add(new TeamOddsDto(team.getId(), team.getName(), odds.getExpectedPoints(i),
+                    odds.getChampionshipProbability(i), odds.getPromotionProbability(i),
+                    odds.getRelegationProbability(i)));
+            }
+            return new DivisionOddsDto(odds.getCompetitionId(), odds.getCompetitionName(), teams);
+        }
+    }
+
+    public record TeamOddsDto(Long teamId, String teamName, double expectedPoints, double championship,
+                              double promotion, double relegation) {
+    }
+
+    public static SeasonOddsResponse from(SeasonOdds odds) {
+        return new SeasonOddsResponse(odds.getIterations(), odds.getSeed(), odds.getPromotedTeams(),
+            odds.getRelegatedTeams(), odds.getDivisions().stream().map(DivisionOddsDto::from).toList());
+    }
+}
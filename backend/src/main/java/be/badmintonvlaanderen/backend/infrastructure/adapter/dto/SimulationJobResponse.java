@@ -0,0 +1,76 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.DivisionOdds;
+import be.badmintonvlaanderen.backend.domain.model.JobKind;
+import be.badmintonvlaanderen.backend.domain.model.JobPriority;
+import be.badmintonvlaanderen.backend.domain.model.JobStatus;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioComparison;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * State of a background simulation job.
+ *
+ * @param completed     units of work done: scenarios for a comparison, searched outcome
+ *                      prefixes for an analysis, divisions for a season simulation
+ * @param partialResult outcomes of the scenarios scored since the previous progress event, with
+ *                      their indices in the submitted list, or the odds of the division a season
+ *                      simulation just finished; analyses report none
+ * @param result        the same body the synchronous endpoint returns, once completed
+ */
+public record SimulationJobResponse(
+    UUID id,
+    JobKind kind,
+    JobPriority priority,
+    JobStatus status,
+    long completed,
+    long total,
+    Instant submittedAt,
+    Instant startedAt,
+    Instant finishedAt,
+    Object partialResult,
+    Object result,
+    String error
+) {
+
+    public static SimulationJobResponse from(SimulationJob job) {
+        return new SimulationJobResponse(
+            job.getId(),
+            job.getKind(),
+            job.getPriority(),
+            job.getStatus(),
+            job.getCompleted(),
+            job.getTotal(),
+            job.getSubmittedAt(),
+            job.getStartedAt(),
+            job.getFinishedAt(),
+            partial(job),
+            result(job.getResult()),
+            job.getError()
+        );
+    }
+
+    private static Object partial(SimulationJob job) {
+        if (job.getPartialResult() instanceof ScenarioComparison slice) {
+            return RankingComparisonResponse.from(slice, (int) job.getCompleted() - slice.size());
+        }
+        if (job.getPartialResult() instanceof DivisionOdds division) {
+            return SeasonOddsResponse.DivisionOddsDto.from(division);
+        }
+        return null;
+    }
+
+    private static Object result(Object result) {
+        return switch (result) {
+            case null -> null;
+            case ScenarioComparison comparison -> RankingComparisonResponse.from(comparison);
+            case ScenarioAnalysis analysis -> ScenarioAnalysisResponse.from(analysis);
+            case SeasonOdds odds -> SeasonOddsResponse.from(odds);
+            default -> throw new IllegalStateException("Unexpected job result " + result.getClass().getName());
+        };
+    }
+}
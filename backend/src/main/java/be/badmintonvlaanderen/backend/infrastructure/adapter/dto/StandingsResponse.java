@@ -0,0 +1,28 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.Standing;
+
+import java.util.List;
+
+public record StandingsResponse(
+    Long competitionId,
+    List<StandingDto> standings
+) {
+
+    public record StandingDto(int position, Long teamId, String teamName, int played, int won, int drawn,
+                              int lost, int points, int matchesFor, int matchesAgainst, int matchDifference,
+                              int gamesFor, int gamesAgainst, int gameDifference) {
+
+        static StandingDto from(Standing standing) {
+            return new StandingDto(standing.getPosition(), standing.getTeam().getId(),
+                standing.getTeam().getName(), standing.getPlayed(), standing.getWon(), standing.getDrawn(),
+                standing.getLost(), standing.getPoints(), standing.getMatchesFor(), standing.getMatchesAgainst(),
+                standing.getMatchesFor() - standing.getMatchesAgainst(), standing.getGamesFor(),
+                standing.getGamesAgainst(), standing.getGamesFor() - standing.getGamesAgainst());
+        }
+    }
+
+    public static StandingsResponse from(Long competitionId, List<Standing> standings) {
+        return new StandingsResponse(competitionId, standings.stream().map(StandingDto::from).toList());
+    }
+}
@@ -0,0 +1,39 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.dto;
+
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.TournamentPrediction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record TournamentPredictionResponse(
+    Long tournamentId,
+    int iterations,
+    long seed,
+    int rounds,
+    List<EntrantPredictionDto> entrants
+) {
+
+    /**
+     * @param roundProbabilities probability of reaching each round, index {@code 0} being the
+     *                           start of the draw and the last index winning the tournament
+     */
+    public record EntrantPredictionDto(Long playerId, String name, double winProbability,
+                                       double[] roundProbabilities) {
+    }
+
+    public static TournamentPredictionResponse from(Long tournamentId, TournamentPrediction prediction) {
+        List<EntrantPredictionDto> entrants = new ArrayList<>(prediction.getEntrants().size());
+        for (int i = 0; i < prediction.getEntrants().size(); i++) {
+            TournamentEntrant entrant = prediction.getEntrants().get(i);
+            double[] rounds = new double[prediction.getRoundCount() + 1];
+            for (int round = 0; round < rounds.length; round++) {
+                rounds[round] = prediction.getRoundProbability(i, round);
+            }
+            entrants.add(new EntrantPredictionDto(entrant.getPlayerId(), entrant.getName(),
+                prediction.getWinProbability(i), rounds));
+        }
+        return new TournamentPredictionResponse(tournamentId, prediction.getIterations(), prediction.getSeed(),
+            prediction.getRoundCount(), entrants);
+    }
+}
@@ -0,0 +1,227 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import be.badmintonvlaanderen.backend.application.port.PortalSyncGateway;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.PortalChangeSet;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * HTTP adapter for the Badminton Vlaanderen portal.
+ * <p>
+ * Every request passes through the {@link PortalThrottle} of the portal host. Batch fetches fan
+ * out one virtual thread per record, so loading a whole club or a sync chunk waits on the
+ * slowest response instead of the sum of all of them, while the throttle keeps the portal from
+ * seeing more than the configured load. Player, ranking and tournament pages are parsed as a
+ * stream by {@link PortalJsonParser}.
+ * <p>
+ * Every request is timed as {@value #REQUEST_METRIC}, tagged with the resource and whether the
+ * portal answered, did not know the record or failed; the wait for the throttle is not included.
+ * The timers of every resource and outcome are registered once, when the adapter is created.
+ */
+@Component
+public class BadmintonVlaanderenAdapter implements PortalSyncGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(BadmintonVlaanderenAdapter.class);
+
+    static final String REQUEST_METRIC = "bbv.portal.requests";
+
+    private static final List<String> RESOURCES = List.of("player", "ranking", "tournament", "competition", "changes");
+    private static final List<String> OUTCOMES = List.of("success", "not-found", "error");
+    private static final int SUCCESS = 0;
+    private static final int NOT_FOUND = 1;
+    private static final int ERROR = 2;
+
+    private final RestTemplate restTemplate;
+    private final PortalThrottle throttle;
+    private final String host;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> requestTimers = new HashMap<>();
+    private final PortalJsonParser parser = new PortalJsonParser();
+
+    public BadmintonVlaanderenAdapter(RestTemplate badmintonVlaanderenRestTemplate, PortalThrottle portalThrottle,
+                                      BadmintonVlaanderenProperties properties, Clock clock,
+                                      MeterRegistry meterRegistry) {
+        this.restTemplate = badmintonVlaanderenRestTemplate;
+        this.throttle = portalThrottle;
+        this.host = URI.create(properties.baseUrl()).getAuthority();
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        for (String resource : RESOURCES) {
+            Timer[] timers = new Timer[OUTCOMES.size()];
+            for (int outcome = 0; outcome < timers.length; outcome++) {
+                timers[outcome] = Timer.builder(REQUEST_METRIC)
+                    .description("Requests sent to the Badminton Vlaanderen portal")
+                    .tag("resource", resource)
+                    .tag("outcome", OUTCOMES.get(outcome))
+                    .register(meterRegistry);
+            }
+            requestTimers.put(resource, timers);
+        }
+    }
+
+    @Override
+    public Optional<PlayerData> fetchPlayerData(Long playerId) {
+        try {
+            return Optional.ofNullable(stream("player", response -> parser.parsePlayerData(response.getBody()),
+                "/players/{id}", playerId));
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("Player {} not found on portal", playerId);
+            return Optional.empty();
+        } catch (RestClientException e) {
+            throw new PortalCommunicationException("Failed to fetch player data for ID " + playerId, e);
+        }
+    }
+
+    @Override
+    public CategoryRanking fetchCategoryRanking(RankingCategory category) {
+        try {
+            CategoryRanking ranking = stream("ranking",
+                response -> parser.parseCategoryRanking(response.getBody(), category),
+                "/rankings/{category}", category.name());
+            if (ranking == null) {
+                throw new PortalCommunicationException("Empty ranking returned for " + category, null);
+            }
+            return ranking;
+        } catch (RestClientException e) {
+            throw new PortalCommunicationException("Failed to fetch ranking for " + category, e);
+        }
+    }
+
+    @Override
+    public Optional<Tournament> fetchTournament(Long tournamentId) {
+        try {
+            return Optional.ofNullable(stream("tournament", response -> parser.parseTournament(response.getBody()),
+                "/tournaments/{id}", tournamentId));
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("Tournament {} not found on portal", tournamentId);
+            return Optional.empty();
+        } catch (RestClientException e) {
+            throw new PortalCommunicationException("Failed to fetch tournament " + tournamentId, e);
+        }
+    }
+
+    @Override
+    public Optional<Competition> fetchCompetition(Long competitionId) {
+        try {
+            CompetitionResponse response = get("competition", () -> restTemplate.getForObject(
+                "/competitions/{id}", CompetitionResponse.class, competitionId));
+            return Optional.ofNullable(response).map(CompetitionResponse::toDomain);
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("Competition {} not found on portal", competitionId);
+            return Optional.empty();
+        } catch (RestClientException e) {
+            throw new PortalCommunicationException("Failed to fetch competition " + competitionId, e);
+        }
+    }
+
+    @Override
+    public PortalChangeSet fetchChanges(Instant since) {
+        Instant requestedAt = clock.instant();
+        try {
+            PortalChangesResponse response = get("changes", () -> since == null
+                ? restTemplate.getForObject("/catalogue", PortalChangesResponse.class)
+                : restTemplate.getForObject("/changes?since={since}", PortalChangesResponse.class, since.toString()));
+            if (response == null) {
+                throw new PortalCommunicationException("Empty change set returned since " + since, null);
+            }
+            return response.toDomain(requestedAt);
+        } catch (RestClientException e) {
+            throw new PortalCommunicationException("Failed to fetch changes since " + since, e);
+        }
+    }
+
+    @Override
+    public Map<Long, Optional<PlayerData>> fetchPlayers(List<Long> playerIds) {
+        return fetchAll("player", playerIds, this::fetchPlayerData);
+    }
+
+    @Override
+    public Map<Long, Optional<Tournament>> fetchTournaments(List<Long> tournamentIds) {
+        return fetchAll("tournament", tournamentIds, this::fetchTournament);
+    }
+
+    @Override
+    public Map<Long, Optional<Competition>> fetchCompetitions(List<Long> competitionIds) {
+        return fetchAll("competition", competitionIds, this::fetchCompetition);
+    }
+
+    private <T> T get(String resource, Supplier<T> request) {
+        return throttle.call(host, () -> timed(resource, request));
+    }
+
+    private <T> T timed(String resource, Supplier<T> request) {
+        Timer[] timers = requestTimers.get(resource);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int outcome = ERROR;
+        try {
+            T response = request.get();
+            outcome = SUCCESS;
+            return response;
+        } catch (HttpClientErrorException.NotFound e) {
+            outcome = NOT_FOUND;
+            throw e;
+        } finally {
+            sample.stop(timers[outcome]);
+        }
+    }
+
+    /**
+     * GETs a page and hands the open response body to the extractor, so large pages are parsed
+     * while they are read instead of being buffered and bound first.
+     */
+    private <T> T stream(String resource, ResponseExtractor<T> extractor, String uri, Object... uriVariables) {
+        return get(resource, () -> restTemplate.execute(uri, HttpMethod.GET,
+            request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+            extractor, uriVariables));
+    }
+
+    private static <T> Map<Long, Optional<T>> fetchAll(String resource, List<Long> ids,
+                                                       Function<Long, Optional<T>> fetch) {
+        Map<Long, Future<Optional<T>>> pending = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("portal-" + resource + "-", 0).factory())) {
+            for (Long id : ids) {
+                pending.put(id, executor.submit(() -> fetch.apply(id)));
+            }
+        }
+        Map<Long, Optional<T>> results = new LinkedHashMap<>();
+        pending.forEach((id, future) -> {
+            if (future.state() == Future.State.SUCCESS) {
+                results.put(id, future.resultNow());
+            } else {
+                log.warn("Failed to fetch {} {}: {}", resource, id,
+                    future.state() == Future.State.FAILED ? future.exceptionNow().getMessage() : future.state());
+            }
+        });
+        return results;
+    }
+}
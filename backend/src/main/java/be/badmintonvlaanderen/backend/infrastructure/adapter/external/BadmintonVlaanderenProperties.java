@@ -0,0 +1,47 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection settings for the Badminton Vlaanderen portal.
+ */
+@ConfigurationProperties(prefix = "badminton-vlaanderen.portal")
+public record BadmintonVlaanderenProperties(
+    String baseUrl,
+    Duration connectTimeout,
+    Duration readTimeout,
+    Throttle throttle
+) {
+
+    public BadmintonVlaanderenProperties {
+        if (throttle == null) {
+            throttle = Throttle.defaults();
+        }
+    }
+
+    /**
+     * Limits on the load put on one portal host: at most {@code maxConcurrentRequests} requests
+     * in flight, started at {@code requestsPerSecond} on average with bursts of up to
+     * {@code burst} requests.
+     */
+    public record Throttle(int maxConcurrentRequests, double requestsPerSecond, int burst) {
+
+        public Throttle {
+            if (maxConcurrentRequests <= 0) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+            }
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be positive");
+            }
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be positive");
+            }
+        }
+
+        public static Throttle defaults() {
+            return new Throttle(8, 20, 10);
+        }
+    }
+}
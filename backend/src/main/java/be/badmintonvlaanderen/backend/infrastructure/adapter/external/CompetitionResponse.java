@@ -0,0 +1,45 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interclub division as returned by the portal. Unplayed fixtures have no match counts; game
+ * counts are optional.
+ */
+public record CompetitionResponse(
+    Long id,
+    String name,
+    List<TeamDto> teams,
+    List<FixtureDto> fixtures
+) {
+
+    public record TeamDto(Long id, String name) {
+    }
+
+    public record FixtureDto(Long id, Long homeTeamId, Long awayTeamId, LocalDate date,
+                             Integer homeMatches, Integer awayMatches, Integer homeGames, Integer awayGames) {
+
+        Fixture toDomain() {
+            FixtureResult result = homeMatches == null || awayMatches == null
+                ? null
+                : new FixtureResult(homeMatches, awayMatches,
+                    homeGames == null ? 0 : homeGames, awayGames == null ? 0 : awayGames);
+            return new Fixture(id, homeTeamId, awayTeamId, date, result);
+        }
+    }
+
+    public Competition toDomain() {
+        return new Competition(
+            id,
+            name,
+            teams.stream().map(team -> new CompetitionTeam(team.id(), team.name())).toList(),
+            fixtures.stream().map(FixtureDto::toDomain).toList()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import be.badmintonvlaanderen.backend.domain.model.PortalChangeSet;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * IDs of changed (or, for the catalogue, all) portal records as returned by the portal.
+ */
+public record PortalChangesResponse(
+    Instant asOf,
+    List<Long> players,
+    List<Long> tournaments,
+    List<Long> competitions
+) {
+
+    /**
+     * @param requestedAt used as the change set time when the portal does not report one
+     */
+    public PortalChangeSet toDomain(Instant requestedAt) {
+        return new PortalChangeSet(
+            asOf == null ? requestedAt : asOf,
+            players == null ? List.of() : players,
+            tournaments == null ? List.of() : tournaments,
+            competitions == null ? List.of() : competitions);
+    }
+}
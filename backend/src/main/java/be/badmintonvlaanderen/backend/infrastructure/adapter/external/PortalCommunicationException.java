@@ -0,0 +1,11 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+/**
+ * Thrown when the Badminton Vlaanderen portal cannot be reached or returns an unusable answer.
+ */
+public class PortalCommunicationException extends RuntimeException {
+
+    public PortalCommunicationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
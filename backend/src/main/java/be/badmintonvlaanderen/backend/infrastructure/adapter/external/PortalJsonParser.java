@@ -0,0 +1,304 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.PlayedMatch;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.domain.model.TournamentBracket;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming reader for the JSON pages of the portal.
+ * <p>
+ * Pages are read token by token and turned straight into domain objects; no tree or
+ * intermediate response objects are built. A province ranking with tens of thousands of rows
+ * therefore costs one growing {@code int[]} rather than an object per row. Fields the reader
+ * does not know are skipped, so additions on the portal side do not break the sync.
+ * <p>
+ * Every method returns {@code null} for an empty body or a JSON {@code null}. A page without a
+ * field the domain requires, such as an ID, level, category or date, fails with a
+ * {@link JsonParseException} like other unreadable JSON. A page that parses but describes an
+ * impossible tournament, such as a draw that is not a power of two, is reported
+ * as a {@link PortalCommunicationException}.
+ */
+public class PortalJsonParser {
+
+    private static final int INITIAL_RANKING_CAPACITY = 1024;
+
+    private final JsonFactory factory = new JsonFactory();
+
+    /**
+     * Reads {@code {"category": "SINGLES", "entries": [{"playerId": 1, "points": 1234}, ...]}}.
+     *
+     * @param requested category used when the page does not state one
+     */
+    public CategoryRanking parseCategoryRanking(InputStream body, RankingCategory requested) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            if (!startObject(parser)) {
+                return null;
+            }
+            RankingCategory category = requested;
+            int[] points = new int[INITIAL_RANKING_CAPACITY];
+            int size = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("category".equals(field) && value != JsonToken.VALUE_NULL) {
+                    category = enumValue(parser, RankingCategory.class);
+                } else if ("entries".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        if (size == points.length) {
+                            points = Arrays.copyOf(points, size * 2);
+                        }
+                        points[size++] = entryPoints(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new CategoryRanking(category, Arrays.copyOf(points, size));
+        }
+    }
+
+    /**
+     * Reads {@code {"id", "firstName", "lastName", "clubName", "results": [{"category", "points",
+     * "date", "level"}, ...]}}.
+     */
+    public PlayerData parsePlayerData(InputStream body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            if (!startObject(parser)) {
+                return null;
+            }
+            Long id = null;
+            String firstName = null;
+            String lastName = null;
+            String clubName = null;
+            List<RankingResult> results = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> id = longValue(parser);
+                    case "firstName" -> firstName = parser.getValueAsString();
+                    case "lastName" -> lastName = parser.getValueAsString();
+                    case "clubName" -> clubName = parser.getValueAsString();
+                    case "results" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                results.add(rankingResult(parser));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            return new PlayerData(new Player(required(parser, id, "id"), firstName, lastName, clubName), results);
+        }
+    }
+
+    /**
+     * Reads {@code {"id", "name", "level", "category", "startDate", "draw": [{"playerId", "name",
+     * "rankingPoints"}, null, ...], "matches": [{"winnerId", "loserId", "date"}, ...]}}; byes are
+     * published as {@code null} slots and matches without a date are dated at the start of the
+     * tournament.
+     */
+    public Tournament parseTournament(InputStream body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            if (!startObject(parser)) {
+                return null;
+            }
+            Long id = null;
+            String name = null;
+            TournamentLevel level = null;
+            RankingCategory category = null;
+            LocalDate startDate = null;
+            List<TournamentEntrant> slots = new ArrayList<>();
+            List<MatchRow> matchRows = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> id = longValue(parser);
+                    case "name" -> name = parser.getValueAsString();
+                    case "level" -> level = enumValue(parser, TournamentLevel.class);
+                    case "category" -> category = enumValue(parser, RankingCategory.class);
+                    case "startDate" -> startDate = date(parser);
+                    case "draw" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            JsonToken slot;
+                            while ((slot = parser.nextToken()) != JsonToken.END_ARRAY) {
+                                slots.add(slot == JsonToken.START_OBJECT ? entrant(parser) : null);
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "matches" -> {
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                matchRows.add(matchRow(parser));
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            required(parser, id, "id");
+            required(parser, level, "level");
+            required(parser, category, "category");
+            // the start date may follow the matches in the page
+            try {
+                List<PlayedMatch> matches = new ArrayList<>(matchRows.size());
+                for (MatchRow row : matchRows) {
+                    LocalDate date = row.date() == null ? startDate : row.date();
+                    matches.add(new PlayedMatch(row.winnerId(), row.loserId(), required(parser, date, "date")));
+                }
+                return new Tournament(id, name, level, category, startDate, new TournamentBracket(slots), matches);
+            } catch (IllegalArgumentException e) {
+                // a draw or match the portal got wrong, not a bad request of ours
+                throw new PortalCommunicationException("Malformed tournament " + id + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static int entryPoints(JsonParser parser) throws IOException {
+        int points = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("points".equals(field)) {
+                points = parser.getValueAsInt();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return points;
+    }
+
+    private static RankingResult rankingResult(JsonParser parser) throws IOException {
+        RankingCategory category = null;
+        int points = 0;
+        LocalDate date = null;
+        TournamentLevel level = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "category" -> category = enumValue(parser, RankingCategory.class);
+                case "points" -> points = parser.getValueAsInt();
+                case "date" -> date = date(parser);
+                case "level" -> level = enumValue(parser, TournamentLevel.class);
+                default -> parser.skipChildren();
+            }
+        }
+        return new RankingResult(required(parser, category, "category"), points, required(parser, date, "date"),
+            required(parser, level, "level"));
+    }
+
+    private static TournamentEntrant entrant(JsonParser parser) throws IOException {
+        Long playerId = null;
+        String name = null;
+        int rankingPoints = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "playerId" -> playerId = longValue(parser);
+                case "name" -> name = parser.getValueAsString();
+                case "rankingPoints" -> rankingPoints = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        return new TournamentEntrant(required(parser, playerId, "playerId"), name, rankingPoints);
+    }
+
+    private static MatchRow matchRow(JsonParser parser) throws IOException {
+        Long winnerId = null;
+        Long loserId = null;
+        LocalDate date = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "winnerId" -> winnerId = longValue(parser);
+                case "loserId" -> loserId = longValue(parser);
+                case "date" -> date = date(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new MatchRow(required(parser, winnerId, "winnerId"), required(parser, loserId, "loserId"), date);
+    }
+
+    private record MatchRow(Long winnerId, Long loserId, LocalDate date) {
+    }
+
+    private static boolean startObject(JsonParser parser) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == null || first == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (first != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + first);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value of a field the domain cannot do without, so a page missing it is reported
+     * as unreadable instead of failing later on a {@code null}.
+     */
+    private static <T> T required(JsonParser parser, T value, String field) throws JsonParseException {
+        if (value == null) {
+            throw new JsonParseException(parser, "Missing required field '" + field + "'");
+        }
+        return value;
+    }
+
+    private static Long longValue(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+    }
+
+    private static LocalDate date(JsonParser parser) throws IOException {
+        String text = parser.getValueAsString();
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "Invalid date '" + text + "'", e);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(JsonParser parser, Class<E> type) throws IOException {
+        String text = parser.getValueAsString();
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, text);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, "Unknown " + type.getSimpleName() + " '" + text + "'", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Token bucket that lets requests start at a steady rate with bounded bursts.
+ * <p>
+ * Implemented as a virtual scheduler (GCRA): instead of counting tokens it keeps the time at
+ * which the bucket would be full again, and every request reserves the next slot with a single
+ * CAS. A caller that has to wait parks only itself, which costs nothing on a virtual thread.
+ */
+public class PortalRateLimiter {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Ticker ticker;
+    private final AtomicLong fullAt;
+
+    public PortalRateLimiter(double permitsPerSecond, int burst, Ticker ticker) {
+        if (!(permitsPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * (burst - 1);
+        this.ticker = ticker;
+        this.fullAt = new AtomicLong(ticker.read() - intervalNanos);
+    }
+
+    /**
+     * Blocks until a request may start.
+     */
+    public void acquire() {
+        long wait = reserve();
+        long deadline = ticker.read() + wait;
+        while (wait > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new PortalCommunicationException("Interrupted while waiting for the portal rate limit", null);
+            }
+            wait = deadline - ticker.read();
+        }
+    }
+
+    /**
+     * Reserves the next slot and returns how long the caller has to wait for it, in nanoseconds.
+     */
+    long reserve() {
+        long now = ticker.read();
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, now);
+            if (fullAt.compareAndSet(current, start + intervalNanos)) {
+                return Math.max(0, start - burstNanos - now);
+            }
+        }
+    }
+}
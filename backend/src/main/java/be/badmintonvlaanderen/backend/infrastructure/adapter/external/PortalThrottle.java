@@ -0,0 +1,53 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the load on each portal host within its limits: a semaphore caps the requests in flight
+ * and a {@link PortalRateLimiter} paces how fast new ones start.
+ * <p>
+ * Callers are expected to run on virtual threads, so blocking here only parks the request that
+ * has to wait; fanning out a few hundred fetches at once is cheap and the throttle alone decides
+ * how many actually hit the portal.
+ */
+public class PortalThrottle {
+
+    private final BadmintonVlaanderenProperties.Throttle limits;
+    private final Ticker ticker;
+    private final Map<String, Semaphore> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, PortalRateLimiter> rates = new ConcurrentHashMap<>();
+
+    public PortalThrottle(BadmintonVlaanderenProperties.Throttle limits) {
+        this(limits, Ticker.systemTicker());
+    }
+
+    PortalThrottle(BadmintonVlaanderenProperties.Throttle limits, Ticker ticker) {
+        this.limits = limits;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Runs a request against the given host once a concurrency slot and a rate permit are free.
+     */
+    public <T> T call(String host, Supplier<T> request) {
+        Semaphore permits = inFlight.computeIfAbsent(host, h -> new Semaphore(limits.maxConcurrentRequests(), true));
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PortalCommunicationException("Interrupted while waiting for a connection to " + host, e);
+        }
+        try {
+            rates.computeIfAbsent(host, h -> new PortalRateLimiter(limits.requestsPerSecond(), limits.burst(), ticker))
+                .acquire();
+            return request.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
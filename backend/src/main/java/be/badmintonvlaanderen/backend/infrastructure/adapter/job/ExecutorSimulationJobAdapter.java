@@ -0,0 +1,133 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.job;
+
+import be.badmintonvlaanderen.backend.application.port.SimulationJobPort;
+import be.badmintonvlaanderen.backend.domain.model.JobKind;
+import be.badmintonvlaanderen.backend.domain.model.JobStatus;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.metrics.UseCaseMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs simulation jobs on the bounded {@code simulationExecutor}, whose queue starts the
+ * highest priority first, and keeps finished jobs in memory for the configured retention.
+ * Each job's run is timed as its use case in {@code job} mode; the time spent queued is not.
+ * <p>
+ * The executor's queue is unbounded so it can order by priority. Admission is bounded by
+ * {@code maxConcurrency + queueCapacity} slots instead: a submission takes one up front and
+ * gives it back when its job finishes or is cancelled before starting, so concurrent
+ * submissions cannot overfill the queue.
+ */
+@Component
+public class ExecutorSimulationJobAdapter implements SimulationJobPort {
+
+    private final ThreadPoolExecutor simulationExecutor;
+    private final SimulationJobProperties properties;
+    private final Clock clock;
+    private final Map<UUID, QueuedSimulationJob> jobs = new ConcurrentHashMap<>();
+    private final Semaphore slots;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<JobKind, Timer> timers = new EnumMap<>(JobKind.class);
+
+    public ExecutorSimulationJobAdapter(@Qualifier("simulationExecutor") ThreadPoolExecutor simulationExecutor,
+                                        SimulationJobProperties properties, Clock clock,
+                                        MeterRegistry meterRegistry) {
+        this.simulationExecutor = simulationExecutor;
+        this.properties = properties;
+        this.clock = clock;
+        this.slots = new Semaphore(properties.maxConcurrency() + properties.queueCapacity());
+        for (JobKind kind : JobKind.values()) {
+            timers.put(kind, UseCaseMetrics.timer(meterRegistry, useCase(kind), "job"));
+        }
+    }
+
+    @Override
+    public SimulationJob submit(JobKind kind, Function<SimulationProgress<Object>, Object> work) {
+        evictExpired();
+        if (!slots.tryAcquire()) {
+            throw new RejectedExecutionException(
+                properties.queueCapacity() + " simulation jobs are already waiting; try again later");
+        }
+        SimulationJob queued = SimulationJob.queued(UUID.randomUUID(), kind, clock.instant());
+        Timer timer = timers.get(kind);
+        QueuedSimulationJob job = new QueuedSimulationJob(queued, sequence.getAndIncrement(),
+            progress -> timer.record(() -> work.apply(progress)), clock, slots::release);
+        jobs.put(queued.getId(), job);
+        try {
+            simulationExecutor.execute(job);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(queued.getId());
+            slots.release();
+            throw e;
+        }
+        return queued;
+    }
+
+    @Override
+    public Optional<SimulationJob> find(UUID id) {
+        evictExpired();
+        return Optional.ofNullable(jobs.get(id)).map(QueuedSimulationJob::snapshot);
+    }
+
+    @Override
+    public Optional<SimulationJob> cancel(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(job -> {
+            SimulationJob after = job.cancel();
+            if (after.getStatus() == JobStatus.CANCELLED) {
+                simulationExecutor.remove(job);
+            }
+            return after;
+        });
+    }
+
+    @Override
+    public boolean subscribe(UUID id, Consumer<SimulationJob> listener) {
+        QueuedSimulationJob job = jobs.get(id);
+        if (job == null) {
+            return false;
+        }
+        job.subscribe(listener);
+        return true;
+    }
+
+    @Override
+    public void unsubscribe(UUID id, Consumer<SimulationJob> listener) {
+        QueuedSimulationJob job = jobs.get(id);
+        if (job != null) {
+            job.unsubscribe(listener);
+        }
+    }
+
+    private static String useCase(JobKind kind) {
+        return switch (kind) {
+            case RANKING_COMPARISON -> UseCaseMetrics.RANKING_COMPARE;
+            case COMPETITION_ANALYSIS -> UseCaseMetrics.COMPETITION_ANALYZE;
+            case SEASON_SIMULATION -> UseCaseMetrics.COMPETITION_ODDS;
+        };
+    }
+
+    private void evictExpired() {
+        Instant cutoff = clock.instant().minus(properties.retention());
+        jobs.values().removeIf(job -> {
+            SimulationJob snapshot = job.snapshot();
+            return snapshot.getStatus().isTerminal() && snapshot.getFinishedAt().isBefore(cutoff);
+        });
+    }
+}
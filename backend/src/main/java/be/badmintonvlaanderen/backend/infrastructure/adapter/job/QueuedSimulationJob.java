@@ -0,0 +1,177 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.job;
+
+import be.badmintonvlaanderen.backend.domain.model.JobStatus;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A job as it sits in the priority queue of the simulation executor, and the progress sink its
+ * simulation reports to.
+ * <p>
+ * Every state change and its delivery to the listeners happen under one lock, so listeners
+ * see the snapshots in the order they were made. When the job has finished, or was cancelled
+ * before it started, it calls {@code onDone} exactly once.
+ */
+final class QueuedSimulationJob implements Runnable, Comparable<QueuedSimulationJob>, SimulationProgress<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(QueuedSimulationJob.class);
+
+    private static final Comparator<QueuedSimulationJob> QUEUE_ORDER = Comparator
+        .comparing((QueuedSimulationJob job) -> job.snapshot().getPriority())
+        .thenComparingLong(job -> job.sequence);
+
+    private final long sequence;
+    private final Function<SimulationProgress<Object>, Object> work;
+    private final Clock clock;
+    private final Runnable onDone;
+    private final AtomicBoolean done = new AtomicBoolean();
+    private final AtomicReference<SimulationJob> state;
+    private final AtomicBoolean cancelRequested = new AtomicBoolean();
+    private final AtomicReference<Thread> worker = new AtomicReference<>();
+    private final List<Consumer<SimulationJob>> listeners = new ArrayList<>();
+    private final Object publishLock = new Object();
+
+    QueuedSimulationJob(SimulationJob queued, long sequence, Function<SimulationProgress<Object>, Object> work,
+                        Clock clock, Runnable onDone) {
+        this.sequence = sequence;
+        this.work = work;
+        this.clock = clock;
+        this.onDone = onDone;
+        this.state = new AtomicReference<>(queued);
+    }
+
+    SimulationJob snapshot() {
+        return state.get();
+    }
+
+    @Override
+    public void run() {
+        SimulationJob started = publish(job -> job.getStatus() == JobStatus.QUEUED ? job.started(clock.instant()) : job);
+        if (started.getStatus() != JobStatus.RUNNING) {
+            // cancelled while queued; done already
+            return;
+        }
+        worker.set(Thread.currentThread());
+        try {
+            Object result = work.apply(this);
+            publish(job -> job.completed(result, clock.instant()));
+        } catch (SimulationCancelledException e) {
+            publish(job -> job.cancelled(clock.instant()));
+        } catch (RuntimeException e) {
+            if (cancelRequested.get()) {
+                publish(job -> job.cancelled(clock.instant()));
+            } else {
+                log.warn("Simulation job {} failed", started.getId(), e);
+                publish(job -> job.failed(e.getMessage(), clock.instant()));
+            }
+        } catch (Error e) {
+            publish(job -> job.failed(e.toString(), clock.instant()));
+            throw e;
+        } finally {
+            synchronized (this) {
+                worker.set(null);
+                // drop an interrupt from a late cancel so it cannot reach the next job
+                Thread.interrupted();
+            }
+            done();
+        }
+    }
+
+    /**
+     * Cancels the job if it has not started, otherwise flags it and interrupts its worker so
+     * blocking portal calls return early.
+     */
+    SimulationJob cancel() {
+        cancelRequested.set(true);
+        SimulationJob after = publish(job -> job.getStatus() == JobStatus.QUEUED ? job.cancelled(clock.instant()) : job);
+        if (after.getStatus() == JobStatus.CANCELLED) {
+            done();
+        } else if (after.getStatus() == JobStatus.RUNNING) {
+            synchronized (this) {
+                Thread thread = worker.get();
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        }
+        return after;
+    }
+
+    @Override
+    public void report(long completed, long total, Object partial) {
+        publish(job -> job.getStatus() == JobStatus.RUNNING ? job.progressed(completed, total, partial) : job);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested.get();
+    }
+
+    /**
+     * Sends the current snapshot to the listener and keeps it informed until the job ends.
+     */
+    void subscribe(Consumer<SimulationJob> listener) {
+        synchronized (publishLock) {
+            SimulationJob current = state.get();
+            if (deliver(listener, current) && !current.getStatus().isTerminal()) {
+                listeners.add(listener);
+            }
+        }
+    }
+
+    void unsubscribe(Consumer<SimulationJob> listener) {
+        synchronized (publishLock) {
+            listeners.remove(listener);
+        }
+    }
+
+    private void done() {
+        if (done.compareAndSet(false, true)) {
+            onDone.run();
+        }
+    }
+
+    private SimulationJob publish(UnaryOperator<SimulationJob> transition) {
+        synchronized (publishLock) {
+            SimulationJob previous = state.get();
+            SimulationJob next = transition.apply(previous);
+            if (next == previous) {
+                return previous;
+            }
+            state.set(next);
+            listeners.removeIf(listener -> !deliver(listener, next));
+            if (next.getStatus().isTerminal()) {
+                listeners.clear();
+            }
+            return next;
+        }
+    }
+
+    private static boolean deliver(Consumer<SimulationJob> listener, SimulationJob job) {
+        try {
+            listener.accept(job);
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Dropping listener of simulation job {}: {}", job.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public int compareTo(QueuedSimulationJob other) {
+        return QUEUE_ORDER.compare(this, other);
+    }
+}
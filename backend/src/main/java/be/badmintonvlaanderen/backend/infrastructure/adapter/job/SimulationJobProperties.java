@@ -0,0 +1,36 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits for background simulation jobs.
+ * <p>
+ * At most {@code maxConcurrency} jobs run at once and at most {@code queueCapacity} wait for a
+ * worker; further submissions are refused. Finished jobs are kept for {@code retention} so
+ * their result can be fetched, and an event stream is closed after {@code eventTimeout}.
+ */
+@ConfigurationProperties(prefix = "badminton-vlaanderen.jobs")
+public record SimulationJobProperties(
+    int maxConcurrency,
+    int queueCapacity,
+    Duration retention,
+    Duration eventTimeout
+) {
+
+    public SimulationJobProperties {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("retention must be positive");
+        }
+        if (eventTimeout == null || eventTimeout.isNegative() || eventTimeout.isZero()) {
+            throw new IllegalArgumentException("eventTimeout must be positive");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The timer every simulation use case is measured with, whether it answers a request or runs as
+ * a background job. Adapters look their timers up once and keep them, so a measurement costs two
+ * clock reads and no registry lookup; the engines themselves are not instrumented.
+ */
+public final class UseCaseMetrics {
+
+    public static final String METRIC = "bbv.use-case";
+
+    public static final String RANKING_SIMULATE = "ranking.simulate";
+    public static final String RANKING_SIMULATE_BATCH = "ranking.simulate-batch";
+    public static final String RANKING_COMPARE = "ranking.compare";
+    public static final String TOURNAMENT_PREDICT = "tournament.predict";
+    public static final String COMPETITION_ANALYZE = "competition.analyze";
+    public static final String COMPETITION_ODDS = "competition.odds";
+
+    private UseCaseMetrics() {
+    }
+
+    /**
+     * @param mode {@code request} when the caller waits for the answer, {@code job} when it runs
+     *             in the background
+     */
+    public static Timer timer(MeterRegistry registry, String useCase, String mode) {
+        return Timer.builder(METRIC)
+            .description("Duration of the simulation use cases")
+            .tag("use-case", useCase)
+            .tag("mode", mode)
+            .register(registry);
+    }
+}
@@ -0,0 +1,135 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.application.port.PlayerRatingRepository;
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.MatchHistory;
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.service.GlickoRatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rates the players from the {@code match_snapshot} table and keeps the ratings in memory.
+ * <p>
+ * Per category two ratings are held: the settled ones, through the last rating period that has
+ * ended, and the current ones, which add the matches of the running period on top. A refresh
+ * reads only the matches after the settled periods: it settles the periods that ended since and
+ * re-rates the running one, which gives the same ratings as rating everything again. Results
+ * uploaded late into a settled period are picked up by the next {@link #reload()}.
+ */
+@Repository
+public class InMemoryPlayerRatingRepository implements PlayerRatingRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPlayerRatingRepository.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final JdbcTemplate jdbc;
+    private final GlickoRatingService glickoRatingService;
+    private final Clock clock;
+    private final AtomicReference<Map<RankingCategory, PlayerRatings>> settled =
+        new AtomicReference<>(new EnumMap<>(RankingCategory.class));
+    private final AtomicReference<Map<RankingCategory, PlayerRatings>> current =
+        new AtomicReference<>(new EnumMap<>(RankingCategory.class));
+
+    public InMemoryPlayerRatingRepository(JdbcTemplate jdbcTemplate, GlickoRatingService glickoRatingService,
+                                          Clock clock) {
+        this.jdbc = jdbcTemplate;
+        this.glickoRatingService = glickoRatingService;
+        this.clock = clock;
+    }
+
+    @Override
+    public PlayerRatings current(RankingCategory category) {
+        return current.get().getOrDefault(category, PlayerRatings.empty());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    @Override
+    public synchronized void reload() {
+        rate(new EnumMap<>(RankingCategory.class));
+    }
+
+    @Override
+    public synchronized void refresh() {
+        rate(new EnumMap<>(settled.get()));
+    }
+
+    /**
+     * Rates the matches after the given settled ratings, for every category.
+     */
+    private void rate(Map<RankingCategory, PlayerRatings> base) {
+        long startedAt = clock.millis();
+        GlickoRules rules = glickoRatingService.getRules();
+        int openPeriod = rules.period((int) LocalDate.now(clock).toEpochDay());
+        int openStart = rules.periodStart(openPeriod);
+        Map<RankingCategory, PlayerRatings> nextSettled = new EnumMap<>(RankingCategory.class);
+        Map<RankingCategory, PlayerRatings> nextCurrent = new EnumMap<>(RankingCategory.class);
+        int matchCount = 0;
+        for (RankingCategory category : RankingCategory.values()) {
+            PlayerRatings previous = base.getOrDefault(category, PlayerRatings.empty());
+            LocalDate from = previous.getThroughPeriod() == PlayerRatings.NO_PERIOD
+                ? null
+                : LocalDate.ofEpochDay(rules.periodStart(previous.getThroughPeriod() + 1));
+            MatchHistory matches = findMatches(category, from);
+            matchCount += matches.size();
+
+            PlayerRatings closed = glickoRatingService.rate(previous,
+                matches.between(Integer.MIN_VALUE, openStart), openPeriod - 1);
+            MatchHistory open = matches.between(openStart, Integer.MAX_VALUE);
+            // matches dated ahead of today are rated in the period they are dated in
+            int through = open.isEmpty() ? openPeriod
+                : Math.max(openPeriod, rules.period(open.epochDay(open.size() - 1)));
+            nextSettled.put(category, closed);
+            nextCurrent.put(category, glickoRatingService.rate(closed, open, through));
+        }
+        settled.set(nextSettled);
+        current.set(nextCurrent);
+        log.info("Rated {} matches in {} ms", matchCount, clock.millis() - startedAt);
+    }
+
+    private MatchHistory findMatches(RankingCategory category, LocalDate from) {
+        ResultSetExtractor<MatchHistory> columns = rs -> {
+            long[] winners = new long[INITIAL_CAPACITY];
+            long[] losers = new long[INITIAL_CAPACITY];
+            int[] days = new int[INITIAL_CAPACITY];
+            int size = 0;
+            while (rs.next()) {
+                if (size == days.length) {
+                    winners = Arrays.copyOf(winners, size * 2);
+                    losers = Arrays.copyOf(losers, size * 2);
+                    days = Arrays.copyOf(days, size * 2);
+                }
+                winners[size] = rs.getLong(1);
+                losers[size] = rs.getLong(2);
+                days[size] = (int) rs.getDate(3).toLocalDate().toEpochDay();
+                size++;
+            }
+            return MatchHistory.of(Arrays.copyOf(winners, size), Arrays.copyOf(losers, size),
+                Arrays.copyOf(days, size));
+        };
+        // a fixed order within a day, so rating the same matches twice gives the same ratings
+        String sql = "SELECT winner_id, loser_id, match_date FROM match_snapshot WHERE category = ?"
+            + (from == null ? "" : " AND match_date >= ?")
+            + " ORDER BY match_date, tournament_id, winner_id, loser_id";
+        return from == null
+            ? jdbc.query(sql, columns, category.name())
+            : jdbc.query(sql, columns, category.name(), Date.valueOf(from));
+    }
+}
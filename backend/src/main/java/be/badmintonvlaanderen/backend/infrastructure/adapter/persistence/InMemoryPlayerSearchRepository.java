@@ -0,0 +1,118 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.application.port.PlayerSearchRepository;
+import be.badmintonvlaanderen.backend.application.port.RankingSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+import be.badmintonvlaanderen.backend.domain.model.PlayerSearchIndex;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a {@link PlayerSearchIndex} over the stored players.
+ * <p>
+ * The players are held in memory; after a synchronisation only the touched players are read
+ * again and the index is rebuilt from memory, ordered by the points of the current ranking
+ * snapshot. Searches run against whichever index was swapped in last and never lock.
+ */
+@Repository
+public class InMemoryPlayerSearchRepository implements PlayerSearchRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPlayerSearchRepository.class);
+
+    /**
+     * Players queried per round trip when refreshing.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private static final String SELECT_PLAYERS = "SELECT id, first_name, last_name, club_name FROM player_snapshot";
+    private static final RowMapper<Player> PLAYER = (rs, row) ->
+        new Player(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final RankingSnapshotRepository rankingSnapshots;
+    private final Clock clock;
+    private final Map<Long, Player> players = new HashMap<>();
+    private final AtomicReference<PlayerSearchIndex> index = new AtomicReference<>(PlayerSearchIndex.empty());
+
+    public InMemoryPlayerSearchRepository(JdbcTemplate jdbcTemplate, RankingSnapshotRepository rankingSnapshots,
+                                          Clock clock) {
+        this.jdbc = jdbcTemplate;
+        this.named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.rankingSnapshots = rankingSnapshots;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<PlayerMatch> search(String query, int limit) {
+        return index.get().search(query, limit);
+    }
+
+    /**
+     * Runs after the ranking snapshot is loaded, so players are ordered by their current points.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    @Override
+    public synchronized void reload() {
+        players.clear();
+        jdbc.query(SELECT_PLAYERS, PLAYER).forEach(player -> players.put(player.getId(), player));
+        rebuild();
+    }
+
+    @Override
+    public synchronized void refresh(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(new HashSet<>(playerIds));
+        ids.forEach(players::remove);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            named.query(SELECT_PLAYERS + " WHERE id IN (:ids)",
+                    Map.of("ids", ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE))), PLAYER)
+                .forEach(player -> players.put(player.getId(), player));
+        }
+        rebuild();
+    }
+
+    private void rebuild() {
+        long startedAt = clock.millis();
+        Optional<RankingSnapshot> snapshot = rankingSnapshots.current();
+        PlayerSearchIndex rebuilt = PlayerSearchIndex.of(players.values(),
+            id -> snapshot.map(s -> bestPoints(s, id)).orElse(0));
+        index.set(rebuilt);
+        log.debug("Indexed {} players for search in {} ms", rebuilt.size(), clock.millis() - startedAt);
+    }
+
+    private static int bestPoints(RankingSnapshot snapshot, long playerId) {
+        int best = 0;
+        for (RankingCategory category : RankingCategory.values()) {
+            int points = snapshot.pointsOf(category, playerId);
+            if (points != CategoryRanking.UNRANKED) {
+                best = Math.max(best, points);
+            }
+        }
+        return best;
+    }
+}
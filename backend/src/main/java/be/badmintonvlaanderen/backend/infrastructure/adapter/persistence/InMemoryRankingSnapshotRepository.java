@@ -0,0 +1,164 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.application.port.RankingSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingHistory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the current points of every stored player in a {@link RankingSnapshot}.
+ * <p>
+ * The snapshot is built from the player snapshots once the application is ready and is patched
+ * per player after every synchronisation. Readers never lock: a change builds a new snapshot
+ * and swaps it in, so a query sees either the old or the new snapshot as a whole.
+ */
+@Repository
+public class InMemoryRankingSnapshotRepository implements RankingSnapshotRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryRankingSnapshotRepository.class);
+
+    /**
+     * Players queried per round trip when refreshing.
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private static final int CATEGORIES = RankingCategory.values().length;
+
+    private static final String SELECT_RESULTS = "SELECT p.id, r.category, r.points, r.result_date, r.level"
+        + " FROM player_snapshot p LEFT JOIN player_result_snapshot r ON r.player_id = p.id";
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+    private final RankingCalculationService rankingCalculationService;
+    private final Clock clock;
+    private final AtomicReference<RankingSnapshot> snapshot = new AtomicReference<>();
+
+    public InMemoryRankingSnapshotRepository(JdbcTemplate jdbcTemplate,
+                                             RankingCalculationService rankingCalculationService,
+                                             Clock clock) {
+        this.jdbc = jdbcTemplate;
+        this.named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.rankingCalculationService = rankingCalculationService;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<RankingSnapshot> current() {
+        return Optional.ofNullable(snapshot.get()).filter(s -> !s.isEmpty());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Override
+    public synchronized void reload() {
+        long startedAt = clock.millis();
+        LocalDate today = LocalDate.now(clock);
+        List<Long> ids = new ArrayList<>();
+        List<int[]> points = new ArrayList<>();
+        jdbc.query(SELECT_RESULTS + " ORDER BY p.id", players((int) today.toEpochDay(), ids, points));
+        RankingSnapshot loaded = RankingSnapshot.of(today, toLongs(ids), columns(points));
+        snapshot.set(loaded);
+        log.info("Loaded ranking snapshot of {} players in {} ms", loaded.size(), clock.millis() - startedAt);
+    }
+
+    @Override
+    public synchronized void refresh(Collection<Long> playerIds) {
+        RankingSnapshot previous = snapshot.get();
+        LocalDate today = LocalDate.now(clock);
+        if (previous == null || !previous.getAsOf().equals(today)) {
+            reload();
+            return;
+        }
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        List<Long> requested = new ArrayList<>(new HashSet<>(playerIds));
+        List<Long> ids = new ArrayList<>();
+        List<int[]> points = new ArrayList<>();
+        for (int from = 0; from < requested.size(); from += CHUNK_SIZE) {
+            named.query(SELECT_RESULTS + " WHERE p.id IN (:ids) ORDER BY p.id",
+                Map.of("ids", requested.subList(from, Math.min(requested.size(), from + CHUNK_SIZE))),
+                players((int) today.toEpochDay(), ids, points));
+        }
+        Set<Long> removed = new HashSet<>(requested);
+        ids.forEach(removed::remove);
+        snapshot.set(previous.with(toLongs(ids), columns(points), removed));
+        log.debug("Refreshed {} players of the ranking snapshot, {} removed", ids.size(), removed.size());
+    }
+
+    /**
+     * Reads result rows ordered by player, scoring each player in every category as soon as its
+     * last row has been read and appending it to {@code ids} and {@code points}.
+     */
+    private ResultSetExtractor<Void> players(int evaluationEpochDay, List<Long> ids, List<int[]> points) {
+        return rs -> {
+            List<List<RankingResult>> results = new ArrayList<>(CATEGORIES);
+            for (int c = 0; c < CATEGORIES; c++) {
+                results.add(new ArrayList<>());
+            }
+            boolean more = rs.next();
+            while (more) {
+                long id = rs.getLong(1);
+                do {
+                    String category = rs.getString(2);
+                    if (category != null) {
+                        RankingCategory rankingCategory = RankingCategory.valueOf(category);
+                        results.get(rankingCategory.ordinal()).add(new RankingResult(rankingCategory,
+                            rs.getInt(3), rs.getDate(4).toLocalDate(), TournamentLevel.valueOf(rs.getString(5))));
+                    }
+                    more = rs.next();
+                } while (more && rs.getLong(1) == id);
+
+                int[] row = new int[CATEGORIES];
+                for (int c = 0; c < CATEGORIES; c++) {
+                    List<RankingResult> categoryResults = results.get(c);
+                    int total = categoryResults.isEmpty() ? 0 : rankingCalculationService.calculatePoints(
+                        RankingHistory.of(categoryResults), evaluationEpochDay);
+                    row[c] = total > 0 ? total : CategoryRanking.UNRANKED;
+                    categoryResults.clear();
+                }
+                ids.add(id);
+                points.add(row);
+            }
+            return null;
+        };
+    }
+
+    private static long[] toLongs(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static int[][] columns(List<int[]> rows) {
+        int[][] columns = new int[CATEGORIES][rows.size()];
+        for (int row = 0; row < rows.size(); row++) {
+            for (int c = 0; c < CATEGORIES; c++) {
+                columns[c][row] = rows.get(row)[c];
+            }
+        }
+        return columns;
+    }
+}
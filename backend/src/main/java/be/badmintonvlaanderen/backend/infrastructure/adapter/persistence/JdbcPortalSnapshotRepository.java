@@ -0,0 +1,302 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+import be.badmintonvlaanderen.backend.domain.model.PlayedMatch;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.SyncCheckpoint;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Stores portal snapshots with plain JDBC batches.
+ * <p>
+ * Saving a record replaces it wholesale: its rows and child rows are deleted and inserted again
+ * in one transaction. That keeps the statements portable between H2 and PostgreSQL, and since the
+ * synchronisation only saves records whose content hash changed, the rewrite stays small.
+ * Rows are sent in JDBC batches of {@value #BATCH_SIZE}; on PostgreSQL the {@code postgres}
+ * profile enables {@code reWriteBatchedInserts}, so each batch travels as multi-row INSERTs.
+ */
+@Repository
+public class JdbcPortalSnapshotRepository implements PortalSnapshotRepository {
+
+    /**
+     * Rows per JDBC batch; matches the chunk size of the synchronisation.
+     */
+    static final int BATCH_SIZE = 500;
+
+    private static final int CHECKPOINT_ID = 1;
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate named;
+
+    public JdbcPortalSnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbc = jdbcTemplate;
+        this.named = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public Map<Long, Long> findContentHashes(SnapshotType type, Collection<Long> ids) {
+        Map<Long, Long> hashes = new HashMap<>();
+        if (ids.isEmpty()) {
+            return hashes;
+        }
+        named.query("SELECT id, content_hash FROM " + table(type) + " WHERE id IN (:ids)",
+            Map.of("ids", ids),
+            rs -> {
+                hashes.put(rs.getLong(1), rs.getLong(2));
+            });
+        return hashes;
+    }
+
+    @Override
+    public Set<Long> findIds(SnapshotType type) {
+        return new HashSet<>(jdbc.queryForList("SELECT id FROM " + table(type), Long.class));
+    }
+
+    @Override
+    public Map<Long, List<RankingResult>> findResults(RankingCategory category, String clubName) {
+        Map<Long, List<RankingResult>> results = new LinkedHashMap<>();
+        RowCallbackHandler collect = rs -> {
+            List<RankingResult> playerResults = results.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>());
+            // a club member without results in the category comes back as one row without a result
+            if (rs.getDate(3) != null) {
+                playerResults.add(new RankingResult(category, rs.getInt(2), rs.getDate(3).toLocalDate(),
+                    TournamentLevel.valueOf(rs.getString(4))));
+            }
+        };
+        if (clubName == null) {
+            jdbc.query("SELECT player_id, points, result_date, level FROM player_result_snapshot"
+                + " WHERE category = ? ORDER BY player_id", collect, category.name());
+        } else {
+            jdbc.query("SELECT p.id, r.points, r.result_date, r.level FROM player_snapshot p"
+                + " LEFT JOIN player_result_snapshot r ON r.player_id = p.id AND r.category = ?"
+                + " WHERE LOWER(p.club_name) = LOWER(?) ORDER BY p.id", collect, category.name(), clubName);
+        }
+        return results;
+    }
+
+    @Override
+    public Map<Long, Competition> findCompetitions(Collection<Long> ids) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        Map<Long, List<CompetitionTeam>> teams = new HashMap<>();
+        Map<Long, List<Fixture>> fixtures = new HashMap<>();
+        List<Long> remaining = new ArrayList<>(new LinkedHashSet<>(ids));
+        for (int from = 0; from < remaining.size(); from += BATCH_SIZE) {
+            Map<String, Object> chunk = Map.of("ids",
+                remaining.subList(from, Math.min(remaining.size(), from + BATCH_SIZE)));
+            named.query("SELECT id, name FROM standing_snapshot WHERE id IN (:ids) ORDER BY id", chunk,
+                rs -> {
+                    names.put(rs.getLong(1), rs.getString(2));
+                });
+            named.query("SELECT competition_id, team_id, name FROM competition_team_snapshot"
+                + " WHERE competition_id IN (:ids) ORDER BY competition_id, team_id", chunk, rs -> {
+                    teams.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+                        .add(new CompetitionTeam(rs.getLong(2), rs.getString(3)));
+                });
+            named.query("SELECT competition_id, fixture_id, home_team_id, away_team_id, fixture_date,"
+                + " home_matches, away_matches, home_games, away_games FROM fixture_snapshot"
+                + " WHERE competition_id IN (:ids) ORDER BY competition_id, fixture_id", chunk, rs -> {
+                    // an unplayed fixture has no match counts
+                    FixtureResult result = rs.getObject(6) == null ? null
+                        : new FixtureResult(rs.getInt(6), rs.getInt(7), rs.getInt(8), rs.getInt(9));
+                    Date date = rs.getDate(5);
+                    fixtures.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(new Fixture(rs.getLong(2),
+                        rs.getLong(3), rs.getLong(4), date == null ? null : date.toLocalDate(), result));
+                });
+        }
+        Map<Long, Competition> competitions = new LinkedHashMap<>();
+        names.forEach((id, name) -> competitions.put(id, new Competition(id, name,
+            teams.getOrDefault(id, List.of()), fixtures.getOrDefault(id, List.of()))));
+        return competitions;
+    }
+
+    @Override
+    @Transactional
+    public void savePlayers(List<ContentSnapshot<PlayerData>> snapshots) {
+        delete(SnapshotType.PLAYER, ids(snapshots));
+        List<ResultRow> results = new ArrayList<>();
+        for (ContentSnapshot<PlayerData> snapshot : snapshots) {
+            for (RankingResult result : snapshot.getContent().getResults()) {
+                results.add(new ResultRow(snapshot.getId(), result));
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO player_snapshot (id, content_hash, first_name, last_name, club_name)"
+            + " VALUES (?, ?, ?, ?, ?)", snapshots, BATCH_SIZE, (ps, snapshot) -> {
+                Player player = snapshot.getContent().getPlayer();
+                ps.setLong(1, snapshot.getId());
+                ps.setLong(2, snapshot.getContentHash());
+                ps.setString(3, player.getFirstName());
+                ps.setString(4, player.getLastName());
+                ps.setString(5, player.getClubName());
+            });
+        // the bulk of a sync: typed setters skip the per-value type resolution of Object[] rows
+        jdbc.batchUpdate("INSERT INTO player_result_snapshot (player_id, category, points, result_date, level)"
+            + " VALUES (?, ?, ?, ?, ?)", results, BATCH_SIZE, (ps, row) -> {
+                ps.setLong(1, row.playerId());
+                ps.setString(2, row.result().getCategory().name());
+                ps.setInt(3, row.result().getPoints());
+                ps.setDate(4, Date.valueOf(row.result().getDate()));
+                ps.setString(5, row.result().getLevel().name());
+            });
+    }
+
+    @Override
+    @Transactional
+    public void saveTournaments(List<ContentSnapshot<Tournament>> snapshots) {
+        delete(SnapshotType.TOURNAMENT, ids(snapshots));
+        List<Object[]> tournaments = new ArrayList<>(snapshots.size());
+        List<Object[]> entries = new ArrayList<>();
+        List<Object[]> matches = new ArrayList<>();
+        for (ContentSnapshot<Tournament> snapshot : snapshots) {
+            Tournament tournament = snapshot.getContent();
+            tournaments.add(new Object[]{snapshot.getId(), snapshot.getContentHash(), tournament.getName(),
+                tournament.getLevel().name(), tournament.getCategory().name(), date(tournament.getStartDate())});
+            List<TournamentEntrant> slots = tournament.getBracket().getSlots();
+            for (int slot = 0; slot < slots.size(); slot++) {
+                TournamentEntrant entrant = slots.get(slot);
+                if (entrant != null) {
+                    entries.add(new Object[]{snapshot.getId(), slot, entrant.getPlayerId(),
+                        entrant.getName(), entrant.getRankingPoints()});
+                }
+            }
+            for (PlayedMatch match : tournament.getMatches()) {
+                matches.add(new Object[]{snapshot.getId(), match.getWinnerId(), match.getLoserId(),
+                    date(match.getDate()), tournament.getCategory().name()});
+            }
+        }
+        insert("INSERT INTO tournament_snapshot (id, content_hash, name, level, category, start_date)"
+            + " VALUES (?, ?, ?, ?, ?, ?)", tournaments);
+        insert("INSERT INTO tournament_entry_snapshot (tournament_id, slot, player_id, name, ranking_points)"
+            + " VALUES (?, ?, ?, ?, ?)", entries);
+        insert("INSERT INTO match_snapshot (tournament_id, winner_id, loser_id, match_date, category)"
+            + " VALUES (?, ?, ?, ?, ?)", matches);
+    }
+
+    @Override
+    @Transactional
+    public void saveStandings(List<ContentSnapshot<Competition>> snapshots) {
+        delete(SnapshotType.STANDING, ids(snapshots));
+        List<Object[]> competitions = new ArrayList<>(snapshots.size());
+        List<Object[]> teams = new ArrayList<>();
+        List<Object[]> fixtures = new ArrayList<>();
+        for (ContentSnapshot<Competition> snapshot : snapshots) {
+            Competition competition = snapshot.getContent();
+            competitions.add(new Object[]{snapshot.getId(), snapshot.getContentHash(), competition.getName()});
+            for (CompetitionTeam team : competition.getTeams()) {
+                teams.add(new Object[]{snapshot.getId(), team.getId(), team.getName()});
+            }
+            for (Fixture fixture : competition.getFixtures()) {
+                FixtureResult result = fixture.getResult();
+                fixtures.add(new Object[]{snapshot.getId(), fixture.getId(), fixture.getHomeTeamId(),
+                    fixture.getAwayTeamId(), date(fixture.getDate()),
+                    result == null ? null : result.getHomeMatches(),
+                    result == null ? null : result.getAwayMatches(),
+                    result == null ? null : result.getHomeGames(),
+                    result == null ? null : result.getAwayGames()});
+            }
+        }
+        insert("INSERT INTO standing_snapshot (id, content_hash, name) VALUES (?, ?, ?)", competitions);
+        insert("INSERT INTO competition_team_snapshot (competition_id, team_id, name) VALUES (?, ?, ?)", teams);
+        insert("INSERT INTO fixture_snapshot (competition_id, fixture_id, home_team_id, away_team_id,"
+            + " fixture_date, home_matches, away_matches, home_games, away_games)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", fixtures);
+    }
+
+    @Override
+    @Transactional
+    public void delete(SnapshotType type, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> remaining = new ArrayList<>(ids);
+        for (int from = 0; from < remaining.size(); from += BATCH_SIZE) {
+            Map<String, Object> chunk = Map.of("ids",
+                remaining.subList(from, Math.min(remaining.size(), from + BATCH_SIZE)));
+            switch (type) {
+                case PLAYER -> named.update("DELETE FROM player_result_snapshot WHERE player_id IN (:ids)", chunk);
+                case TOURNAMENT -> {
+                    named.update("DELETE FROM tournament_entry_snapshot WHERE tournament_id IN (:ids)", chunk);
+                    named.update("DELETE FROM match_snapshot WHERE tournament_id IN (:ids)", chunk);
+                }
+                case STANDING -> {
+                    named.update("DELETE FROM competition_team_snapshot WHERE competition_id IN (:ids)", chunk);
+                    named.update("DELETE FROM fixture_snapshot WHERE competition_id IN (:ids)", chunk);
+                }
+            }
+            named.update("DELETE FROM " + table(type) + " WHERE id IN (:ids)", chunk);
+        }
+    }
+
+    @Override
+    public Optional<SyncCheckpoint> findCheckpoint() {
+        return jdbc.query("SELECT synced_up_to, data_version FROM sync_checkpoint WHERE id = ?",
+            (rs, row) -> new SyncCheckpoint(rs.getTimestamp(1).toInstant(), rs.getLong(2)),
+            CHECKPOINT_ID).stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public void saveCheckpoint(SyncCheckpoint checkpoint) {
+        Timestamp syncedUpTo = Timestamp.from(checkpoint.getSyncedUpTo());
+        int updated = jdbc.update("UPDATE sync_checkpoint SET synced_up_to = ?, data_version = ? WHERE id = ?",
+            syncedUpTo, checkpoint.getDataVersion(), CHECKPOINT_ID);
+        if (updated == 0) {
+            jdbc.update("INSERT INTO sync_checkpoint (id, synced_up_to, data_version) VALUES (?, ?, ?)",
+                CHECKPOINT_ID, syncedUpTo, checkpoint.getDataVersion());
+        }
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private record ResultRow(long playerId, RankingResult result) {
+    }
+
+    private static String table(SnapshotType type) {
+        return switch (type) {
+            case PLAYER -> "player_snapshot";
+            case TOURNAMENT -> "tournament_snapshot";
+            case STANDING -> "standing_snapshot";
+        };
+    }
+
+    private static List<Long> ids(List<? extends ContentSnapshot<?>> snapshots) {
+        return snapshots.stream().<Long>map(ContentSnapshot::getId).toList();
+    }
+
+    private static Date date(LocalDate date) {
+        return date == null ? null : Date.valueOf(date);
+    }
+}
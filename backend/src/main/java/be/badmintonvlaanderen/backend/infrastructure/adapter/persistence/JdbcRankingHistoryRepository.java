@@ -0,0 +1,152 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.application.port.RankingHistoryRepository;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSeries;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores weekly ranking publications in the {@code ranking_history} table and keeps the series
+ * of the most viewed players packed in memory.
+ * <p>
+ * Rows are keyed by season, which on PostgreSQL is the partition key: the partition of a season
+ * is created when its first week is recorded. A chart reads one player's series once, packs it
+ * into a {@link RankingSeries} of a few bytes per week and serves it from a cache bounded by the
+ * total packed size until the next publication is recorded.
+ */
+@Repository
+public class JdbcRankingHistoryRepository implements RankingHistoryRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcRankingHistoryRepository.class);
+
+    /**
+     * A season runs from July to June and is named after the year it starts in.
+     */
+    static final Month SEASON_START = Month.JULY;
+
+    /**
+     * Rows per JDBC batch.
+     */
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * Estimated bytes a cached series costs beyond its packed data.
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final JdbcTemplate jdbc;
+    private final Cache<SeriesKey, RankingSeries> series;
+
+    public JdbcRankingHistoryRepository(JdbcTemplate jdbcTemplate,
+                                        @Value("${badminton-vlaanderen.ranking.history-cache-size:64MB}")
+                                        DataSize cacheSize) {
+        this.jdbc = jdbcTemplate;
+        this.series = Caffeine.newBuilder()
+            .maximumWeight(cacheSize.toBytes())
+            .<SeriesKey, RankingSeries>weigher((key, value) -> value.encodedLength() + ENTRY_OVERHEAD)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * The cache of packed series, for statistics and metrics.
+     */
+    public Cache<?, ?> seriesCache() {
+        return series;
+    }
+
+    @Override
+    @Transactional
+    public void record(RankingSnapshot snapshot) {
+        LocalDate publishedOn = snapshot.getAsOf().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int season = season(publishedOn);
+        if (isPostgres()) {
+            jdbc.execute("CREATE TABLE IF NOT EXISTS ranking_history_" + season
+                + " PARTITION OF ranking_history FOR VALUES IN (" + season + ")");
+        }
+        jdbc.update("DELETE FROM ranking_history WHERE season = ? AND published_on = ?",
+            season, Date.valueOf(publishedOn));
+
+        List<int[]> rows = new ArrayList<>();
+        for (RankingCategory category : RankingCategory.values()) {
+            for (int row = 0; row < snapshot.size(); row++) {
+                int points = snapshot.pointsAt(category, row);
+                if (points != CategoryRanking.UNRANKED) {
+                    rows.add(new int[]{row, category.ordinal(), points,
+                        snapshot.getRanking(category).countAbove(points) + 1});
+                }
+            }
+        }
+        Date published = Date.valueOf(publishedOn);
+        RankingCategory[] categories = RankingCategory.values();
+        jdbc.batchUpdate("INSERT INTO ranking_history (player_id, category, season, published_on, points,"
+            + " ranking_position) VALUES (?, ?, ?, ?, ?, ?)", rows, BATCH_SIZE, (ps, row) -> {
+                ps.setLong(1, snapshot.playerIdAt(row[0]));
+                ps.setString(2, categories[row[1]].name());
+                ps.setInt(3, season);
+                ps.setDate(4, published);
+                ps.setInt(5, row[2]);
+                ps.setInt(6, row[3]);
+            });
+        series.invalidateAll();
+        log.info("Recorded ranking publication of {} ({} rows, season {})", publishedOn, rows.size(), season);
+    }
+
+    @Override
+    public RankingSeries findSeries(Long playerId, RankingCategory category) {
+        return series.get(new SeriesKey(playerId, category), this::load);
+    }
+
+    private RankingSeries load(SeriesKey key) {
+        int[][] columns = {new int[64], new int[64], new int[64]};
+        int[] size = {0};
+        jdbc.query("SELECT published_on, points, ranking_position FROM ranking_history"
+                + " WHERE player_id = ? AND category = ? ORDER BY published_on",
+            rs -> {
+                if (size[0] == columns[0].length) {
+                    for (int c = 0; c < columns.length; c++) {
+                        columns[c] = Arrays.copyOf(columns[c], size[0] * 2);
+                    }
+                }
+                columns[0][size[0]] = (int) rs.getDate(1).toLocalDate().toEpochDay();
+                columns[1][size[0]] = rs.getInt(2);
+                columns[2][size[0]] = rs.getInt(3);
+                size[0]++;
+            },
+            key.playerId(), key.category().name());
+        return RankingSeries.of(Arrays.copyOf(columns[0], size[0]), Arrays.copyOf(columns[1], size[0]),
+            Arrays.copyOf(columns[2], size[0]));
+    }
+
+    static int season(LocalDate date) {
+        return date.getMonthValue() >= SEASON_START.getValue() ? date.getYear() : date.getYear() - 1;
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    private record SeriesKey(long playerId, RankingCategory category) {
+    }
+}
@@ -0,0 +1,42 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.scheduling;
+
+import be.badmintonvlaanderen.backend.application.service.PortalSyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Triggers the portal synchronisation: changes during the day, a full comparison every night.
+ */
+@Component
+@ConditionalOnProperty(prefix = "badminton-vlaanderen.sync", name = "enabled", havingValue = "true")
+public class PortalSyncScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PortalSyncScheduler.class);
+
+    private final PortalSyncService portalSyncService;
+
+    public PortalSyncScheduler(PortalSyncService portalSyncService) {
+        this.portalSyncService = portalSyncService;
+    }
+
+    @Scheduled(cron = "${badminton-vlaanderen.sync.incremental-cron}", zone = "${badminton-vlaanderen.sync.zone}")
+    public void synchronizeChanges() {
+        try {
+            portalSyncService.synchronizeChanges();
+        } catch (RuntimeException e) {
+            log.warn("Incremental portal sync failed; retrying at the next run", e);
+        }
+    }
+
+    @Scheduled(cron = "${badminton-vlaanderen.sync.full-cron}", zone = "${badminton-vlaanderen.sync.zone}")
+    public void synchronizeAll() {
+        try {
+            portalSyncService.synchronizeAll();
+        } catch (RuntimeException e) {
+            log.warn("Full portal sync failed; retrying at the next run", e);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingBatchSimulationResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingBatchSimulationResponse.PlayerProjectionDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingHistoryResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingHistoryResponse.PublicationDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SeasonOddsResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SeasonOddsResponse.DivisionOddsDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SeasonOddsResponse.TeamOddsDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse.EntrantPredictionDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes the large simulation results as {@code application/x-bbv-binary}, a compact columnar
+ * format, for clients that ask for it in {@code Accept}; JSON stays the default.
+ * <p>
+ * A body starts with the bytes {@code BBV}, the format version ({@code 1}) and a byte naming the
+ * result. Every list is written as its size followed by one column per field, so a client can
+ * view the numbers as typed arrays without parsing them. Numbers are big-endian: {@code i32},
+ * {@code i64} and {@code f64}; a missing ID is {@code i64} minimum. A string is its UTF-8 length
+ * as {@code i32} ({@code -1} for none) followed by the bytes. The results, in field order:
+ * <ul>
+ *   <li>{@code 1} tournament prediction: tournament ID, iterations ({@code i32}), seed, rounds
+ *       ({@code i32}), then the entrants: player IDs, names, win probabilities and the
+ *       {@code rounds + 1} round probabilities of every entrant, entrant after entrant</li>
+ *   <li>{@code 2} season odds: iterations, seed, promoted and relegated teams ({@code i32}), then
+ *       the number of divisions and for each its competition ID, its name and its teams: team IDs,
+ *       names, expected points, championship, promotion and relegation probabilities</li>
+ *   <li>{@code 3} ranking history: player ID, category, then the publications: dates (epoch
+ *       days), points and positions ({@code i32})</li>
+ *   <li>{@code 4} batch ranking simulation: category, club name, then the players: player IDs,
+ *       current and projected positions, position changes, current and projected points
+ *       ({@code i32})</li>
+ * </ul>
+ * The binary and the JSON form of a result are different representations, so the converter
+ * suffixes the entity tag of a binary body; see {@link #etag(String, String)}.
+ */
+public class BinaryResultMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-bbv-binary");
+
+    static final int VERSION = 1;
+    static final int TOURNAMENT_PREDICTION = 1;
+    static final int SEASON_ODDS = 2;
+    static final int RANKING_HISTORY = 3;
+    static final int RANKING_BATCH_SIMULATION = 4;
+
+    private static final String ETAG_SUFFIX = "-bbv";
+    private static final long NO_ID = Long.MIN_VALUE;
+
+    public BinaryResultMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    /**
+     * The entity tag of a result in the representation the {@code Accept} header asks for: the
+     * tag itself for JSON, the tag with a suffix when the client only takes the binary format.
+     */
+    public static String etag(String etag, String accept) {
+        if (accept == null || !accept.contains(MEDIA_TYPE.toString())) {
+            return etag;
+        }
+        for (MediaType type : MediaType.parseMediaTypes(accept)) {
+            if (!type.isCompatibleWith(MEDIA_TYPE) && type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return etag;
+            }
+        }
+        return binaryEtag(etag);
+    }
+
+    private static String binaryEtag(String etag) {
+        String suffixed = ETAG_SUFFIX + "\"";
+        return etag.endsWith(suffixed) ? etag : etag.substring(0, etag.length() - 1) + suffixed;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == TournamentPredictionResponse.class
+            || clazz == SeasonOddsResponse.class
+            || clazz == RankingHistoryResponse.class
+            || clazz == RankingBatchSimulationResponse.class;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binary results are written only", inputMessage);
+    }
+
+    @Override
+    protected void addDefaultHeaders(HttpHeaders headers, Object result, MediaType contentType) throws IOException {
+        super.addDefaultHeaders(headers, result, contentType);
+        if (headers.getETag() != null) {
+            headers.setETag(binaryEtag(headers.getETag()));
+        }
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object result, HttpOutputMessage outputMessage) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputMessage.getBody()));
+        out.writeByte('B');
+        out.writeByte('B');
+        out.writeByte('V');
+        out.writeByte(VERSION);
+        switch (result) {
+            case TournamentPredictionResponse prediction -> writePrediction(out, prediction);
+            case SeasonOddsResponse odds -> writeSeasonOdds(out, odds);
+            case RankingHistoryResponse history -> writeRankingHistory(out, history);
+            case RankingBatchSimulationResponse batch -> writeBatchSimulation(out, batch);
+            default -> throw new IllegalArgumentException("No binary form for " + result.getClass().getSimpleName());
+        }
+        out.flush();
+    }
+
+    private static void writePrediction(DataOutputStream out, TournamentPredictionResponse prediction)
+            throws IOException {
+        out.writeByte(TOURNAMENT_PREDICTION);
+        out.writeLong(id(prediction.tournamentId()));
+        out.writeInt(prediction.iterations());
+        out.writeLong(prediction.seed());
+        out.writeInt(prediction.rounds());
+        List<EntrantPredictionDto> entrants = prediction.entrants();
+        out.writeInt(entrants.size());
+        writeIds(out, entrants, EntrantPredictionDto::playerId);
+        writeStrings(out, entrants, EntrantPredictionDto::name);
+        writeDoubles(out, entrants, EntrantPredictionDto::winProbability);
+        for (EntrantPredictionDto entrant : entrants) {
+            for (int round = 0; round <= prediction.rounds(); round++) {
+                out.writeDouble(entrant.roundProbabilities()[round]);
+            }
+        }
+    }
+
+    private static void writeSeasonOdds(DataOutputStream out, SeasonOddsResponse odds) throws IOException {
+        out.writeByte(SEASON_ODDS);
+        out.writeInt(odds.iterations());
+        out.writeLong(odds.seed());
+        out.writeInt(odds.promotedTeams());
+        out.writeInt(odds.relegatedTeams());
+        out.writeInt(odds.divisions().size());
+        for (DivisionOddsDto division : odds.divisions()) {
+            out.writeLong(id(division.competitionId()));
+            writeString(out, division.competitionName());
+            List<TeamOddsDto> teams = division.teams();
+            out.writeInt(teams.size());
+            writeIds(out, teams, TeamOddsDto::teamId);
+            writeStrings(out, teams, TeamOddsDto::teamName);
+            writeDoubles(out, teams, TeamOddsDto::expectedPoints);
+            writeDoubles(out, teams, TeamOddsDto::championship);
+            writeDoubles(out, teams, TeamOddsDto::promotion);
+            writeDoubles(out, teams, TeamOddsDto::relegation);
+        }
+    }
+
+    private static void writeRankingHistory(DataOutputStream out, RankingHistoryResponse history)
+            throws IOException {
+        out.writeByte(RANKING_HISTORY);
+        out.writeLong(id(history.playerId()));
+        writeString(out, history.category() == null ? null : history.category().name());
+        List<PublicationDto> publications = history.publications();
+        out.writeInt(publications.size());
+        writeInts(out, publications, publication -> (int) publication.date().toEpochDay());
+        writeInts(out, publications, PublicationDto::points);
+        writeInts(out, publications, PublicationDto::ranking);
+    }
+
+    private static void writeBatchSimulation(DataOutputStream out, RankingBatchSimulationResponse batch)
+            throws IOException {
+        out.writeByte(RANKING_BATCH_SIMULATION);
+        writeString(out, batch.category() == null ? null : batch.category().name());
+        writeString(out, batch.clubName());
+        List<PlayerProjectionDto> players = batch.players();
+        out.writeInt(players.size());
+        writeLongs(out, players, PlayerProjectionDto::playerId);
+        writeInts(out, players, PlayerProjectionDto::currentRanking);
+        writeInts(out, players, PlayerProjectionDto::projectedRanking);
+        writeInts(out, players, PlayerProjectionDto::rankingChange);
+        writeInts(out, players, PlayerProjectionDto::currentPoints);
+        writeInts(out, players, PlayerProjectionDto::projectedPoints);
+    }
+
+    private static <T> void writeLongs(DataOutputStream out, List<T> rows, ToLongFunction<T> column)
+            throws IOException {
+        for (T row : rows) {
+            out.writeLong(column.applyAsLong(row));
+        }
+    }
+
+    private static <T> void writeIds(DataOutputStream out, List<T> rows, Function<T, Long> column)
+            throws IOException {
+        for (T row : rows) {
+            out.writeLong(id(column.apply(row)));
+        }
+    }
+
+    private static <T> void writeInts(DataOutputStream out, List<T> rows, ToIntFunction<T> column)
+            throws IOException {
+        for (T row : rows) {
+            out.writeInt(column.applyAsInt(row));
+        }
+    }
+
+    private static <T> void writeDoubles(DataOutputStream out, List<T> rows, ToDoubleFunction<T> column)
+            throws IOException {
+        for (T row : rows) {
+            out.writeDouble(column.applyAsDouble(row));
+        }
+    }
+
+    private static <T> void writeStrings(DataOutputStream out, List<T> rows, Function<T, String> column)
+            throws IOException {
+        for (T row : rows) {
+            writeString(out, column.apply(row));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static long id(Long id) {
+        return id == null ? NO_ID : id;
+    }
+}
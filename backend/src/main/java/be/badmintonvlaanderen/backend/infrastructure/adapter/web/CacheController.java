@@ -0,0 +1,32 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.CachingBadmintonVlaanderenAdapter;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.CacheStatisticsResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+    private final ObjectProvider<CachingBadmintonVlaanderenAdapter> cachingGateway;
+
+    public CacheController(ObjectProvider<CachingBadmintonVlaanderenAdapter> cachingGateway) {
+        this.cachingGateway = cachingGateway;
+    }
+
+    /**
+     * Hit, miss and load statistics of the portal caches; empty when caching is disabled.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatisticsResponse> getStatistics() {
+        CachingBadmintonVlaanderenAdapter gateway = cachingGateway.getIfAvailable();
+        return ResponseEntity.ok(CacheStatisticsResponse.from(
+            gateway == null ? Map.of() : gateway.caches()));
+    }
+}
@@ -0,0 +1,111 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.application.service.CompetitionScenarioService;
+import be.badmintonvlaanderen.backend.application.service.SimulationJobService;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.CompetitionScenarioRequest;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.ScenarioAnalysisResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SeasonOddsRequest;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SeasonOddsResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SimulationJobResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.StandingsResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.metrics.UseCaseMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/competitions")
+public class CompetitionController {
+
+    private final CompetitionScenarioService competitionScenarioService;
+    private final SimulationJobService simulationJobService;
+    private final Timer analyzeTimer;
+    private final Timer oddsTimer;
+
+    public CompetitionController(CompetitionScenarioService competitionScenarioService,
+                                 SimulationJobService simulationJobService, MeterRegistry meterRegistry) {
+        this.competitionScenarioService = competitionScenarioService;
+        this.simulationJobService = simulationJobService;
+        this.analyzeTimer = UseCaseMetrics.timer(meterRegistry, UseCaseMetrics.COMPETITION_ANALYZE, "request");
+        this.oddsTimer = UseCaseMetrics.timer(meterRegistry, UseCaseMetrics.COMPETITION_ODDS, "request");
+    }
+
+    /**
+     * The division table after the played fixtures, ordered by the federation tie-breakers.
+     */
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<StandingsResponse> getStandings(@PathVariable Long id) {
+        return ResponseEntity.ok(StandingsResponse.from(id, competitionScenarioService.getStandings(id)));
+    }
+
+    /**
+     * Counts the outcome combinations of the remaining fixtures that put the team first, under
+     * the assumptions given as rules.
+     */
+    @PostMapping("/{id}/analyze")
+    public ResponseEntity<ScenarioAnalysisResponse> analyzeScenario(
+            @PathVariable Long id,
+            @Valid @RequestBody CompetitionScenarioRequest request) {
+
+        ScenarioAnalysis analysis = analyzeTimer.record(() -> competitionScenarioService.analyzeScenario(
+            id, request.teamId(), request.rulesToDomain(), request.parallel()));
+
+        return ResponseEntity.ok(ScenarioAnalysisResponse.from(analysis));
+    }
+
+    /**
+     * Queues the analysis as a background job; follow it at {@code /api/v1/jobs/{id}}.
+     */
+    @PostMapping("/{id}/analyze/jobs")
+    public ResponseEntity<SimulationJobResponse> submitAnalysis(
+            @PathVariable Long id,
+            @Valid @RequestBody CompetitionScenarioRequest request) {
+
+        SimulationJob job = simulationJobService.submitAnalysis(
+            id, request.teamId(), request.rulesToDomain(), request.parallel());
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/jobs/" + job.getId()))
+            .body(SimulationJobResponse.from(job));
+    }
+
+    /**
+     * Simulates the rest of the season of the given divisions and estimates every team's odds of
+     * the title, promotion and relegation.
+     */
+    @PostMapping("/odds")
+    public ResponseEntity<SeasonOddsResponse> simulateSeason(@Valid @RequestBody SeasonOddsRequest request) {
+        SeasonOdds odds = oddsTimer.record(() -> competitionScenarioService.simulateSeason(
+            request.competitionIds(), request.promotedTeamsOrDefault(), request.relegatedTeamsOrDefault(),
+            request.iterationsOrDefault(), request.seedOrDefault()));
+
+        return ResponseEntity.ok(SeasonOddsResponse.from(odds));
+    }
+
+    /**
+     * Queues the season simulation as a background job; its events carry every division as it
+     * finishes.
+     */
+    @PostMapping("/odds/jobs")
+    public ResponseEntity<SimulationJobResponse> submitSeasonSimulation(@Valid @RequestBody SeasonOddsRequest request) {
+        SimulationJob job = simulationJobService.submitSeasonSimulation(request.competitionIds(),
+            request.promotedTeamsOrDefault(), request.relegatedTeamsOrDefault(), request.iterationsOrDefault(),
+            request.seedOrDefault());
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/jobs/" + job.getId()))
+            .body(SimulationJobResponse.from(job));
+    }
+}
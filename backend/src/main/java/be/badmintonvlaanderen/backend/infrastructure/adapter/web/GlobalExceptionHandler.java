@@ -0,0 +1,82 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.domain.model.ClubNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.PlayerNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJobNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.TournamentNotFoundException;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.ErrorResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.PortalCommunicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(PlayerNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePlayerNotFound(PlayerNotFoundException e) {
+        log.warn("Player not found: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, "PLAYER_NOT_FOUND", e.getMessage());
+    }
+
+    @ExceptionHandler(TournamentNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTournamentNotFound(TournamentNotFoundException e) {
+        log.warn("Tournament not found: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, "TOURNAMENT_NOT_FOUND", e.getMessage());
+    }
+
+    @ExceptionHandler(CompetitionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCompetitionNotFound(CompetitionNotFoundException e) {
+        log.warn("Competition not found: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, "COMPETITION_NOT_FOUND", e.getMessage());
+    }
+
+    @ExceptionHandler(ClubNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleClubNotFound(ClubNotFoundException e) {
+        log.warn("Club not found: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, "CLUB_NOT_FOUND", e.getMessage());
+    }
+
+    @ExceptionHandler(SimulationJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(SimulationJobNotFoundException e) {
+        log.warn("Simulation job not found: {}", e.getMessage());
+        return error(HttpStatus.NOT_FOUND, "JOB_NOT_FOUND", e.getMessage());
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleJobRejected(RejectedExecutionException e) {
+        log.warn("Simulation job rejected: {}", e.getMessage());
+        return error(HttpStatus.SERVICE_UNAVAILABLE, "TOO_MANY_JOBS", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidArgument(IllegalArgumentException e) {
+        log.warn("Invalid request: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", e.getMessage());
+    }
+
+    @ExceptionHandler(PortalCommunicationException.class)
+    public ResponseEntity<ErrorResponse> handlePortalCommunication(PortalCommunicationException e) {
+        log.error("Badminton Vlaanderen portal unavailable", e);
+        return error(HttpStatus.BAD_GATEWAY, "PORTAL_UNAVAILABLE",
+            "The Badminton Vlaanderen portal is currently unavailable");
+    }
+
+    /**
+     * Errors are JSON even when the request asked for the binary result format only.
+     */
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String code, String message) {
+        return ResponseEntity.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(ErrorResponse.of(code, message));
+    }
+}
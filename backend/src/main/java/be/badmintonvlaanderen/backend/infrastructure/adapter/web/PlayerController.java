@@ -0,0 +1,53 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.application.service.PlayerSearchService;
+import be.badmintonvlaanderen.backend.application.service.RankingHistoryService;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.PlayerSearchResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingHistoryResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/players")
+public class PlayerController {
+
+    private final PlayerSearchService playerSearchService;
+    private final RankingHistoryService rankingHistoryService;
+
+    public PlayerController(PlayerSearchService playerSearchService, RankingHistoryService rankingHistoryService) {
+        this.playerSearchService = playerSearchService;
+        this.rankingHistoryService = rankingHistoryService;
+    }
+
+    /**
+     * Players whose name, club or member ID match the query; meant to be called on every keystroke.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PlayerSearchResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + PlayerSearchService.DEFAULT_LIMIT) int limit) {
+
+        return ResponseEntity.ok(PlayerSearchResponse.from(query, playerSearchService.search(query, limit)));
+    }
+
+    /**
+     * Weekly published points and positions of the player, oldest first, for progression charts.
+     */
+    @GetMapping("/{id}/rankings")
+    public ResponseEntity<RankingHistoryResponse> getRankingHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "SINGLES") RankingCategory category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+
+        return ResponseEntity.ok(RankingHistoryResponse.from(id, category,
+            rankingHistoryService.getProgression(id, category, from)));
+    }
+}
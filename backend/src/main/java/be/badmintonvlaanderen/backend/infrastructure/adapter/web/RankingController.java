@@ -0,0 +1,140 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.application.service.RankingSimulationService;
+import be.badmintonvlaanderen.backend.application.service.SimulationJobService;
+import be.badmintonvlaanderen.backend.domain.model.RankingGroupProjection;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioComparison;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.ResultFingerprint;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache.ResultKey;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingBatchSimulationRequest;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingBatchSimulationResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingComparisonRequest;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingComparisonResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingFactorsResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingProjectionResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingSimulationRequest;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SimulationJobResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.metrics.UseCaseMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/v1/ranking")
+public class RankingController {
+
+    private final RankingSimulationService rankingSimulationService;
+    private final SimulationJobService simulationJobService;
+    private final SimulationResultCache resultCache;
+    private final Timer simulateTimer;
+    private final Timer simulateBatchTimer;
+    private final Timer compareTimer;
+
+    public RankingController(RankingSimulationService rankingSimulationService,
+                             SimulationJobService simulationJobService, SimulationResultCache resultCache,
+                             MeterRegistry meterRegistry) {
+        this.rankingSimulationService = rankingSimulationService;
+        this.simulationJobService = simulationJobService;
+        this.resultCache = resultCache;
+        this.simulateTimer = UseCaseMetrics.timer(meterRegistry, UseCaseMetrics.RANKING_SIMULATE, "request");
+        this.simulateBatchTimer = UseCaseMetrics.timer(meterRegistry, UseCaseMetrics.RANKING_SIMULATE_BATCH,
+            "request");
+        this.compareTimer = UseCaseMetrics.timer(meterRegistry, UseCaseMetrics.RANKING_COMPARE, "request");
+    }
+
+    /**
+     * Projects the ranking after the scenarios; identical requests are answered from the result
+     * cache until the synchronised data changes. Responses carry an {@code ETag}; as this is a POST,
+     * a request naming that tag in {@code If-None-Match} gets {@code 412 Precondition Failed}.
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<RankingProjectionResponse> simulateRanking(
+            @Valid @RequestBody RankingSimulationRequest request, WebRequest webRequest) {
+
+        ResultKey key = resultCache.key(UseCaseMetrics.RANKING_SIMULATE, request, ResultFingerprint.of(request));
+        if (webRequest.checkNotModified(key.etag())) {
+            // the status and headers have been set
+            return null;
+        }
+        RankingProjectionResponse response = resultCache.get(key, () -> RankingProjectionResponse.from(
+            simulateTimer.record(() -> rankingSimulationService.simulateRanking(request.toDomain()))));
+
+        return ResponseEntity.ok().eTag(key.etag()).body(response);
+    }
+
+    /**
+     * Projects the ranking of every member of a club, or of everyone ranked in the category, under
+     * the same assumed results; cached like {@link #simulateRanking}.
+     */
+    @PostMapping("/simulate/batch")
+    public ResponseEntity<RankingBatchSimulationResponse> simulateBatch(
+            @Valid @RequestBody RankingBatchSimulationRequest request, WebRequest webRequest) {
+
+        ResultKey key = resultCache.key(UseCaseMetrics.RANKING_SIMULATE_BATCH, request,
+            ResultFingerprint.of(request));
+        String etag = BinaryResultMessageConverter.etag(key.etag(), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag)) {
+            // the status and headers have been set
+            return null;
+        }
+        RankingBatchSimulationResponse response = resultCache.get(key, () -> {
+            RankingGroupProjection projection = simulateBatchTimer.record(() -> rankingSimulationService
+                .simulateGroup(request.categoryOrDefault(), request.clubNameOrNull(), request.scenariosToDomain(),
+                    request.timeframe()));
+            return RankingBatchSimulationResponse.from(request.categoryOrDefault(), request.clubNameOrNull(),
+                projection);
+        });
+
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @PostMapping("/compare")
+    public ResponseEntity<RankingComparisonResponse> compareScenarios(
+            @Valid @RequestBody RankingComparisonRequest request) {
+
+        ScenarioComparison comparison = compareTimer.record(() -> rankingSimulationService.compareScenarios(
+            request.playerId(),
+            request.categoryOrDefault(),
+            request.scenariosToDomain(),
+            request.timeframe()
+        ));
+
+        return ResponseEntity.ok(RankingComparisonResponse.from(comparison));
+    }
+
+    /**
+     * Queues the comparison as a background job; follow it at {@code /api/v1/jobs/{id}}.
+     */
+    @PostMapping("/compare/jobs")
+    public ResponseEntity<SimulationJobResponse> submitComparison(
+            @Valid @RequestBody RankingComparisonRequest request) {
+
+        SimulationJob job = simulationJobService.submitComparison(
+            request.playerId(),
+            request.categoryOrDefault(),
+            request.scenariosToDomain(),
+            request.timeframe()
+        );
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/jobs/" + job.getId()))
+            .body(SimulationJobResponse.from(job));
+    }
+
+    @GetMapping("/factors")
+    public ResponseEntity<RankingFactorsResponse> getFactors() {
+        return ResponseEntity.ok(RankingFactorsResponse.from(rankingSimulationService.getRankingRules()));
+    }
+}
@@ -0,0 +1,82 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.application.service.SimulationJobService;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.SimulationJobResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.job.SimulationJobProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Follows and cancels the background jobs started by the {@code .../jobs} submission endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class SimulationJobController {
+
+    private final SimulationJobService simulationJobService;
+    private final SimulationJobProperties properties;
+
+    public SimulationJobController(SimulationJobService simulationJobService, SimulationJobProperties properties) {
+        this.simulationJobService = simulationJobService;
+        this.properties = properties;
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SimulationJobResponse> getJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(SimulationJobResponse.from(simulationJobService.getJob(id)));
+    }
+
+    /**
+     * Streams the job as server-sent events: a {@code progress} event for the current state and
+     * every change, then one {@code completed}, {@code failed} or {@code cancelled} event with
+     * the final state, after which the stream ends.
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter followJob(@PathVariable UUID id) {
+        // fail with a plain 404 before the stream is opened
+        simulationJobService.getJob(id);
+
+        SseEmitter emitter = new SseEmitter(properties.eventTimeout().toMillis());
+        Consumer<SimulationJob> listener = job -> send(emitter, job);
+        emitter.onCompletion(() -> simulationJobService.unfollowJob(id, listener));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> simulationJobService.unfollowJob(id, listener));
+        simulationJobService.followJob(id, listener);
+        return emitter;
+    }
+
+    /**
+     * Cancels a queued job, or asks a running one to stop; the returned state shows which.
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<SimulationJobResponse> cancelJob(@PathVariable UUID id) {
+        return ResponseEntity.accepted().body(SimulationJobResponse.from(simulationJobService.cancelJob(id)));
+    }
+
+    private static void send(SseEmitter emitter, SimulationJob job) {
+        boolean terminal = job.getStatus().isTerminal();
+        try {
+            emitter.send(SseEmitter.event()
+                .name(terminal ? job.getStatus().name().toLowerCase() : "progress")
+                .data(SimulationJobResponse.from(job), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            throw new UncheckedIOException(e);
+        }
+        if (terminal) {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.application.service.TournamentPredictionService;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.ResultFingerprint;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache.ResultKey;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.metrics.UseCaseMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tournaments")
+public class TournamentController {
+
+    private final TournamentPredictionService tournamentPredictionService;
+    private final SimulationResultCache resultCache;
+    private final Timer predictTimer;
+
+    public TournamentController(TournamentPredictionService tournamentPredictionService,
+                                SimulationResultCache resultCache, MeterRegistry meterRegistry) {
+        this.tournamentPredictionService = tournamentPredictionService;
+        this.resultCache = resultCache;
+        this.predictTimer = UseCaseMetrics.timer(meterRegistry, UseCaseMetrics.TOURNAMENT_PREDICT, "request");
+    }
+
+    /**
+     * Predicts the outcome of a tournament. Without an explicit seed the tournament ID is used,
+     * so repeated requests for the same draw return the same distribution, computed once per
+     * data version. A GET with the {@code ETag} of an earlier answer in {@code If-None-Match}
+     * gets {@code 304 Not Modified} while the data has not changed; the binary form has a tag of
+     * its own.
+     */
+    @RequestMapping(value = "/{id}/predict", method = {RequestMethod.GET, RequestMethod.POST})
+    public ResponseEntity<TournamentPredictionResponse> predictTournament(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10000") int iterations,
+            @RequestParam(required = false) Long seed,
+            WebRequest webRequest) {
+
+        long effectiveSeed = seed == null ? id : seed;
+        ResultKey key = resultCache.key(UseCaseMetrics.TOURNAMENT_PREDICT, List.of(id, iterations, effectiveSeed),
+            ResultFingerprint.ofPrediction(id, iterations, effectiveSeed));
+        String etag = BinaryResultMessageConverter.etag(key.etag(), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(etag)) {
+            // the status and headers have been set
+            return null;
+        }
+
+        TournamentPredictionResponse response = resultCache.get(key, () -> TournamentPredictionResponse.from(id,
+            predictTimer.record(() -> tournamentPredictionService.predictTournament(id, iterations, effectiveSeed))));
+
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+}
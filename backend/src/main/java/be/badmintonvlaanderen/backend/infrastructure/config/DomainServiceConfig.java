@@ -0,0 +1,124 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.LineupRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsTable;
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsWinProbability;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+import be.badmintonvlaanderen.backend.domain.service.CompetitionAnalysisService;
+import be.badmintonvlaanderen.backend.domain.service.GlickoRatingService;
+import be.badmintonvlaanderen.backend.domain.service.LineupOptimizationService;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import be.badmintonvlaanderen.backend.domain.service.SeasonSimulationService;
+import be.badmintonvlaanderen.backend.domain.service.StandingsService;
+import be.badmintonvlaanderen.backend.domain.service.TournamentSimulationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Exposes the framework-free domain services as Spring beans.
+ */
+@Configuration
+public class DomainServiceConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZoneId.of("Europe/Brussels"));
+    }
+
+    /**
+     * Ranking rules with the points table parsed once from the versioned resource file.
+     */
+    @Bean
+    public RankingRules rankingRules(
+            @Value("${badminton-vlaanderen.ranking.points-table:classpath:ranking/points-placeholder-2024-2025.csv}")
+            Resource pointsTable) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(pointsTable.getInputStream(), StandardCharsets.UTF_8))) {
+            return new RankingRules(RankingRules.DEFAULT_WINDOW_DAYS, RankingRules.DEFAULT_COUNTED_RESULTS,
+                RankingPointsTable.parse(reader.lines().toList()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read ranking points table " + pointsTable, e);
+        }
+    }
+
+    @Bean
+    public RankingCalculationService rankingCalculationService(RankingRules rankingRules) {
+        return new RankingCalculationService(rankingRules);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool simulationPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public WinProbabilityModel winProbabilityModel() {
+        return RankingPointsWinProbability.defaults();
+    }
+
+    /**
+     * Glicko-2 parameters for the player ratings that decide predicted tournament matches.
+     */
+    @Bean
+    public GlickoRules glickoRules(
+            @Value("${badminton-vlaanderen.rating.period-days:28}") int periodDays,
+            @Value("${badminton-vlaanderen.rating.tau:0.5}") double tau) {
+        return new GlickoRules(periodDays, tau);
+    }
+
+    @Bean
+    public GlickoRatingService glickoRatingService(GlickoRules glickoRules, ForkJoinPool simulationPool) {
+        return new GlickoRatingService(glickoRules, simulationPool);
+    }
+
+    @Bean
+    public TournamentSimulationService tournamentSimulationService(ForkJoinPool simulationPool) {
+        return new TournamentSimulationService(simulationPool);
+    }
+
+    @Bean
+    public CompetitionRules competitionRules() {
+        return CompetitionRules.defaults();
+    }
+
+    @Bean
+    public CompetitionAnalysisService competitionAnalysisService(CompetitionRules competitionRules,
+                                                                 ForkJoinPool simulationPool) {
+        return new CompetitionAnalysisService(competitionRules, simulationPool);
+    }
+
+    @Bean
+    public SeasonSimulationService seasonSimulationService(CompetitionRules competitionRules,
+                                                           ForkJoinPool simulationPool) {
+        return new SeasonSimulationService(competitionRules, simulationPool);
+    }
+
+    @Bean
+    public StandingsService standingsService(CompetitionRules competitionRules) {
+        return new StandingsService(competitionRules);
+    }
+
+    @Bean
+    public LineupRules lineupRules() {
+        return LineupRules.defaults();
+    }
+
+    @Bean
+    public LineupOptimizationService lineupOptimizationService(LineupRules lineupRules, ForkJoinPool simulationPool) {
+        return new LineupOptimizationService(lineupRules, simulationPool);
+    }
+}
@@ -0,0 +1,64 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.CachingBadmintonVlaanderenAdapter;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.PortalCacheProperties;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.BadmintonVlaanderenAdapter;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.BadmintonVlaanderenProperties;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.PortalThrottle;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP clients for the external services the backend integrates with.
+ */
+@Configuration
+@EnableConfigurationProperties({BadmintonVlaanderenProperties.class, PortalCacheProperties.class})
+public class ExternalServiceConfig {
+
+    @Bean
+    public RestTemplate badmintonVlaanderenRestTemplate(RestTemplateBuilder builder,
+                                                        BadmintonVlaanderenProperties properties) {
+        return builder
+            .rootUri(properties.baseUrl())
+            .setConnectTimeout(properties.connectTimeout())
+            .setReadTimeout(properties.readTimeout())
+            .build();
+    }
+
+    /**
+     * Limits the load on the portal; shared by every request the portal adapter sends.
+     */
+    @Bean
+    public PortalThrottle portalThrottle(BadmintonVlaanderenProperties properties) {
+        return new PortalThrottle(properties.throttle());
+    }
+
+    /**
+     * Runs portal loads and background refreshes for the cache, one virtual thread per load. The
+     * portal throttle, not the executor, bounds how many of them reach the portal at once.
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor portalExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("portal-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * The gateway the application sees; without caching it is the portal adapter itself.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "badminton-vlaanderen.cache", name = "enabled", havingValue = "true")
+    public CachingBadmintonVlaanderenAdapter cachingBadmintonVlaanderenGateway(
+            BadmintonVlaanderenAdapter portal, PortalCacheProperties properties,
+            SimpleAsyncTaskExecutor portalExecutor) {
+        return new CachingBadmintonVlaanderenAdapter(portal, properties, portalExecutor);
+    }
+}
@@ -0,0 +1,48 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.CachingBadmintonVlaanderenAdapter;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.persistence.JdbcRankingHistoryRepository;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Metrics of the caches and executors the adapters own, next to the timers the adapters record
+ * themselves. Everything here is read when Prometheus scrapes, never on a request path.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Hit, miss, load and eviction counts of the portal caches ({@code cache="portal.players"}
+     * and so on), of the ranking history cache and of the simulation result cache.
+     */
+    @Bean
+    public MeterBinder cacheMetrics(ObjectProvider<CachingBadmintonVlaanderenAdapter> cachingGateway,
+                                    JdbcRankingHistoryRepository rankingHistory,
+                                    SimulationResultCache resultCache) {
+        return registry -> {
+            cachingGateway.ifAvailable(gateway -> gateway.caches().forEach((name, cache) ->
+                CaffeineCacheMetrics.monitor(registry, cache, "portal." + name)));
+            CaffeineCacheMetrics.monitor(registry, rankingHistory.seriesCache(), "ranking.history");
+            CaffeineCacheMetrics.monitor(registry, resultCache.cache(), "simulation.results");
+        };
+    }
+
+    /**
+     * Queue depth, active threads and completed jobs of the simulation executor, tagged
+     * {@code name="simulation"}.
+     */
+    @Bean
+    public MeterBinder simulationExecutorMetrics(@Qualifier("simulationExecutor") ThreadPoolExecutor executor) {
+        return new ExecutorServiceMetrics(executor, "simulation", Tags.empty());
+    }
+}
@@ -0,0 +1,12 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled jobs, such as the portal synchronisation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
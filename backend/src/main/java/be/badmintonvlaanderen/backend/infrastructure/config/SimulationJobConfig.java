@@ -0,0 +1,32 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.job.SimulationJobProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background execution of the heavy simulations, away from the request threads.
+ */
+@Configuration
+@EnableConfigurationProperties(SimulationJobProperties.class)
+public class SimulationJobConfig {
+
+    /**
+     * Runs simulation jobs on at most {@code maxConcurrency} platform threads. The queue hands
+     * out the job with the highest priority first; the job adapter enforces its capacity.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor simulationExecutor(SimulationJobProperties properties) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            properties.maxConcurrency(), properties.maxConcurrency(), 60, TimeUnit.SECONDS,
+            new PriorityBlockingQueue<>(), new CustomizableThreadFactory("simulation-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.scheduling.PortalSyncScheduler;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.web.RankingController;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.web.TournamentController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup behaviour of the {@code prod} profile, which creates beans on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Beans created at startup even when initialisation is lazy: the scheduler, whose jobs are
+     * only registered once it exists, and the prediction and simulation endpoints with everything
+     * they use, so the first request after a scale-up does not pay for building them.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            PortalSyncScheduler.class, RankingController.class, TournamentController.class);
+    }
+}
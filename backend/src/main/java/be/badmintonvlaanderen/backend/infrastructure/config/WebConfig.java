@@ -0,0 +1,24 @@
+package be.badmintonvlaanderen.backend.infrastructure.config;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.web.BinaryResultMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC settings of the REST adapters.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Adds the binary result format after the default converters, so only a client that asks
+     * for {@code application/x-bbv-binary} gets it and {@code Accept: *}{@code /*} stays JSON.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new BinaryResultMessageConverter());
+    }
+}
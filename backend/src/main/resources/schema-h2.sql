@@ -0,0 +1,12 @@
+-- Weekly ranking publications, one row per ranked player, category and publication.
+-- PostgreSQL partitions this table by season (schema-postgres.sql); H2 keeps it in one table.
+
+CREATE TABLE IF NOT EXISTS ranking_history (
+    player_id        BIGINT      NOT NULL,
+    category         VARCHAR(32) NOT NULL,
+    season           SMALLINT    NOT NULL,
+    published_on     DATE        NOT NULL,
+    points           INT         NOT NULL,
+    ranking_position INT         NOT NULL,
+    PRIMARY KEY (player_id, category, season, published_on)
+);
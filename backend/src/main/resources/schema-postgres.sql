@@ -0,0 +1,15 @@
+-- Weekly ranking publications, one row per ranked player, category and publication.
+-- Partitioned by season (the year it starts in July); a partition per season is created when its
+-- first publication is recorded, so old seasons can be detached or dropped wholesale.
+
+CREATE TABLE IF NOT EXISTS ranking_history (
+    player_id        BIGINT      NOT NULL,
+    category         VARCHAR(32) NOT NULL,
+    season           SMALLINT    NOT NULL,
+    published_on     DATE        NOT NULL,
+    points           INT         NOT NULL,
+    ranking_position INT         NOT NULL,
+    PRIMARY KEY (player_id, category, season, published_on)
+) PARTITION BY LIST (season);
+
+CREATE TABLE IF NOT EXISTS ranking_history_default PARTITION OF ranking_history DEFAULT;
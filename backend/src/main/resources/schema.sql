@@ -0,0 +1,82 @@
+-- Local snapshot of the portal data, maintained by the portal synchronisation.
+-- Every top-level row carries the content hash it was written with; unchanged records are never rewritten.
+
+CREATE TABLE IF NOT EXISTS player_snapshot (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    content_hash BIGINT       NOT NULL,
+    first_name   VARCHAR(255),
+    last_name    VARCHAR(255),
+    club_name    VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS player_result_snapshot (
+    player_id   BIGINT      NOT NULL,
+    category    VARCHAR(32) NOT NULL,
+    points      INT         NOT NULL,
+    result_date DATE        NOT NULL,
+    level       VARCHAR(32) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_player_result_snapshot_player ON player_result_snapshot (player_id);
+
+CREATE TABLE IF NOT EXISTS tournament_snapshot (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    content_hash BIGINT       NOT NULL,
+    name         VARCHAR(255),
+    level        VARCHAR(32)  NOT NULL,
+    category     VARCHAR(32)  NOT NULL,
+    start_date   DATE
+);
+
+CREATE TABLE IF NOT EXISTS tournament_entry_snapshot (
+    tournament_id  BIGINT       NOT NULL,
+    slot           INT          NOT NULL,
+    player_id      BIGINT,
+    name           VARCHAR(255),
+    ranking_points INT          NOT NULL,
+    PRIMARY KEY (tournament_id, slot)
+);
+
+-- Matches carry the category of their tournament so the ratings can read one category in date order.
+CREATE TABLE IF NOT EXISTS match_snapshot (
+    tournament_id BIGINT      NOT NULL,
+    winner_id     BIGINT      NOT NULL,
+    loser_id      BIGINT      NOT NULL,
+    match_date    DATE        NOT NULL,
+    category      VARCHAR(32) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_match_snapshot_tournament ON match_snapshot (tournament_id);
+CREATE INDEX IF NOT EXISTS idx_match_snapshot_category_date ON match_snapshot (category, match_date);
+
+CREATE TABLE IF NOT EXISTS standing_snapshot (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    content_hash BIGINT       NOT NULL,
+    name         VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS competition_team_snapshot (
+    competition_id BIGINT       NOT NULL,
+    team_id        BIGINT       NOT NULL,
+    name           VARCHAR(255),
+    PRIMARY KEY (competition_id, team_id)
+);
+
+CREATE TABLE IF NOT EXISTS fixture_snapshot (
+    competition_id BIGINT NOT NULL,
+    fixture_id     BIGINT NOT NULL,
+    home_team_id   BIGINT NOT NULL,
+    away_team_id   BIGINT NOT NULL,
+    fixture_date   DATE,
+    home_matches   INT,
+    away_matches   INT,
+    home_games     INT,
+    away_games     INT,
+    PRIMARY KEY (competition_id, fixture_id)
+);
+
+CREATE TABLE IF NOT EXISTS sync_checkpoint (
+    id           INT       NOT NULL PRIMARY KEY,
+    synced_up_to TIMESTAMP NOT NULL,
+    data_version BIGINT    NOT NULL
+);
@@ -0,0 +1,93 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionNotFoundException;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.DivisionOdds;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.service.CompetitionAnalysisService;
+import be.badmintonvlaanderen.backend.domain.service.SeasonSimulationService;
+import be.badmintonvlaanderen.backend.domain.service.StandingsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompetitionScenarioServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final BadmintonVlaanderenGateway gateway = mock(BadmintonVlaanderenGateway.class);
+    private final PortalSnapshotRepository portalSnapshots = mock(PortalSnapshotRepository.class);
+    private final CompetitionScenarioService service = new CompetitionScenarioService(gateway, portalSnapshots,
+        new CompetitionAnalysisService(CompetitionRules.defaults(), pool),
+        new StandingsService(CompetitionRules.defaults()),
+        new SeasonSimulationService(CompetitionRules.defaults(), pool));
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldSimulateStoredDivisionsWithoutAskingThePortal() {
+        // Given
+        when(portalSnapshots.findCompetitions(Set.of(1L, 2L)))
+            .thenReturn(Map.of(1L, division(1L), 2L, division(2L)));
+
+        // When
+        SeasonOdds odds = service.simulateSeason(List.of(2L, 1L, 2L), 1, 1, 100, 42L);
+
+        // Then
+        assertThat(odds.getDivisions()).extracting(DivisionOdds::getCompetitionId).containsExactly(2L, 1L);
+        verify(gateway, never()).fetchCompetition(anyLong());
+    }
+
+    @Test
+    void shouldFetchDivisionsNotSynchronisedYetFromThePortal() {
+        // Given
+        when(portalSnapshots.findCompetitions(Set.of(1L, 3L))).thenReturn(Map.of(1L, division(1L)));
+        when(gateway.fetchCompetition(3L)).thenReturn(Optional.of(division(3L)));
+
+        // When
+        SeasonOdds odds = service.simulateSeason(List.of(1L, 3L), 1, 1, 100, 42L);
+
+        // Then
+        assertThat(odds.getDivisions()).extracting(DivisionOdds::getCompetitionId).containsExactly(1L, 3L);
+        verify(gateway, never()).fetchCompetition(1L);
+    }
+
+    @Test
+    void shouldRejectUnknownDivision() {
+        // Given
+        when(portalSnapshots.findCompetitions(Set.of(4L))).thenReturn(Map.of());
+        when(gateway.fetchCompetition(4L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> service.simulateSeason(List.of(4L), 1, 1, 100, 42L))
+            .isInstanceOf(CompetitionNotFoundException.class);
+    }
+
+    private static Competition division(Long id) {
+        List<CompetitionTeam> teams = List.of(new CompetitionTeam(id * 10, "Home"),
+            new CompetitionTeam(id * 10 + 1, "Away"));
+        return new Competition(id, "Division " + id, teams,
+            List.of(new Fixture(id * 100, id * 10, id * 10 + 1, LocalDate.of(2024, 10, 5), null)));
+    }
+}
@@ -0,0 +1,430 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.PlayerRatingRepository;
+import be.badmintonvlaanderen.backend.application.port.PlayerSearchRepository;
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.application.port.PortalSyncGateway;
+import be.badmintonvlaanderen.backend.application.port.RankingHistoryRepository;
+import be.badmintonvlaanderen.backend.application.port.RankingSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+import be.badmintonvlaanderen.backend.domain.model.PortalChangeSet;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingSeries;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.SyncCheckpoint;
+import be.badmintonvlaanderen.backend.domain.model.SyncMode;
+import be.badmintonvlaanderen.backend.domain.model.SyncReport;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortalSyncServiceTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-15T08:00:00Z");
+    private static final Instant T1 = Instant.parse("2024-01-15T08:15:00Z");
+
+    private final FakePortal portal = new FakePortal();
+    private final FakeSnapshotStore store = new FakeSnapshotStore();
+    private final RecordingRankingSnapshots rankingSnapshots = new RecordingRankingSnapshots();
+    private final RecordingPlayerSearch playerSearch = new RecordingPlayerSearch();
+    private final RecordingRankingHistory rankingHistory = new RecordingRankingHistory();
+    private final RecordingPlayerRatings playerRatings = new RecordingPlayerRatings();
+    private final PortalSyncService service = new PortalSyncService(portal, store, rankingSnapshots,
+        playerSearch, rankingHistory, playerRatings, Clock.fixed(T0, ZoneOffset.UTC));
+
+    @Test
+    void shouldRunFullSyncWhenNoCheckpointExists() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100, 50));
+        portal.players.put(2L, player(2L, "Antwerpen", 80));
+        portal.changes(T0, List.of(1L, 2L));
+
+        // When
+        SyncReport report = service.synchronizeChanges().orElseThrow();
+
+        // Then
+        assertThat(report.getMode()).isEqualTo(SyncMode.FULL);
+        assertThat(portal.requestedSince).containsExactly((Instant) null);
+        assertThat(report.getChanged()).isEqualTo(2);
+        assertThat(store.savedPlayers).containsExactly(1L, 2L);
+        assertThat(store.checkpoint.getSyncedUpTo()).isEqualTo(T0);
+        assertThat(store.checkpoint.getDataVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteOnlyRecordsWhoseContentChanged() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100, 50));
+        portal.players.put(2L, player(2L, "Antwerpen", 80));
+        portal.players.put(3L, player(3L, "Leuven", 60));
+        portal.changes(T0, List.of(1L, 2L, 3L));
+        service.synchronizeAll();
+        store.savedPlayers.clear();
+
+        // the portal lists player 1's results in another order, and player 2 changed club
+        portal.players.put(1L, player(1L, "Gent", 50, 100));
+        portal.players.put(2L, player(2L, "Brugge", 80));
+        portal.changes(T1, List.of(1L, 2L));
+
+        // When
+        SyncReport report = service.synchronizeChanges().orElseThrow();
+
+        // Then
+        assertThat(report.getMode()).isEqualTo(SyncMode.INCREMENTAL);
+        assertThat(portal.requestedSince).containsExactly(null, T0);
+        assertThat(report.getFetched()).isEqualTo(2);
+        assertThat(report.getChanged()).isEqualTo(1);
+        assertThat(store.savedPlayers).containsExactly(2L);
+        assertThat(store.checkpoint.getSyncedUpTo()).isEqualTo(T1);
+        assertThat(store.checkpoint.getDataVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepDataVersionWhenNothingChanged() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100));
+        portal.changes(T0, List.of(1L));
+        service.synchronizeAll();
+        portal.changes(T1, List.of(1L));
+
+        // When
+        SyncReport report = service.synchronizeChanges().orElseThrow();
+
+        // Then
+        assertThat(report.getChanged()).isZero();
+        assertThat(store.savedPlayers).containsExactly(1L);
+        assertThat(store.checkpoint.getDataVersion()).isEqualTo(1);
+        assertThat(store.checkpoint.getSyncedUpTo()).isEqualTo(T1);
+    }
+
+    @Test
+    void shouldPublishDataVersionOnceRunFinished() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100));
+        portal.changes(T0, List.of(1L));
+        long before = service.getDataVersion();
+
+        // When
+        service.synchronizeAll();
+
+        // Then
+        assertThat(before).isZero();
+        assertThat(service.getDataVersion()).isEqualTo(store.checkpoint.getDataVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRemoveRecordsNoLongerPublished() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100));
+        portal.players.put(2L, player(2L, "Gent", 90));
+        portal.players.put(3L, player(3L, "Gent", 80));
+        portal.changes(T0, List.of(1L, 2L, 3L));
+        service.synchronizeAll();
+
+        // player 2 is reported as changed but gone; player 3 silently disappears from the catalogue
+        portal.players.remove(2L);
+        portal.players.remove(3L);
+        portal.changes(T1, List.of(1L, 2L));
+
+        // When
+        SyncReport report = service.synchronizeAll().orElseThrow();
+
+        // Then
+        assertThat(report.getRemoved()).isEqualTo(2);
+        assertThat(store.hashes.get(SnapshotType.PLAYER)).containsOnlyKeys(1L);
+    }
+
+    @Test
+    void shouldNotAdvanceCheckpointPastFailedRecords() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100));
+        portal.changes(T0, List.of(1L));
+        service.synchronizeAll();
+
+        portal.players.put(2L, player(2L, "Gent", 90));
+        portal.failing.add(1L);
+        portal.changes(T1, List.of(1L, 2L));
+
+        // When
+        SyncReport report = service.synchronizeChanges().orElseThrow();
+
+        // Then
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getChanged()).isEqualTo(1);
+        assertThat(store.checkpoint.getSyncedUpTo()).isEqualTo(T0);
+        assertThat(store.checkpoint.getDataVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRefreshReadModelsForTouchedPlayersOnly() {
+        // Given
+        portal.players.put(1L, player(1L, "Gent", 100));
+        portal.players.put(2L, player(2L, "Gent", 90));
+        portal.players.put(3L, player(3L, "Gent", 80));
+        portal.changes(T0, List.of(1L, 2L, 3L));
+        service.synchronizeAll();
+
+        // player 1 is unchanged, player 2 gained a result and player 3 is gone
+        portal.players.put(2L, player(2L, "Gent", 90, 40));
+        portal.players.remove(3L);
+        portal.changes(T1, List.of(1L, 2L, 3L));
+
+        // When
+        service.synchronizeChanges();
+
+        // Then
+        assertThat(rankingSnapshots.reloads).isEqualTo(1);
+        assertThat(rankingSnapshots.refreshed).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(rankingHistory.recorded).hasSize(1);
+        assertThat(playerSearch.reloads).isEqualTo(1);
+        assertThat(playerSearch.refreshed).containsExactlyInAnyOrder(2L, 3L);
+        // no tournament changed, so no new matches to rate
+        assertThat(playerRatings.reloads).isEqualTo(1);
+        assertThat(playerRatings.refreshes).isZero();
+    }
+
+    private static PlayerData player(Long id, String club, int... points) {
+        List<RankingResult> results = new ArrayList<>();
+        for (int value : points) {
+            results.add(new RankingResult(RankingCategory.SINGLES, value,
+                LocalDate.of(2023, 10, 1).plusDays(value), TournamentLevel.NATIONAL));
+        }
+        return new PlayerData(new Player(id, "First" + id, "Last" + id, club), results);
+    }
+
+    private static final class FakePortal implements PortalSyncGateway {
+
+        private final Map<Long, PlayerData> players = new HashMap<>();
+        private final Set<Long> failing = new HashSet<>();
+        private final List<Instant> requestedSince = new ArrayList<>();
+        private PortalChangeSet changes;
+
+        void changes(Instant asOf, List<Long> playerIds) {
+            changes = new PortalChangeSet(asOf, playerIds, List.of(), List.of());
+        }
+
+        @Override
+        public PortalChangeSet fetchChanges(Instant since) {
+            requestedSince.add(since);
+            return since == null
+                ? new PortalChangeSet(changes.getAsOf(), new ArrayList<>(players.keySet()), List.of(), List.of())
+                : changes;
+        }
+
+        @Override
+        public Map<Long, Optional<PlayerData>> fetchPlayers(List<Long> playerIds) {
+            Map<Long, Optional<PlayerData>> results = new HashMap<>();
+            for (Long id : playerIds) {
+                if (!failing.contains(id)) {
+                    results.put(id, fetchPlayerData(id));
+                }
+            }
+            return results;
+        }
+
+        @Override
+        public Map<Long, Optional<Tournament>> fetchTournaments(List<Long> tournamentIds) {
+            return Map.of();
+        }
+
+        @Override
+        public Map<Long, Optional<Competition>> fetchCompetitions(List<Long> competitionIds) {
+            return Map.of();
+        }
+
+        @Override
+        public Optional<PlayerData> fetchPlayerData(Long playerId) {
+            return Optional.ofNullable(players.get(playerId));
+        }
+
+        @Override
+        public CategoryRanking fetchCategoryRanking(RankingCategory category) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Tournament> fetchTournament(Long tournamentId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Competition> fetchCompetition(Long competitionId) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class FakeSnapshotStore implements PortalSnapshotRepository {
+
+        private final Map<SnapshotType, Map<Long, Long>> hashes = new EnumMap<>(SnapshotType.class);
+        private final List<Long> savedPlayers = new ArrayList<>();
+        private SyncCheckpoint checkpoint;
+
+        FakeSnapshotStore() {
+            for (SnapshotType type : SnapshotType.values()) {
+                hashes.put(type, new HashMap<>());
+            }
+        }
+
+        @Override
+        public Map<Long, Long> findContentHashes(SnapshotType type, Collection<Long> ids) {
+            Map<Long, Long> found = new HashMap<>();
+            for (Long id : ids) {
+                Long hash = hashes.get(type).get(id);
+                if (hash != null) {
+                    found.put(id, hash);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public Set<Long> findIds(SnapshotType type) {
+            return new HashSet<>(hashes.get(type).keySet());
+        }
+
+        @Override
+        public Map<Long, List<RankingResult>> findResults(RankingCategory category, String clubName) {
+            return Map.of();
+        }
+
+        @Override
+        public Map<Long, Competition> findCompetitions(Collection<Long> ids) {
+            return Map.of();
+        }
+
+        @Override
+        public void savePlayers(List<ContentSnapshot<PlayerData>> snapshots) {
+            for (ContentSnapshot<PlayerData> snapshot : snapshots) {
+                hashes.get(SnapshotType.PLAYER).put(snapshot.getId(), snapshot.getContentHash());
+                savedPlayers.add(snapshot.getId());
+            }
+        }
+
+        @Override
+        public void saveTournaments(List<ContentSnapshot<Tournament>> snapshots) {
+            snapshots.forEach(s -> hashes.get(SnapshotType.TOURNAMENT).put(s.getId(), s.getContentHash()));
+        }
+
+        @Override
+        public void saveStandings(List<ContentSnapshot<Competition>> snapshots) {
+            snapshots.forEach(s -> hashes.get(SnapshotType.STANDING).put(s.getId(), s.getContentHash()));
+        }
+
+        @Override
+        public void delete(SnapshotType type, Collection<Long> ids) {
+            hashes.get(type).keySet().removeAll(ids);
+        }
+
+        @Override
+        public Optional<SyncCheckpoint> findCheckpoint() {
+            return Optional.ofNullable(checkpoint);
+        }
+
+        @Override
+        public void saveCheckpoint(SyncCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+    }
+
+    private static final class RecordingRankingSnapshots implements RankingSnapshotRepository {
+
+        private final List<Long> refreshed = new ArrayList<>();
+        private int reloads;
+
+        @Override
+        public Optional<RankingSnapshot> current() {
+            return reloads == 0 ? Optional.empty() : Optional.of(RankingSnapshot.empty(LocalDate.of(2024, 1, 15)));
+        }
+
+        @Override
+        public void reload() {
+            reloads++;
+        }
+
+        @Override
+        public void refresh(Collection<Long> playerIds) {
+            refreshed.addAll(playerIds);
+        }
+    }
+
+    private static final class RecordingRankingHistory implements RankingHistoryRepository {
+
+        private final List<RankingSnapshot> recorded = new ArrayList<>();
+
+        @Override
+        public void record(RankingSnapshot snapshot) {
+            recorded.add(snapshot);
+        }
+
+        @Override
+        public RankingSeries findSeries(Long playerId, RankingCategory category) {
+            return RankingSeries.empty();
+        }
+    }
+
+    private static final class RecordingPlayerSearch implements PlayerSearchRepository {
+
+        private final List<Long> refreshed = new ArrayList<>();
+        private int reloads;
+
+        @Override
+        public List<PlayerMatch> search(String query, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void reload() {
+            reloads++;
+        }
+
+        @Override
+        public void refresh(Collection<Long> playerIds) {
+            refreshed.addAll(playerIds);
+        }
+    }
+
+    private static final class RecordingPlayerRatings implements PlayerRatingRepository {
+
+        private int reloads;
+        private int refreshes;
+
+        @Override
+        public PlayerRatings current(RankingCategory category) {
+            return PlayerRatings.empty();
+        }
+
+        @Override
+        public void reload() {
+            reloads++;
+        }
+
+        @Override
+        public void refresh() {
+            refreshes++;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package be.badmintonvlaanderen.backend.application.service;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.application.port.PortalSnapshotRepository;
+import be.badmintonvlaanderen.backend.application.port.RankingSnapshotRepository;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingSimulation;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioComparison;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RankingSimulationServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    private final BadmintonVlaanderenGateway gateway = mock(BadmintonVlaanderenGateway.class);
+    private final RankingSnapshotRepository rankingSnapshots = mock(RankingSnapshotRepository.class);
+    private final RankingRules rules = new RankingRules(
+        364, 3, new int[]{10, 20, 30, 40, 50}, new int[]{0, 1, 2, 3, 4});
+    private final RankingSimulationService service = new RankingSimulationService(gateway, rankingSnapshots,
+        mock(PortalSnapshotRepository.class), new RankingCalculationService(rules),
+        Clock.fixed(Instant.parse("2024-01-15T08:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    void shouldCompareOnlyMatchesWithinTimeframeLikeSingleSimulation() {
+        // Given
+        when(rankingSnapshots.current()).thenReturn(Optional.empty());
+        when(gateway.fetchCategoryRanking(RankingCategory.SINGLES))
+            .thenReturn(new CategoryRanking(RankingCategory.SINGLES, new int[]{100, 60, 30, 10}));
+        when(gateway.fetchPlayerData(7L)).thenReturn(Optional.of(new PlayerData(new Player(7L, "An", "Peeters", "Gent"),
+            List.of(new RankingResult(RankingCategory.SINGLES, 30, TODAY.minusDays(5), TournamentLevel.NATIONAL)))));
+        List<List<MatchScenario>> scenarios = List.of(
+            List.of(match(TournamentLevel.INTERNATIONAL, -3)),
+            List.of(match(TournamentLevel.INTERNATIONAL, -3), match(TournamentLevel.NATIONAL, 10)),
+            List.of(match(TournamentLevel.NATIONAL, 10), match(TournamentLevel.INTERNATIONAL, 200)));
+
+        // When
+        ScenarioComparison comparison = service.compareScenarios(7L, RankingCategory.SINGLES, scenarios,
+            TimeframePeriod.NEXT_MONTH);
+
+        // Then: matches before today or after the end of the timeframe are left out
+        assertThat(new int[]{comparison.getProjectedPoints(0), comparison.getProjectedPoints(1),
+            comparison.getProjectedPoints(2)}).containsExactly(30, 70, 70);
+        for (int i = 0; i < scenarios.size(); i++) {
+            assertThat(comparison.getProjectedPoints(i)).as("scenario %d", i).isEqualTo(service.simulateRanking(
+                new RankingSimulation(7L, RankingCategory.SINGLES, scenarios.get(i), TimeframePeriod.NEXT_MONTH))
+                .getProjectedPoints());
+        }
+    }
+
+    private static MatchScenario match(TournamentLevel level, int daysFromToday) {
+        return new MatchScenario(42L, MatchResult.WIN, level, TODAY.plusDays(daysFromToday));
+    }
+}
@@ -6,6 +6,8 @@ import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
 
+import java.util.Arrays;
+
 @AnalyzeClasses(
     packages = "be.badmintonvlaanderen.backend",
     importOptions = ImportOption.DoNotIncludeTests.class
@@ -17,6 +19,14 @@ public class HexagonalArchitectureTest extends BaseHexagonalArchitectureTest {
         return "be.badmintonvlaanderen.backend..";
     }
 
+    @Override
+    protected String[] getAllowedInfrastructureDependencies() {
+        String[] defaults = super.getAllowedInfrastructureDependencies();
+        String[] allowed = Arrays.copyOf(defaults, defaults.length + 1);
+        allowed[defaults.length] = "com.github.benmanes.caffeine..";
+        return allowed;
+    }
+
     @ArchTest
     static final ArchRule hexagonal_architecture_is_respected = new HexagonalArchitectureTest().hexagonal_architecture_is_respected();
 
@@ -0,0 +1,57 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeagueTableTest {
+
+    @Test
+    void shouldRestoreRankingWhenResultIsRemoved() {
+        // Given
+        LeagueTable table = new LeagueTable(List.of(1L, 2L, 3L), CompetitionRules.defaults());
+        table.add(0, 1, 5, 3, 11, 8);
+        table.add(1, 2, 6, 2, 13, 5);
+        int[] before = table.rank().clone();
+
+        // When
+        table.add(2, 0, 8, 0, 16, 1);
+        int[] during = table.rank().clone();
+        table.remove(2, 0, 8, 0, 16, 1);
+
+        // Then
+        assertThat(during).containsExactly(2, 1, 0);
+        assertThat(table.rank()).containsExactly(before);
+        assertThat(table.getPoints(2)).isZero();
+        assertThat(table.getPlayed(0)).isEqualTo(1);
+        assertThat(table.getGameDifference(0)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepCopiesIndependent() {
+        // Given
+        LeagueTable table = new LeagueTable(List.of(1L, 2L), CompetitionRules.defaults());
+        table.add(0, 1, 4, 4, 9, 9);
+
+        // When
+        LeagueTable copy = table.copy();
+        copy.add(1, 0, 6, 2, 12, 4);
+
+        // Then
+        assertThat(table.getPoints(1)).isEqualTo(1);
+        assertThat(copy.getPoints(1)).isEqualTo(4);
+        assertThat(copy.rank()).containsExactly(1, 0);
+    }
+
+    @Test
+    void shouldRejectMoreTeamsThanFitInABitSet() {
+        List<Long> teams = LongStream.rangeClosed(1, LeagueTable.MAX_TEAMS + 1).boxed().toList();
+
+        assertThatThrownBy(() -> new LeagueTable(teams, CompetitionRules.defaults()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerSearchIndexTest {
+
+    private static final List<Player> PLAYERS = List.of(
+        new Player(5001L, "Jan", "Peeters", "Gentse BC"),
+        new Player(5002L, "Janne", "Claes", "BC Antwerpen"),
+        new Player(5003L, "Hélène", "Vermeulen", "Gentse BC"),
+        new Player(6010L, "Pieter", "Janssens", "Brugse BC"),
+        new Player(6011L, "Lotte", "Maes", "Badminton Leuven"));
+
+    private static final Map<Long, Integer> POINTS = Map.of(5001L, 120, 5002L, 300, 6010L, 200);
+
+    private final PlayerSearchIndex index = PlayerSearchIndex.of(PLAYERS, id -> POINTS.getOrDefault(id, 0));
+
+    @Test
+    void shouldMatchWordPrefixesOrderedByRankingPoints() {
+        // When
+        List<PlayerMatch> matches = index.search("jan", 10);
+
+        // Then
+        assertThat(matches).extracting(match -> match.getPlayer().getId()).containsExactly(5002L, 6010L, 5001L);
+        assertThat(matches).allMatch(PlayerMatch::isExact);
+    }
+
+    @Test
+    void shouldRequireEveryTermToMatch() {
+        // When
+        List<PlayerMatch> matches = index.search("gentse  VERM", 10);
+
+        // Then
+        assertThat(matches).extracting(match -> match.getPlayer().getId()).containsExactly(5003L);
+    }
+
+    @Test
+    void shouldIgnoreAccentsAndMatchMemberIds() {
+        // When / Then
+        assertThat(index.search("helene", 10)).extracting(match -> match.getPlayer().getId()).containsExactly(5003L);
+        assertThat(index.search("601", 10)).extracting(match -> match.getPlayer().getId())
+            .containsExactly(6010L, 6011L);
+    }
+
+    @Test
+    void shouldTolerateTyposInLongerTerms() {
+        // When
+        List<PlayerMatch> matches = index.search("peteers", 10);
+
+        // Then
+        assertThat(matches).extracting(match -> match.getPlayer().getId()).containsExactly(5001L);
+        assertThat(matches.get(0).getTypos()).isEqualTo(1);
+        assertThat(index.search("Vermuelen", 10)).extracting(match -> match.getPlayer().getId())
+            .containsExactly(5003L);
+    }
+
+    @Test
+    void shouldNotMatchShortTermsWithTypos() {
+        // When / Then
+        assertThat(index.search("jon", 10)).isEmpty();
+        assertThat(index.search("", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldLimitTheNumberOfMatches() {
+        // When / Then
+        assertThat(index.search("bc", 2)).hasSize(2);
+    }
+
+    @Test
+    void shouldTolerateTranspositionsInShortTerms() {
+        // When / Then: swapping two letters changes three letter pairs of the term
+        assertThat(index.search("peetres", 10)).extracting(match -> match.getPlayer().getId())
+            .containsExactly(5001L);
+        assertThat(index.search("peteer", 10)).extracting(match -> match.getPlayer().getId())
+            .containsExactly(5001L);
+        assertThat(index.search("jnas", 10)).extracting(match -> match.getPlayer().getId())
+            .containsExactly(6010L);
+        assertThat(index.search("jnas", 10).get(0).getTypos()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMeasurePrefixDistanceWithTranspositions() {
+        // When / Then
+        assertThat(PlayerSearchIndex.prefixDistance("vermuel", "vermeulen", 1)).isEqualTo(1);
+        assertThat(PlayerSearchIndex.prefixDistance("peters", "peeters", 1)).isEqualTo(1);
+        assertThat(PlayerSearchIndex.prefixDistance("maas", "peeters", 1)).isGreaterThan(1);
+    }
+}
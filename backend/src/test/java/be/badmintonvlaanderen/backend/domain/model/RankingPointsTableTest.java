@@ -0,0 +1,91 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankingPointsTableTest {
+
+    @Test
+    void shouldLookUpPointsByDrawAndRound() {
+        // Given
+        RankingPointsTable table = RankingPointsTable.parse(List.of(
+            "# test table",
+            "version,test.1",
+            "CLUB,*,*,10,0",
+            "PROVINCIAL,*,*,20,1",
+            "REGIONAL,*,*,30,2",
+            "NATIONAL,*,*,40,3",
+            "NATIONAL,32,5,90,12",
+            "INTERNATIONAL,*,*,50,4"
+        ));
+
+        // When / Then
+        assertThat(table.getVersion()).isEqualTo("test.1");
+        assertThat(table.points(TournamentLevel.NATIONAL, 32, 5, MatchResult.WIN)).isEqualTo(90);
+        assertThat(table.points(TournamentLevel.NATIONAL, 32, 5, MatchResult.LOSS)).isEqualTo(12);
+        assertThat(table.points(TournamentLevel.NATIONAL, null, null, MatchResult.WIN)).isEqualTo(40);
+    }
+
+    @Test
+    void shouldFallBackToLevelDefaultForUnlistedCells() {
+        // Given
+        RankingPointsTable table = RankingPointsTable.builder("test.1")
+            .levelDefault(TournamentLevel.CLUB, 10, 0)
+            .levelDefault(TournamentLevel.PROVINCIAL, 20, 1)
+            .levelDefault(TournamentLevel.REGIONAL, 30, 2)
+            .levelDefault(TournamentLevel.NATIONAL, 40, 3)
+            .levelDefault(TournamentLevel.INTERNATIONAL, 50, 4)
+            .put(TournamentLevel.REGIONAL, 128, 7, 99, 9)
+            .build();
+
+        // When / Then
+        assertThat(table.points(TournamentLevel.REGIONAL, 128, 7, MatchResult.WIN)).isEqualTo(99);
+        assertThat(table.points(TournamentLevel.REGIONAL, 128, 6, MatchResult.WIN)).isEqualTo(30);
+        assertThat(table.points(TournamentLevel.INTERNATIONAL, 8, 1, MatchResult.LOSS)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectDrawsAndRoundsOutsideTable() {
+        assertThatThrownBy(() -> RankingPointsTable.stage(24, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankingPointsTable.stage(256, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankingPointsTable.stage(16, 5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankingPointsTable.stage(16, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(RankingPointsTable.stage(null, null)).isZero();
+    }
+
+    @Test
+    void shouldReportLineOfInvalidEntry() {
+        assertThatThrownBy(() -> RankingPointsTable.parse(List.of("version,test.1", "CLUB,*,*,10,0", "MAJOR,*,*,1,0")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("line 3");
+        assertThatThrownBy(() -> RankingPointsTable.parse(List.of("version,test.1", "CLUB,*,*,10,0")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("No default points");
+    }
+
+    @Test
+    void shouldParseShippedTable() throws Exception {
+        // Given
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/ranking/points-placeholder-2024-2025.csv"), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+
+        // When
+        RankingPointsTable table = RankingPointsTable.parse(lines);
+
+        // Then
+        assertThat(table.getVersion()).isEqualTo("placeholder-2024-2025.1");
+        assertThat(table.points(TournamentLevel.NATIONAL, null, null, MatchResult.WIN)).isEqualTo(110);
+        assertThat(table.points(TournamentLevel.NATIONAL, 32, 5, MatchResult.WIN))
+            .isGreaterThan(table.points(TournamentLevel.NATIONAL, 32, 1, MatchResult.WIN));
+    }
+}
@@ -0,0 +1,55 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingPrefixMemoTest {
+
+    @Test
+    void shouldFindEveryChildAfterTableGrows() {
+        // Given
+        RankingPrefixMemo memo = new RankingPrefixMemo(100, new int[]{10}, 1 << 20);
+        int[] heap = {10, 20};
+
+        // When: a chain of nodes with several children each, far more than the initial table holds
+        int parent = RankingPrefixMemo.ROOT;
+        for (int depth = 0; depth < 200; depth++) {
+            int next = -1;
+            for (int points = 1; points <= 5; points++) {
+                int child = memo.addChild(parent, points, heap, 2);
+                next = points == 1 ? child : next;
+            }
+            parent = next;
+        }
+
+        // Then
+        assertThat(memo.size()).isEqualTo(1 + 200 * 5);
+        assertThat(memo.child(RankingPrefixMemo.ROOT, 1)).isEqualTo(1);
+        assertThat(memo.child(RankingPrefixMemo.ROOT, 5)).isEqualTo(5);
+        assertThat(memo.child(1, 3)).isEqualTo(8);
+        assertThat(memo.child(RankingPrefixMemo.ROOT, 6)).isEqualTo(-1);
+        assertThat(memo.child(2, 1)).isEqualTo(-1);
+        assertThat(memo.state(8)).containsExactly(10, 20);
+    }
+
+    @Test
+    void shouldStopAddingNodesWhenBudgetIsSpent() {
+        // Given: the root state takes one of the five counted results allowed
+        RankingPrefixMemo memo = new RankingPrefixMemo(100, new int[]{10}, 5);
+        int[] heap = {10, 20, 30};
+
+        // When
+        int first = memo.addChild(RankingPrefixMemo.ROOT, 20, heap, 2);
+        int tooLarge = memo.addChild(first, 30, heap, 3);
+        int fits = memo.addChild(first, 40, heap, 2);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(tooLarge).isEqualTo(-1);
+        assertThat(fits).isEqualTo(2);
+        assertThat(memo.addChild(fits, 50, heap, 1)).isEqualTo(-1);
+        assertThat(memo.child(first, 30)).isEqualTo(-1);
+        assertThat(memo.child(first, 40)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,68 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankingSeriesTest {
+
+    private static final int MONDAY = (int) LocalDate.of(2014, 9, 1).toEpochDay();
+
+    @Test
+    void shouldRoundTripTenYearsOfWeeklyPublicationsCompactly() {
+        // Given
+        int weeks = 520;
+        int[] days = new int[weeks];
+        int[] points = new int[weeks];
+        int[] positions = new int[weeks];
+        for (int w = 0; w < weeks; w++) {
+            days[w] = MONDAY + 7 * w;
+            points[w] = 400 + (w % 13) * 25 - (w % 7) * 10;
+            positions[w] = w % 50 == 0 ? 0 : 120 - (w % 17);
+        }
+
+        // When
+        RankingSeries series = RankingSeries.fromBytes(RankingSeries.of(days, points, positions).toBytes());
+        RankingSeries.Columns columns = series.decode(null);
+
+        // Then
+        assertThat(series.size()).isEqualTo(weeks);
+        assertThat(series.encodedLength()).isLessThan(weeks * 6);
+        for (int w = 0; w < weeks; w++) {
+            assertThat(columns.date(w)).isEqualTo(LocalDate.ofEpochDay(days[w]));
+            assertThat(columns.points(w)).isEqualTo(points[w]);
+            assertThat(columns.position(w)).isEqualTo(positions[w]);
+        }
+    }
+
+    @Test
+    void shouldKeepOnlyPublicationsFromTheGivenDay() {
+        // Given
+        RankingSeries series = RankingSeries.of(new int[]{MONDAY, MONDAY + 7, MONDAY + 14},
+            new int[]{100, 90, 120}, new int[]{5, 6, 4});
+
+        // When
+        RankingSeries.Columns columns = series.decode(LocalDate.ofEpochDay(MONDAY + 3));
+
+        // Then
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.points(0)).isEqualTo(90);
+        assertThat(columns.position(1)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRejectCorruptBytes() {
+        // Given
+        byte[] bytes = RankingSeries.of(new int[]{MONDAY}, new int[]{100}, new int[]{5}).toBytes();
+
+        // When / Then
+        assertThatThrownBy(() -> RankingSeries.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankingSeries.of(new int[]{MONDAY, MONDAY}, new int[2], new int[2]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,67 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankingSnapshotTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+    private static final int U = CategoryRanking.UNRANKED;
+
+    @Test
+    void shouldLookUpPointsAndPositionsByPlayerId() {
+        // Given
+        RankingSnapshot snapshot = RankingSnapshot.of(TODAY, new long[]{30L, 10L, 20L},
+            columns(new int[]{50, 120, 80}, new int[]{U, 40, U}));
+
+        // When / Then
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.pointsOf(RankingCategory.SINGLES, 20L)).isEqualTo(80);
+        assertThat(snapshot.positionOf(RankingCategory.SINGLES, 10L)).isEqualTo(1);
+        assertThat(snapshot.positionOf(RankingCategory.SINGLES, 30L)).isEqualTo(3);
+        assertThat(snapshot.positionOf(RankingCategory.DOUBLES, 30L)).isZero();
+        assertThat(snapshot.pointsOf(RankingCategory.SINGLES, 99L)).isEqualTo(U);
+        assertThat(snapshot.getRanking(RankingCategory.DOUBLES).size()).isEqualTo(1);
+        assertThat(snapshot.positionFor(RankingCategory.SINGLES, 100, 50)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReplaceAddAndRemovePlayersWhenUpdated() {
+        // Given
+        RankingSnapshot snapshot = RankingSnapshot.of(TODAY, new long[]{10L, 20L, 30L},
+            columns(new int[]{120, 80, 50}, new int[]{U, U, U}));
+
+        // When
+        RankingSnapshot updated = snapshot.with(new long[]{25L, 30L},
+            columns(new int[]{100, 130}, new int[]{60, U}), List.of(20L));
+
+        // Then
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(updated.playerIdAt(0)).isEqualTo(10L);
+        assertThat(updated.playerIdAt(1)).isEqualTo(25L);
+        assertThat(updated.contains(20L)).isFalse();
+        assertThat(updated.positionOf(RankingCategory.SINGLES, 30L)).isEqualTo(1);
+        assertThat(updated.positionOf(RankingCategory.DOUBLES, 25L)).isEqualTo(1);
+        assertThat(snapshot.pointsOf(RankingCategory.SINGLES, 30L)).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRejectDuplicatePlayers() {
+        // When / Then
+        assertThatThrownBy(() -> RankingSnapshot.of(TODAY, new long[]{10L, 10L},
+            columns(new int[]{1, 2}, new int[]{U, U})))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int[][] columns(int[] singles, int[] doubles) {
+        int[] mixed = new int[singles.length];
+        Arrays.fill(mixed, U);
+        return new int[][]{singles, doubles, mixed};
+    }
+}
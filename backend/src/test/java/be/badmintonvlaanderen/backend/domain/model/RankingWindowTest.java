@@ -0,0 +1,67 @@
+package be.badmintonvlaanderen.backend.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankingWindowTest {
+
+    @Test
+    void shouldCountBestReserveResultWhenCountedResultExpires() {
+        // Given
+        RankingWindow window = new RankingWindow(10, 2, new int[]{0, 2, 4, 6}, new int[]{50, 10, 30, 20});
+
+        // When
+        int allIn = window.advanceTo(6);
+        int bestExpired = window.advanceTo(10);
+        int reserveExpired = window.advanceTo(12);
+        int oneLeft = window.advanceTo(14);
+
+        // Then
+        assertThat(allIn).isEqualTo(50 + 30);
+        assertThat(bestExpired).isEqualTo(30 + 20);
+        assertThat(reserveExpired).isEqualTo(30 + 20);
+        assertThat(oneLeft).isEqualTo(20);
+        assertThat(window.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMatchRecomputationFromScratchOnEveryDay() {
+        // Given
+        SplittableRandom random = new SplittableRandom(7);
+        int[] days = IntStream.range(0, 300).map(i -> random.nextInt(1_000)).sorted().toArray();
+        int[] points = IntStream.range(0, 300).map(i -> random.nextInt(6) * 10).toArray();
+        RankingWindow window = new RankingWindow(364, 5, days, points);
+
+        // When / Then
+        for (int day = 0; day < 1_400; day += 1 + random.nextInt(7)) {
+            assertThat(window.advanceTo(day)).as("day %d", day).isEqualTo(bestInWindow(days, points, day, 364, 5));
+        }
+    }
+
+    @Test
+    void shouldRejectMovingBackwards() {
+        // Given
+        RankingWindow window = new RankingWindow(364, 5, new int[]{10}, new int[]{40});
+        window.advanceTo(20);
+
+        // When / Then
+        assertThatThrownBy(() -> window.advanceTo(19))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("forward");
+    }
+
+    private static int bestInWindow(int[] days, int[] points, int day, int windowDays, int counted) {
+        int[] inWindow = IntStream.range(0, days.length)
+            .filter(i -> days[i] <= day && days[i] > day - windowDays)
+            .map(i -> points[i])
+            .sorted()
+            .toArray();
+        return Arrays.stream(inWindow, Math.max(0, inWindow.length - counted), inWindow.length).sum();
+    }
+}
@@ -0,0 +1,292 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionScenario;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureOutcome;
+import be.badmintonvlaanderen.backend.domain.model.FixtureOutlook;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioAnalysis;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioRule;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import be.badmintonvlaanderen.backend.domain.model.TeamResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompetitionAnalysisServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 9, 14);
+
+    private final CompetitionRules rules = CompetitionRules.defaults();
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final CompetitionAnalysisService service = new CompetitionAnalysisService(rules, pool);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldMatchBruteForceEnumeration() {
+        // Given
+        Competition competition = roundRobin(6, 9, 42L);
+
+        for (long target = 1; target <= 6; target++) {
+            // When
+            ScenarioAnalysis analysis = service.analyze(new CompetitionScenario(competition, target, List.of()), false);
+
+            // Then
+            long[] expected = bruteForce(competition, target, analysis.getFixtures().stream()
+                .map(FixtureOutlook::getFixture).toList());
+            assertThat(analysis.getTotalCombinations()).isEqualTo(expected[0]);
+            assertThat(analysis.getChampionCombinations()).isEqualTo(expected[1]);
+            assertThat(analysis.getSharedCombinations()).isEqualTo(expected[2]);
+            for (int f = 0; f < analysis.getFixtures().size(); f++) {
+                for (FixtureOutcome outcome : FixtureOutcome.values()) {
+                    assertThat(analysis.getFixtures().get(f).getChampionCombinations(outcome))
+                        .isEqualTo(expected[3 + f * 3 + outcome.ordinal()]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldProduceSameCountsInParallel() {
+        // Given
+        Competition competition = roundRobin(8, 14, 7L);
+        CompetitionScenario scenario = new CompetitionScenario(competition, 3L, List.of());
+
+        // When
+        ScenarioAnalysis sequential = service.analyze(scenario, false);
+        ScenarioAnalysis parallel = service.analyze(scenario, true);
+
+        // Then
+        assertThat(parallel.getTotalCombinations()).isEqualTo(sequential.getTotalCombinations());
+        assertThat(parallel.getChampionCombinations()).isEqualTo(sequential.getChampionCombinations());
+        assertThat(parallel.getSharedCombinations()).isEqualTo(sequential.getSharedCombinations());
+        for (int f = 0; f < sequential.getFixtures().size(); f++) {
+            for (FixtureOutcome outcome : FixtureOutcome.values()) {
+                assertThat(parallel.getFixtures().get(f).getChampionCombinations(outcome))
+                    .isEqualTo(sequential.getFixtures().get(f).getChampionCombinations(outcome));
+            }
+        }
+    }
+
+    @Test
+    void shouldReportProgressWithoutChangingCounts() {
+        // Given
+        Competition competition = roundRobin(8, 12, 11L);
+        CompetitionScenario scenario = new CompetitionScenario(competition, 2L, List.of());
+        List<Long> reported = new ArrayList<>();
+        SimulationProgress<Object> progress = new SimulationProgress<>() {
+            @Override
+            public void report(long completed, long total, Object partial) {
+                assertThat(completed).isLessThanOrEqualTo(total);
+                reported.add(completed);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+
+        // When
+        ScenarioAnalysis plain = service.analyze(scenario, false);
+        ScenarioAnalysis observed = service.analyze(scenario, false, progress);
+
+        // Then
+        assertThat(reported).hasSizeGreaterThanOrEqualTo(CompetitionAnalysisService.PROGRESS_STEPS);
+        assertThat(reported).isSorted();
+        assertThat(observed.getTotalCombinations()).isEqualTo(plain.getTotalCombinations());
+        assertThat(observed.getChampionCombinations()).isEqualTo(plain.getChampionCombinations());
+        assertThat(observed.getSharedCombinations()).isEqualTo(plain.getSharedCombinations());
+    }
+
+    @Test
+    void shouldStopWhenCancelled() {
+        // Given
+        CompetitionScenario scenario = new CompetitionScenario(roundRobin(8, 12, 11L), 2L, List.of());
+        List<Long> reported = new ArrayList<>();
+        SimulationProgress<Object> progress = new SimulationProgress<>() {
+            @Override
+            public void report(long completed, long total, Object partial) {
+                reported.add(completed);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return reported.size() >= 3;
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> service.analyze(scenario, true, progress))
+            .isInstanceOf(SimulationCancelledException.class);
+        assertThat(reported).hasSize(3);
+    }
+
+    @Test
+    void shouldCountClinchedTitleWithoutEnumerating() {
+        // Given: team 1 leads by far more points than the rivals can still collect
+        List<Fixture> fixtures = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < 10; i++) {
+            fixtures.add(played(id++, 1L, 2L, 8, 0));
+        }
+        for (int i = 0; i < 12; i++) {
+            fixtures.add(unplayed(id++, 2L + i % 3, 2L + (i + 1) % 3));
+        }
+        Competition competition = new Competition(1L, "Division 1", teams(4), fixtures);
+
+        // When
+        ScenarioAnalysis analysis = service.analyze(new CompetitionScenario(competition, 1L, List.of()), false);
+
+        // Then
+        assertThat(analysis.getTotalCombinations()).isEqualTo(531_441L);
+        assertThat(analysis.isChampionshipGuaranteed()).isTrue();
+        assertThat(analysis.getExamples()).hasSize(1);
+    }
+
+    @Test
+    void shouldApplyScenarioRules() {
+        // Given: team 2 is one point ahead and both play once more
+        Competition competition = new Competition(1L, "Division 1", teams(4), List.of(
+            played(1L, 2L, 3L, 4, 4),
+            unplayed(2L, 1L, 3L),
+            unplayed(3L, 2L, 4L)
+        ));
+
+        // When
+        ScenarioAnalysis open = service.analyze(new CompetitionScenario(competition, 1L, List.of()), false);
+        ScenarioAnalysis rivalLoses = service.analyze(new CompetitionScenario(competition, 1L,
+            List.of(ScenarioRule.team(2L, TeamResult.LOSS))), false);
+        ScenarioAnalysis targetLoses = service.analyze(new CompetitionScenario(competition, 1L,
+            List.of(ScenarioRule.fixture(2L, FixtureOutcome.AWAY_WIN))), false);
+
+        // Then
+        assertThat(open.getTotalCombinations()).isEqualTo(9);
+        assertThat(open.getChampionCombinations()).isEqualTo(1);
+        assertThat(open.getSharedCombinations()).isEqualTo(1);
+        assertThat(open.getFixtures().get(0).getRequiredOutcome()).isEqualTo(FixtureOutcome.HOME_WIN);
+        // team 4 then beats team 2 and draws level with a winning team 1
+        assertThat(rivalLoses.getTotalCombinations()).isEqualTo(3);
+        assertThat(rivalLoses.getChampionCombinations()).isZero();
+        assertThat(rivalLoses.getSharedCombinations()).isEqualTo(1);
+        assertThat(targetLoses.isChampionshipPossible()).isFalse();
+    }
+
+    @Test
+    void shouldRejectTooManyRemainingFixtures() {
+        Competition competition = roundRobin(10, 40, 1L);
+
+        assertThatThrownBy(() -> service.analyze(new CompetitionScenario(competition, 1L, List.of()), false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Double round robin of which all but the last {@code remaining} fixtures have random results.
+     */
+    private static Competition roundRobin(int teamCount, int remaining, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Fixture> fixtures = new ArrayList<>();
+        for (int home = 1; home <= teamCount; home++) {
+            for (int away = 1; away <= teamCount; away++) {
+                if (home != away) {
+                    fixtures.add(unplayed(0L, (long) home, (long) away));
+                }
+            }
+        }
+        List<Fixture> numbered = new ArrayList<>(fixtures.size());
+        int playedCount = fixtures.size() - remaining;
+        for (int i = 0; i < fixtures.size(); i++) {
+            Fixture fixture = fixtures.get(i);
+            if (i < playedCount) {
+                int homeMatches = random.nextInt(9);
+                numbered.add(played(i + 1L, fixture.getHomeTeamId(), fixture.getAwayTeamId(),
+                    homeMatches, 8 - homeMatches));
+            } else {
+                numbered.add(unplayed(i + 1L, fixture.getHomeTeamId(), fixture.getAwayTeamId()));
+            }
+        }
+        return new Competition(1L, "Division 1", teams(teamCount), numbered);
+    }
+
+    /**
+     * @return total, clear first and shared first counts, followed by clear first counts per
+     * fixture and outcome
+     */
+    private long[] bruteForce(Competition competition, Long target, List<Fixture> remaining) {
+        int teamCount = competition.getTeams().size();
+        int[] base = new int[teamCount + 1];
+        for (Fixture fixture : competition.getPlayedFixtures()) {
+            FixtureOutcome outcome = fixture.getResult().getOutcome();
+            base[fixture.getHomeTeamId().intValue()] += rules.homePoints(outcome);
+            base[fixture.getAwayTeamId().intValue()] += rules.awayPoints(outcome);
+        }
+        long[] counts = new long[3 + remaining.size() * 3];
+        int combinations = (int) Math.pow(3, remaining.size());
+        for (int c = 0; c < combinations; c++) {
+            int[] points = base.clone();
+            int[] outcomes = new int[remaining.size()];
+            int code = c;
+            for (int f = 0; f < remaining.size(); f++) {
+                outcomes[f] = code % 3;
+                code /= 3;
+                FixtureOutcome outcome = FixtureOutcome.fromCode(outcomes[f]);
+                points[remaining.get(f).getHomeTeamId().intValue()] += rules.homePoints(outcome);
+                points[remaining.get(f).getAwayTeamId().intValue()] += rules.awayPoints(outcome);
+            }
+            int best = 0;
+            int atBest = 0;
+            for (int team = 1; team <= teamCount; team++) {
+                if (points[team] > best) {
+                    best = points[team];
+                    atBest = 1;
+                } else if (points[team] == best) {
+                    atBest++;
+                }
+            }
+            counts[0]++;
+            if (points[target.intValue()] == best) {
+                if (atBest == 1) {
+                    counts[1]++;
+                    for (int f = 0; f < remaining.size(); f++) {
+                        counts[3 + f * 3 + outcomes[f]]++;
+                    }
+                } else {
+                    counts[2]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static List<CompetitionTeam> teams(int count) {
+        List<CompetitionTeam> teams = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            teams.add(new CompetitionTeam(id, "Team " + id));
+        }
+        return teams;
+    }
+
+    private static Fixture played(long id, Long home, Long away, int homeMatches, int awayMatches) {
+        return new Fixture(id, home, away, START, new FixtureResult(homeMatches, awayMatches));
+    }
+
+    private static Fixture unplayed(long id, Long home, Long away) {
+        return new Fixture(id, home, away, START.plusWeeks(10), null);
+    }
+}
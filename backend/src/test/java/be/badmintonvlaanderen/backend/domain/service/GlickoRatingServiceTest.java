@@ -0,0 +1,105 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.MatchHistory;
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GlickoRatingServiceTest {
+
+    private final ForkJoinPool singleThreaded = new ForkJoinPool(1);
+    private final ForkJoinPool multiThreaded = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPools() {
+        singleThreaded.shutdown();
+        multiThreaded.shutdown();
+    }
+
+    @Test
+    void shouldReproduceExampleFromGlickmansDescription() {
+        // Given a 1500/200 player meeting 1400/30, 1550/100 and 1700/300 opponents in period 1
+        double scale = GlickoRules.SCALE;
+        PlayerRatings base = new PlayerRatings(new long[]{1, 2, 3, 4},
+            new double[]{0, -100 / scale, 50 / scale, 200 / scale},
+            new double[]{200 / scale, 30 / scale, 100 / scale, 300 / scale},
+            new double[]{0.06, 0.06, 0.06, 0.06}, new int[]{0, 0, 0, 0}, 0);
+        MatchHistory matches = MatchHistory.of(new long[]{1, 3, 4}, new long[]{2, 1, 1}, new int[]{30, 31, 32});
+
+        // When
+        PlayerRatings rated = new GlickoRatingService(GlickoRules.defaults(), singleThreaded).rate(base, matches, 1);
+
+        // Then
+        int player = rated.indexOf(1);
+        assertThat(rated.rating(player)).isCloseTo(1464.06, within(0.01));
+        assertThat(rated.deviation(player)).isCloseTo(151.52, within(0.01));
+        assertThat(rated.sigma(player)).isCloseTo(0.05999, within(0.00001));
+        assertThat(rated.getThroughPeriod()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveSameRatingsIncrementallyAndWhateverTheParallelism() {
+        // Given two years of matches among 2000 players in clubs that mostly play each other
+        MatchHistory matches = randomMatches(2_000, 50_000, 730, 7L);
+        GlickoRules rules = GlickoRules.defaults();
+        int lastPeriod = rules.period(729);
+        int splitDay = rules.periodStart(12);
+
+        // When
+        PlayerRatings full = new GlickoRatingService(rules, singleThreaded)
+            .rate(PlayerRatings.empty(), matches, lastPeriod);
+        GlickoRatingService parallel = new GlickoRatingService(rules, multiThreaded);
+        PlayerRatings settled = parallel.rate(PlayerRatings.empty(), matches.between(0, splitDay), 11);
+        PlayerRatings incremental = parallel.rate(settled, matches.between(splitDay, 730), lastPeriod);
+
+        // Then
+        assertThat(incremental.size()).isEqualTo(full.size());
+        for (int i = 0; i < full.size(); i++) {
+            assertThat(incremental.playerIdAt(i)).isEqualTo(full.playerIdAt(i));
+            assertThat(incremental.mu(i)).isEqualTo(full.mu(i));
+            assertThat(incremental.phi(i)).isEqualTo(full.phi(i));
+            assertThat(incremental.sigma(i)).isEqualTo(full.sigma(i));
+        }
+    }
+
+    @Test
+    void shouldRejectMatchesInAnAlreadyRatedPeriod() {
+        // Given
+        GlickoRatingService service = new GlickoRatingService(GlickoRules.defaults(), singleThreaded);
+        PlayerRatings rated = service.rate(PlayerRatings.empty(),
+            MatchHistory.of(new long[]{1}, new long[]{2}, new int[]{30}), 1);
+
+        // When / Then
+        assertThatThrownBy(() -> service.rate(rated, MatchHistory.of(new long[]{2}, new long[]{1}, new int[]{40}), 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Matches in date order where players mostly meet players of their own club of 20.
+     */
+    static MatchHistory randomMatches(int players, int count, int days, long seed) {
+        Random random = new Random(seed);
+        long[] winners = new long[count];
+        long[] losers = new long[count];
+        int[] epochDays = new int[count];
+        for (int i = 0; i < count; i++) {
+            long first = random.nextInt(players);
+            long second;
+            do {
+                second = random.nextInt(10) == 0 ? random.nextInt(players) : first / 20 * 20 + random.nextInt(20);
+            } while (second == first);
+            winners[i] = first;
+            losers[i] = second;
+            epochDays[i] = (int) ((long) i * days / count);
+        }
+        return MatchHistory.of(winners, losers, epochDays);
+    }
+}
@@ -0,0 +1,186 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.Gender;
+import be.badmintonvlaanderen.backend.domain.model.InterclubDiscipline;
+import be.badmintonvlaanderen.backend.domain.model.InterclubFormat;
+import be.badmintonvlaanderen.backend.domain.model.Lineup;
+import be.badmintonvlaanderen.backend.domain.model.LineupMatch;
+import be.badmintonvlaanderen.backend.domain.model.LineupRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsWinProbability;
+import be.badmintonvlaanderen.backend.domain.model.RosterPlayer;
+import be.badmintonvlaanderen.backend.domain.model.TeamRoster;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.WinProbabilityModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LineupOptimizationServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final WinProbabilityModel model = RankingPointsWinProbability.defaults();
+    private final LineupOptimizationService service = new LineupOptimizationService(LineupRules.defaults(), pool);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldNumberMatchesOfADisciplineFromTheStrongestDown() {
+        // Given eight men against an even opposition
+        List<RosterPlayer> men = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            men.add(new RosterPlayer(id, "M" + id, Gender.MALE, (int) (100 * id), (int) (900 - 100 * id), 0, 0));
+        }
+        TeamRoster roster = new TeamRoster(1, TeamRoster.NO_INDEX_LIMIT, men);
+
+        // When
+        Lineup lineup = service.optimise(InterclubFormat.MEN, roster, opposition(InterclubFormat.MEN, 450), model);
+
+        // Then
+        List<LineupMatch> matches = lineup.getMatches();
+        assertThat(matches).noneMatch(LineupMatch::isForfeited);
+        assertThat(matches.subList(0, 4)).extracting(match -> match.getPlayerIds().get(0))
+            .containsExactly(8L, 7L, 6L, 5L);
+        // doubles points are 900 - 100 * id, so a pair's ID sum rises as it gets weaker
+        assertThat(matches.subList(4, 8))
+            .extracting(match -> match.getPlayerIds().get(0) + match.getPlayerIds().get(1))
+            .isSorted();
+        assertThat(matches.subList(4, 8)).flatExtracting(LineupMatch::getPlayerIds).doesNotHaveDuplicates();
+        assertThat(lineup.getExpectedPoints())
+            .isCloseTo(matches.stream().mapToDouble(LineupMatch::getWinProbability).sum(), within(1e-9));
+    }
+
+    @Test
+    void shouldKeepBasePlayersOfHigherTeamsAndIndexLimitOut() {
+        // Given a second team whose strongest man is in the first team's base lineup
+        List<RosterPlayer> players = List.of(
+            new RosterPlayer(1L, "Base", Gender.MALE, 2000, 2000, 2000, 1),
+            new RosterPlayer(2L, "Strong", Gender.MALE, 900, 900, 900, 0),
+            new RosterPlayer(3L, "Weak", Gender.MALE, 300, 300, 300, 2),
+            new RosterPlayer(4L, "Woman", Gender.FEMALE, 500, 500, 500, 0),
+            new RosterPlayer(5L, "Woman", Gender.FEMALE, 400, 400, 400, 0));
+        TeamRoster roster = new TeamRoster(2, 6000, players);
+
+        // When
+        Lineup lineup = service.optimise(InterclubFormat.MIXED, roster,
+            opposition(InterclubFormat.MIXED, 600), model);
+
+        // Then both eligible men together exceed the index, so the men's doubles is given away
+        Set<Long> fielded = new HashSet<>();
+        lineup.getMatches().forEach(match -> fielded.addAll(match.getPlayerIds()));
+        assertThat(fielded).doesNotContain(1L);
+        assertThat(lineup.getTeamIndex()).isLessThanOrEqualTo(6000);
+        assertThat(lineup.getMatches().get(4).isForfeited()).isTrue();
+    }
+
+    @Test
+    void shouldFindTheSameOptimumAsTryingEveryLineup() {
+        Random random = new Random(11);
+        for (int round = 0; round < 20; round++) {
+            // Given
+            List<RosterPlayer> players = new ArrayList<>();
+            for (long id = 1; id <= 3 + random.nextInt(3); id++) {
+                players.add(new RosterPlayer(id, "P" + id, random.nextBoolean() ? Gender.MALE : Gender.FEMALE,
+                    random.nextInt(1000), random.nextInt(1000), random.nextInt(1000), 0));
+            }
+            int maxIndex = random.nextBoolean() ? TeamRoster.NO_INDEX_LIMIT : 2000 + random.nextInt(4000);
+            TeamRoster roster = new TeamRoster(1, maxIndex, players);
+            List<TournamentEntrant> opposition = new ArrayList<>();
+            for (int slot = 0; slot < 8; slot++) {
+                opposition.add(new TournamentEntrant(100L + slot, "O", random.nextInt(1000)));
+            }
+
+            // When
+            Lineup lineup = service.optimise(InterclubFormat.MIXED, roster, opposition, model);
+
+            // Then
+            double expected = bruteForce(InterclubFormat.MIXED, players, maxIndex, opposition, 0, new HashMap<>(),
+                new HashSet<>(), 0);
+            assertThat(lineup.getExpectedPoints()).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    /**
+     * Tries every assignment of players to matches that keeps the rules, without memo or order
+     * shortcuts.
+     */
+    private double bruteForce(InterclubFormat format, List<RosterPlayer> players, int maxIndex,
+                              List<TournamentEntrant> opposition, int slot, Map<Long, Set<RankingCategory>> played,
+                              Set<String> previous, int previousStrength) {
+        List<InterclubDiscipline> slots = format.getSlots();
+        if (slot == slots.size()) {
+            int index = 0;
+            for (RosterPlayer player : players) {
+                if (played.containsKey(player.getPlayerId())) {
+                    index += format.indexPoints(player);
+                }
+            }
+            return index <= maxIndex ? 0 : Double.NEGATIVE_INFINITY;
+        }
+        InterclubDiscipline discipline = slots.get(slot);
+        boolean continues = slot > 0 && slots.get(slot - 1) == discipline;
+        int end = slot;
+        while (end < slots.size() && slots.get(end) == discipline) {
+            end++;
+        }
+        // give the rest of the discipline away
+        double best = bruteForce(format, players, maxIndex, opposition, end, played, new HashSet<>(), 0);
+        for (RosterPlayer first : players) {
+            List<RosterPlayer> partners = discipline.isDoubles() ? players : Collections.singletonList(null);
+            for (RosterPlayer second : partners) {
+                if (first.getGender() != discipline.getFirstGender()
+                    || (second != null && (second.getGender() != discipline.getSecondGender() || second == first))) {
+                    continue;
+                }
+                List<RosterPlayer> option = second == null ? List.of(first) : List.of(first, second);
+                String pair = option.stream().map(p -> String.valueOf(p.getPlayerId())).sorted().toList().toString();
+                int strength = option.stream().mapToInt(p -> p.getPoints(discipline.getCategory())).sum();
+                if (continues && (strength > previousStrength || previous.contains(pair))) {
+                    continue;
+                }
+                boolean allowed = option.stream().allMatch(p -> {
+                    Set<RankingCategory> kinds = played.getOrDefault(p.getPlayerId(), Set.of());
+                    return !kinds.contains(discipline.getCategory()) && kinds.size() < 2;
+                });
+                if (!allowed) {
+                    continue;
+                }
+                Map<Long, Set<RankingCategory>> next = new HashMap<>();
+                played.forEach((id, kinds) -> next.put(id, new HashSet<>(kinds)));
+                option.forEach(p -> next.computeIfAbsent(p.getPlayerId(), id -> new HashSet<>())
+                    .add(discipline.getCategory()));
+                Set<String> nextPrevious = new HashSet<>(continues ? previous : Set.of());
+                nextPrevious.add(pair);
+                TournamentEntrant entrant = new TournamentEntrant(first.getPlayerId(), "x",
+                    option.size() == 1 ? strength : strength / 2);
+                double value = model.winProbability(entrant, opposition.get(slot))
+                    + bruteForce(format, players, maxIndex, opposition, slot + 1, next, nextPrevious, strength);
+                best = Math.max(best, value);
+            }
+        }
+        return best;
+    }
+
+    private static List<TournamentEntrant> opposition(InterclubFormat format, int points) {
+        List<TournamentEntrant> opposition = new ArrayList<>();
+        for (int slot = 0; slot < format.getSlots().size(); slot++) {
+            opposition.add(new TournamentEntrant(1000L + slot, "Opponent", points));
+        }
+        return opposition;
+    }
+}
@@ -0,0 +1,279 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.MatchScenario;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingHistory;
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsTable;
+import be.badmintonvlaanderen.backend.domain.model.RankingGroupProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingPrefixMemo;
+import be.badmintonvlaanderen.backend.domain.model.RankingProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.ScenarioBatch;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankingCalculationServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    private final RankingRules rules = new RankingRules(
+        364, 3, new int[]{10, 20, 30, 40, 50}, new int[]{0, 1, 2, 3, 4});
+    private final RankingCalculationService service = new RankingCalculationService(rules);
+
+    @Test
+    void shouldCountOnlyBestResultsInsideWindow() {
+        // Given
+        RankingHistory history = RankingHistory.of(List.of(
+            result(100, TODAY.minusDays(400)),
+            result(30, TODAY.minusDays(10)),
+            result(50, TODAY.minusDays(20)),
+            result(20, TODAY.minusDays(30)),
+            result(40, TODAY.minusDays(40))
+        ));
+
+        // When
+        int points = service.calculatePoints(history, (int) TODAY.toEpochDay());
+
+        // Then
+        assertThat(points).isEqualTo(50 + 40 + 30);
+    }
+
+    @Test
+    void shouldScoreEveryScenarioOfBatch() {
+        // Given
+        RankingHistory history = RankingHistory.of(List.of(result(15, TODAY.minusDays(5))));
+        ScenarioBatch batch = ScenarioBatch.of(List.of(
+            List.of(match(MatchResult.WIN, TournamentLevel.INTERNATIONAL, 5)),
+            List.of(match(MatchResult.LOSS, TournamentLevel.CLUB, 5)),
+            List.of(
+                match(MatchResult.WIN, TournamentLevel.NATIONAL, 5),
+                match(MatchResult.WIN, TournamentLevel.REGIONAL, 10),
+                match(MatchResult.WIN, TournamentLevel.CLUB, 20)
+            ),
+            List.of()
+        ));
+        int[] points = new int[batch.size()];
+
+        // When
+        service.scoreBatch(history, batch, (int) TODAY.plusDays(30).toEpochDay(), points);
+
+        // Then
+        assertThat(points).containsExactly(15 + 50, 15, 40 + 30 + 15, 15);
+    }
+
+    @Test
+    void shouldIgnoreScenarioMatchesAfterEvaluationDay() {
+        // Given
+        ScenarioBatch batch = ScenarioBatch.single(List.of(
+            match(MatchResult.WIN, TournamentLevel.NATIONAL, 5),
+            match(MatchResult.WIN, TournamentLevel.NATIONAL, 50)
+        ));
+
+        // When
+        int points = service.calculatePoints(RankingHistory.empty(), batch, 0, (int) TODAY.plusDays(10).toEpochDay());
+
+        // Then
+        assertThat(points).isEqualTo(40);
+    }
+
+    @Test
+    void shouldResolvePositionsForBatch() {
+        // Given
+        CategoryRanking ranking = new CategoryRanking(RankingCategory.SINGLES, new int[]{100, 80, 60, 20, 10});
+        RankingHistory history = RankingHistory.of(List.of(result(20, TODAY.minusDays(5))));
+        ScenarioBatch batch = ScenarioBatch.of(List.of(
+            List.of(),
+            List.of(match(MatchResult.WIN, TournamentLevel.INTERNATIONAL, 3),
+                match(MatchResult.WIN, TournamentLevel.NATIONAL, 4))
+        ));
+        int[] points = new int[2];
+        int[] positions = new int[2];
+
+        // When
+        service.rankBatch(history, batch, (int) TODAY.plusDays(10).toEpochDay(), ranking, 20, points, positions);
+
+        // Then
+        assertThat(points).containsExactly(20, 110);
+        assertThat(positions).containsExactly(4, 1);
+    }
+
+    @Test
+    void shouldProjectRankingWithTimeline() {
+        // Given
+        CategoryRanking ranking = new CategoryRanking(RankingCategory.SINGLES, new int[]{120, 90, 50, 40, 10});
+        RankingHistory history = RankingHistory.of(List.of(
+            result(40, TODAY.minusDays(330))
+        ));
+        List<MatchScenario> scenarios = List.of(
+            match(MatchResult.WIN, TournamentLevel.INTERNATIONAL, 20),
+            match(MatchResult.WIN, TournamentLevel.NATIONAL, 10),
+            match(MatchResult.WIN, TournamentLevel.NATIONAL, 200)
+        );
+
+        // When
+        RankingProjection projection = service.projectRanking(
+            history, scenarios, TODAY, TimeframePeriod.NEXT_3_MONTHS, ranking);
+
+        // Then
+        assertThat(projection.getCurrentPoints()).isEqualTo(40);
+        assertThat(projection.getCurrentRanking()).isEqualTo(4);
+        assertThat(projection.getTimeline()).hasSize(3);
+        assertThat(projection.getTimeline().get(0).getPoints()).isEqualTo(80);
+        assertThat(projection.getTimeline().get(0).getRanking()).isEqualTo(3);
+        assertThat(projection.getTimeline().get(1).getPoints()).isEqualTo(130);
+        assertThat(projection.getTimeline().get(1).getRanking()).isEqualTo(1);
+        // the historical result drops out of the 52-week window before the timeframe ends
+        assertThat(projection.getProjectedPoints()).isEqualTo(90);
+        assertThat(projection.getProjectedRanking()).isEqualTo(2);
+        assertThat(projection.getRankingChange()).isEqualTo(-2);
+    }
+
+    @Test
+    void shouldResolveGroupPositionsAgainstEachOther() {
+        // Given
+        CategoryRanking ranking = new CategoryRanking(RankingCategory.SINGLES, new int[]{100, 80, 60, 20, 10});
+        List<RankingHistory> histories = List.of(
+            RankingHistory.of(List.of(result(20, TODAY.minusDays(5)))),
+            RankingHistory.of(List.of(result(10, TODAY.minusDays(5)))),
+            RankingHistory.of(List.of()));
+        List<MatchScenario> scenarios = List.of(
+            match(MatchResult.WIN, TournamentLevel.INTERNATIONAL, 3),
+            match(MatchResult.WIN, TournamentLevel.NATIONAL, 4));
+
+        // When
+        RankingGroupProjection projection = service.projectGroup(new long[]{1L, 2L, 3L}, histories, scenarios,
+            TODAY, TimeframePeriod.NEXT_MONTH, ranking);
+
+        // Then
+        assertThat(projection.size()).isEqualTo(3);
+        assertThat(new int[]{projection.getCurrentPosition(0), projection.getCurrentPosition(1),
+            projection.getCurrentPosition(2)}).containsExactly(4, 5, 6);
+        assertThat(new int[]{projection.getProjectedPoints(0), projection.getProjectedPoints(1),
+            projection.getProjectedPoints(2)}).containsExactly(110, 100, 90);
+        // the members overtake each other's listed points, not their projected ones
+        assertThat(new int[]{projection.getProjectedPosition(0), projection.getProjectedPosition(1),
+            projection.getProjectedPosition(2)}).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    void shouldScoreMatchesWithKnownDrawFromPointsTable() {
+        // Given
+        RankingPointsTable table = RankingPointsTable.builder("test")
+            .levelDefault(TournamentLevel.CLUB, 10, 0)
+            .levelDefault(TournamentLevel.PROVINCIAL, 20, 1)
+            .levelDefault(TournamentLevel.REGIONAL, 30, 2)
+            .levelDefault(TournamentLevel.NATIONAL, 40, 3)
+            .levelDefault(TournamentLevel.INTERNATIONAL, 50, 4)
+            .put(TournamentLevel.NATIONAL, 16, 4, 75, 6)
+            .build();
+        RankingCalculationService tableService = new RankingCalculationService(new RankingRules(364, 3, table));
+        ScenarioBatch batch = ScenarioBatch.single(List.of(
+            new MatchScenario(42L, MatchResult.WIN, TournamentLevel.NATIONAL, TODAY.plusDays(1), 16, 4),
+            new MatchScenario(42L, MatchResult.LOSS, TournamentLevel.NATIONAL, TODAY.plusDays(2), 16, 4),
+            new MatchScenario(42L, MatchResult.WIN, TournamentLevel.NATIONAL, TODAY.plusDays(3), 16, 1)
+        ));
+
+        // When
+        int points = tableService.calculatePoints(RankingHistory.empty(), batch, 0, (int) TODAY.plusDays(5).toEpochDay());
+
+        // Then
+        assertThat(points).isEqualTo(75 + 6 + 40);
+    }
+
+    @Test
+    void shouldScoreSharedPrefixesOnceWithSameResult() {
+        // Given
+        CategoryRanking ranking = new CategoryRanking(RankingCategory.SINGLES, new int[]{300, 200, 150, 100, 50});
+        RankingHistory history = RankingHistory.of(List.of(
+            result(30, TODAY.minusDays(100)), result(45, TODAY.minusDays(200)), result(25, TODAY.minusDays(390))));
+        ScenarioBatch batch = ScenarioBatch.of(nearIdenticalScenarios(new SplittableRandom(5), 20, 12, 3));
+        int endDay = (int) TODAY.plusDays(60).toEpochDay();
+        int[] expectedPoints = new int[batch.size()];
+        int[] expectedPositions = new int[batch.size()];
+        service.rankBatch(history, batch, endDay, ranking, 45, expectedPoints, expectedPositions);
+        int[] points = new int[batch.size()];
+        int[] positions = new int[batch.size()];
+
+        // When
+        RankingPrefixMemo memo = service.prefixMemo(history, endDay, 1 << 16);
+        service.rankBatch(batch, 0, batch.size(), memo, ranking, 45, points, positions);
+
+        // Then
+        assertThat(points).containsExactly(expectedPoints);
+        assertThat(positions).containsExactly(expectedPositions);
+        // the shared prefix is stored once, only the differing tails add states
+        assertThat(memo.size()).isLessThanOrEqualTo(1 + 12 + 20 * 3);
+    }
+
+    @Test
+    void shouldKeepScoringCorrectlyWhenMemoIsFull() {
+        // Given
+        RankingHistory history = RankingHistory.of(List.of(result(30, TODAY.minusDays(10))));
+        ScenarioBatch batch = ScenarioBatch.of(nearIdenticalScenarios(new SplittableRandom(9), 10, 8, 4));
+        CategoryRanking ranking = new CategoryRanking(RankingCategory.SINGLES, new int[]{100, 50});
+        int endDay = (int) TODAY.plusDays(60).toEpochDay();
+        int[] expected = new int[batch.size()];
+        service.scoreBatch(history, batch, endDay, expected);
+        int[] points = new int[batch.size()];
+
+        // When
+        RankingPrefixMemo memo = service.prefixMemo(history, endDay, 8);
+        service.rankBatch(batch, 0, batch.size(), memo, ranking, 30, points, new int[batch.size()]);
+
+        // Then
+        assertThat(points).containsExactly(expected);
+    }
+
+    @Test
+    void shouldRejectTooSmallOutputArray() {
+        ScenarioBatch batch = ScenarioBatch.of(List.of(List.of(), List.of()));
+
+        assertThatThrownBy(() -> service.scoreBatch(RankingHistory.empty(), batch, 0, new int[1]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RankingResult result(int points, LocalDate date) {
+        return new RankingResult(RankingCategory.SINGLES, points, date, TournamentLevel.NATIONAL);
+    }
+
+    private static MatchScenario match(MatchResult result, TournamentLevel level, int daysFromToday) {
+        return new MatchScenario(42L, result, level, TODAY.plusDays(daysFromToday));
+    }
+
+    /**
+     * Scenarios sharing the same first matches, each ending in its own random matches.
+     */
+    private static List<List<MatchScenario>> nearIdenticalScenarios(SplittableRandom random, int count,
+                                                                     int sharedMatches, int ownMatches) {
+        List<MatchScenario> shared = new ArrayList<>();
+        for (int i = 0; i < sharedMatches; i++) {
+            shared.add(randomMatch(random, 1 + i));
+        }
+        List<List<MatchScenario>> scenarios = new ArrayList<>();
+        for (int s = 0; s < count; s++) {
+            List<MatchScenario> scenario = new ArrayList<>(shared);
+            for (int i = 0; i < ownMatches; i++) {
+                scenario.add(randomMatch(random, 1 + sharedMatches + i));
+            }
+            scenarios.add(scenario);
+        }
+        return scenarios;
+    }
+
+    private static MatchScenario randomMatch(SplittableRandom random, int daysFromToday) {
+        return match(random.nextBoolean() ? MatchResult.WIN : MatchResult.LOSS,
+            TournamentLevel.values()[random.nextInt(TournamentLevel.count())], daysFromToday);
+    }
+}
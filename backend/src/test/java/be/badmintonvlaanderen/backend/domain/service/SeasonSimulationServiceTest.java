@@ -0,0 +1,156 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.DivisionOdds;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+import be.badmintonvlaanderen.backend.domain.model.SeasonOdds;
+import be.badmintonvlaanderen.backend.domain.model.SimulationCancelledException;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SeasonSimulationServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 9, 14);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final SeasonSimulationService service = new SeasonSimulationService(CompetitionRules.defaults(), pool);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldSpreadEveryPlaceOverTheTeams() {
+        // Given
+        List<Competition> divisions = List.of(division(1L, 8, 20, 1L), division(2L, 10, 45, 2L));
+
+        // When
+        SeasonOdds odds = service.simulate(divisions, 2, 3, 2_000, 42L);
+
+        // Then
+        assertThat(odds.getDivisions()).extracting(DivisionOdds::getCompetitionId).containsExactly(1L, 2L);
+        for (DivisionOdds division : odds.getDivisions()) {
+            double championship = 0;
+            double promotion = 0;
+            double relegation = 0;
+            for (int team = 0; team < division.getTeams().size(); team++) {
+                championship += division.getChampionshipProbability(team);
+                promotion += division.getPromotionProbability(team);
+                relegation += division.getRelegationProbability(team);
+                assertThat(division.getPromotionProbability(team))
+                    .isGreaterThanOrEqualTo(division.getChampionshipProbability(team));
+            }
+            assertThat(championship).isCloseTo(1.0, within(1e-9));
+            assertThat(promotion).isCloseTo(2.0, within(1e-9));
+            assertThat(relegation).isCloseTo(3.0, within(1e-9));
+        }
+    }
+
+    @Test
+    void shouldGiveSameOddsWhateverThePoolAndOtherDivisions() {
+        // Given
+        Competition division = division(7L, 8, 16, 7L);
+        ForkJoinPool single = new ForkJoinPool(1);
+
+        // When
+        DivisionOdds alone = new SeasonSimulationService(CompetitionRules.defaults(), single)
+            .simulate(List.of(division), 1, 2, 1_000, 5L).getDivisions().get(0);
+        DivisionOdds together = service
+            .simulate(List.of(division(3L, 10, 30, 3L), division), 1, 2, 1_000, 5L).getDivisions().get(1);
+        single.shutdown();
+
+        // Then
+        for (int team = 0; team < division.getTeams().size(); team++) {
+            assertThat(together.getChampionshipProbability(team)).isEqualTo(alone.getChampionshipProbability(team));
+            assertThat(together.getRelegationProbability(team)).isEqualTo(alone.getRelegationProbability(team));
+            assertThat(together.getExpectedPoints(team)).isEqualTo(alone.getExpectedPoints(team));
+        }
+    }
+
+    @Test
+    void shouldCrownLeaderOfFinishedDivision() {
+        // Given
+        List<CompetitionTeam> teams = List.of(new CompetitionTeam(1L, "A"), new CompetitionTeam(2L, "B"));
+        Competition finished = new Competition(9L, "Finished", teams, List.of(
+            new Fixture(1L, 1L, 2L, START, new FixtureResult(3, 5)),
+            new Fixture(2L, 2L, 1L, START.plusWeeks(1), new FixtureResult(2, 6))));
+
+        // When
+        DivisionOdds odds = service.simulate(List.of(finished), 1, 1, 100, 1L).getDivisions().get(0);
+
+        // Then the teams took a win each, and A wins on match difference
+        assertThat(odds.getChampionshipProbability(0)).isEqualTo(1.0);
+        assertThat(odds.getRelegationProbability(1)).isEqualTo(1.0);
+        assertThat(odds.getExpectedPoints(0)).isEqualTo(3.0);
+    }
+
+    @Test
+    void shouldReportDivisionsAsTheyFinishAndStopWhenCancelled() {
+        // Given
+        List<Competition> divisions = List.of(division(1L, 6, 10, 1L), division(2L, 6, 10, 2L),
+            division(3L, 6, 10, 3L));
+        List<Long> reported = new CopyOnWriteArrayList<>();
+        SimulationProgress<DivisionOdds> progress = new SimulationProgress<>() {
+            @Override
+            public void report(long completed, long total, DivisionOdds partial) {
+                assertThat(total).isEqualTo(3);
+                reported.add(partial.getCompetitionId());
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return reported.size() >= 2;
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> service.simulate(divisions, 1, 1, 500, 1L, progress))
+            .isInstanceOf(SimulationCancelledException.class);
+        assertThat(reported).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    /**
+     * Double round robin of which all but the last {@code remaining} fixtures have random results.
+     */
+    private static Competition division(long id, int teamCount, int remaining, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<CompetitionTeam> teams = new ArrayList<>(teamCount);
+        for (long team = 1; team <= teamCount; team++) {
+            teams.add(new CompetitionTeam(id * 100 + team, "Team " + team));
+        }
+        List<Fixture> fixtures = new ArrayList<>();
+        int total = teamCount * (teamCount - 1);
+        long fixtureId = 1;
+        for (CompetitionTeam home : teams) {
+            for (CompetitionTeam away : teams) {
+                if (home == away) {
+                    continue;
+                }
+                FixtureResult result = null;
+                if (fixtureId <= total - remaining) {
+                    int homeMatches = random.nextInt(9);
+                    result = new FixtureResult(homeMatches, 8 - homeMatches, 2 * homeMatches, 2 * (8 - homeMatches));
+                }
+                fixtures.add(new Fixture(fixtureId, home.getId(), away.getId(), START.plusDays(fixtureId), result));
+                fixtureId++;
+            }
+        }
+        return new Competition(id, "Division " + id, teams, fixtures);
+    }
+}
@@ -0,0 +1,93 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionRules;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+import be.badmintonvlaanderen.backend.domain.model.Standing;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingsServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 9, 14);
+
+    private final StandingsService service = new StandingsService(CompetitionRules.defaults());
+
+    @Test
+    void shouldRankByHeadToHeadBeforeMatchDifference() {
+        // Given
+        Competition competition = competition(
+            played(1, 1L, 2L, 5, 3, 11, 7),
+            played(2, 1L, 3L, 0, 8, 0, 16),
+            played(3, 2L, 4L, 8, 0, 16, 0),
+            played(4, 3L, 4L, 4, 4, 9, 9),
+            new Fixture(5L, 2L, 3L, START.plusWeeks(10), null));
+
+        // When
+        List<Standing> standings = service.calculate(competition);
+
+        // Then
+        assertThat(standings).extracting(standing -> standing.getTeam().getId()).containsExactly(3L, 1L, 2L, 4L);
+        assertThat(standings).extracting(Standing::getPosition).containsExactly(1, 2, 3, 4);
+        Standing first = standings.get(0);
+        assertThat(first.getPoints()).isEqualTo(4);
+        assertThat(first.getPlayed()).isEqualTo(2);
+        assertThat(first.getWon()).isEqualTo(1);
+        assertThat(first.getDrawn()).isEqualTo(1);
+        assertThat(first.getLost()).isZero();
+        assertThat(first.getMatchesFor()).isEqualTo(12);
+        assertThat(first.getMatchesAgainst()).isEqualTo(4);
+        assertThat(first.getGamesFor()).isEqualTo(25);
+        assertThat(first.getGamesAgainst()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldFallBackToGameDifferenceWhenMatchDifferenceIsLevel() {
+        // Given
+        Competition competition = competition(
+            played(1, 1L, 3L, 5, 3, 11, 7),
+            played(2, 2L, 4L, 5, 3, 13, 7));
+
+        // When
+        List<Standing> standings = service.calculate(competition);
+
+        // Then
+        assertThat(standings).extracting(standing -> standing.getTeam().getId()).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(standings).extracting(Standing::getPosition).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldSharePositionWhenNoTieBreakerSeparatesTeams() {
+        // Given games not published by the portal
+        Competition competition = competition(
+            new Fixture(1L, 1L, 3L, START, new FixtureResult(5, 3)),
+            new Fixture(2L, 2L, 4L, START, new FixtureResult(5, 3)));
+
+        // When
+        List<Standing> standings = service.calculate(competition);
+
+        // Then
+        assertThat(standings).extracting(standing -> standing.getTeam().getId()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(standings).extracting(Standing::getPosition).containsExactly(1, 1, 3, 3);
+    }
+
+    private static Competition competition(Fixture... fixtures) {
+        List<CompetitionTeam> teams = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            teams.add(new CompetitionTeam(id, "Team " + id));
+        }
+        return new Competition(1L, "1e provinciale", teams, List.of(fixtures));
+    }
+
+    private static Fixture played(long id, Long home, Long away, int homeMatches, int awayMatches,
+                                  int homeGames, int awayGames) {
+        return new Fixture(id, home, away, START, new FixtureResult(homeMatches, awayMatches, homeGames, awayGames));
+    }
+}
@@ -0,0 +1,109 @@
+package be.badmintonvlaanderen.backend.domain.service;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingPointsWinProbability;
+import be.badmintonvlaanderen.backend.domain.model.TournamentBracket;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.TournamentPrediction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TournamentSimulationServiceTest {
+
+    private final ForkJoinPool singleThreaded = new ForkJoinPool(1);
+    private final ForkJoinPool multiThreaded = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPools() {
+        singleThreaded.shutdown();
+        multiThreaded.shutdown();
+    }
+
+    @Test
+    void shouldProduceSamePredictionForSameSeedWhateverTheParallelism() {
+        // Given
+        TournamentBracket bracket = bracket(64);
+
+        // When
+        TournamentPrediction sequential = new TournamentSimulationService(singleThreaded)
+            .simulate(bracket, RankingPointsWinProbability.defaults(), 20_000, 42L);
+        TournamentPrediction parallel = new TournamentSimulationService(multiThreaded)
+            .simulate(bracket, RankingPointsWinProbability.defaults(), 20_000, 42L);
+
+        // Then
+        for (int entrant = 0; entrant < bracket.getEntrants().size(); entrant++) {
+            for (int round = 0; round <= bracket.getRoundCount(); round++) {
+                assertThat(parallel.getRoundProbability(entrant, round))
+                    .isEqualTo(sequential.getRoundProbability(entrant, round));
+            }
+        }
+    }
+
+    @Test
+    void shouldGiveWinProbabilitiesThatSumToOne() {
+        // Given
+        TournamentBracket bracket = bracket(128);
+
+        // When
+        TournamentPrediction prediction = new TournamentSimulationService(multiThreaded)
+            .simulate(bracket, RankingPointsWinProbability.defaults(), 10_000, 7L);
+
+        // Then
+        double total = 0;
+        for (int entrant = 0; entrant < bracket.getEntrants().size(); entrant++) {
+            total += prediction.getWinProbability(entrant);
+            assertThat(prediction.getRoundProbability(entrant, 0)).isEqualTo(1.0);
+        }
+        assertThat(total).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void shouldFavourStrongestEntrant() {
+        // Given
+        TournamentBracket bracket = bracket(16);
+
+        // When
+        TournamentPrediction prediction = new TournamentSimulationService(multiThreaded)
+            .simulate(bracket, RankingPointsWinProbability.defaults(), 50_000, 1L);
+
+        // Then
+        double strongest = prediction.getWinProbability(0);
+        for (int entrant = 1; entrant < bracket.getEntrants().size(); entrant++) {
+            assertThat(prediction.getWinProbability(entrant)).isLessThan(strongest);
+        }
+    }
+
+    @Test
+    void shouldAdvanceEntrantsPastByes() {
+        // Given
+        List<TournamentEntrant> slots = Arrays.asList(
+            new TournamentEntrant(1L, "Top seed", 1000), null,
+            new TournamentEntrant(2L, "Player 2", 500), new TournamentEntrant(3L, "Player 3", 500)
+        );
+        TournamentBracket bracket = new TournamentBracket(slots);
+
+        // When
+        TournamentPrediction prediction = new TournamentSimulationService(singleThreaded)
+            .simulate(bracket, RankingPointsWinProbability.defaults(), 5_000, 3L);
+
+        // Then
+        assertThat(prediction.getRoundProbability(0, 1)).isEqualTo(1.0);
+        assertThat(prediction.getRoundProbability(1, 1) + prediction.getRoundProbability(2, 1))
+            .isCloseTo(1.0, within(1e-9));
+    }
+
+    private static TournamentBracket bracket(int drawSize) {
+        List<TournamentEntrant> slots = new ArrayList<>(drawSize);
+        for (int i = 0; i < drawSize; i++) {
+            slots.add(new TournamentEntrant((long) i + 1, "Player " + (i + 1), 2000 - i * 10));
+        }
+        return new TournamentBracket(slots);
+    }
+}
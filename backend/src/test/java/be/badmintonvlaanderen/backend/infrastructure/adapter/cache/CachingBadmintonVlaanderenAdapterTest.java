@@ -0,0 +1,182 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.cache;
+
+import be.badmintonvlaanderen.backend.application.port.BadmintonVlaanderenGateway;
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.external.PortalCommunicationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingBadmintonVlaanderenAdapterTest {
+
+    private static final PortalCacheProperties.Spec SPEC =
+        new PortalCacheProperties.Spec(100, Duration.ofMinutes(5), Duration.ofHours(1));
+    private static final PortalCacheProperties PROPERTIES =
+        new PortalCacheProperties(true, SPEC, SPEC, SPEC, SPEC);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CountingGateway portal = new CountingGateway();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMissesIntoSingleFetch() throws Exception {
+        // Given
+        CachingBadmintonVlaanderenAdapter cache = new CachingBadmintonVlaanderenAdapter(
+            portal, PROPERTIES, executor, nanos::get);
+        portal.gate = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<Optional<PlayerData>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> cache.fetchPlayerData(7L)));
+        }
+        Thread.sleep(100);
+        portal.gate.countDown();
+
+        // Then
+        for (Future<Optional<PlayerData>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        assertThat(portal.playerFetches.get()).isEqualTo(1);
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldServeStaleEntryWhileRefreshing() throws Exception {
+        // Given
+        CachingBadmintonVlaanderenAdapter cache = new CachingBadmintonVlaanderenAdapter(
+            portal, PROPERTIES, executor, nanos::get);
+        String first = lastName(cache.fetchPlayerData(7L));
+        portal.gate = new CountDownLatch(1);
+
+        // When: the reload triggered by the stale read is held back by the gate
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        String stale = lastName(cache.fetchPlayerData(7L));
+        portal.gate.countDown();
+        String refreshed = stale;
+        for (int attempt = 0; attempt < 100 && refreshed.equals(stale); attempt++) {
+            Thread.sleep(10);
+            refreshed = lastName(cache.fetchPlayerData(7L));
+        }
+
+        // Then
+        assertThat(first).isEqualTo("v1");
+        assertThat(stale).isEqualTo("v1");
+        assertThat(refreshed).isEqualTo("v2");
+        assertThat(portal.playerFetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReloadExpiredEntryBeforeAnswering() {
+        // Given
+        CachingBadmintonVlaanderenAdapter cache = new CachingBadmintonVlaanderenAdapter(
+            portal, PROPERTIES, Runnable::run, nanos::get);
+        cache.fetchPlayerData(7L);
+
+        // When
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+
+        // Then
+        assertThat(lastName(cache.fetchPlayerData(7L))).isEqualTo("v2");
+    }
+
+    @Test
+    void shouldRethrowPortalFailureWithoutCachingIt() {
+        // Given
+        CachingBadmintonVlaanderenAdapter cache = new CachingBadmintonVlaanderenAdapter(
+            portal, PROPERTIES, Runnable::run, nanos::get);
+        portal.failNext = true;
+
+        // When / Then
+        assertThatThrownBy(() -> cache.fetchPlayerData(7L)).isInstanceOf(PortalCommunicationException.class);
+        assertThat(cache.fetchPlayerData(7L)).isPresent();
+        assertThat(cache.caches().get("players").stats().loadFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordHitsAndMisses() {
+        // Given
+        CachingBadmintonVlaanderenAdapter cache = new CachingBadmintonVlaanderenAdapter(
+            portal, PROPERTIES, Runnable::run, nanos::get);
+
+        // When
+        cache.fetchPlayerData(1L);
+        cache.fetchPlayerData(1L);
+        cache.fetchPlayerData(2L);
+
+        // Then
+        assertThat(cache.caches().get("players").stats().hitCount()).isEqualTo(1);
+        assertThat(cache.caches().get("players").stats().missCount()).isEqualTo(2);
+    }
+
+    private static String lastName(Optional<PlayerData> data) {
+        return data.orElseThrow().getPlayer().getLastName();
+    }
+
+    /**
+     * Portal stand-in that numbers its responses and can block or fail a load.
+     */
+    private static final class CountingGateway implements BadmintonVlaanderenGateway {
+
+        private final AtomicInteger playerFetches = new AtomicInteger();
+        private volatile CountDownLatch gate;
+        private volatile boolean failNext;
+
+        @Override
+        public Optional<PlayerData> fetchPlayerData(Long playerId) {
+            if (failNext) {
+                failNext = false;
+                throw new PortalCommunicationException("Portal down", null);
+            }
+            int version = playerFetches.incrementAndGet();
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Optional.of(new PlayerData(new Player(playerId, "Player", "v" + version, "Club"), List.of()));
+        }
+
+        @Override
+        public CategoryRanking fetchCategoryRanking(RankingCategory category) {
+            return new CategoryRanking(category, new int[0]);
+        }
+
+        @Override
+        public Optional<Tournament> fetchTournament(Long tournamentId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Competition> fetchCompetition(Long competitionId) {
+            return Optional.empty();
+        }
+    }
+}
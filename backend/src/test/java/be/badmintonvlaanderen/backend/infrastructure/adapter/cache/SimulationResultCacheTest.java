@@ -0,0 +1,86 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.cache;
+
+import be.badmintonvlaanderen.backend.domain.model.MatchResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.TimeframePeriod;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache.ResultKey;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.MatchScenarioDto;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.RankingSimulationRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationResultCacheTest {
+
+    private final AtomicLong dataVersion = new AtomicLong(3);
+    private final AtomicInteger computations = new AtomicInteger();
+    private final SimulationResultCache cache = new SimulationResultCache(dataVersion::get,
+        Clock.fixed(Instant.parse("2024-01-15T08:00:00Z"), ZoneOffset.UTC), 100, Duration.ofMinutes(30));
+
+    @Test
+    void shouldComputeIdenticalRequestsOnce() {
+        // Given
+        RankingSimulationRequest first = request(RankingCategory.SINGLES);
+        RankingSimulationRequest second = request(RankingCategory.SINGLES);
+
+        // When
+        ResultKey firstKey = cache.key("ranking.simulate", first, ResultFingerprint.of(first));
+        String firstResult = cache.get(firstKey, this::compute);
+        ResultKey secondKey = cache.key("ranking.simulate", second, ResultFingerprint.of(second));
+        String secondResult = cache.get(secondKey, this::compute);
+
+        // Then
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(secondResult).isSameAs(firstResult);
+        assertThat(secondKey.etag()).isEqualTo(firstKey.etag()).matches("\"[0-9a-f]+\"");
+    }
+
+    @Test
+    void shouldRecomputeWhenDataVersionAdvances() {
+        // Given
+        RankingSimulationRequest request = request(RankingCategory.SINGLES);
+        ResultKey before = cache.key("ranking.simulate", request, ResultFingerprint.of(request));
+        cache.get(before, this::compute);
+
+        // When
+        dataVersion.incrementAndGet();
+        ResultKey after = cache.key("ranking.simulate", request, ResultFingerprint.of(request));
+        cache.get(after, this::compute);
+
+        // Then
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(cache.cache().asMap()).hasSize(1);
+        assertThat(cache.cache().asMap().containsKey(after)).isTrue();
+    }
+
+    @Test
+    void shouldFingerprintWhatTheRequestAsksFor() {
+        // a missing category means singles
+        assertThat(ResultFingerprint.of(request(null)))
+            .isEqualTo(ResultFingerprint.of(request(RankingCategory.SINGLES)))
+            .isNotEqualTo(ResultFingerprint.of(request(RankingCategory.DOUBLES)));
+        assertThat(ResultFingerprint.ofPrediction(1, 10_000, 1))
+            .isNotEqualTo(ResultFingerprint.ofPrediction(1, 10_000, 2));
+    }
+
+    private String compute() {
+        return "result " + computations.incrementAndGet();
+    }
+
+    private static RankingSimulationRequest request(RankingCategory category) {
+        return new RankingSimulationRequest(42L, category, List.of(new MatchScenarioDto(
+            7L, MatchResult.WIN, TournamentLevel.NATIONAL, LocalDate.of(2024, 2, 3), 32, 2)),
+            TimeframePeriod.NEXT_YEAR);
+    }
+}
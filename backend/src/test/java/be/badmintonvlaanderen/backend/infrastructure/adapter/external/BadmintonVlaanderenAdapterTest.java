@@ -0,0 +1,162 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the adapter against a local stand-in for the portal that answers after a fixed delay.
+ */
+class BadmintonVlaanderenAdapterTest {
+
+    private static final long RESPONSE_DELAY_MS = 100;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+
+    @BeforeEach
+    void startPortal() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/players/", this::handlePlayer);
+        server.setExecutor(serverThreads);
+        server.start();
+    }
+
+    @AfterEach
+    void stopPortal() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void shouldFetchClubConcurrentlyWithinHostLimit() {
+        // Given
+        BadmintonVlaanderenAdapter adapter = adapter(new BadmintonVlaanderenProperties.Throttle(4, 1000, 100));
+        List<Long> club = LongStream.rangeClosed(1, 40).boxed().toList();
+
+        // When
+        long started = System.nanoTime();
+        Map<Long, Optional<PlayerData>> players = adapter.fetchPlayers(club);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Then
+        assertThat(players).hasSize(40).allSatisfy((id, player) ->
+            assertThat(player).hasValueSatisfying(data -> assertThat(data.getPlayer().getId()).isEqualTo(id)));
+        assertThat(maxInFlight.get()).isBetween(2, 4);
+        // sequentially this takes 40 x 100 ms; four at a time about a second
+        assertThat(elapsed).isLessThan(Duration.ofMillis(40 * RESPONSE_DELAY_MS / 2));
+    }
+
+    @Test
+    void shouldPaceRequestsAtConfiguredRate() {
+        // Given
+        BadmintonVlaanderenAdapter adapter = adapter(new BadmintonVlaanderenProperties.Throttle(100, 20, 1));
+
+        // When
+        long started = System.nanoTime();
+        adapter.fetchPlayers(List.of(1L, 2L, 3L, 4L, 5L));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        // Then
+        assertThat(requests.get()).isEqualTo(5);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(4 * 50));
+    }
+
+    @Test
+    void shouldReportUnknownPlayersAsEmptyAndLeaveOutFailures() {
+        // Given
+        BadmintonVlaanderenAdapter adapter = adapter(BadmintonVlaanderenProperties.Throttle.defaults());
+
+        // When
+        Map<Long, Optional<PlayerData>> players = adapter.fetchPlayers(List.of(1L, 404L, 500L));
+
+        // Then
+        assertThat(players).containsOnlyKeys(1L, 404L);
+        assertThat(players.get(1L)).isPresent();
+        assertThat(players.get(404L)).isEmpty();
+    }
+
+    @Test
+    void shouldTimeRequestsByResourceAndOutcome() {
+        // Given
+        BadmintonVlaanderenAdapter adapter = adapter(BadmintonVlaanderenProperties.Throttle.defaults());
+
+        // When
+        adapter.fetchPlayers(List.of(1L, 2L, 404L, 500L));
+
+        // Then
+        assertThat(requestCount("success")).isEqualTo(2);
+        assertThat(requestCount("not-found")).isEqualTo(1);
+        assertThat(requestCount("error")).isEqualTo(1);
+        assertThat(meterRegistry.get(BadmintonVlaanderenAdapter.REQUEST_METRIC)
+            .tags("resource", "player", "outcome", "success").timer().totalTime(TimeUnit.MILLISECONDS))
+            .isGreaterThanOrEqualTo(2 * RESPONSE_DELAY_MS);
+    }
+
+    private long requestCount(String outcome) {
+        return meterRegistry.get(BadmintonVlaanderenAdapter.REQUEST_METRIC)
+            .tags("resource", "player", "outcome", outcome).timer().count();
+    }
+
+    private BadmintonVlaanderenAdapter adapter(BadmintonVlaanderenProperties.Throttle throttle) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        BadmintonVlaanderenProperties properties = new BadmintonVlaanderenProperties(
+            baseUrl, Duration.ofSeconds(2), Duration.ofSeconds(5), throttle);
+        return new BadmintonVlaanderenAdapter(new RestTemplateBuilder().rootUri(baseUrl).build(),
+            new PortalThrottle(throttle), properties, Clock.systemUTC(), meterRegistry);
+    }
+
+    private void handlePlayer(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(RESPONSE_DELAY_MS);
+            String id = exchange.getRequestURI().getPath().substring("/players/".length());
+            switch (id) {
+                case "404" -> exchange.sendResponseHeaders(404, -1);
+                case "500" -> exchange.sendResponseHeaders(500, -1);
+                default -> {
+                    byte[] body = ("{\"id\":" + id + ",\"firstName\":\"Player\",\"lastName\":\"" + id
+                        + "\",\"clubName\":\"Gentse BC\",\"results\":[]}").getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
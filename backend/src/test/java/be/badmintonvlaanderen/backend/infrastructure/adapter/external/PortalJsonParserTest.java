@@ -0,0 +1,146 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortalJsonParserTest {
+
+    private final PortalJsonParser parser = new PortalJsonParser();
+
+    @Test
+    void shouldReadRankingPageSkippingUnknownFields() throws IOException {
+        // When
+        CategoryRanking ranking;
+        try (InputStream page = fixture("ranking-singles.json")) {
+            ranking = parser.parseCategoryRanking(page, RankingCategory.DOUBLES);
+        }
+
+        // Then
+        assertThat(ranking.getCategory()).isEqualTo(RankingCategory.SINGLES);
+        assertThat(ranking.size()).isEqualTo(2000);
+        assertThat(ranking.countAbove(4219)).isEqualTo(1);
+        assertThat(ranking.countAbove(0)).isEqualTo(2000);
+    }
+
+    @Test
+    void shouldReadPlayerPage() throws IOException {
+        // When
+        PlayerData player;
+        try (InputStream page = fixture("player.json")) {
+            player = parser.parsePlayerData(page);
+        }
+
+        // Then
+        assertThat(player.getPlayer().getId()).isEqualTo(50000007L);
+        assertThat(player.getPlayer().getFullName()).isEqualTo("Lien Peeters");
+        assertThat(player.getResults()).hasSize(40)
+            .allSatisfy(result -> assertThat(result.getDate()).isBefore(LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void shouldReadTournamentPageWithByes() throws IOException {
+        // When
+        Tournament tournament;
+        try (InputStream page = fixture("tournament.json")) {
+            tournament = parser.parseTournament(page);
+        }
+
+        // Then
+        assertThat(tournament.getLevel()).isEqualTo(TournamentLevel.NATIONAL);
+        assertThat(tournament.getStartDate()).isEqualTo(LocalDate.of(2024, 2, 10));
+        assertThat(tournament.getBracket().getDrawSize()).isEqualTo(64);
+        assertThat(tournament.getBracket().getSlots().get(1)).isNull();
+        assertThat(tournament.getBracket().getEntrants()).hasSize(60);
+    }
+
+    @Test
+    void shouldReadPlayedMatchesDatingUndatedOnesAtTheStart() throws IOException {
+        // When
+        Tournament tournament = parser.parseTournament(json("{\"id\":1,\"level\":\"PROVINCIAL\","
+            + "\"category\":\"SINGLES\",\"draw\":[{\"playerId\":7},{\"playerId\":8}],"
+            + "\"matches\":[{\"winnerId\":8,\"loserId\":7,\"date\":\"2024-02-11\",\"score\":\"21-19\"},"
+            + "{\"winnerId\":7,\"loserId\":8}],\"startDate\":\"2024-02-10\"}"));
+
+        // Then
+        assertThat(tournament.getMatches()).hasSize(2);
+        assertThat(tournament.getMatches().get(0).getWinnerId()).isEqualTo(8L);
+        assertThat(tournament.getMatches().get(0).getDate()).isEqualTo(LocalDate.of(2024, 2, 11));
+        assertThat(tournament.getMatches().get(1).getDate()).isEqualTo(LocalDate.of(2024, 2, 10));
+    }
+
+    @Test
+    void shouldSkipResultsThatAreNotAList() throws IOException {
+        // When
+        PlayerData player = parser.parsePlayerData(json("{\"id\":7,\"results\":{\"category\":\"SINGLES\","
+            + "\"points\":[1,2]},\"firstName\":\"Lien\",\"lastName\":\"Peeters\"}"));
+
+        // Then
+        assertThat(player.getPlayer().getFullName()).isEqualTo("Lien Peeters");
+        assertThat(player.getResults()).isEmpty();
+    }
+
+    @Test
+    void shouldReportMalformedDrawAsPortalFailure() {
+        assertThatThrownBy(() -> parser.parseTournament(json("{\"id\":1,\"level\":\"PROVINCIAL\","
+            + "\"category\":\"SINGLES\",\"draw\":[{\"playerId\":7},{\"playerId\":8},{\"playerId\":9}]}")))
+            .isInstanceOf(PortalCommunicationException.class)
+            .hasMessageContaining("power of two");
+    }
+
+    @Test
+    void shouldRejectPagesWithoutRequiredFields() {
+        assertThatThrownBy(() -> parser.parsePlayerData(json("{\"firstName\":\"Lien\"}")))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("'id'");
+        assertThatThrownBy(() -> parser.parsePlayerData(json("{\"id\":7,\"results\":[{\"category\":\"SINGLES\","
+            + "\"points\":120,\"level\":\"NATIONAL\"}]}")))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("'date'");
+        assertThatThrownBy(() -> parser.parseTournament(json("{\"id\":1,\"category\":\"SINGLES\"}")))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("'level'");
+        assertThatThrownBy(() -> parser.parseTournament(json("{\"id\":1,\"level\":\"PROVINCIAL\","
+            + "\"category\":\"SINGLES\",\"matches\":[{\"loserId\":8}]}")))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("'winnerId'");
+        assertThatThrownBy(() -> parser.parseTournament(json("{\"id\":1,\"level\":\"PROVINCIAL\","
+            + "\"category\":\"SINGLES\",\"matches\":[{\"winnerId\":7,\"loserId\":8}]}")))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("'date'");
+    }
+
+    @Test
+    void shouldReturnNullForEmptyBody() throws IOException {
+        assertThat(parser.parsePlayerData(json(""))).isNull();
+        assertThat(parser.parseTournament(json("null"))).isNull();
+    }
+
+    @Test
+    void shouldRejectUnknownEnumValue() {
+        assertThatThrownBy(() -> parser.parseCategoryRanking(json("{\"category\":\"TRIPLES\"}"), RankingCategory.SINGLES))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("TRIPLES");
+    }
+
+    static InputStream fixture(String name) {
+        return PortalJsonParserTest.class.getResourceAsStream("/portal/" + name);
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
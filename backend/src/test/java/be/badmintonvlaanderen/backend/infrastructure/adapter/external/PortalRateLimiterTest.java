@@ -0,0 +1,47 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.external;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortalRateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final PortalRateLimiter limiter = new PortalRateLimiter(10, 3, nanos::get);
+
+    @Test
+    void shouldLetBurstThroughThenPaceAtRate() {
+        // When
+        long[] waits = new long[5];
+        for (int i = 0; i < waits.length; i++) {
+            waits[i] = limiter.reserve();
+        }
+
+        // Then
+        assertThat(waits).containsExactly(0, 0, 0, INTERVAL, 2 * INTERVAL);
+    }
+
+    @Test
+    void shouldRefillBucketWhileIdle() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            limiter.reserve();
+        }
+
+        // When
+        nanos.addAndGet(2 * INTERVAL);
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+        long third = limiter.reserve();
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isEqualTo(INTERVAL);
+    }
+}
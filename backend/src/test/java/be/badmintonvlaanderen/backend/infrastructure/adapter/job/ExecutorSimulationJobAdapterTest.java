@@ -0,0 +1,241 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.job;
+
+import be.badmintonvlaanderen.backend.domain.model.JobKind;
+import be.badmintonvlaanderen.backend.domain.model.JobStatus;
+import be.badmintonvlaanderen.backend.domain.model.SimulationJob;
+import be.badmintonvlaanderen.backend.domain.model.SimulationProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutorSimulationJobAdapterTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        1, 1, 0, TimeUnit.SECONDS, new PriorityBlockingQueue<>());
+    private final ExecutorSimulationJobAdapter adapter = new ExecutorSimulationJobAdapter(executor,
+        new SimulationJobProperties(1, 2, Duration.ofMinutes(5), Duration.ofMinutes(1)),
+        Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC), new SimpleMeterRegistry());
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdownExecutor() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldStartHigherPriorityJobsFirst() throws Exception {
+        // Given
+        adapter.submit(JobKind.RANKING_COMPARISON, blockUntilReleased());
+        List<JobKind> started = new CopyOnWriteArrayList<>();
+        SimulationJob analysis = adapter.submit(JobKind.COMPETITION_ANALYSIS, record(started, JobKind.COMPETITION_ANALYSIS));
+        SimulationJob comparison = adapter.submit(JobKind.RANKING_COMPARISON, record(started, JobKind.RANKING_COMPARISON));
+
+        // When
+        release.countDown();
+        awaitTerminal(analysis.getId());
+
+        // Then
+        assertThat(started).containsExactly(JobKind.RANKING_COMPARISON, JobKind.COMPETITION_ANALYSIS);
+        assertThat(adapter.find(comparison.getId())).get()
+            .extracting(SimulationJob::getStatus).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldRejectJobsBeyondQueueCapacity() {
+        // Given
+        adapter.submit(JobKind.RANKING_COMPARISON, blockUntilReleased());
+        adapter.submit(JobKind.RANKING_COMPARISON, progress -> "queued");
+        adapter.submit(JobKind.RANKING_COMPARISON, progress -> "queued");
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.submit(JobKind.RANKING_COMPARISON, progress -> "one too many"))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldAdmitNoMoreThanQueueCapacityUnderConcurrentSubmits() throws Exception {
+        // Given
+        adapter.submit(JobKind.RANKING_COMPARISON, blockUntilReleased());
+        int submitters = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < submitters; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                await(start);
+                try {
+                    adapter.submit(JobKind.RANKING_COMPARISON, progress -> "queued");
+                    accepted.incrementAndGet();
+                } catch (RejectedExecutionException e) {
+                    rejected.incrementAndGet();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(5_000);
+        }
+
+        // Then
+        assertThat(accepted).hasValue(2);
+        assertThat(rejected).hasValue(submitters - 2);
+        assertThat(executor.getQueue()).hasSize(2);
+    }
+
+    @Test
+    void shouldFreeSlotOfCancelledJob() {
+        // Given
+        adapter.submit(JobKind.RANKING_COMPARISON, blockUntilReleased());
+        SimulationJob queued = adapter.submit(JobKind.RANKING_COMPARISON, progress -> "queued");
+        adapter.submit(JobKind.RANKING_COMPARISON, progress -> "queued");
+
+        // When
+        adapter.cancel(queued.getId());
+
+        // Then
+        assertThat(adapter.submit(JobKind.RANKING_COMPARISON, progress -> "takes the freed slot").getStatus())
+            .isEqualTo(JobStatus.QUEUED);
+        assertThatThrownBy(() -> adapter.submit(JobKind.RANKING_COMPARISON, progress -> "one too many"))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldCancelQueuedJobWithoutRunningIt() throws Exception {
+        // Given
+        SimulationJob running = adapter.submit(JobKind.RANKING_COMPARISON, blockUntilReleased());
+        List<JobKind> started = new CopyOnWriteArrayList<>();
+        SimulationJob queued = adapter.submit(JobKind.COMPETITION_ANALYSIS, record(started, JobKind.COMPETITION_ANALYSIS));
+
+        // When
+        SimulationJob cancelled = adapter.cancel(queued.getId()).orElseThrow();
+        release.countDown();
+        awaitTerminal(running.getId());
+
+        // Then
+        assertThat(cancelled.getStatus()).isEqualTo(JobStatus.CANCELLED);
+        assertThat(executor.getQueue()).isEmpty();
+        assertThat(started).isEmpty();
+    }
+
+    @Test
+    void shouldStopRunningJobAtNextCheckAfterCancel() throws Exception {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        SimulationJob job = adapter.submit(JobKind.COMPETITION_ANALYSIS, progress -> {
+            running.countDown();
+            while (true) {
+                progress.checkCancelled();
+                Thread.onSpinWait();
+            }
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        adapter.cancel(job.getId());
+
+        // Then
+        assertThat(awaitTerminal(job.getId()).getStatus()).isEqualTo(JobStatus.CANCELLED);
+    }
+
+    @Test
+    void shouldStreamProgressThenResultToListener() throws Exception {
+        // Given
+        CountDownLatch subscribed = new CountDownLatch(1);
+        SimulationJob job = adapter.submit(JobKind.RANKING_COMPARISON, progress -> {
+            await(subscribed);
+            progress.report(1, 2, "first half");
+            progress.report(2, 2, "second half");
+            return "done";
+        });
+        List<SimulationJob> seen = new CopyOnWriteArrayList<>();
+
+        // When
+        adapter.subscribe(job.getId(), seen::add);
+        subscribed.countDown();
+        awaitTerminal(job.getId());
+
+        // Then
+        assertThat(seen).last().satisfies(last -> {
+            assertThat(last.getStatus()).isEqualTo(JobStatus.COMPLETED);
+            assertThat(last.getResult()).isEqualTo("done");
+        });
+        assertThat(seen).extracting(SimulationJob::getPartialResult).contains("first half", "second half");
+        assertThat(seen).extracting(SimulationJob::getCompleted).isSorted();
+        assertThat(adapter.subscribe(UUID.randomUUID(), seen::add)).isFalse();
+    }
+
+    @Test
+    void shouldReportFailureOfJob() throws Exception {
+        // Given
+        SimulationJob job = adapter.submit(JobKind.RANKING_COMPARISON, progress -> {
+            throw new IllegalStateException("portal down");
+        });
+
+        // When
+        SimulationJob finished = awaitTerminal(job.getId());
+
+        // Then
+        assertThat(finished.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(finished.getError()).isEqualTo("portal down");
+    }
+
+    private Function<SimulationProgress<Object>, Object> blockUntilReleased() {
+        return progress -> {
+            await(release);
+            return "released";
+        };
+    }
+
+    private static Function<SimulationProgress<Object>, Object> record(List<JobKind> started, JobKind kind) {
+        return progress -> {
+            started.add(kind);
+            return kind;
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SimulationJob awaitTerminal(UUID id) throws InterruptedException {
+        for (int attempt = 0; attempt < 500; attempt++) {
+            SimulationJob job = adapter.find(id).orElseThrow();
+            if (job.getStatus().isTerminal()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
+}
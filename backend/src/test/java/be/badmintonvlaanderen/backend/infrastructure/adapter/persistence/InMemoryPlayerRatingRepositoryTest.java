@@ -0,0 +1,111 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.GlickoRules;
+import be.badmintonvlaanderen.backend.domain.model.PlayedMatch;
+import be.badmintonvlaanderen.backend.domain.model.PlayerRatings;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.Tournament;
+import be.badmintonvlaanderen.backend.domain.model.TournamentBracket;
+import be.badmintonvlaanderen.backend.domain.model.TournamentEntrant;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.domain.service.GlickoRatingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({JdbcPortalSnapshotRepository.class, InMemoryPlayerRatingRepository.class,
+    InMemoryPlayerRatingRepositoryTest.Beans.class})
+class InMemoryPlayerRatingRepositoryTest {
+
+    @Autowired
+    private JdbcPortalSnapshotRepository store;
+
+    @Autowired
+    private InMemoryPlayerRatingRepository ratings;
+
+    @Test
+    void shouldRateStoredMatchesPerCategoryWhenReloaded() {
+        // Given
+        store.saveTournaments(List.of(new ContentSnapshot<>(10L, 1L, tournament(10L, LocalDate.of(2023, 11, 4),
+            new PlayedMatch(1L, 2L, LocalDate.of(2023, 11, 4)),
+            new PlayedMatch(1L, 3L, LocalDate.of(2023, 11, 5)),
+            new PlayedMatch(2L, 3L, LocalDate.of(2023, 11, 5))))));
+
+        // When
+        ratings.reload();
+
+        // Then
+        PlayerRatings singles = ratings.current(RankingCategory.SINGLES);
+        assertThat(singles.size()).isEqualTo(3);
+        assertThat(singles.rating(singles.indexOf(1L))).isGreaterThan(singles.rating(singles.indexOf(2L)));
+        assertThat(singles.rating(singles.indexOf(2L))).isGreaterThan(singles.rating(singles.indexOf(3L)));
+        assertThat(ratings.current(RankingCategory.DOUBLES).size()).isZero();
+    }
+
+    @Test
+    void shouldGiveSameRatingsWhenRefreshedAsWhenReloaded() {
+        // Given ratings of November, then results of two tournaments in the running period
+        store.saveTournaments(List.of(new ContentSnapshot<>(10L, 1L, tournament(10L, LocalDate.of(2023, 11, 4),
+            new PlayedMatch(1L, 2L, LocalDate.of(2023, 11, 4)),
+            new PlayedMatch(3L, 1L, LocalDate.of(2023, 11, 5))))));
+        ratings.reload();
+        store.saveTournaments(List.of(
+            new ContentSnapshot<>(11L, 2L, tournament(11L, LocalDate.of(2024, 1, 13),
+                new PlayedMatch(2L, 3L, LocalDate.of(2024, 1, 13)),
+                new PlayedMatch(4L, 1L, LocalDate.of(2024, 1, 14)))),
+            new ContentSnapshot<>(12L, 3L, tournament(12L, LocalDate.of(2023, 12, 23),
+                new PlayedMatch(1L, 4L, LocalDate.of(2023, 12, 23))))));
+
+        // When
+        ratings.refresh();
+        PlayerRatings refreshed = ratings.current(RankingCategory.SINGLES);
+        ratings.reload();
+        PlayerRatings reloaded = ratings.current(RankingCategory.SINGLES);
+
+        // Then
+        assertThat(refreshed.size()).isEqualTo(4);
+        for (int i = 0; i < reloaded.size(); i++) {
+            assertThat(refreshed.playerIdAt(i)).isEqualTo(reloaded.playerIdAt(i));
+            assertThat(refreshed.mu(i)).isEqualTo(reloaded.mu(i));
+            assertThat(refreshed.phi(i)).isEqualTo(reloaded.phi(i));
+        }
+    }
+
+    private static Tournament tournament(Long id, LocalDate startDate, PlayedMatch... matches) {
+        List<TournamentEntrant> slots = new ArrayList<>();
+        for (long player = 1; player <= 4; player++) {
+            slots.add(new TournamentEntrant(player, "Player " + player, 100));
+        }
+        return new Tournament(id, "Tournament " + id, TournamentLevel.PROVINCIAL, RankingCategory.SINGLES,
+            startDate, new TournamentBracket(slots), List.of(matches));
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        GlickoRatingService glickoRatingService() {
+            return new GlickoRatingService(GlickoRules.defaults(), ForkJoinPool.commonPool());
+        }
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2024-01-15T08:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.PlayerMatch;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({JdbcPortalSnapshotRepository.class, InMemoryRankingSnapshotRepository.class,
+    InMemoryPlayerSearchRepository.class, InMemoryPlayerSearchRepositoryTest.Beans.class})
+class InMemoryPlayerSearchRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    @Autowired
+    private JdbcPortalSnapshotRepository store;
+
+    @Autowired
+    private InMemoryRankingSnapshotRepository rankingSnapshots;
+
+    @Autowired
+    private InMemoryPlayerSearchRepository search;
+
+    @Test
+    void shouldFindStoredPlayersOrderedByCurrentPoints() {
+        // Given
+        store.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 11L, player(1L, "Jan", "Peeters", 100)),
+            new ContentSnapshot<>(2L, 22L, player(2L, "Jan", "Claes", 300))));
+        rankingSnapshots.reload();
+
+        // When
+        search.reload();
+
+        // Then
+        assertThat(search.search("jan", 10)).extracting(PlayerMatch::getRankingPoints).containsExactly(300, 100);
+    }
+
+    @Test
+    void shouldReindexOnlyTouchedPlayersWhenRefreshed() {
+        // Given
+        store.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 11L, player(1L, "Jan", "Peeters", 100)),
+            new ContentSnapshot<>(2L, 22L, player(2L, "Jan", "Claes", 300))));
+        search.reload();
+        store.savePlayers(List.of(new ContentSnapshot<>(1L, 12L, player(1L, "Jan", "Pieters", 100))));
+        store.delete(SnapshotType.PLAYER, List.of(2L));
+
+        // When
+        search.refresh(List.of(1L, 2L));
+
+        // Then
+        assertThat(search.search("claes", 10)).isEmpty();
+        assertThat(search.search("pieters", 10)).extracting(PlayerMatch::isExact).containsExactly(true);
+    }
+
+    private static PlayerData player(Long id, String firstName, String lastName, int points) {
+        return new PlayerData(new Player(id, firstName, lastName, "Gentse BC"), List.of(
+            new RankingResult(RankingCategory.SINGLES, points, TODAY.minusDays(10), TournamentLevel.NATIONAL)));
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        RankingCalculationService rankingCalculationService() {
+            return new RankingCalculationService(RankingRules.defaults());
+        }
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2024-01-15T08:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.RankingRules;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import be.badmintonvlaanderen.backend.domain.service.RankingCalculationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import({JdbcPortalSnapshotRepository.class, InMemoryRankingSnapshotRepository.class,
+    InMemoryRankingSnapshotRepositoryTest.Beans.class})
+class InMemoryRankingSnapshotRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    @Autowired
+    private JdbcPortalSnapshotRepository store;
+
+    @Autowired
+    private InMemoryRankingSnapshotRepository snapshots;
+
+    @Test
+    void shouldBeEmptyUntilPlayersAreStored() {
+        // When
+        snapshots.reload();
+
+        // Then
+        assertThat(snapshots.current()).isEmpty();
+    }
+
+    @Test
+    void shouldScoreEveryStoredPlayerWhenReloaded() {
+        // Given
+        store.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 11L, player(1L, 100, 80)),
+            new ContentSnapshot<>(2L, 22L, player(2L, 300)),
+            new ContentSnapshot<>(3L, 33L, player(3L))));
+
+        // When
+        snapshots.reload();
+
+        // Then
+        RankingSnapshot snapshot = snapshots.current().orElseThrow();
+        assertThat(snapshot.getAsOf()).isEqualTo(TODAY);
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.pointsOf(RankingCategory.SINGLES, 1L)).isEqualTo(180);
+        assertThat(snapshot.positionOf(RankingCategory.SINGLES, 2L)).isEqualTo(1);
+        assertThat(snapshot.pointsOf(RankingCategory.SINGLES, 3L)).isEqualTo(CategoryRanking.UNRANKED);
+        assertThat(snapshot.getRanking(RankingCategory.SINGLES).size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPatchOnlyTheGivenPlayersWhenRefreshed() {
+        // Given
+        store.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 11L, player(1L, 100)),
+            new ContentSnapshot<>(2L, 22L, player(2L, 300))));
+        snapshots.reload();
+        store.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 12L, player(1L, 100, 250)),
+            new ContentSnapshot<>(4L, 44L, player(4L, 50))));
+        store.delete(SnapshotType.PLAYER, List.of(2L));
+
+        // When
+        snapshots.refresh(List.of(1L, 2L, 4L));
+
+        // Then
+        RankingSnapshot snapshot = snapshots.current().orElseThrow();
+        assertThat(snapshot.contains(2L)).isFalse();
+        assertThat(snapshot.pointsOf(RankingCategory.SINGLES, 1L)).isEqualTo(350);
+        assertThat(snapshot.positionOf(RankingCategory.SINGLES, 4L)).isEqualTo(2);
+    }
+
+    private static PlayerData player(Long id, int... points) {
+        List<RankingResult> results = new ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            results.add(new RankingResult(RankingCategory.SINGLES, points[i],
+                TODAY.minusDays(10 + i), TournamentLevel.NATIONAL));
+        }
+        return new PlayerData(new Player(id, "First" + id, "Last" + id, "Gent"), results);
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        RankingCalculationService rankingCalculationService() {
+            return new RankingCalculationService(RankingRules.defaults());
+        }
+
+        @Bean
+        Clock clock() {
+            return Clock.fixed(Instant.parse("2024-01-15T08:00:00Z"), ZoneOffset.UTC);
+        }
+    }
+}
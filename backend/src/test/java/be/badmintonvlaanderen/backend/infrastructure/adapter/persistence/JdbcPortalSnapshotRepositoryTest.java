@@ -0,0 +1,144 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.domain.model.Competition;
+import be.badmintonvlaanderen.backend.domain.model.CompetitionTeam;
+import be.badmintonvlaanderen.backend.domain.model.ContentSnapshot;
+import be.badmintonvlaanderen.backend.domain.model.Fixture;
+import be.badmintonvlaanderen.backend.domain.model.FixtureResult;
+import be.badmintonvlaanderen.backend.domain.model.Player;
+import be.badmintonvlaanderen.backend.domain.model.PlayerData;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingResult;
+import be.badmintonvlaanderen.backend.domain.model.SnapshotType;
+import be.badmintonvlaanderen.backend.domain.model.SyncCheckpoint;
+import be.badmintonvlaanderen.backend.domain.model.TournamentLevel;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(JdbcPortalSnapshotRepository.class)
+class JdbcPortalSnapshotRepositoryTest {
+
+    @Autowired
+    private JdbcPortalSnapshotRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void shouldReplacePlayerSnapshotWithItsResults() {
+        // Given
+        repository.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 11L, player(1L, 100, 80)),
+            new ContentSnapshot<>(2L, 22L, player(2L, 60))));
+
+        // When
+        repository.savePlayers(List.of(new ContentSnapshot<>(1L, 12L, player(1L, 90))));
+
+        // Then
+        assertThat(repository.findContentHashes(SnapshotType.PLAYER, List.of(1L, 2L, 3L)))
+            .containsEntry(1L, 12L)
+            .containsEntry(2L, 22L)
+            .hasSize(2);
+        assertThat(jdbc.queryForObject(
+            "SELECT COUNT(*) FROM player_result_snapshot WHERE player_id = 1", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindResultsOfEveryClubMember() {
+        // Given
+        repository.savePlayers(List.of(
+            new ContentSnapshot<>(1L, 11L, player(1L, 100, 80)),
+            new ContentSnapshot<>(2L, 22L, player(2L)),
+            new ContentSnapshot<>(3L, 33L, new PlayerData(new Player(3L, "Other", "Club", "Brugge"), List.of()))));
+
+        // When
+        Map<Long, List<RankingResult>> members = repository.findResults(RankingCategory.SINGLES, "GENT");
+        Map<Long, List<RankingResult>> category = repository.findResults(RankingCategory.SINGLES, null);
+
+        // Then
+        assertThat(members).containsOnlyKeys(1L, 2L);
+        assertThat(members.get(1L)).extracting(RankingResult::getPoints).containsExactlyInAnyOrder(100, 80);
+        assertThat(members.get(2L)).isEmpty();
+        assertThat(category).containsOnlyKeys(1L);
+        assertThat(repository.findResults(RankingCategory.DOUBLES, "Gent").get(1L)).isEmpty();
+    }
+
+    @Test
+    void shouldFindStoredCompetitionsWithTeamsAndFixtures() {
+        // Given
+        Competition competition = new Competition(5L, "1e provinciale A",
+            List.of(new CompetitionTeam(11L, "Brugge 2"), new CompetitionTeam(10L, "Gent 1")),
+            List.of(new Fixture(101L, 11L, 10L, null, null),
+                new Fixture(100L, 10L, 11L, LocalDate.of(2024, 1, 20), new FixtureResult(5, 3, 11, 7))));
+        repository.saveStandings(List.of(new ContentSnapshot<>(5L, 55L, competition)));
+
+        // When
+        Map<Long, Competition> found = repository.findCompetitions(List.of(5L, 6L));
+
+        // Then
+        assertThat(found).containsOnlyKeys(5L);
+        Competition stored = found.get(5L);
+        assertThat(stored.getName()).isEqualTo("1e provinciale A");
+        assertThat(stored.getTeams()).extracting(CompetitionTeam::getId).containsExactly(10L, 11L);
+        assertThat(stored.getFixtures()).extracting(Fixture::getId).containsExactly(100L, 101L);
+        Fixture played = stored.getFixtures().get(0);
+        assertThat(played.getDate()).isEqualTo(LocalDate.of(2024, 1, 20));
+        assertThat(played.getResult().getHomeMatches()).isEqualTo(5);
+        assertThat(played.getResult().getAwayGames()).isEqualTo(7);
+        assertThat(stored.getFixtures().get(1).isPlayed()).isFalse();
+        assertThat(stored.getFixtures().get(1).getDate()).isNull();
+    }
+
+    @Test
+    void shouldDeleteStandingWithTeamsAndFixtures() {
+        // Given
+        Competition competition = new Competition(5L, "1e provinciale A",
+            List.of(new CompetitionTeam(10L, "Gent 1"), new CompetitionTeam(11L, "Brugge 2")),
+            List.of(new Fixture(100L, 10L, 11L, LocalDate.of(2024, 1, 20), new FixtureResult(5, 3)),
+                new Fixture(101L, 11L, 10L, LocalDate.of(2024, 3, 2), null)));
+        repository.saveStandings(List.of(new ContentSnapshot<>(5L, 55L, competition)));
+
+        // When
+        repository.delete(SnapshotType.STANDING, List.of(5L));
+
+        // Then
+        assertThat(repository.findIds(SnapshotType.STANDING)).isEmpty();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM fixture_snapshot", Integer.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM competition_team_snapshot", Integer.class)).isZero();
+    }
+
+    @Test
+    void shouldOverwriteCheckpoint() {
+        // Given
+        repository.saveCheckpoint(new SyncCheckpoint(Instant.parse("2024-01-15T08:00:00Z"), 1));
+
+        // When
+        repository.saveCheckpoint(new SyncCheckpoint(Instant.parse("2024-01-15T08:15:00Z"), 2));
+
+        // Then
+        assertThat(repository.findCheckpoint()).hasValueSatisfying(checkpoint -> {
+            assertThat(checkpoint.getSyncedUpTo()).isEqualTo(Instant.parse("2024-01-15T08:15:00Z"));
+            assertThat(checkpoint.getDataVersion()).isEqualTo(2);
+        });
+    }
+
+    private static PlayerData player(Long id, int... points) {
+        List<RankingResult> results = Arrays.stream(points)
+            .mapToObj(value -> new RankingResult(RankingCategory.SINGLES, value,
+                LocalDate.of(2023, 10, 1), TournamentLevel.NATIONAL))
+            .toList();
+        return new PlayerData(new Player(id, "First", "Last", "Gent"), results);
+    }
+}
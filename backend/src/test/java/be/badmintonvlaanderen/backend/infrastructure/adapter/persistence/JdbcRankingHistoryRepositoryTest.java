@@ -0,0 +1,74 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.persistence;
+
+import be.badmintonvlaanderen.backend.domain.model.CategoryRanking;
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSeries;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@Import(JdbcRankingHistoryRepository.class)
+class JdbcRankingHistoryRepositoryTest {
+
+    private static final int U = CategoryRanking.UNRANKED;
+
+    @Autowired
+    private JdbcRankingHistoryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void shouldRecordOnePublicationPerWeek() {
+        // Given: Wednesday and Friday of the same week, then the next Monday
+        repository.record(snapshot(LocalDate.of(2024, 6, 26), 100, 80));
+        repository.record(snapshot(LocalDate.of(2024, 6, 28), 110, 80));
+        repository.record(snapshot(LocalDate.of(2024, 7, 1), 110, 130));
+
+        // When
+        RankingSeries.Columns series = repository.findSeries(1L, RankingCategory.SINGLES).decode(null);
+
+        // Then
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(series.date(0)).isEqualTo(LocalDate.of(2024, 6, 24));
+        assertThat(series.points(0)).isEqualTo(110);
+        assertThat(series.position(0)).isEqualTo(1);
+        assertThat(series.position(1)).isEqualTo(2);
+        assertThat(jdbc.queryForList("SELECT DISTINCT season FROM ranking_history ORDER BY season", Integer.class))
+            .containsExactly(2023, 2024);
+    }
+
+    @Test
+    void shouldServeCachedSeriesUntilTheNextPublication() {
+        // Given
+        repository.record(snapshot(LocalDate.of(2024, 1, 15), 100, 80));
+        assertThat(repository.findSeries(2L, RankingCategory.SINGLES).size()).isEqualTo(1);
+        jdbc.update("DELETE FROM ranking_history");
+
+        // When / Then
+        assertThat(repository.findSeries(2L, RankingCategory.SINGLES).size()).isEqualTo(1);
+        repository.record(snapshot(LocalDate.of(2024, 1, 22), 100, 80));
+        assertThat(repository.findSeries(2L, RankingCategory.SINGLES).size()).isEqualTo(1);
+        assertThat(repository.findSeries(2L, RankingCategory.DOUBLES).isEmpty()).isTrue();
+    }
+
+    private static RankingSnapshot snapshot(LocalDate asOf, int firstPoints, int secondPoints) {
+        return RankingSnapshot.of(asOf, new long[]{1L, 2L},
+            new int[][]{{firstPoints, secondPoints}, {U, U}, {U, U}});
+    }
+
+    @Test
+    void shouldNameSeasonsAfterTheYearTheyStartIn() {
+        // When / Then
+        assertThat(JdbcRankingHistoryRepository.season(LocalDate.of(2024, 6, 30))).isEqualTo(2023);
+        assertThat(JdbcRankingHistoryRepository.season(LocalDate.of(2024, 7, 1))).isEqualTo(2024);
+    }
+}
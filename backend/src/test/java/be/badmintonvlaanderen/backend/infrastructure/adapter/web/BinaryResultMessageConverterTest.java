@@ -0,0 +1,98 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.dto.TournamentPredictionResponse.EntrantPredictionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryResultMessageConverterTest {
+
+    private final BinaryResultMessageConverter converter = new BinaryResultMessageConverter();
+
+    @Test
+    void shouldWritePredictionAsColumns() throws IOException {
+        // Given
+        TournamentPredictionResponse prediction = new TournamentPredictionResponse(7L, 1000, 42L, 1, List.of(
+            new EntrantPredictionDto(11L, "Anna", 0.75, new double[]{1.0, 0.75}),
+            new EntrantPredictionDto(null, "Zoë", 0.25, new double[]{1.0, 0.25})));
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        message.getHeaders().setETag("\"abc\"");
+
+        // When
+        converter.write(prediction, BinaryResultMessageConverter.MEDIA_TYPE, message);
+
+        // Then
+        assertThat(message.getHeaders().getContentType()).isEqualTo(BinaryResultMessageConverter.MEDIA_TYPE);
+        assertThat(message.getHeaders().getETag()).isEqualTo("\"abc-bbv\"");
+        assertThat(message.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getBodyAsBytes()));
+        assertThat(new String(in.readNBytes(3), StandardCharsets.US_ASCII)).isEqualTo("BBV");
+        assertThat(in.readByte()).isEqualTo((byte) BinaryResultMessageConverter.VERSION);
+        assertThat(in.readByte()).isEqualTo((byte) BinaryResultMessageConverter.TOURNAMENT_PREDICTION);
+        assertThat(in.readLong()).isEqualTo(7L);
+        assertThat(in.readInt()).isEqualTo(1000);
+        assertThat(in.readLong()).isEqualTo(42L);
+        assertThat(in.readInt()).isEqualTo(1);
+        assertThat(in.readInt()).isEqualTo(2);
+        assertThat(new long[]{in.readLong(), in.readLong()}).containsExactly(11L, Long.MIN_VALUE);
+        assertThat(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8)).isEqualTo("Anna");
+        assertThat(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8)).isEqualTo("Zoë");
+        assertThat(new double[]{in.readDouble(), in.readDouble()}).containsExactly(0.75, 0.25);
+        assertThat(new double[]{in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble()})
+            .containsExactly(1.0, 0.75, 1.0, 0.25);
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    void shouldWriteLargePredictionInFarLessThanJson() throws IOException {
+        // Given
+        SplittableRandom random = new SplittableRandom(3);
+        List<EntrantPredictionDto> entrants = new ArrayList<>();
+        for (int i = 0; i < 128; i++) {
+            double[] rounds = new double[8];
+            rounds[0] = 1.0;
+            for (int round = 1; round < rounds.length; round++) {
+                rounds[round] = rounds[round - 1] * random.nextDouble();
+            }
+            entrants.add(new EntrantPredictionDto(50_000L + i, "Player " + i, rounds[7], rounds));
+        }
+        TournamentPredictionResponse prediction = new TournamentPredictionResponse(7L, 10_000, 7L, 7, entrants);
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        // When
+        converter.write(prediction, BinaryResultMessageConverter.MEDIA_TYPE, message);
+        byte[] json = new ObjectMapper().writeValueAsBytes(prediction);
+
+        // Then
+        assertThat(message.getBodyAsBytes().length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    void shouldTagBinaryRepresentationOnlyWhenJsonIsNotAccepted() {
+        // Given
+        String etag = "\"abc\"";
+
+        // When / Then
+        assertThat(BinaryResultMessageConverter.etag(etag, null)).isEqualTo(etag);
+        assertThat(BinaryResultMessageConverter.etag(etag, MediaType.APPLICATION_JSON_VALUE)).isEqualTo(etag);
+        assertThat(BinaryResultMessageConverter.etag(etag, "application/x-bbv-binary")).isEqualTo("\"abc-bbv\"");
+        assertThat(BinaryResultMessageConverter.etag(etag, "application/x-bbv-binary, application/json;q=0.5"))
+            .isEqualTo(etag);
+        assertThat(converter.canWrite(TournamentPredictionResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(TournamentPredictionResponse.class, BinaryResultMessageConverter.MEDIA_TYPE))
+            .isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package be.badmintonvlaanderen.backend.infrastructure.adapter.web;
+
+import be.badmintonvlaanderen.backend.application.service.PortalSyncService;
+import be.badmintonvlaanderen.backend.application.service.RankingSimulationService;
+import be.badmintonvlaanderen.backend.application.service.SimulationJobService;
+import be.badmintonvlaanderen.backend.domain.model.RankingProjection;
+import be.badmintonvlaanderen.backend.domain.model.RankingSimulation;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.cache.SimulationResultCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RankingControllerTest {
+
+    private static final String SIMULATION = """
+        {"playerId": 1, "timeframe": "NEXT_MONTH", "scenarios": [
+          {"expectedResult": "WIN", "tournamentLevel": "NATIONAL", "matchDate": "2024-01-20"}]}
+        """;
+
+    private final RankingSimulationService rankingSimulationService = mock(RankingSimulationService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new RankingController(
+        rankingSimulationService, mock(SimulationJobService.class),
+        new SimulationResultCache(mock(PortalSyncService.class),
+            Clock.fixed(Instant.parse("2024-01-15T08:00:00Z"), ZoneOffset.UTC), 100, Duration.ofMinutes(30)),
+        new SimpleMeterRegistry())).build();
+
+    @Test
+    void shouldRejectSimulationWhenIfNoneMatchNamesItsTag() throws Exception {
+        // Given
+        when(rankingSimulationService.simulateRanking(any(RankingSimulation.class)))
+            .thenReturn(new RankingProjection(12, 9, 300, 340, List.of()));
+        String etag = mockMvc.perform(post("/api/v1/ranking/simulate")
+                .contentType(MediaType.APPLICATION_JSON).content(SIMULATION))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then: If-None-Match on a POST is a precondition, not a revalidation
+        assertThat(etag).isNotNull();
+        mockMvc.perform(post("/api/v1/ranking/simulate")
+                .contentType(MediaType.APPLICATION_JSON).content(SIMULATION)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\", " + etag))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(content().string(""));
+        mockMvc.perform(post("/api/v1/ranking/simulate")
+                .contentType(MediaType.APPLICATION_JSON).content(SIMULATION)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+            .andExpect(status().isOk());
+        verify(rankingSimulationService, times(1)).simulateRanking(any(RankingSimulation.class));
+    }
+}
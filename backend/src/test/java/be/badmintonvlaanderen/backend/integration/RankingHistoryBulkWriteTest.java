@@ -0,0 +1,92 @@
+package be.badmintonvlaanderen.backend.integration;
+
+import be.badmintonvlaanderen.backend.domain.model.RankingCategory;
+import be.badmintonvlaanderen.backend.domain.model.RankingSnapshot;
+import be.badmintonvlaanderen.backend.infrastructure.adapter.persistence.JdbcRankingHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records a weekly ranking publication (40k players, 120k history rows) through the batched
+ * insert of {@link JdbcRankingHistoryRepository}, on H2 and on PostgreSQL with and without
+ * batched insert rewriting. Needs Docker; skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RankingHistoryBulkWriteTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingHistoryBulkWriteTest.class);
+
+    private static final int PLAYERS = 40_000;
+    private static final LocalDate PUBLISHED_ON = LocalDate.of(2024, 1, 15);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void shouldRecordWeeklyPublicationOnEveryDatabase() {
+        // Given
+        RankingSnapshot publication = publication();
+
+        // When
+        long h2 = record("H2", "h2", new DriverManagerDataSource("jdbc:h2:mem:bulk;DB_CLOSE_DELAY=-1", "sa", ""),
+            publication);
+        long postgres = record("PostgreSQL", "postgres", postgres(false), publication);
+        long rewritten = record("PostgreSQL, rewritten batches", "postgres", postgres(true), publication);
+
+        // Then
+        assertThat(h2).isEqualTo((long) PLAYERS * RankingCategory.values().length);
+        assertThat(postgres).isEqualTo(h2);
+        assertThat(rewritten).isEqualTo(h2);
+    }
+
+    private static DataSource postgres(boolean rewriteBatches) {
+        return new DriverManagerDataSource(POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=" + rewriteBatches,
+            POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static long record(String database, String platform, DataSource dataSource,
+                               RankingSnapshot publication) {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"),
+            new ClassPathResource("schema-" + platform + ".sql")).execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("DELETE FROM ranking_history");
+        JdbcRankingHistoryRepository repository = new JdbcRankingHistoryRepository(jdbc, DataSize.ofMegabytes(1));
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        long startedAt = System.nanoTime();
+        transaction.executeWithoutResult(status -> repository.record(publication));
+        long millis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+
+        long rows = jdbc.queryForObject("SELECT COUNT(*) FROM ranking_history", Long.class);
+        log.info("{}: {} history rows in {} ms ({} rows/s)", database, rows, millis, rows * 1000 / millis);
+        return rows;
+    }
+
+    private static RankingSnapshot publication() {
+        long[] playerIds = new long[PLAYERS];
+        int[][] points = new int[RankingCategory.values().length][PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            playerIds[i] = i + 1L;
+            for (int[] column : points) {
+                column[i] = 10 + (int) (playerIds[i] * 31 % 3_000);
+            }
+        }
+        return RankingSnapshot.of(PUBLISHED_ON, playerIds, points);
+    }
+}